@@ -0,0 +1,129 @@
+package io.openems.backend.b2bwebsocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.backend.b2bwebsocket.jsonrpc.notification.EdgesCurrentDataNotification;
+import io.openems.backend.b2bwebsocket.jsonrpc.request.SubscribeEdgesChannelsRequest;
+import io.openems.backend.common.metadata.User;
+import io.openems.common.session.Role;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Holds the state of one {@link SubscribeEdgesChannelsRequest}.
+ *
+ * <p>
+ * The read permissions of the {@link User} are checked once per
+ * {@link #PERMISSION_CHECK_INTERVAL_IN_SECONDS} instead of on every update. In
+ * delta mode only values that changed since the last update are sent. Large
+ * fleets are split into multiple notifications of at most
+ * {@link #MAX_EDGES_PER_NOTIFICATION} Edges each.
+ */
+class EdgesChannelsSubscription {
+
+	protected static final int PERMISSION_CHECK_INTERVAL_IN_SECONDS = 60;
+	protected static final int MAX_EDGES_PER_NOTIFICATION = 500;
+
+	private final String[] edgeIds;
+	private final ChannelAddress[] channels;
+	private final int interval;
+	private final boolean delta;
+
+	/** The last sent value per Edge and Channel; only used in delta mode. */
+	private final JsonElement[][] lastValues;
+	private final boolean[] permitted;
+	private long nextPermissionCheck = Long.MIN_VALUE;
+
+	protected EdgesChannelsSubscription(SubscribeEdgesChannelsRequest request) {
+		this.edgeIds = request.getEdgeIds().toArray(new String[0]);
+		this.channels = request.getChannels().toArray(new ChannelAddress[0]);
+		this.interval = request.getInterval();
+		this.delta = request.isDelta();
+		this.lastValues = this.delta ? new JsonElement[this.edgeIds.length][this.channels.length] : null;
+		this.permitted = new boolean[this.edgeIds.length];
+	}
+
+	/**
+	 * Is there anything to send?.
+	 *
+	 * @return true if neither Edges nor Channels are subscribed
+	 */
+	protected boolean isEmpty() {
+		return this.edgeIds.length == 0 || this.channels.length == 0;
+	}
+
+	/**
+	 * Gets the update interval.
+	 *
+	 * @return the interval in [s]
+	 */
+	protected int getInterval() {
+		return this.interval;
+	}
+
+	/**
+	 * Collects the current values of all subscribed Edges and Channels.
+	 *
+	 * @param user     the {@link User}
+	 * @param getValue gets the current value of a Channel of an Edge
+	 * @param now      the current time in [s]
+	 * @return the notifications to send; empty if nothing changed
+	 */
+	protected List<EdgesCurrentDataNotification> update(User user,
+			BiFunction<String, ChannelAddress, Optional<JsonElement>> getValue, long now) {
+		if (now >= this.nextPermissionCheck) {
+			this.checkPermissions(user);
+			this.nextPermissionCheck = now + PERMISSION_CHECK_INTERVAL_IN_SECONDS;
+		}
+
+		var result = new ArrayList<EdgesCurrentDataNotification>();
+		var notification = new EdgesCurrentDataNotification();
+		var edges = 0;
+		for (var i = 0; i < this.edgeIds.length; i++) {
+			if (!this.permitted[i]) {
+				continue;
+			}
+			var edgeId = this.edgeIds[i];
+			var changed = false;
+			for (var j = 0; j < this.channels.length; j++) {
+				var channel = this.channels[j];
+				var value = getValue.apply(edgeId, channel).orElse(JsonNull.INSTANCE);
+				if (this.delta) {
+					if (value.equals(this.lastValues[i][j])) {
+						continue;
+					}
+					this.lastValues[i][j] = value;
+				}
+				notification.addValue(edgeId, channel, value);
+				changed = true;
+			}
+			if (changed && ++edges == MAX_EDGES_PER_NOTIFICATION) {
+				result.add(notification);
+				notification = new EdgesCurrentDataNotification();
+				edges = 0;
+			}
+		}
+		if (edges > 0) {
+			result.add(notification);
+		}
+		return result;
+	}
+
+	private void checkPermissions(User user) {
+		for (var i = 0; i < this.edgeIds.length; i++) {
+			var role = user.getRole(this.edgeIds[i]);
+			var permitted = role.isPresent() && role.get().isAtLeast(Role.GUEST);
+			if (!permitted && this.delta) {
+				// send all values again if permission is granted later
+				this.lastValues[i] = new JsonElement[this.channels.length];
+			}
+			this.permitted[i] = permitted;
+		}
+	}
+
+}
@@ -1,37 +1,24 @@
 package io.openems.backend.b2bwebsocket;
 
+import java.time.Instant;
 import java.util.Optional;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonNull;
-
-import io.openems.backend.b2bwebsocket.jsonrpc.notification.EdgesCurrentDataNotification;
 import io.openems.backend.b2bwebsocket.jsonrpc.request.SubscribeEdgesChannelsRequest;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.session.Role;
-import io.openems.common.types.ChannelAddress;
 
 public class SubscribedEdgesChannelsWorker {
 
-	protected static final int UPDATE_INTERVAL_IN_SECONDS = 2;
-
 	private final Logger log = LoggerFactory.getLogger(SubscribedEdgesChannelsWorker.class);
 
 	/**
-	 * Holds subscribed edges.
-	 */
-	private final TreeSet<String> edgeIds = new TreeSet<>();
-
-	/**
-	 * Holds subscribed channels.
+	 * Holds the current subscription.
 	 */
-	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
+	private EdgesChannelsSubscription subscription = null;
 
 	/**
 	 * Holds the scheduled task for currentData.
@@ -56,7 +43,7 @@ public class SubscribedEdgesChannelsWorker {
 	 */
 	public synchronized void handleSubscribeEdgesChannelsRequest(SubscribeEdgesChannelsRequest request) {
 		if (this.lastRequestCount < request.getCount()) {
-			this.updateSubscription(request.getEdgeIds(), request.getChannels());
+			this.updateSubscription(new EdgesChannelsSubscription(request));
 			this.lastRequestCount = request.getCount();
 		}
 	}
@@ -64,25 +51,18 @@ public class SubscribedEdgesChannelsWorker {
 	/**
 	 * Updates the Subscription data.
 	 *
-	 * @param edgeIds  Set of Edge-IDs
-	 * @param channels Set of ChannelAddresses
+	 * @param subscription the {@link EdgesChannelsSubscription}
 	 */
-	private synchronized void updateSubscription(Set<String> edgeIds, Set<ChannelAddress> channels) {
+	private synchronized void updateSubscription(EdgesChannelsSubscription subscription) {
 		// stop current thread
 		if (this.futureOpt.isPresent()) {
 			this.futureOpt.get().cancel(true);
 			this.futureOpt = Optional.empty();
 		}
 
-		// clear existing data
-		this.edgeIds.clear();
-		this.channels.clear();
-
-		// set new channels
-		this.edgeIds.addAll(edgeIds);
-		this.channels.addAll(channels);
+		this.subscription = subscription;
 
-		if (!channels.isEmpty() && !edgeIds.isEmpty()) {
+		if (!subscription.isEmpty()) {
 			// registered channels -> create new thread
 			this.futureOpt = Optional.of(this.parent.executor.scheduleWithFixedDelay(() -> {
 				/*
@@ -96,12 +76,12 @@ public class SubscribedEdgesChannelsWorker {
 				}
 
 				try {
-					this.wsData.send(this.getCurrentDataNotification());
+					this.sendCurrentData(subscription);
 				} catch (OpenemsNamedException e) {
 					this.log.warn("Unable to send SubscribedChannels: " + e.getMessage());
 				}
 
-			}, 0, SubscribedEdgesChannelsWorker.UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS));
+			}, 0, subscription.getInterval(), TimeUnit.SECONDS));
 		}
 	}
 
@@ -116,25 +96,18 @@ public class SubscribedEdgesChannelsWorker {
 	}
 
 	/**
-	 * Gets a JSON-RPC Notification with all subscribed channels data.
+	 * Sends the JSON-RPC Notifications with the subscribed channels data.
 	 *
-	 * @return the EdgesCurrentDataNotification
+	 * @param subscription the {@link EdgesChannelsSubscription}
 	 * @throws OpenemsNamedException on error
 	 */
-	private EdgesCurrentDataNotification getCurrentDataNotification() throws OpenemsNamedException {
-		var result = new EdgesCurrentDataNotification();
+	private void sendCurrentData(EdgesChannelsSubscription subscription) throws OpenemsNamedException {
 		var user = this.wsData.getUserWithTimeout(5, TimeUnit.SECONDS);
-
-		for (String edgeId : this.edgeIds) {
-			// assure read permissions of this User for this Edge.
-			user.assertEdgeRoleIsAtLeast("EdgesCurrentDataNotification", edgeId, Role.GUEST);
-
-			for (ChannelAddress channel : this.channels) {
-				var value = this.parent.timeData.getChannelValue(edgeId, channel);
-				result.addValue(edgeId, channel, value.orElse(JsonNull.INSTANCE));
-			}
+		var notifications = subscription.update(user, this.parent.timeData::getChannelValue,
+				Instant.now().getEpochSecond());
+		for (var notification : notifications) {
+			this.wsData.send(notification);
 		}
-		return result;
 	}
 
 }
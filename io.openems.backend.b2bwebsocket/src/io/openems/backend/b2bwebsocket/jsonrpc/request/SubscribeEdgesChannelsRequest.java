@@ -24,6 +24,8 @@ import io.openems.common.utils.JsonUtils;
  *     "count": number // Request-Counter: the higher count wins
  *     "edgeIds": string[] // Edge-IDs
  *     "channels": string[] // Channel-IDs
+ *     "interval"?: number // Update interval in seconds; defaults to 2
+ *     "delta"?: boolean // Send only changed values; defaults to false
  *   }
  * }
  * </pre>
@@ -32,6 +34,8 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 
 	public static final String METHOD = "subscribeEdgesChannels";
 
+	public static final int DEFAULT_INTERVAL_IN_SECONDS = 2;
+
 	/**
 	 * Builds a {@link SubscribeEdgesChannelsRequest} from a {@link JsonrpcRequest}.
 	 *
@@ -42,7 +46,9 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 	public static SubscribeEdgesChannelsRequest from(JsonrpcRequest r) throws OpenemsNamedException {
 		var p = r.getParams();
 		var count = JsonUtils.getAsInt(p, "count");
-		var result = new SubscribeEdgesChannelsRequest(r, count);
+		var interval = JsonUtils.getAsOptionalInt(p, "interval").orElse(DEFAULT_INTERVAL_IN_SECONDS);
+		var delta = JsonUtils.getAsOptionalBoolean(p, "delta").orElse(false);
+		var result = new SubscribeEdgesChannelsRequest(r, count, interval, delta);
 		var edgeIds = JsonUtils.getAsJsonArray(p, "ids");
 		for (JsonElement edgeId : edgeIds) {
 			result.addEdgeId(JsonUtils.getAsString(edgeId));
@@ -67,17 +73,27 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 	}
 
 	private final int count;
+	private final int interval;
+	private final boolean delta;
 	private final TreeSet<String> edgeIds = new TreeSet<>();
 	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
 
-	private SubscribeEdgesChannelsRequest(JsonrpcRequest request, int count) {
+	private SubscribeEdgesChannelsRequest(JsonrpcRequest request, int count, int interval, boolean delta) {
 		super(request, SubscribeEdgesChannelsRequest.METHOD);
 		this.count = count;
+		this.interval = Math.max(1, interval);
+		this.delta = delta;
 	}
 
-	public SubscribeEdgesChannelsRequest(int count) {
+	public SubscribeEdgesChannelsRequest(int count, int interval, boolean delta) {
 		super(SubscribeEdgesChannelsRequest.METHOD);
 		this.count = count;
+		this.interval = Math.max(1, interval);
+		this.delta = delta;
+	}
+
+	public SubscribeEdgesChannelsRequest(int count) {
+		this(count, DEFAULT_INTERVAL_IN_SECONDS, false);
 	}
 
 	/**
@@ -119,6 +135,24 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 		return this.channels;
 	}
 
+	/**
+	 * Gets the update interval.
+	 *
+	 * @return the interval in [s]
+	 */
+	public int getInterval() {
+		return this.interval;
+	}
+
+	/**
+	 * Should only changed values be sent?.
+	 *
+	 * @return true for delta notifications
+	 */
+	public boolean isDelta() {
+		return this.delta;
+	}
+
 	@Override
 	public JsonObject getParams() {
 		var edgeIds = new JsonArray();
@@ -133,6 +167,8 @@ public class SubscribeEdgesChannelsRequest extends JsonrpcRequest {
 				.addProperty("count", this.count) //
 				.add("ids", edgeIds) //
 				.add("channels", channels) //
+				.addProperty("interval", this.interval) //
+				.addProperty("delta", this.delta) //
 				.build();
 	}
 }
@@ -0,0 +1,98 @@
+package io.openems.backend.b2bwebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.b2bwebsocket.jsonrpc.request.SubscribeEdgesChannelsRequest;
+import io.openems.backend.common.metadata.User;
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+import io.openems.common.types.ChannelAddress;
+
+public class EdgesChannelsSubscriptionTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress GRID = new ChannelAddress("_sum", "GridActivePower");
+
+	@Test
+	public void testDelta() {
+		var roles = new TreeMap<String, Role>();
+		roles.put("edge0", Role.GUEST);
+		roles.put("edge1", Role.OWNER);
+		var user = new User("user0", "user0", "token", Language.DEFAULT, Role.GUEST, roles);
+
+		var request = new SubscribeEdgesChannelsRequest(0, 5, true);
+		request.addEdgeId("edge0");
+		request.addEdgeId("edge1");
+		request.addEdgeId("edge2"); // no permission
+		request.addChannel(SOC);
+		request.addChannel(GRID);
+		var sut = new EdgesChannelsSubscription(request);
+		assertFalse(sut.isEmpty());
+		assertEquals(5, sut.getInterval());
+
+		var values = new HashMap<String, JsonElement>();
+		values.put("edge0/_sum/EssSoc", new JsonPrimitive(50));
+		values.put("edge0/_sum/GridActivePower", new JsonPrimitive(1000));
+		values.put("edge1/_sum/EssSoc", new JsonPrimitive(80));
+		values.put("edge2/_sum/EssSoc", new JsonPrimitive(10));
+
+		// First update sends everything the User has access to
+		var notifications = sut.update(user, (edgeId, channel) -> get(values, edgeId, channel), 0);
+		assertEquals(1, notifications.size());
+		var params = notifications.get(0).getParams();
+		assertEquals(2, params.size());
+		assertEquals(2, params.getAsJsonObject("edge1").size());
+		assertTrue(params.getAsJsonObject("edge1").get("_sum/GridActivePower").isJsonNull());
+
+		// Nothing changed
+		assertTrue(sut.update(user, (edgeId, channel) -> get(values, edgeId, channel), 2).isEmpty());
+
+		// Only changed values are sent
+		values.put("edge1/_sum/GridActivePower", new JsonPrimitive(-500));
+		notifications = sut.update(user, (edgeId, channel) -> get(values, edgeId, channel), 4);
+		params = notifications.get(0).getParams();
+		assertEquals(1, params.size());
+		assertEquals(1, params.getAsJsonObject("edge1").size());
+		assertEquals(-500, params.getAsJsonObject("edge1").get("_sum/GridActivePower").getAsInt());
+	}
+
+	@Test
+	public void testSplit() {
+		var roles = new TreeMap<String, Role>();
+		var request = new SubscribeEdgesChannelsRequest(0);
+		var edges = EdgesChannelsSubscription.MAX_EDGES_PER_NOTIFICATION + 1;
+		for (var i = 0; i < edges; i++) {
+			roles.put("edge" + i, Role.GUEST);
+			request.addEdgeId("edge" + i);
+		}
+		request.addChannel(SOC);
+		var user = new User("user0", "user0", "token", Language.DEFAULT, Role.GUEST, roles);
+		var sut = new EdgesChannelsSubscription(request);
+
+		var notifications = sut.update(user, (edgeId, channel) -> Optional.of(new JsonPrimitive(1)), 0);
+		assertEquals(2, notifications.size());
+		assertEquals(EdgesChannelsSubscription.MAX_EDGES_PER_NOTIFICATION, notifications.get(0).getParams().size());
+		assertEquals(1, notifications.get(1).getParams().size());
+
+		// Without delta everything is sent again
+		notifications = sut.update(user, (edgeId, channel) -> Optional.of(new JsonPrimitive(1)), 2);
+		assertEquals(2, notifications.size());
+	}
+
+	private static Optional<JsonElement> get(Map<String, JsonElement> values, String edgeId, ChannelAddress channel) {
+		return Optional.ofNullable(values.get(edgeId + "/" + channel));
+	}
+
+}
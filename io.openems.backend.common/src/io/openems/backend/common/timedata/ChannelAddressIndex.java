@@ -0,0 +1,175 @@
+package io.openems.backend.common.timedata;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Interns {@link ChannelAddress}es to int ids.
+ *
+ * <p>
+ * Ids are assigned in ascending order starting at zero and are never removed.
+ * Every {@link ChannelAddress} is held only once, no matter how many
+ * {@link EdgeCache}s refer to it. This class is thread-safe.
+ *
+ * <p>
+ * As ids are never removed, the number of {@link ChannelAddress}es is limited
+ * by 'maxSize'; once it is reached, new {@link ChannelAddress}es are rejected
+ * with an {@link IllegalStateException}, while known ones are still resolved.
+ */
+public class ChannelAddressIndex {
+
+	/**
+	 * The default value for 'maxSize'; roughly 300 MB of heap.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 1_000_000;
+
+	/**
+	 * The index that is shared by the Edge-Websocket and the Timedata services,
+	 * so that ids can be passed between them.
+	 *
+	 * <p>
+	 * It lives as long as the Backend process and holds the addresses of all
+	 * Edges that ever connected, so it is bounded by {@link #DEFAULT_MAX_SIZE}.
+	 */
+	public static final ChannelAddressIndex DEFAULT = new ChannelAddressIndex(DEFAULT_MAX_SIZE);
+
+	private final ConcurrentHashMap<ChannelAddress, Integer> ids = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, Integer> idsByName = new ConcurrentHashMap<>();
+
+	private volatile ChannelAddress[] addresses = new ChannelAddress[1024];
+	private volatile String[] names = new String[1024];
+	private final int maxSize;
+
+	private int size = 0;
+	private long stringLengths = 0;
+
+	public ChannelAddressIndex() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public ChannelAddressIndex(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Gets the id of a {@link ChannelAddress}; assigns a new id if it is not yet
+	 * known.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 * @return the id
+	 * @throws IllegalStateException if the address is not known and the index
+	 *                               is full
+	 */
+	public int getOrCreateId(ChannelAddress address) {
+		var id = this.ids.get(address);
+		if (id != null) {
+			return id;
+		}
+		return this.createId(address);
+	}
+
+	/**
+	 * Gets the id of a {@link ChannelAddress} in its String representation
+	 * 'Component-ID/Channel-ID'; assigns a new id if it is not yet known.
+	 *
+	 * <p>
+	 * This avoids parsing the String if the address is already known.
+	 *
+	 * @param name the address, e.g. "_sum/EssSoc"
+	 * @return the id
+	 * @throws OpenemsNamedException if the String is not a valid
+	 *                               {@link ChannelAddress}
+	 * @throws IllegalStateException if the address is not known and the index
+	 *                               is full
+	 */
+	public int getOrCreateId(String name) throws OpenemsNamedException {
+		var id = this.idsByName.get(name);
+		if (id != null) {
+			return id;
+		}
+		return this.createId(ChannelAddress.fromString(name));
+	}
+
+	/**
+	 * Gets the id of a {@link ChannelAddress}.
+	 *
+	 * @param address the {@link ChannelAddress}
+	 * @return the id; -1 if it is not known
+	 */
+	public int getId(ChannelAddress address) {
+		var id = this.ids.get(address);
+		return id != null ? id : -1;
+	}
+
+	/**
+	 * Gets the {@link ChannelAddress} for an id.
+	 *
+	 * @param id the id as returned by {@link #getOrCreateId(ChannelAddress)}
+	 * @return the {@link ChannelAddress}
+	 */
+	public ChannelAddress getAddress(int id) {
+		return this.addresses[id];
+	}
+
+	/**
+	 * Gets the String representation of the {@link ChannelAddress} for an id.
+	 *
+	 * @param id the id as returned by {@link #getOrCreateId(ChannelAddress)}
+	 * @return the address, e.g. "_sum/EssSoc"
+	 */
+	public String getName(int id) {
+		return this.names[id];
+	}
+
+	/**
+	 * Gets the number of known {@link ChannelAddress}es.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets a rough estimation of the heap used by this index.
+	 *
+	 * @return the estimated size in bytes
+	 */
+	public synchronized long getEstimatedMemoryUsage() {
+		// Map entries, Integer, ChannelAddress, three Strings with their arrays
+		return this.size * (2 * 32L + 16L + 24L + 3 * 40L) + 2 * this.stringLengths + this.addresses.length * 8L;
+	}
+
+	private synchronized int createId(ChannelAddress address) {
+		var id = this.ids.get(address);
+		if (id != null) {
+			// created in the meantime
+			return id;
+		}
+		if (this.size >= this.maxSize) {
+			throw new IllegalStateException(
+					"ChannelAddressIndex is full [" + this.maxSize + "]. Rejecting [" + address + "]");
+		}
+		var addresses = this.addresses;
+		var names = this.names;
+		if (this.size == addresses.length) {
+			addresses = Arrays.copyOf(addresses, addresses.length * 2);
+			names = Arrays.copyOf(names, names.length * 2);
+		}
+		var name = address.toString();
+		addresses[this.size] = address;
+		names[this.size] = name;
+		// publish the arrays before the id
+		this.addresses = addresses;
+		this.names = names;
+		this.stringLengths += name.length();
+		id = this.size++;
+		this.ids.put(address, id);
+		this.idsByName.put(name, id);
+		return id;
+	}
+
+}
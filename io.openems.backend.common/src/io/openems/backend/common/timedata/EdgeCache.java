@@ -1,7 +1,7 @@
 package io.openems.backend.common.timedata;
 
 import java.time.Instant;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -14,9 +14,26 @@ import com.google.gson.JsonElement;
 
 import io.openems.common.types.ChannelAddress;
 
+/**
+ * Caches the latest Channel values of one Edge.
+ *
+ * <p>
+ * {@link ChannelAddress}es are interned to int ids by a shared
+ * {@link ChannelAddressIndex}. Values are kept in an open-addressing hash table
+ * of primitive arrays: numbers, booleans and nulls are stored as primitive
+ * long bits, only other values are kept as {@link JsonElement}.
+ *
+ * <p>
+ * Every {@link EdgeCache} has its own lock, so different Edges never block
+ * each other.
+ */
 public class EdgeCache {
 
+	private static final int INITIAL_CAPACITY = 64; // power of two
+	private static final int EMPTY = -1;
+
 	private final Logger log = LoggerFactory.getLogger(EdgeCache.class);
+	private final ChannelAddressIndex index;
 
 	/**
 	 * The Timestamp of the data in the Cache.
@@ -28,7 +45,31 @@ public class EdgeCache {
 	 */
 	private long lastAppliedTimestamp = 0L;
 
-	private final HashMap<ChannelAddress, JsonElement> cacheData = new HashMap<>();
+	private int[] keys;
+	private byte[] types;
+	private long[] values;
+	/** Non-primitive values; allocated on demand. */
+	private JsonElement[] objects = null;
+	private int size = 0;
+
+	/** Marks the slots that are part of the current incoming row. */
+	private int[] stamps;
+	private int stamp = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Single-entry buffer to convert {@link JsonElement}s to the compact
+	 * representation.
+	 */
+	private final TimestampedDataBatch converter;
+
+	public EdgeCache(ChannelAddressIndex index) {
+		this.index = index;
+		this.converter = new TimestampedDataBatch(index, 1, 1);
+		this.allocate(INITIAL_CAPACITY);
+	}
 
 	/**
 	 * Gets the channel value from cache.
@@ -37,7 +78,14 @@ public class EdgeCache {
 	 * @return the value; empty if it is not in cache
 	 */
 	public final synchronized Optional<JsonElement> getChannelValue(ChannelAddress address) {
-		return Optional.ofNullable(this.cacheData.get(address));
+		var id = this.index.getId(address);
+		var slot = id < 0 ? EMPTY : this.findSlot(id);
+		if (slot == EMPTY || this.keys[slot] == EMPTY) {
+			this.misses++;
+			return Optional.empty();
+		}
+		this.hits++;
+		return Optional.of(this.toJson(slot));
 	}
 
 	/**
@@ -52,48 +100,294 @@ public class EdgeCache {
 			var incomingTimestamp = entry.getKey();
 			var incomingData = entry.getValue();
 
-			// Check if cache should be applied
-			if (incomingTimestamp < this.cacheTimestamp) {
-				// Incoming data is older than cache -> do not apply cache
+			var action = this.getAction(edgeId, incomingTimestamp);
+			if (action == Action.IGNORE) {
+				continue;
+			}
+			if (action == Action.APPLY_AND_UPDATE) {
+				for (var slot = 0; slot < this.keys.length; slot++) {
+					if (this.keys[slot] == EMPTY) {
+						continue;
+					}
+					var channel = this.index.getAddress(this.keys[slot]);
+					// check if there is a current value for this timestamp + channel
+					if (!incomingData.containsKey(channel)) {
+						// if not -> add cache data to write data
+						incomingData.put(channel, this.toJson(slot));
+					}
+				}
+			}
+
+			// update cache
+			for (Entry<ChannelAddress, JsonElement> channelEntry : incomingData.entrySet()) {
+				this.put(this.index.getOrCreateId(channelEntry.getKey()), channelEntry.getValue());
+			}
+		}
+	}
 
-			} else {
-				// Incoming data is more recent than cache
+	/**
+	 * Complements the 'incoming data' with the data from the cache.
+	 *
+	 * <p>
+	 * The rows of the batch must be sorted by timestamp.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param batch  the incoming {@link TimestampedDataBatch}
+	 * @return the given batch if no data was added; otherwise a new
+	 *         {@link TimestampedDataBatch} with the complemented data
+	 */
+	public synchronized TimestampedDataBatch complementDataFromCache(String edgeId, TimestampedDataBatch batch) {
+		TimestampedDataBatch result = null;
+		for (var row = 0; row < batch.rows(); row++) {
+			var incomingTimestamp = batch.getTimestamp(row);
+			var start = batch.getRowStart(row);
+			var end = batch.getRowEnd(row);
 
-				if (incomingTimestamp > this.cacheTimestamp + 5 * 60 * 1000) {
-					// Cache is not anymore valid (elder than 5 minutes)
-					if (this.cacheTimestamp != 0L) {
-						this.log.info("Edge [" + edgeId + "]: invalidate cache. Incoming ["
-								+ Instant.ofEpochMilli(incomingTimestamp) + "]. Cache ["
-								+ Instant.ofEpochMilli(this.cacheTimestamp) + "]");
+			var action = this.getAction(edgeId, incomingTimestamp);
+			if (action == Action.APPLY_AND_UPDATE && result == null) {
+				// Copy the previous rows
+				result = new TimestampedDataBatch(this.index, batch.rows(), batch.size() + this.size);
+				for (var r = 0; r < row; r++) {
+					this.copyRow(batch, r, result);
+				}
+			}
+			if (result != null) {
+				this.copyRow(batch, row, result);
+			}
+			if (action == Action.IGNORE) {
+				continue;
+			}
+			if (action == Action.APPLY_AND_UPDATE) {
+				// Mark the Channels of the incoming row
+				this.nextStamp();
+				for (var i = start; i < end; i++) {
+					var id = this.toLocalId(batch, i);
+					var slot = this.findSlot(id);
+					if (this.keys[slot] != EMPTY) {
+						this.stamps[slot] = this.stamp;
 					}
-					// Clear Cache
-					this.cacheData.clear();
-
-				} else if (incomingTimestamp < this.lastAppliedTimestamp + 60 * 1000) {
-					// Apply Cache only once every minute to throttle writes
-
-				} else {
-					// Apply Cache
-
-					// cache is valid (not elder than 5 minutes)
-					this.lastAppliedTimestamp = incomingTimestamp;
-					for (Entry<ChannelAddress, JsonElement> cacheEntry : this.cacheData.entrySet()) {
-						var channel = cacheEntry.getKey();
-						// check if there is a current value for this timestamp + channel
-						if (!incomingData.containsKey(channel)) {
-							// if not -> add cache data to write data
-							incomingData.put(channel, cacheEntry.getValue());
-						}
+				}
+				// Add cache data for all other Channels
+				for (var slot = 0; slot < this.keys.length; slot++) {
+					if (this.keys[slot] != EMPTY && this.stamps[slot] != this.stamp) {
+						result.add(this.keys[slot], this.types[slot], this.values[slot],
+								this.objects != null ? this.objects[slot] : null);
 					}
 				}
+			}
+
+			// update cache
+			for (var i = start; i < end; i++) {
+				this.put(this.toLocalId(batch, i), batch.getType(i), batch.getBits(i), batch.getObject(i));
+			}
+		}
+		return result != null ? result : batch;
+	}
+
+	private static enum Action {
+		/** Incoming data is older than cache -> do not apply cache. */
+		IGNORE, //
+		/** Only update the cache with the incoming data. */
+		UPDATE, //
+		/** Apply cache to the incoming data, then update the cache. */
+		APPLY_AND_UPDATE;
+	}
+
+	private Action getAction(String edgeId, long incomingTimestamp) {
+		// Check if cache should be applied
+		if (incomingTimestamp < this.cacheTimestamp) {
+			// Incoming data is older than cache -> do not apply cache
+			return Action.IGNORE;
+		}
+
+		// Incoming data is more recent than cache
+		var action = Action.UPDATE;
+		if (incomingTimestamp > this.cacheTimestamp + 5 * 60 * 1000) {
+			// Cache is not anymore valid (elder than 5 minutes)
+			if (this.cacheTimestamp != 0L) {
+				this.log.info("Edge [" + edgeId + "]: invalidate cache. Incoming ["
+						+ Instant.ofEpochMilli(incomingTimestamp) + "]. Cache ["
+						+ Instant.ofEpochMilli(this.cacheTimestamp) + "]");
+			}
+			// Clear Cache
+			this.clear();
+
+		} else if (incomingTimestamp < this.lastAppliedTimestamp + 60 * 1000) {
+			// Apply Cache only once every minute to throttle writes
+
+		} else {
+			// Apply Cache; cache is valid (not elder than 5 minutes)
+			this.lastAppliedTimestamp = incomingTimestamp;
+			action = Action.APPLY_AND_UPDATE;
+		}
+		this.cacheTimestamp = incomingTimestamp;
+		return action;
+	}
+
+	private void copyRow(TimestampedDataBatch source, int row, TimestampedDataBatch target) {
+		target.startRow(source.getTimestamp(row));
+		for (var i = source.getRowStart(row); i < source.getRowEnd(row); i++) {
+			target.add(this.toLocalId(source, i), source.getType(i), source.getBits(i), source.getObject(i));
+		}
+	}
+
+	private int toLocalId(TimestampedDataBatch batch, int i) {
+		if (batch.getIndex() == this.index) {
+			return batch.getId(i);
+		}
+		return this.index.getOrCreateId(batch.getAddress(i));
+	}
 
-				// update cache
-				this.cacheTimestamp = incomingTimestamp;
-				for (Entry<ChannelAddress, JsonElement> channelEntry : incomingData.entrySet()) {
-					this.cacheData.put(channelEntry.getKey(), channelEntry.getValue());
+	private void nextStamp() {
+		if (this.stamp == Integer.MAX_VALUE) {
+			Arrays.fill(this.stamps, 0);
+			this.stamp = 0;
+		}
+		this.stamp++;
+	}
+
+	/**
+	 * Gets the number of cached values.
+	 *
+	 * @return the number of values
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the number of successful {@link #getChannelValue(ChannelAddress)}
+	 * calls.
+	 *
+	 * @return the number of hits
+	 */
+	public synchronized long getHits() {
+		return this.hits;
+	}
+
+	/**
+	 * Gets the number of {@link #getChannelValue(ChannelAddress)} calls without a
+	 * cached value.
+	 *
+	 * @return the number of misses
+	 */
+	public synchronized long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Gets a rough estimation of the heap used by this cache, excluding the
+	 * shared {@link ChannelAddressIndex}.
+	 *
+	 * @return the estimated size in bytes
+	 */
+	public synchronized long getEstimatedMemoryUsage() {
+		// object headers and fields + arrays (keys, types, values, stamps, objects)
+		var capacity = (long) this.keys.length;
+		var usage = 128L + 5 * 16L + capacity * (4 + 1 + 8 + 4);
+		if (this.objects != null) {
+			usage += 16L + capacity * 4;
+			for (JsonElement object : this.objects) {
+				if (object != null) {
+					// JsonPrimitive and String
+					usage += 16L + 40L + object.toString().length();
 				}
 			}
 		}
+		return usage;
+	}
+
+	private void put(int id, JsonElement element) {
+		this.converter.reset();
+		this.converter.startRow(0);
+		this.converter.add(id, element);
+		this.put(id, this.converter.getType(0), this.converter.getBits(0), this.converter.getObject(0));
+	}
+
+	private void put(int id, byte type, long bits, JsonElement object) {
+		if ((this.size + 1) * 4 > this.keys.length * 3) {
+			this.rehash(this.keys.length * 2);
+		}
+		var slot = this.findSlot(id);
+		if (this.keys[slot] == EMPTY) {
+			this.keys[slot] = id;
+			this.size++;
+		}
+		this.types[slot] = type;
+		this.values[slot] = bits;
+		if (object != null && this.objects == null) {
+			this.objects = new JsonElement[this.keys.length];
+		}
+		if (this.objects != null) {
+			this.objects[slot] = object;
+		}
+	}
+
+	private JsonElement toJson(int slot) {
+		return TimestampedDataBatch.toJson(this.types[slot], this.values[slot],
+				this.objects != null ? this.objects[slot] : null);
+	}
+
+	/**
+	 * Finds the slot of the given id; or the empty slot where it would be
+	 * inserted.
+	 *
+	 * @param id the id
+	 * @return the slot
+	 */
+	private int findSlot(int id) {
+		var mask = this.keys.length - 1;
+		var slot = mix(id) & mask;
+		while (this.keys[slot] != EMPTY && this.keys[slot] != id) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	private static int mix(int id) {
+		var h = id * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	private void rehash(int capacity) {
+		var oldKeys = this.keys;
+		var oldTypes = this.types;
+		var oldValues = this.values;
+		var oldObjects = this.objects;
+		var oldStamps = this.stamps;
+		this.allocate(capacity);
+		if (oldObjects != null) {
+			this.objects = new JsonElement[capacity];
+		}
+		for (var i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY) {
+				continue;
+			}
+			var slot = this.findSlot(oldKeys[i]);
+			this.keys[slot] = oldKeys[i];
+			this.types[slot] = oldTypes[i];
+			this.values[slot] = oldValues[i];
+			this.stamps[slot] = oldStamps[i];
+			if (oldObjects != null) {
+				this.objects[slot] = oldObjects[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		this.keys = new int[capacity];
+		Arrays.fill(this.keys, EMPTY);
+		this.types = new byte[capacity];
+		this.values = new long[capacity];
+		this.stamps = new int[capacity];
+		this.objects = null;
+	}
+
+	private void clear() {
+		// keep the capacity; the Edge will most probably send the same Channels again
+		Arrays.fill(this.keys, EMPTY);
+		this.objects = null;
+		this.size = 0;
 	}
 
 }
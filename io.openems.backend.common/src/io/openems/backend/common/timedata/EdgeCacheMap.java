@@ -0,0 +1,87 @@
+package io.openems.backend.common.timedata;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link EdgeCache}s of all Edges.
+ *
+ * <p>
+ * Lookup and creation of an {@link EdgeCache} is thread-safe and lock-free for
+ * existing Edges. All {@link EdgeCache}s share one {@link ChannelAddressIndex}.
+ */
+public class EdgeCacheMap {
+
+	private final ChannelAddressIndex index;
+	private final ConcurrentHashMap<String, EdgeCache> caches = new ConcurrentHashMap<>();
+
+	public EdgeCacheMap() {
+		this(ChannelAddressIndex.DEFAULT);
+	}
+
+	public EdgeCacheMap(ChannelAddressIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * Gets the {@link EdgeCache} of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link EdgeCache}; null if there is none
+	 */
+	public EdgeCache get(String edgeId) {
+		return this.caches.get(edgeId);
+	}
+
+	/**
+	 * Gets the existing or creates a new {@link EdgeCache} for an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link EdgeCache}
+	 */
+	public EdgeCache getOrCreate(String edgeId) {
+		var cache = this.caches.get(edgeId);
+		if (cache != null) {
+			return cache;
+		}
+		return this.caches.computeIfAbsent(edgeId, id -> new EdgeCache(this.index));
+	}
+
+	/**
+	 * Gets a rough estimation of the heap used by all {@link EdgeCache}s.
+	 *
+	 * @return the estimated size in bytes
+	 */
+	public long getEstimatedMemoryUsage() {
+		var usage = this.index.getEstimatedMemoryUsage();
+		for (EdgeCache cache : this.caches.values()) {
+			usage += cache.getEstimatedMemoryUsage();
+		}
+		return usage;
+	}
+
+	/**
+	 * Gets the ratio of successful {@link EdgeCache#getChannelValue} calls.
+	 *
+	 * @return the hit rate between 0 and 1; NaN if there was no call
+	 */
+	public double getHitRate() {
+		long hits = 0;
+		long misses = 0;
+		for (EdgeCache cache : this.caches.values()) {
+			hits += cache.getHits();
+			misses += cache.getMisses();
+		}
+		return (double) hits / (hits + misses);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder() //
+				.append("Edges: ").append(this.caches.size()).append(", ") //
+				.append("Channels: ").append(this.index.size()).append(", ") //
+				.append("EstimatedMemory: ").append(this.getEstimatedMemoryUsage() / 1024).append(" kB, ") //
+				.append("HitRate: ").append(String.format("%.3f", this.getHitRate())) //
+				.toString();
+	}
+
+}
@@ -24,6 +24,37 @@ public interface Timedata extends CommonTimedataService {
 	 */
 	public void write(String edgeId, TreeBasedTable<Long, ChannelAddress, JsonElement> data) throws OpenemsException;
 
+	/**
+	 * Sends the data points of a {@link TimestampedDataBatch} to the Timedata
+	 * service.
+	 *
+	 * <p>
+	 * The default implementation converts the batch to a {@link TreeBasedTable};
+	 * implementations should override this method to avoid the conversion.
+	 *
+	 * @param edgeId The unique Edge-ID
+	 * @param data   the {@link TimestampedDataBatch}
+	 * @throws OpenemsException on error
+	 */
+	public default void write(String edgeId, TimestampedDataBatch data) throws OpenemsException {
+		this.write(edgeId, data.toTable());
+	}
+
+	/**
+	 * Sends historic data points that were resent by an Edge to the Timedata
+	 * service.
+	 *
+	 * <p>
+	 * Backfill data must not be complemented from or update the latest values
+	 * of the Edge, so - unlike {@link #write(String, TimestampedDataBatch)} -
+	 * there is no default implementation.
+	 *
+	 * @param edgeId The unique Edge-ID
+	 * @param data   the {@link TimestampedDataBatch}
+	 * @throws OpenemsException on error
+	 */
+	public void writeBackfill(String edgeId, TimestampedDataBatch data) throws OpenemsException;
+
 	/**
 	 * Gets the latest value for the given ChannelAddress.
 	 *
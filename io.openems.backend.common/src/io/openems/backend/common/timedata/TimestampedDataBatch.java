@@ -0,0 +1,425 @@
+package io.openems.backend.common.timedata;
+
+import java.util.Arrays;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A columnar batch of timestamped Channel values of one Edge.
+ *
+ * <p>
+ * The batch consists of rows - one per timestamp - and entries. Each entry has
+ * the int id of its {@link ChannelAddress} in a {@link ChannelAddressIndex}, a
+ * type and either primitive long bits or - for Strings and other non-primitive
+ * values - a {@link JsonElement}. Rows are appended with
+ * {@link #startRow(long)}; entries are always added to the last row.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class TimestampedDataBatch {
+
+	public static final byte TYPE_LONG = 1;
+	public static final byte TYPE_DOUBLE = 2;
+	public static final byte TYPE_BOOLEAN = 3;
+	public static final byte TYPE_NULL = 4;
+	public static final byte TYPE_OBJECT = 5;
+
+	private final ChannelAddressIndex index;
+
+	private long[] timestamps;
+	private int[] rowStarts;
+	private int rows = 0;
+
+	private int[] ids;
+	private byte[] types;
+	private long[] values;
+	/** Non-primitive values; allocated on demand. */
+	private JsonElement[] objects = null;
+	private int size = 0;
+
+	public TimestampedDataBatch(ChannelAddressIndex index) {
+		this(index, 4, 64);
+	}
+
+	public TimestampedDataBatch(ChannelAddressIndex index, int rowCapacity, int capacity) {
+		this.index = index;
+		this.timestamps = new long[Math.max(1, rowCapacity)];
+		this.rowStarts = new int[Math.max(1, rowCapacity)];
+		this.ids = new int[Math.max(1, capacity)];
+		this.types = new byte[this.ids.length];
+		this.values = new long[this.ids.length];
+	}
+
+	/**
+	 * Starts a new row.
+	 *
+	 * @param timestamp the timestamp epoch in milliseconds
+	 */
+	public void startRow(long timestamp) {
+		if (this.rows == this.timestamps.length) {
+			this.timestamps = Arrays.copyOf(this.timestamps, this.rows * 2);
+			this.rowStarts = Arrays.copyOf(this.rowStarts, this.rows * 2);
+		}
+		this.timestamps[this.rows] = timestamp;
+		this.rowStarts[this.rows] = this.size;
+		this.rows++;
+	}
+
+	/**
+	 * Adds an integer value to the last row.
+	 *
+	 * @param id    the id in the {@link ChannelAddressIndex}
+	 * @param value the value
+	 */
+	public void addLong(int id, long value) {
+		this.add(id, TYPE_LONG, value, null);
+	}
+
+	/**
+	 * Adds a floating point value to the last row.
+	 *
+	 * @param id    the id in the {@link ChannelAddressIndex}
+	 * @param value the value
+	 */
+	public void addDouble(int id, double value) {
+		this.add(id, TYPE_DOUBLE, Double.doubleToRawLongBits(value), null);
+	}
+
+	/**
+	 * Adds a boolean value to the last row.
+	 *
+	 * @param id    the id in the {@link ChannelAddressIndex}
+	 * @param value the value
+	 */
+	public void addBoolean(int id, boolean value) {
+		this.add(id, TYPE_BOOLEAN, value ? 1 : 0, null);
+	}
+
+	/**
+	 * Adds a null value to the last row.
+	 *
+	 * @param id the id in the {@link ChannelAddressIndex}
+	 */
+	public void addNull(int id) {
+		this.add(id, TYPE_NULL, 0, null);
+	}
+
+	/**
+	 * Adds a non-primitive value - e.g. a String - to the last row.
+	 *
+	 * @param id    the id in the {@link ChannelAddressIndex}
+	 * @param value the value
+	 */
+	public void addObject(int id, JsonElement value) {
+		this.add(id, TYPE_OBJECT, 0, value);
+	}
+
+	/**
+	 * Adds a value to the last row.
+	 *
+	 * @param id     the id in the {@link ChannelAddressIndex}
+	 * @param type   the type, e.g. {@link #TYPE_LONG}
+	 * @param bits   the primitive long bits
+	 * @param object the non-primitive value for {@link #TYPE_OBJECT}
+	 */
+	public void add(int id, byte type, long bits, JsonElement object) {
+		if (this.rows == 0) {
+			throw new IllegalStateException("No row was started");
+		}
+		if (this.size == this.ids.length) {
+			var capacity = this.size * 2;
+			this.ids = Arrays.copyOf(this.ids, capacity);
+			this.types = Arrays.copyOf(this.types, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+			if (this.objects != null) {
+				this.objects = Arrays.copyOf(this.objects, capacity);
+			}
+		}
+		this.ids[this.size] = id;
+		this.types[this.size] = type;
+		this.values[this.size] = bits;
+		if (object != null) {
+			if (this.objects == null) {
+				this.objects = new JsonElement[this.ids.length];
+			}
+			this.objects[this.size] = object;
+		}
+		this.size++;
+	}
+
+	/**
+	 * Adds a {@link JsonElement} value to the last row, using the most compact
+	 * type.
+	 *
+	 * @param id    the id in the {@link ChannelAddressIndex}
+	 * @param value the value
+	 */
+	public void add(int id, JsonElement value) {
+		if (value == null || value.isJsonNull()) {
+			this.addNull(id);
+			return;
+		}
+		if (value.isJsonPrimitive()) {
+			var primitive = value.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				this.addBoolean(id, primitive.getAsBoolean());
+				return;
+			}
+			if (primitive.isNumber()) {
+				var number = primitive.getAsNumber();
+				if (number instanceof Integer || number instanceof Long || number instanceof Short
+						|| number instanceof Byte) {
+					this.addLong(id, number.longValue());
+					return;
+				}
+				if (number instanceof Double || number instanceof Float) {
+					this.addDouble(id, number.doubleValue());
+					return;
+				}
+				// e.g. lazily parsed number
+				if (this.addNumber(id, number.toString())) {
+					return;
+				}
+			}
+		}
+		this.addObject(id, value);
+	}
+
+	/**
+	 * Adds a JSON number literal to the last row; as integer if it is an integer
+	 * literal within the range of long, as floating point otherwise.
+	 *
+	 * @param id      the id in the {@link ChannelAddressIndex}
+	 * @param literal the number literal
+	 * @return false if the literal is not a valid number
+	 */
+	public boolean addNumber(int id, String literal) {
+		if (isIntegerLiteral(literal)) {
+			try {
+				this.addLong(id, Long.parseLong(literal));
+				return true;
+			} catch (NumberFormatException e) {
+				// too large for long
+			}
+		}
+		try {
+			this.addDouble(id, Double.parseDouble(literal));
+			return true;
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Appends all rows of another batch.
+	 *
+	 * @param other the other {@link TimestampedDataBatch}
+	 */
+	public void addAll(TimestampedDataBatch other) {
+		for (var row = 0; row < other.rows(); row++) {
+			this.startRow(other.getTimestamp(row));
+			for (var i = other.getRowStart(row); i < other.getRowEnd(row); i++) {
+				var id = other.getIndex() == this.index //
+						? other.getId(i) //
+						: this.index.getOrCreateId(other.getAddress(i));
+				this.add(id, other.getType(i), other.getBits(i), other.getObject(i));
+			}
+		}
+	}
+
+	/**
+	 * Removes all rows and entries, keeping the capacity.
+	 */
+	public void reset() {
+		this.rows = 0;
+		this.size = 0;
+		if (this.objects != null) {
+			Arrays.fill(this.objects, null);
+		}
+	}
+
+	/**
+	 * Gets the {@link ChannelAddressIndex} of the ids.
+	 *
+	 * @return the {@link ChannelAddressIndex}
+	 */
+	public ChannelAddressIndex getIndex() {
+		return this.index;
+	}
+
+	/**
+	 * Gets the number of rows.
+	 *
+	 * @return the number of rows
+	 */
+	public int rows() {
+		return this.rows;
+	}
+
+	/**
+	 * Gets the total number of entries.
+	 *
+	 * @return the number of entries
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the timestamp of a row.
+	 *
+	 * @param row the row
+	 * @return the timestamp epoch in milliseconds
+	 */
+	public long getTimestamp(int row) {
+		return this.timestamps[row];
+	}
+
+	/**
+	 * Gets the index of the first entry of a row.
+	 *
+	 * @param row the row
+	 * @return the index of the first entry
+	 */
+	public int getRowStart(int row) {
+		return this.rowStarts[row];
+	}
+
+	/**
+	 * Gets the index after the last entry of a row.
+	 *
+	 * @param row the row
+	 * @return the exclusive end index
+	 */
+	public int getRowEnd(int row) {
+		return row + 1 < this.rows ? this.rowStarts[row + 1] : this.size;
+	}
+
+	/**
+	 * Checks whether the rows are sorted by ascending timestamp.
+	 *
+	 * @return true if sorted
+	 */
+	public boolean isSorted() {
+		for (var row = 1; row < this.rows; row++) {
+			if (this.timestamps[row] < this.timestamps[row - 1]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the id of the {@link ChannelAddress} of an entry.
+	 *
+	 * @param i the index of the entry
+	 * @return the id in the {@link ChannelAddressIndex}
+	 */
+	public int getId(int i) {
+		return this.ids[i];
+	}
+
+	/**
+	 * Gets the {@link ChannelAddress} of an entry.
+	 *
+	 * @param i the index of the entry
+	 * @return the {@link ChannelAddress}
+	 */
+	public ChannelAddress getAddress(int i) {
+		return this.index.getAddress(this.ids[i]);
+	}
+
+	/**
+	 * Gets the type of an entry.
+	 *
+	 * @param i the index of the entry
+	 * @return the type, e.g. {@link #TYPE_LONG}
+	 */
+	public byte getType(int i) {
+		return this.types[i];
+	}
+
+	/**
+	 * Gets the primitive long bits of an entry.
+	 *
+	 * @param i the index of the entry
+	 * @return the bits; a long value, the raw bits of a double or 1/0 for a
+	 *         boolean
+	 */
+	public long getBits(int i) {
+		return this.values[i];
+	}
+
+	/**
+	 * Gets the non-primitive value of an entry.
+	 *
+	 * @param i the index of the entry
+	 * @return the value for {@link #TYPE_OBJECT}; null otherwise
+	 */
+	public JsonElement getObject(int i) {
+		return this.objects != null ? this.objects[i] : null;
+	}
+
+	/**
+	 * Gets the value of an entry as {@link JsonElement}.
+	 *
+	 * @param i the index of the entry
+	 * @return the value
+	 */
+	public JsonElement toJson(int i) {
+		return toJson(this.types[i], this.values[i], this.getObject(i));
+	}
+
+	/**
+	 * Converts this batch to a {@link TreeBasedTable}.
+	 *
+	 * @return the table of timestamp, {@link ChannelAddress} and value
+	 */
+	public TreeBasedTable<Long, ChannelAddress, JsonElement> toTable() {
+		TreeBasedTable<Long, ChannelAddress, JsonElement> result = TreeBasedTable.create();
+		for (var row = 0; row < this.rows; row++) {
+			var timestamp = this.timestamps[row];
+			for (var i = this.getRowStart(row); i < this.getRowEnd(row); i++) {
+				result.put(timestamp, this.getAddress(i), this.toJson(i));
+			}
+		}
+		return result;
+	}
+
+	protected static JsonElement toJson(byte type, long bits, JsonElement object) {
+		switch (type) {
+		case TYPE_LONG:
+			return new JsonPrimitive(bits);
+		case TYPE_DOUBLE:
+			return new JsonPrimitive(Double.longBitsToDouble(bits));
+		case TYPE_BOOLEAN:
+			return new JsonPrimitive(bits != 0);
+		case TYPE_NULL:
+			return JsonNull.INSTANCE;
+		default:
+			return object;
+		}
+	}
+
+	private static boolean isIntegerLiteral(String s) {
+		var length = s.length();
+		var start = length > 0 && s.charAt(0) == '-' ? 1 : 0;
+		if (start == length) {
+			return false;
+		}
+		for (var i = start; i < length; i++) {
+			var c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,33 @@
+package io.openems.backend.common.timedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+
+public class ChannelAddressIndexTest {
+
+	@Test
+	public void testMaxSize() throws OpenemsNamedException {
+		var index = new ChannelAddressIndex(2);
+		assertEquals(0, index.getOrCreateId(new ChannelAddress("_sum", "EssSoc")));
+		assertEquals(1, index.getOrCreateId("meter0/ActivePower"));
+
+		// known addresses are still resolved
+		assertEquals(0, index.getOrCreateId("_sum/EssSoc"));
+		assertEquals(1, index.getOrCreateId(new ChannelAddress("meter0", "ActivePower")));
+
+		try {
+			index.getOrCreateId("ess0/Soc");
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertEquals(2, index.size());
+		assertEquals(-1, index.getId(new ChannelAddress("ess0", "Soc")));
+	}
+
+}
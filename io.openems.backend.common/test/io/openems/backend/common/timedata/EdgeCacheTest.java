@@ -0,0 +1,141 @@
+package io.openems.backend.common.timedata;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+public class EdgeCacheTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress STATE = new ChannelAddress("_sum", "State");
+	private static final ChannelAddress POWER = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress SERIAL = new ChannelAddress("ess0", "SerialNumber");
+
+	@Test
+	public void testComplementDataFromCache() {
+		var caches = new EdgeCacheMap();
+		var cache = caches.getOrCreate("edge0");
+		assertEquals(cache, caches.getOrCreate("edge0"));
+
+		var data = TreeBasedTable.<Long, ChannelAddress, JsonElement>create();
+		data.put(1_000L, SOC, JsonParser.parseString("50"));
+		data.put(1_000L, POWER, JsonParser.parseString("1.5"));
+		data.put(1_000L, SERIAL, new JsonPrimitive("abc"));
+		data.put(1_000L, STATE, JsonNull.INSTANCE);
+		cache.complementDataFromCache("edge0", data.rowMap());
+		assertEquals(4, cache.size());
+
+		assertEquals(new JsonPrimitive(50L), cache.getChannelValue(SOC).get());
+		assertEquals(new JsonPrimitive(1.5), cache.getChannelValue(POWER).get());
+		assertEquals(new JsonPrimitive("abc"), cache.getChannelValue(SERIAL).get());
+		assertEquals(JsonNull.INSTANCE, cache.getChannelValue(STATE).get());
+		assertFalse(cache.getChannelValue(new ChannelAddress("foo", "Bar")).isPresent());
+
+		// Cache is applied once per minute
+		data = TreeBasedTable.create();
+		data.put(61_000L, SOC, new JsonPrimitive(51));
+		cache.complementDataFromCache("edge0", data.rowMap());
+		assertEquals(4, data.row(61_000L).size());
+		assertEquals(new JsonPrimitive(51), data.get(61_000L, SOC));
+		assertEquals(new JsonPrimitive(1.5), data.get(61_000L, POWER));
+		assertEquals(new JsonPrimitive(51L), cache.getChannelValue(SOC).get());
+
+		// Cache is invalidated after 5 minutes
+		data = TreeBasedTable.create();
+		data.put(1_000_000L, SOC, new JsonPrimitive(52));
+		cache.complementDataFromCache("edge0", data.rowMap());
+		assertEquals(1, data.row(1_000_000L).size());
+		assertEquals(1, cache.size());
+		assertFalse(cache.getChannelValue(POWER).isPresent());
+
+		assertEquals(5. / 7, caches.getHitRate(), 0.001);
+		assertTrue(caches.getEstimatedMemoryUsage() > 0);
+	}
+
+	@Test
+	public void testGrow() {
+		var index = new ChannelAddressIndex();
+		var cache = new EdgeCache(index);
+		var data = TreeBasedTable.<Long, ChannelAddress, JsonElement>create();
+		for (var i = 0; i < 1000; i++) {
+			data.put(1_000L, new ChannelAddress("c" + i, "Channel"), new JsonPrimitive(i));
+		}
+		cache.complementDataFromCache("edge0", data.rowMap());
+		assertEquals(1000, cache.size());
+		assertEquals(1000, index.size());
+		for (var i = 0; i < 1000; i++) {
+			assertEquals(new JsonPrimitive((long) i), cache.getChannelValue(new ChannelAddress("c" + i, "Channel")).get());
+		}
+	}
+
+	@Test
+	public void testComplementBatchFromCache() throws Exception {
+		var index = new ChannelAddressIndex();
+		var cache = new EdgeCache(index);
+		var soc = index.getOrCreateId(SOC);
+		var power = index.getOrCreateId(POWER);
+		var serial = index.getOrCreateId(SERIAL);
+
+		var batch = new TimestampedDataBatch(index);
+		batch.startRow(1_000L);
+		batch.addLong(soc, 50);
+		batch.addDouble(power, 1.5);
+		batch.addObject(serial, new JsonPrimitive("abc"));
+		assertEquals(batch, cache.complementDataFromCache("edge0", batch));
+		assertEquals(3, cache.size());
+
+		// Cache is not applied within one minute -> batch is returned unchanged
+		batch = new TimestampedDataBatch(index);
+		batch.startRow(2_000L);
+		batch.addLong(soc, 51);
+		assertEquals(batch, cache.complementDataFromCache("edge0", batch));
+		assertEquals(1, batch.size());
+
+		// Cache is applied once per minute
+		batch = new TimestampedDataBatch(index);
+		batch.startRow(30_000L);
+		batch.addLong(soc, 52);
+		batch.startRow(61_000L);
+		batch.addLong(soc, 53);
+		var result = cache.complementDataFromCache("edge0", batch);
+		assertEquals(2, result.rows());
+		assertEquals(1, result.getRowEnd(0) - result.getRowStart(0));
+		assertEquals(3, result.getRowEnd(1) - result.getRowStart(1));
+		var table = result.toTable();
+		assertEquals(new JsonPrimitive(53L), table.get(61_000L, SOC));
+		assertEquals(new JsonPrimitive(1.5), table.get(61_000L, POWER));
+		assertEquals(new JsonPrimitive("abc"), table.get(61_000L, SERIAL));
+		assertEquals(new JsonPrimitive(53L), cache.getChannelValue(SOC).get());
+	}
+
+	@Test
+	public void testBatchAddNumber() throws Exception {
+		var index = new ChannelAddressIndex();
+		var batch = new TimestampedDataBatch(index, 1, 1);
+		var id = index.getOrCreateId("_sum/EssSoc");
+		assertEquals(SOC, index.getAddress(id));
+		assertEquals(id, index.getOrCreateId("_sum/EssSoc"));
+
+		batch.startRow(1_000L);
+		assertTrue(batch.addNumber(id, "42"));
+		assertTrue(batch.addNumber(id, "1.0"));
+		assertTrue(batch.addNumber(id, "99999999999999999999"));
+		assertFalse(batch.addNumber(id, "abc"));
+		assertEquals(TimestampedDataBatch.TYPE_LONG, batch.getType(0));
+		assertEquals(TimestampedDataBatch.TYPE_DOUBLE, batch.getType(1));
+		assertEquals(TimestampedDataBatch.TYPE_DOUBLE, batch.getType(2));
+		assertEquals(new JsonPrimitive(42L), batch.toJson(0));
+		assertEquals(new JsonPrimitive(1.0), batch.toJson(1));
+	}
+
+}
@@ -0,0 +1,218 @@
+package io.openems.backend.edgewebsocket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.utils.ThreadPoolUtils;
+
+/**
+ * Ingests historic data that was resent by Edges via
+ * {@link ResendDataNotification}s.
+ *
+ * <p>
+ * Backfill data is queued separately from live data and written by a single
+ * low-priority thread, so a reconnecting fleet that replays its buffers does
+ * not starve live data handling. Queued batches of the same Edge are merged to
+ * blocks of up to {@link #MAX_BLOCK_SIZE} values before they are handed to
+ * {@link io.openems.backend.common.timedata.Timedata#writeBackfill(String, TimestampedDataBatch)}.
+ */
+public class BackfillWorker {
+
+	private static final int MAX_QUEUED_VALUES = 10_000_000;
+	private static final int MAX_BLOCK_SIZE = 100_000;
+
+	private final Logger log = LoggerFactory.getLogger(BackfillWorker.class);
+
+	private final EdgeWebsocketImpl parent;
+	private final LinkedBlockingQueue<Item> queue = new LinkedBlockingQueue<>();
+	private final Map<String, Backlog> backlogs = new ConcurrentHashMap<>();
+	private final AtomicLong queuedValues = new AtomicLong();
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder() //
+			.setNameFormat("EdgeWebsocket:Backfill-%d") //
+			.setPriority(Thread.MIN_PRIORITY) //
+			.build());
+
+	public BackfillWorker(EdgeWebsocketImpl parent) {
+		this.parent = parent;
+		this.executor.execute(this::writeForever);
+	}
+
+	/**
+	 * Stops the worker. Queued data is discarded.
+	 */
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	/**
+	 * Queues backfill data of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param batch  the {@link TimestampedDataBatch}
+	 * @return false if the data was dropped because the queue is full
+	 */
+	public boolean add(String edgeId, TimestampedDataBatch batch) {
+		var backlog = this.getBacklog(edgeId);
+		var size = batch.size();
+		if (this.queuedValues.get() + size > MAX_QUEUED_VALUES) {
+			backlog.droppedValues.add(size);
+			return false;
+		}
+		this.queuedValues.addAndGet(size);
+		backlog.queuedValues.addAndGet(size);
+		this.queue.add(new Item(edgeId, batch));
+		return true;
+	}
+
+	/**
+	 * Gets the number of queued backfill values of an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the number of values
+	 */
+	public long getQueuedValues(String edgeId) {
+		var backlog = this.backlogs.get(edgeId);
+		return backlog != null ? backlog.queuedValues.get() : 0;
+	}
+
+	/**
+	 * Gets the number of backfill values of an Edge that were written since
+	 * start.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the number of values
+	 */
+	public long getWrittenValues(String edgeId) {
+		var backlog = this.backlogs.get(edgeId);
+		return backlog != null ? backlog.writtenValues.sum() : 0;
+	}
+
+	/**
+	 * Gets the number of backfill values of an Edge that were dropped since
+	 * start, because the queue was full.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the number of values
+	 */
+	public long getDroppedValues(String edgeId) {
+		var backlog = this.backlogs.get(edgeId);
+		return backlog != null ? backlog.droppedValues.sum() : 0;
+	}
+
+	private Backlog getBacklog(String edgeId) {
+		return this.backlogs.computeIfAbsent(edgeId, e -> new Backlog());
+	}
+
+	private void writeForever() {
+		var items = new ArrayList<Item>();
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				items.add(this.queue.take());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			this.queue.drainTo(items, 1000);
+
+			// Merge batches per Edge, keeping the order
+			Map<String, List<TimestampedDataBatch>> blocks = new LinkedHashMap<>();
+			for (Item item : items) {
+				blocks.computeIfAbsent(item.edgeId, e -> new ArrayList<>()).add(item.batch);
+			}
+			items.clear();
+			for (Entry<String, List<TimestampedDataBatch>> entry : blocks.entrySet()) {
+				this.writeBlocks(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private void writeBlocks(String edgeId, List<TimestampedDataBatch> batches) {
+		TimestampedDataBatch block = null;
+		for (TimestampedDataBatch batch : batches) {
+			if (block != null && block.size() + batch.size() > MAX_BLOCK_SIZE) {
+				this.write(edgeId, block);
+				block = null;
+			}
+			if (block == null) {
+				block = new TimestampedDataBatch(batch.getIndex(), 16, Math.max(batch.size(), 1024));
+			}
+			block.addAll(batch);
+		}
+		if (block != null) {
+			this.write(edgeId, block);
+		}
+	}
+
+	private void write(String edgeId, TimestampedDataBatch block) {
+		var backlog = this.getBacklog(edgeId);
+		var size = block.size();
+		try {
+			this.parent.timedata.writeBackfill(edgeId, block);
+			backlog.writtenValues.add(size);
+		} catch (OpenemsException | RuntimeException e) {
+			backlog.droppedValues.add(size);
+			this.parent.logWarn(this.log,
+					"Edge [" + edgeId + "] Unable to write backfill data: " + e.getClass().getSimpleName() + ": "
+							+ e.getMessage());
+		} finally {
+			this.queuedValues.addAndGet(-size);
+			backlog.queuedValues.addAndGet(-size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		var b = new StringBuilder() //
+				.append("Queued: ").append(this.queuedValues.get());
+		var edges = this.backlogs.entrySet().stream() //
+				.filter(e -> e.getValue().queuedValues.get() > 0) //
+				.sorted(Comparator.comparingLong(e -> -e.getValue().queuedValues.get())) //
+				.limit(5) //
+				.collect(Collectors.toList());
+		if (!edges.isEmpty()) {
+			b.append(", Top: ");
+			for (var i = 0; i < edges.size(); i++) {
+				var edge = edges.get(i);
+				b.append(i > 0 ? ", " : "").append(edge.getKey()).append("=")
+						.append(edge.getValue().queuedValues.get());
+			}
+		}
+		return b.toString();
+	}
+
+	private static class Item {
+		private final String edgeId;
+		private final TimestampedDataBatch batch;
+
+		private Item(String edgeId, TimestampedDataBatch batch) {
+			this.edgeId = edgeId;
+			this.batch = batch;
+		}
+	}
+
+	private static class Backlog {
+		private final AtomicLong queuedValues = new AtomicLong();
+		private final LongAdder writtenValues = new LongAdder();
+		private final LongAdder droppedValues = new LongAdder();
+	}
+
+}
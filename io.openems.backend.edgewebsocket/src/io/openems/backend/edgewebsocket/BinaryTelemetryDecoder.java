@@ -0,0 +1,171 @@
+package io.openems.backend.edgewebsocket;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.Inflater;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.websocket.BinaryTelemetry;
+
+/**
+ * Decodes frames in the {@link BinaryTelemetry} format to
+ * {@link TimestampedDataBatch}es.
+ *
+ * <p>
+ * An instance holds the dictionary and delta state of exactly one Edge
+ * connection. Frames must be decoded in the order they were received.
+ */
+public class BinaryTelemetryDecoder {
+
+	private final ChannelAddressIndex index;
+	private final Inflater inflater = new Inflater(true);
+
+	/** Maps dictionary ids of the connection to ids in the index. */
+	private int[] ids = new int[256];
+	private long[] lastLongs = new long[256];
+	private int dictionarySize = 0;
+	private long lastTimestamp = 0L;
+
+	public BinaryTelemetryDecoder(ChannelAddressIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * Decodes one frame.
+	 *
+	 * @param frame the frame
+	 * @return the decoded {@link TimestampedDataBatch}; null for DICTIONARY
+	 *         frames
+	 * @throws OpenemsNamedException on error
+	 */
+	public synchronized TimestampedDataBatch decode(ByteBuffer frame) throws OpenemsNamedException {
+		if (!frame.hasRemaining()) {
+			throw new OpenemsException("Empty binary frame");
+		}
+		var type = BinaryTelemetry.getFrameType(frame);
+		var payload = BinaryTelemetry.readPayload(frame, this.inflater);
+		switch (type) {
+		case BinaryTelemetry.FRAME_DICTIONARY:
+			this.decodeDictionary(payload);
+			return null;
+		case BinaryTelemetry.FRAME_DATA:
+			return this.decodeData(payload);
+		default:
+			throw new OpenemsException("Unknown binary frame type [" + type + "]");
+		}
+	}
+
+	/**
+	 * Gets the number of Channels in the dictionary.
+	 *
+	 * @return the number of Channels
+	 */
+	public synchronized int getDictionarySize() {
+		return this.dictionarySize;
+	}
+
+	private void decodeDictionary(ByteBuffer payload) throws OpenemsNamedException {
+		var firstId = BinaryTelemetry.readVarintAsInt(payload);
+		var count = readCount(payload);
+		if (firstId == 0) {
+			// new dictionary: reset delta state
+			this.dictionarySize = 0;
+			this.lastTimestamp = 0L;
+			Arrays.fill(this.lastLongs, 0L);
+		} else if (firstId != this.dictionarySize) {
+			throw new OpenemsException("Dictionary out of sequence. Expected [" + this.dictionarySize
+					+ "] Got [" + firstId + "]");
+		}
+		for (var i = 0; i < count; i++) {
+			var id = this.index.getOrCreateId(BinaryTelemetry.readString(payload));
+			if (this.dictionarySize == this.ids.length) {
+				this.ids = Arrays.copyOf(this.ids, this.dictionarySize * 2);
+				this.lastLongs = Arrays.copyOf(this.lastLongs, this.dictionarySize * 2);
+			}
+			this.ids[this.dictionarySize++] = id;
+		}
+	}
+
+	private TimestampedDataBatch decodeData(ByteBuffer payload) throws OpenemsException {
+		var rows = readCount(payload);
+		// Do not trust the announced size for allocation; the batch grows as needed
+		var batch = new TimestampedDataBatch(this.index, Math.max(1, Math.min(rows, 64)), 64);
+		for (var row = 0; row < rows; row++) {
+			this.lastTimestamp += BinaryTelemetry.readZigzag(payload);
+			batch.startRow(this.lastTimestamp);
+			var entries = readCount(payload);
+			var id = -1;
+			for (var i = 0; i < entries; i++) {
+				id += BinaryTelemetry.readVarintAsInt(payload) + 1;
+				if (id < 0 || id >= this.dictionarySize) {
+					throw new OpenemsException("Unknown dictionary id [" + id + "]");
+				}
+				this.readValue(payload, batch, id);
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Reads the number of following items. Every item takes at least one byte, so
+	 * a count larger than the remaining payload is invalid.
+	 *
+	 * @param payload the payload
+	 * @return the count
+	 * @throws OpenemsException on malformed input
+	 */
+	private static int readCount(ByteBuffer payload) throws OpenemsException {
+		var count = BinaryTelemetry.readVarintAsInt(payload);
+		if (count > payload.remaining()) {
+			throw new OpenemsException(
+					"Invalid count [" + count + "] for remaining [" + payload.remaining() + "] bytes");
+		}
+		return count;
+	}
+
+	private void readValue(ByteBuffer payload, TimestampedDataBatch batch, int id) throws OpenemsException {
+		if (!payload.hasRemaining()) {
+			throw new OpenemsException("Truncated value");
+		}
+		var channel = this.ids[id];
+		var type = payload.get();
+		switch (type) {
+		case BinaryTelemetry.VALUE_NULL:
+			batch.addNull(channel);
+			return;
+		case BinaryTelemetry.VALUE_TRUE:
+			batch.addBoolean(channel, true);
+			return;
+		case BinaryTelemetry.VALUE_FALSE:
+			batch.addBoolean(channel, false);
+			return;
+		case BinaryTelemetry.VALUE_LONG_DELTA:
+			this.lastLongs[id] += BinaryTelemetry.readZigzag(payload);
+			batch.addLong(channel, this.lastLongs[id]);
+			return;
+		case BinaryTelemetry.VALUE_DOUBLE:
+			batch.addDouble(channel, BinaryTelemetry.readDouble(payload));
+			return;
+		case BinaryTelemetry.VALUE_STRING:
+			batch.addObject(channel, new JsonPrimitive(BinaryTelemetry.readString(payload)));
+			return;
+		case BinaryTelemetry.VALUE_JSON:
+			try {
+				batch.addObject(channel, JsonParser.parseString(BinaryTelemetry.readString(payload)));
+			} catch (JsonParseException e) {
+				throw new OpenemsException("Invalid JSON value: " + e.getMessage());
+			}
+			return;
+		default:
+			throw new OpenemsException("Unknown value type [" + type + "]");
+		}
+	}
+
+}
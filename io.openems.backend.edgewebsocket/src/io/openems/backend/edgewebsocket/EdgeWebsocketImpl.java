@@ -56,6 +56,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	private final SystemLogHandler systemLogHandler;
 	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
 
+	protected BackfillWorker backfillWorker = null;
+
 	@Reference
 	protected volatile Metadata metadata;
 
@@ -78,10 +80,12 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	@Activate
 	private void activate(Config config) {
 		this.config = config;
+		this.backfillWorker = new BackfillWorker(this);
 		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
 			this.log.info(new StringBuilder("[monitor] ") //
 					.append("Edge-Connections: ")
 					.append(this.server != null ? this.server.getConnections().size() : "initializing") //
+					.append(", Backfill: ").append(this.backfillWorker) //
 					.toString());
 		}, 10, 10, TimeUnit.SECONDS);
 	}
@@ -90,6 +94,9 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent implement
 	private void deactivate() {
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 0);
 		this.stopServer();
+		if (this.backfillWorker != null) {
+			this.backfillWorker.deactivate();
+		}
 	}
 
 	/**
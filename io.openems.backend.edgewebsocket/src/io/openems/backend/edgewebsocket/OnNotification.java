@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
 
@@ -7,18 +8,22 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
 import io.openems.common.channel.Level;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.SemanticVersion;
-import io.openems.common.utils.JsonUtils;
 
 public class OnNotification implements io.openems.common.websocket.OnNotification {
 
@@ -53,9 +58,17 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 			return;
 
 		case TimestampedDataNotification.METHOD:
+			if (notification instanceof TimestampedDataBatchNotification) {
+				this.handleTimestampedDataBatchNotification((TimestampedDataBatchNotification) notification, wsData);
+				return;
+			}
 			this.handleTimestampedDataNotification(TimestampedDataNotification.from(notification), wsData);
 			return;
 
+		case ResendDataNotification.METHOD:
+			this.handleResendDataNotification(notification, wsData);
+			return;
+
 		case SystemLogNotification.METHOD:
 			this.handleSystemLogNotification(SystemLogNotification.from(notification), wsData);
 			return;
@@ -99,37 +112,108 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	private void handleTimestampedDataNotification(TimestampedDataNotification message, WsData wsData)
 			throws OpenemsNamedException {
 		var edgeId = wsData.assertEdgeId(message);
+		this.handleTimestampedData(edgeId, toBatch(message.getData()));
+	}
 
+	/**
+	 * Handles TimestampedDataBatchNotification, i.e. a
+	 * {@link TimestampedDataNotification} that was decoded without JSON tree.
+	 *
+	 * @param message the TimestampedDataBatchNotification
+	 * @param wsData  the WebSocket attachment
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleTimestampedDataBatchNotification(TimestampedDataBatchNotification message, WsData wsData)
+			throws OpenemsNamedException {
+		var edgeId = wsData.assertEdgeId(message);
+		this.handleTimestampedData(edgeId, message.getBatch());
+	}
+
+	/**
+	 * Writes live data of an Edge and updates the Edge from some specific
+	 * Channels.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param batch  the {@link TimestampedDataBatch}
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleTimestampedData(String edgeId, TimestampedDataBatch batch) throws OpenemsNamedException {
 		try {
-			this.parent.timedata.write(edgeId, message.getData());
+			this.parent.timedata.write(edgeId, batch);
 		} catch (IllegalArgumentException e) {
-			e.printStackTrace();
+			this.parent.logWarn(this.log, "Edge [" + edgeId + "] Unable to write data: " + e.getMessage());
 		}
 
 		// Read some specific channels
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
-		for (Entry<String, JsonElement> entry : message.getParams().entrySet()) {
-			var data = JsonUtils.getAsJsonObject(entry.getValue());
+		for (var i = 0; i < batch.size(); i++) {
+			var address = batch.getAddress(i);
+			var channel = address.getChannelId();
 			// set Edge last update timestamp only for those channels
-			for (String channel : data.keySet()) {
-				if (channel.endsWith("ActivePower")
-						|| channel.endsWith("ActivePowerL1") | channel.endsWith("ActivePowerL2")
-								| channel.endsWith("ActivePowerL3") | channel.endsWith("Soc")) {
-					edge.setLastUpdateTimestamp();
-				}
+			if (channel.endsWith("ActivePower") || channel.endsWith("ActivePowerL1")
+					|| channel.endsWith("ActivePowerL2") || channel.endsWith("ActivePowerL3")
+					|| channel.endsWith("Soc")) {
+				edge.setLastUpdateTimestamp();
 			}
 
 			// set specific Edge values
-			if (data.has("_sum/State") && data.get("_sum/State").isJsonPrimitive()) {
-				var sumState = Level.fromJson(data, "_sum/State").orElse(Level.FAULT);
-				edge.setSumState(sumState);
+			if (address.getComponentId().equals("_sum") && channel.equals("State")) {
+				var value = batch.toJson(i);
+				if (value.isJsonPrimitive()) {
+					var sumState = Level.fromJson(value).orElse(Level.FAULT);
+					edge.setSumState(sumState);
+				}
 			}
 
-			if (data.has("_meta/Version") && data.get("_meta/Version").isJsonPrimitive()) {
-				var version = JsonUtils.getAsPrimitive(data, "_meta/Version").getAsString();
-				edge.setVersion(SemanticVersion.fromString(version));
+			if (address.getComponentId().equals("_meta") && channel.equals("Version")) {
+				var value = batch.toJson(i);
+				if (value.isJsonPrimitive()) {
+					edge.setVersion(SemanticVersion.fromString(value.getAsString()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts timestamped data to a {@link TimestampedDataBatch}.
+	 *
+	 * @param data Table of timestamp, Channel-Address and value
+	 * @return the {@link TimestampedDataBatch}
+	 */
+	private static TimestampedDataBatch toBatch(TreeBasedTable<Long, ChannelAddress, JsonElement> data) {
+		var batch = new TimestampedDataBatch(ChannelAddressIndex.DEFAULT);
+		for (Entry<Long, Map<ChannelAddress, JsonElement>> row : data.rowMap().entrySet()) {
+			batch.startRow(row.getKey());
+			for (Entry<ChannelAddress, JsonElement> entry : row.getValue().entrySet()) {
+				batch.add(ChannelAddressIndex.DEFAULT.getOrCreateId(entry.getKey()), entry.getValue());
 			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Handles ResendDataNotification, i.e. historic data that is resent by the
+	 * Edge. The data is handed over to the {@link BackfillWorker}; it neither
+	 * touches the latest values of the Edge nor blocks live data handling.
+	 *
+	 * @param notification the ResendDataNotification
+	 * @param wsData       the WebSocket attachment
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleResendDataNotification(JsonrpcNotification notification, WsData wsData)
+			throws OpenemsNamedException {
+		var edgeId = wsData.assertEdgeId(notification);
+
+		TimestampedDataBatch batch;
+		if (notification instanceof TimestampedDataBatchNotification) {
+			batch = ((TimestampedDataBatchNotification) notification).getBatch();
+		} else {
+			batch = toBatch(ResendDataNotification.from(notification).getData());
+		}
 
+		if (!this.parent.backfillWorker.add(edgeId, batch)) {
+			this.parent.logWarn(this.log, "Edge [" + edgeId + "] Backfill queue is full. Dropping ["
+					+ batch.size() + "] values");
 		}
 	}
 
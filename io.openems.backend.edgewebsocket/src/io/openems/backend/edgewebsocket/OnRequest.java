@@ -6,11 +6,17 @@ import org.java_websocket.WebSocket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.backend.common.timedata.ChannelAddressIndex;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.request.EnableBinaryTelemetryRequest;
+import io.openems.common.jsonrpc.request.EnableResendDataRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryTelemetry;
 
 public class OnRequest implements io.openems.common.websocket.OnRequest {
 
@@ -24,8 +30,49 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	@Override
 	public CompletableFuture<? extends JsonrpcResponseSuccess> run(WebSocket ws, JsonrpcRequest request)
 			throws OpenemsException, OpenemsNamedException {
+		switch (request.getMethod()) {
+		case EnableBinaryTelemetryRequest.METHOD:
+			return this.handleEnableBinaryTelemetryRequest(ws.getAttachment(),
+					EnableBinaryTelemetryRequest.from(request));
+
+		case EnableResendDataRequest.METHOD:
+			return this.handleEnableResendDataRequest(EnableResendDataRequest.from(request));
+		}
+
 		this.parent.logWarn(this.log, "Unhandled Request: " + request);
 		throw OpenemsError.JSONRPC_UNHANDLED_METHOD.exception(request.getMethod());
 	}
 
+	/**
+	 * Handles a {@link EnableBinaryTelemetryRequest}.
+	 *
+	 * @param wsData  the WebSocket attachment
+	 * @param request the {@link EnableBinaryTelemetryRequest}
+	 * @return the JSON-RPC Success Response Future
+	 * @throws OpenemsNamedException on error
+	 */
+	private CompletableFuture<JsonrpcResponseSuccess> handleEnableBinaryTelemetryRequest(WsData wsData,
+			EnableBinaryTelemetryRequest request) throws OpenemsNamedException {
+		if (request.getVersion() != BinaryTelemetry.VERSION) {
+			throw new OpenemsException("Unsupported binary telemetry version [" + request.getVersion() + "]");
+		}
+		wsData.setBinaryTelemetryDecoder(new BinaryTelemetryDecoder(ChannelAddressIndex.DEFAULT));
+		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId(), //
+				JsonUtils.buildJsonObject() //
+						.addProperty("version", BinaryTelemetry.VERSION) //
+						.build()));
+	}
+
+	/**
+	 * Handles a {@link EnableResendDataRequest}. ResendDataNotifications are always
+	 * accepted; the Request only lets the Edge detect older Backends.
+	 *
+	 * @param request the {@link EnableResendDataRequest}
+	 * @return the JSON-RPC Success Response Future
+	 */
+	private CompletableFuture<JsonrpcResponseSuccess> handleEnableResendDataRequest(
+			EnableResendDataRequest request) {
+		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
+	}
+
 }
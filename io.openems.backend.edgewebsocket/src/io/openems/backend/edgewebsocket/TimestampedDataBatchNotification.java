@@ -0,0 +1,54 @@
+package io.openems.backend.edgewebsocket;
+
+import com.google.gson.JsonObject;
+
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * A {@link TimestampedDataNotification} or {@link ResendDataNotification} that
+ * was decoded directly to a {@link TimestampedDataBatch}.
+ *
+ * <p>
+ * The generic JSON representation is only built if {@link #getParams()} is
+ * actually called.
+ */
+public class TimestampedDataBatchNotification extends JsonrpcNotification {
+
+	private final TimestampedDataBatch batch;
+
+	public TimestampedDataBatchNotification(TimestampedDataBatch batch) {
+		this(TimestampedDataNotification.METHOD, batch);
+	}
+
+	public TimestampedDataBatchNotification(String method, TimestampedDataBatch batch) {
+		super(method);
+		this.batch = batch;
+	}
+
+	/**
+	 * Gets the decoded data.
+	 *
+	 * @return the {@link TimestampedDataBatch}
+	 */
+	public TimestampedDataBatch getBatch() {
+		return this.batch;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		var p = new JsonObject();
+		for (var row = 0; row < this.batch.rows(); row++) {
+			var key = Long.toString(this.batch.getTimestamp(row));
+			var jTime = p.has(key) ? p.getAsJsonObject(key) : new JsonObject();
+			for (var i = this.batch.getRowStart(row); i < this.batch.getRowEnd(row); i++) {
+				jTime.add(this.batch.getIndex().getName(this.batch.getId(i)), this.batch.toJson(i));
+			}
+			p.add(key, jTime);
+		}
+		return p;
+	}
+
+}
@@ -0,0 +1,163 @@
+package io.openems.backend.edgewebsocket;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map.Entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Decodes a {@link TimestampedDataNotification} or
+ * {@link ResendDataNotification} directly from its String representation to a
+ * {@link TimestampedDataBatch}.
+ *
+ * <p>
+ * The message is read with a streaming {@link JsonReader}; no intermediate
+ * {@link JsonObject} tree is built and Channel-Addresses are only parsed the
+ * first time they are seen by the {@link ChannelAddressIndex}.
+ */
+public class TimestampedDataDecoder {
+
+	private final ChannelAddressIndex index;
+
+	public TimestampedDataDecoder(ChannelAddressIndex index) {
+		this.index = index;
+	}
+
+	/**
+	 * Decodes a message.
+	 *
+	 * @param message the String message
+	 * @return the {@link TimestampedDataBatchNotification}; null if the message
+	 *         is neither a {@link TimestampedDataNotification} nor a
+	 *         {@link ResendDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public TimestampedDataBatchNotification decode(String message) throws OpenemsNamedException {
+		if (!message.contains(TimestampedDataNotification.METHOD)
+				&& !message.contains(ResendDataNotification.METHOD)) {
+			// fast path for all other messages
+			return null;
+		}
+		try (var reader = new JsonReader(new StringReader(message))) {
+			String method = null;
+			TimestampedDataBatch batch = null;
+			JsonObject params = null;
+			var hasId = false;
+
+			reader.beginObject();
+			while (reader.hasNext()) {
+				switch (reader.nextName()) {
+				case "method":
+					method = reader.nextString();
+					if (!isSupported(method)) {
+						return null;
+					}
+					break;
+				case "params":
+					if (method != null) {
+						batch = this.readParams(reader);
+					} else {
+						// unusual order of fields; decode later
+						params = JsonParser.parseReader(reader).getAsJsonObject();
+					}
+					break;
+				case "id":
+					hasId = true;
+					reader.skipValue();
+					break;
+				default:
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+
+			if (hasId || !isSupported(method)) {
+				return null;
+			}
+			if (batch == null && params != null) {
+				batch = this.fromParams(params);
+			}
+			if (batch == null) {
+				throw new OpenemsException("Notification [" + method + "] without params");
+			}
+			return new TimestampedDataBatchNotification(method, batch);
+
+		} catch (IOException | IllegalStateException | NumberFormatException e) {
+			throw new OpenemsException("Unable to decode TimestampedDataNotification: " + e.getMessage());
+		}
+	}
+
+	private static boolean isSupported(String method) {
+		return TimestampedDataNotification.METHOD.equals(method) || ResendDataNotification.METHOD.equals(method);
+	}
+
+	private TimestampedDataBatch readParams(JsonReader reader) throws IOException, OpenemsNamedException {
+		var batch = new TimestampedDataBatch(this.index);
+		reader.beginObject();
+		while (reader.hasNext()) {
+			batch.startRow(Long.parseLong(reader.nextName()));
+			reader.beginObject();
+			while (reader.hasNext()) {
+				var id = this.index.getOrCreateId(reader.nextName());
+				this.readValue(reader, batch, id);
+			}
+			reader.endObject();
+		}
+		reader.endObject();
+		return batch;
+	}
+
+	private void readValue(JsonReader reader, TimestampedDataBatch batch, int id) throws IOException {
+		switch (reader.peek()) {
+		case NUMBER:
+			// read the literal to keep integers and floating point numbers apart
+			var literal = reader.nextString();
+			if (!batch.addNumber(id, literal)) {
+				batch.addObject(id, new JsonPrimitive(literal));
+			}
+			return;
+		case STRING:
+			batch.addObject(id, new JsonPrimitive(reader.nextString()));
+			return;
+		case BOOLEAN:
+			batch.addBoolean(id, reader.nextBoolean());
+			return;
+		case NULL:
+			reader.nextNull();
+			batch.addNull(id);
+			return;
+		case BEGIN_ARRAY:
+		case BEGIN_OBJECT:
+			batch.addObject(id, JsonParser.parseReader(reader));
+			return;
+		default:
+			throw new IllegalStateException("Unexpected token " + reader.peek());
+		}
+	}
+
+	private TimestampedDataBatch fromParams(JsonObject params) throws OpenemsNamedException {
+		var batch = new TimestampedDataBatch(this.index);
+		for (Entry<String, JsonElement> e1 : params.entrySet()) {
+			batch.startRow(Long.parseLong(e1.getKey()));
+			var jTime = JsonUtils.getAsJsonObject(e1.getValue());
+			for (Entry<String, JsonElement> e2 : jTime.entrySet()) {
+				batch.add(this.index.getOrCreateId(e2.getKey()), e2.getValue());
+			}
+		}
+		return batch;
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -10,11 +11,15 @@ import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
@@ -37,6 +42,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 	private final OnNotification onNotification;
 	private final OnError onError;
 	private final OnClose onClose;
+	private final TimestampedDataDecoder timestampedDataDecoder;
 
 	public WebsocketServer(EdgeWebsocketImpl parent, String name, int port, int poolSize, boolean debugMode) {
 		super(name, port, poolSize, debugMode);
@@ -46,6 +52,7 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
 		this.onClose = new OnClose(parent);
+		this.timestampedDataDecoder = new TimestampedDataDecoder(ChannelAddressIndex.DEFAULT);
 	}
 
 	@Override
@@ -90,6 +97,44 @@ public class WebsocketServer extends AbstractWebsocketServer<WsData> {
 		return this.onClose;
 	}
 
+	@Override
+	protected JsonrpcMessage parseMessage(String stringMessage) throws OpenemsNamedException {
+		try {
+			// decode the frequent TimestampedDataNotifications without JSON tree
+			var notification = this.timestampedDataDecoder.decode(stringMessage);
+			if (notification != null) {
+				return notification;
+			}
+		} catch (OpenemsNamedException e) {
+			this.logWarn(this.log, "Unable to decode TimestampedDataNotification: " + e.getMessage());
+		}
+		return super.parseMessage(stringMessage);
+	}
+
+	@Override
+	protected JsonrpcMessage parseBinaryMessage(WebSocket ws, ByteBuffer binaryMessage)
+			throws OpenemsNamedException {
+		WsData wsData = ws.getAttachment();
+		var decoder = wsData.getBinaryTelemetryDecoder();
+		if (decoder == null) {
+			throw new OpenemsException(
+					"Binary telemetry was not enabled for Edge [" + wsData.getEdgeId().orElse("UNKNOWN") + "]");
+		}
+		TimestampedDataBatch batch;
+		try {
+			batch = decoder.decode(binaryMessage);
+		} catch (OpenemsNamedException e) {
+			// Dictionary and delta state are lost; reconnecting resets them on both sides
+			ws.close(CloseFrame.UNEXPECTED_CONDITION, "Invalid binary telemetry frame");
+			throw e;
+		}
+		if (batch == null) {
+			// Dictionary frame
+			return null;
+		}
+		return new TimestampedDataBatchNotification(batch);
+	}
+
 	@Override
 	protected JsonrpcMessage handleNonJsonrpcMessage(String stringMessage, OpenemsNamedException lastException)
 			throws OpenemsNamedException {
@@ -20,6 +20,7 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Boolean> isAuthenticated = new CompletableFuture<>();
 	private Optional<String> apikey = Optional.empty();
 	private Optional<String> edgeId = Optional.empty();
+	private volatile BinaryTelemetryDecoder binaryTelemetryDecoder = null;
 
 	public WsData(WebsocketServer parent) {
 		this.parent = parent;
@@ -73,6 +74,19 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	public void setBinaryTelemetryDecoder(BinaryTelemetryDecoder binaryTelemetryDecoder) {
+		this.binaryTelemetryDecoder = binaryTelemetryDecoder;
+	}
+
+	/**
+	 * Gets the {@link BinaryTelemetryDecoder} of this connection.
+	 *
+	 * @return the decoder; null if binary telemetry was not enabled by the Edge
+	 */
+	public BinaryTelemetryDecoder getBinaryTelemetryDecoder() {
+		return this.binaryTelemetryDecoder;
+	}
+
 	/**
 	 * Gets the Edge.
 	 *
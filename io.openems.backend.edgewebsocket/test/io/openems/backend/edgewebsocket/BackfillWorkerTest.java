@@ -0,0 +1,64 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.types.ChannelAddress;
+
+public class BackfillWorkerTest {
+
+	@Test
+	public void test() throws Exception {
+		var written = new CopyOnWriteArrayList<TimestampedDataBatch>();
+		var parent = new EdgeWebsocketImpl();
+		parent.timedata = (Timedata) Proxy.newProxyInstance(Timedata.class.getClassLoader(),
+				new Class<?>[] { Timedata.class }, (proxy, method, args) -> {
+					if (method.getName().equals("writeBackfill")) {
+						assertEquals("edge0", args[0]);
+						written.add((TimestampedDataBatch) args[1]);
+						return null;
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+		var sut = new BackfillWorker(parent);
+		try {
+			var index = new ChannelAddressIndex();
+			var id = index.getOrCreateId(new ChannelAddress("_sum", "EssSoc"));
+			for (var i = 0; i < 100; i++) {
+				var batch = new TimestampedDataBatch(index);
+				batch.startRow(i * 1000L);
+				batch.addLong(id, i);
+				assertTrue(sut.add("edge0", batch));
+			}
+
+			var timeout = System.currentTimeMillis() + 5000;
+			while (sut.getWrittenValues("edge0") < 100 && System.currentTimeMillis() < timeout) {
+				Thread.sleep(10);
+			}
+			assertEquals(100, sut.getWrittenValues("edge0"));
+			assertEquals(0, sut.getQueuedValues("edge0"));
+			assertEquals(0, sut.getDroppedValues("edge0"));
+
+			// Order is kept when merging batches to blocks
+			var rows = 0;
+			for (TimestampedDataBatch block : written) {
+				for (var row = 0; row < block.rows(); row++) {
+					assertEquals(rows++ * 1000L, block.getTimestamp(row));
+				}
+			}
+			assertEquals(100, rows);
+
+		} finally {
+			sut.deactivate();
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.websocket.BinaryTelemetry;
+import io.openems.common.websocket.BinaryTelemetryEncoder;
+
+public class BinaryTelemetryDecoderTest {
+
+	private static final ChannelAddress SOC = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress POWER = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress VOLTAGE = new ChannelAddress("meter0", "Voltage");
+	private static final ChannelAddress SERIAL = new ChannelAddress("ess0", "SerialNumber");
+	private static final ChannelAddress STATE = new ChannelAddress("_sum", "State");
+	private static final ChannelAddress RELAY = new ChannelAddress("io0", "Relay1");
+	private static final ChannelAddress ARRAY = new ChannelAddress("ess0", "Array");
+
+	@Test
+	public void testRoundTrip() throws OpenemsNamedException {
+		var encoder = new BinaryTelemetryEncoder();
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+
+		Map<ChannelAddress, JsonElement> values = new LinkedHashMap<>();
+		values.put(SOC, new JsonPrimitive(50));
+		values.put(POWER, new JsonPrimitive(-1500L));
+		values.put(VOLTAGE, new JsonPrimitive(230.1f));
+		values.put(SERIAL, new JsonPrimitive("abc"));
+		values.put(STATE, JsonNull.INSTANCE);
+		values.put(RELAY, new JsonPrimitive(true));
+		values.put(ARRAY, JsonParser.parseString("[1,2]"));
+
+		var frames = encoder.encode(1_577_836_800_000L, values);
+		assertEquals(2, frames.size()); // dictionary + data
+		assertNull(decoder.decode(frames.get(0)));
+		var batch = decoder.decode(frames.get(1));
+		assertEquals(7, decoder.getDictionarySize());
+
+		var table = batch.toTable();
+		assertEquals(1, batch.rows());
+		assertEquals(1_577_836_800_000L, batch.getTimestamp(0));
+		assertEquals(new JsonPrimitive(50L), table.get(1_577_836_800_000L, SOC));
+		assertEquals(new JsonPrimitive(-1500L), table.get(1_577_836_800_000L, POWER));
+		assertEquals(new JsonPrimitive(230.1), table.get(1_577_836_800_000L, VOLTAGE));
+		assertEquals(new JsonPrimitive("abc"), table.get(1_577_836_800_000L, SERIAL));
+		assertEquals(JsonNull.INSTANCE, table.get(1_577_836_800_000L, STATE));
+		assertEquals(new JsonPrimitive(true), table.get(1_577_836_800_000L, RELAY));
+		assertEquals(JsonParser.parseString("[1,2]"), table.get(1_577_836_800_000L, ARRAY));
+
+		// Next cycle: only changed values; no dictionary frame; small deltas
+		values = new HashMap<>();
+		values.put(POWER, new JsonPrimitive(-1499));
+		frames = encoder.encode(1_577_836_801_000L, values);
+		assertEquals(1, frames.size());
+		assertTrue(frames.get(0).remaining() < 10);
+		batch = decoder.decode(frames.get(0));
+		assertEquals(1_577_836_801_000L, batch.getTimestamp(0));
+		assertEquals(new JsonPrimitive(-1499L), batch.toJson(0));
+		assertEquals(POWER, batch.getAddress(0));
+
+		// New Channel: incremental dictionary frame
+		values = new HashMap<>();
+		values.put(new ChannelAddress("ess1", "Soc"), new JsonPrimitive(20));
+		values.put(SOC, new JsonPrimitive(51));
+		frames = encoder.encode(1_577_836_802_000L, values);
+		assertEquals(2, frames.size());
+		assertNull(decoder.decode(frames.get(0)));
+		table = decoder.decode(frames.get(1)).toTable();
+		assertEquals(new JsonPrimitive(20L), table.get(1_577_836_802_000L, new ChannelAddress("ess1", "Soc")));
+		assertEquals(new JsonPrimitive(51L), table.get(1_577_836_802_000L, SOC));
+	}
+
+	@Test
+	public void testCompression() throws OpenemsNamedException {
+		var encoder = new BinaryTelemetryEncoder();
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+		Map<ChannelAddress, JsonElement> values = new HashMap<>();
+		for (var i = 0; i < 500; i++) {
+			values.put(new ChannelAddress("meter" + i, "ActivePower"), new JsonPrimitive(i));
+		}
+		var frames = encoder.encode(1_000L, values);
+		var dictionary = frames.get(0);
+		assertEquals(BinaryTelemetry.FRAME_DICTIONARY | BinaryTelemetry.FLAG_DEFLATE, dictionary.get(0));
+		assertNull(decoder.decode(dictionary));
+		var batch = decoder.decode(frames.get(1));
+		assertEquals(500, batch.size());
+		assertEquals(new JsonPrimitive(499L), batch.toTable().get(1_000L, new ChannelAddress("meter499", "ActivePower")));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testUnknownId() throws OpenemsNamedException {
+		var encoder = new BinaryTelemetryEncoder(false);
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+		Map<ChannelAddress, JsonElement> values = new HashMap<>();
+		values.put(SOC, new JsonPrimitive(50));
+		var frames = encoder.encode(1_000L, values);
+		// skip the dictionary frame
+		decoder.decode(frames.get(1));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testTruncated() throws OpenemsNamedException {
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+		decoder.decode(ByteBuffer.wrap(new byte[] { BinaryTelemetry.FRAME_DICTIONARY, 0, 5 }));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testInvalidRowCount() throws OpenemsNamedException {
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+		decoder.decode(ByteBuffer.wrap(new byte[] { BinaryTelemetry.FRAME_DATA, //
+				(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testPayloadTooLarge() throws OpenemsNamedException {
+		var deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+		deflater.setInput(new byte[BinaryTelemetry.MAX_PAYLOAD_SIZE + 1]);
+		deflater.finish();
+		var frame = new byte[64 * 1024];
+		frame[0] = BinaryTelemetry.FRAME_DICTIONARY | BinaryTelemetry.FLAG_DEFLATE;
+		var length = 1 + deflater.deflate(frame, 1, frame.length - 1);
+		assertTrue(deflater.finished());
+		deflater.end();
+
+		var decoder = new BinaryTelemetryDecoder(new ChannelAddressIndex());
+		decoder.decode(ByteBuffer.wrap(frame, 0, length));
+	}
+
+}
@@ -0,0 +1,84 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.common.timedata.ChannelAddressIndex;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class TimestampedDataDecoderTest {
+
+	private static final String MESSAGE = "{\"jsonrpc\":\"2.0\",\"method\":\"timestampedData\",\"params\":{" //
+			+ "\"1000\":{\"_sum/EssSoc\":50,\"meter0/ActivePower\":1.0,\"ess0/SerialNumber\":\"abc\"," //
+			+ "\"_sum/State\":null,\"io0/Relay1\":true,\"ess0/Array\":[1,2]}," //
+			+ "\"2000\":{\"_sum/EssSoc\":51}}}";
+
+	@Test
+	public void testDecode() throws Exception {
+		var index = new ChannelAddressIndex();
+		var decoder = new TimestampedDataDecoder(index);
+		var batch = decoder.decode(MESSAGE).getBatch();
+
+		assertEquals(2, batch.rows());
+		assertEquals(7, batch.size());
+		assertEquals(1000L, batch.getTimestamp(0));
+		assertEquals(new ChannelAddress("_sum", "EssSoc"), batch.getAddress(0));
+		assertEquals(TimestampedDataBatch.TYPE_LONG, batch.getType(0));
+		assertEquals(TimestampedDataBatch.TYPE_DOUBLE, batch.getType(1));
+		assertEquals(new JsonPrimitive(1.0), batch.toJson(1));
+		assertEquals(new JsonPrimitive("abc"), batch.toJson(2));
+		assertEquals(JsonNull.INSTANCE, batch.toJson(3));
+		assertEquals(new JsonPrimitive(true), batch.toJson(4));
+		assertEquals("[1,2]", batch.toJson(5).toString());
+		assertEquals(2000L, batch.getTimestamp(1));
+		assertEquals(batch.getId(0), batch.getId(6));
+
+		// Result is equivalent to the generic decoder
+		var expected = TimestampedDataNotification.from((JsonrpcNotification) JsonrpcMessage.from(MESSAGE));
+		assertEquals(expected.getParams(), TimestampedDataNotification.from(decoder.decode(MESSAGE)).getParams());
+	}
+
+	@Test
+	public void testDecodeParamsFirst() throws Exception {
+		var decoder = new TimestampedDataDecoder(new ChannelAddressIndex());
+		var batch = decoder.decode("{\"params\":{\"1000\":{\"_sum/EssSoc\":50}},\"method\":\"timestampedData\"}")
+				.getBatch();
+		assertEquals(1, batch.size());
+		assertEquals(new JsonPrimitive(50L), batch.toJson(0));
+	}
+
+	@Test
+	public void testDecodeResendData() throws Exception {
+		var decoder = new TimestampedDataDecoder(new ChannelAddressIndex());
+		var notification = decoder
+				.decode("{\"jsonrpc\":\"2.0\",\"method\":\"resendData\",\"params\":{\"1000\":{\"_sum/EssSoc\":50}}}");
+		assertEquals(ResendDataNotification.METHOD, notification.getMethod());
+		assertEquals(1, notification.getBatch().size());
+	}
+
+	@Test
+	public void testOtherMessages() throws Exception {
+		var decoder = new TimestampedDataDecoder(new ChannelAddressIndex());
+		assertNull(decoder.decode("{\"jsonrpc\":\"2.0\",\"method\":\"systemLog\",\"params\":{}}"));
+		assertNull(decoder.decode(
+				"{\"jsonrpc\":\"2.0\",\"id\":\"x\",\"method\":\"timestampedData\",\"params\":{\"1000\":{}}}"));
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testInvalidChannelAddress() throws Exception {
+		var decoder = new TimestampedDataDecoder(new ChannelAddressIndex());
+		decoder.decode("{\"method\":\"timestampedData\",\"params\":{\"1000\":{\"foo\":1}}}");
+	}
+
+}
@@ -40,6 +40,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Database", description = "The database name")
 	String database();
 
+	@AttributeDefinition(name = "Postgres Write Threads", description = "The number of threads that write queued updates to Postgres")
+	int pgWriteThreads() default 2;
+
+	@AttributeDefinition(name = "Postgres Write Queue Size", description = "The maximum number of queued updates; further updates are dropped")
+	int pgWriteQueueSize() default 10000;
+
 	String webconsole_configurationFactory_nameHint() default "Metadata.Odoo";
 
 }
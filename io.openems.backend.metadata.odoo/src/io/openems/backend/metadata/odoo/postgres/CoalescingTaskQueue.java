@@ -0,0 +1,128 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.openems.backend.metadata.odoo.postgres.task.DatabaseTask;
+
+/**
+ * A bounded queue of {@link DatabaseTask}s.
+ *
+ * <p>
+ * Tasks with the same {@link DatabaseTask#getCoalesceKey()} replace each other
+ * (last write wins), so e.g. a reconnect storm queues at most one state update
+ * per Edge. While a Task is being written, later Tasks with the same key stay
+ * in the queue, so they can not overtake it on another writer thread.
+ */
+class CoalescingTaskQueue {
+
+	private final int maxSize;
+
+	/** Queued Tasks by coalesce key; in order of first insertion. */
+	private final Map<Object, DatabaseTask> tasks = new LinkedHashMap<>();
+
+	/** Keys of Tasks that are currently being written. */
+	private final Set<Object> inFlight = new HashSet<>();
+
+	private boolean closed = false;
+
+	protected CoalescingTaskQueue(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * The result of {@link CoalescingTaskQueue#add(DatabaseTask)}.
+	 */
+	protected static enum AddResult {
+		ADDED, COALESCED, REJECTED;
+	}
+
+	/**
+	 * Adds a Task; replaces a queued Task with the same coalesce key.
+	 *
+	 * @param task the {@link DatabaseTask}
+	 * @return the {@link AddResult}; REJECTED if the queue is full or closed
+	 */
+	protected synchronized AddResult add(DatabaseTask task) {
+		if (this.closed) {
+			return AddResult.REJECTED;
+		}
+		var key = task.getCoalesceKey();
+		if (key == null) {
+			// never coalesce; the Task is its own key
+			key = task;
+		} else if (this.tasks.containsKey(key)) {
+			this.tasks.put(key, task);
+			return AddResult.COALESCED;
+		}
+		if (this.tasks.size() >= this.maxSize) {
+			return AddResult.REJECTED;
+		}
+		this.tasks.put(key, task);
+		this.notifyAll();
+		return AddResult.ADDED;
+	}
+
+	/**
+	 * Takes up to 'max' Tasks; waits till at least one Task is available. Call
+	 * {@link #release(Collection)} after the Tasks were written.
+	 *
+	 * @param max the maximum number of Tasks
+	 * @return the Tasks; empty if the queue was closed and is drained
+	 * @throws InterruptedException if interrupted while waiting
+	 */
+	protected synchronized List<DatabaseTask> take(int max) throws InterruptedException {
+		var result = new ArrayList<DatabaseTask>();
+		while (true) {
+			var iterator = this.tasks.entrySet().iterator();
+			while (iterator.hasNext() && result.size() < max) {
+				var entry = iterator.next();
+				if (this.inFlight.add(entry.getKey())) {
+					result.add(entry.getValue());
+					iterator.remove();
+				}
+			}
+			if (!result.isEmpty() || (this.closed && this.tasks.isEmpty())) {
+				return result;
+			}
+			this.wait();
+		}
+	}
+
+	/**
+	 * Marks Tasks as written; queued Tasks with the same keys become available.
+	 *
+	 * @param tasks the Tasks returned by {@link #take(int)}
+	 */
+	protected synchronized void release(Collection<DatabaseTask> tasks) {
+		for (DatabaseTask task : tasks) {
+			var key = task.getCoalesceKey();
+			this.inFlight.remove(key == null ? task : key);
+		}
+		this.notifyAll();
+	}
+
+	/**
+	 * Closes the queue: no more Tasks are accepted and waiting writers return once
+	 * the queue is drained.
+	 */
+	protected synchronized void close() {
+		this.closed = true;
+		this.notifyAll();
+	}
+
+	/**
+	 * Gets the number of queued Tasks.
+	 *
+	 * @return the size
+	 */
+	protected synchronized int size() {
+		return this.tasks.size();
+	}
+
+}
@@ -35,7 +35,8 @@ public class PostgresHandler {
 		this.initializeEdgesWorker.start();
 		this.periodicWriteWorker = new PeriodicWriteWorker(this, this.dataSource);
 		this.periodicWriteWorker.start();
-		this.queueWriteWorker = new QueueWriteWorker(this, this.dataSource);
+		this.queueWriteWorker = new QueueWriteWorker(this, this.dataSource, config.pgWriteThreads(),
+				config.pgWriteQueueSize());
 		this.queueWriteWorker.start();
 	}
 
@@ -1,12 +1,16 @@
 package io.openems.backend.metadata.odoo.postgres;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.SynchronousQueue;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -15,57 +19,65 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.metadata.odoo.postgres.task.DatabaseTask;
-import io.openems.backend.metadata.odoo.postgres.task.InsertEdgeConfigUpdate;
-import io.openems.backend.metadata.odoo.postgres.task.UpdateEdgeConfig;
-import io.openems.backend.metadata.odoo.postgres.task.UpdateEdgeProducttype;
 import io.openems.common.utils.ThreadPoolUtils;
 
 /**
  * This worker writes all Statements in a queue.
+ *
+ * <p>
+ * Tasks are collected in a bounded {@link CoalescingTaskQueue} and written by a
+ * fixed number of writer threads. Each writer takes a batch of Tasks and
+ * executes the Tasks of each type as one JDBC batch on a single Connection.
  */
 public class QueueWriteWorker {
 
-	/**
-	 * DEBUG_MODE activates printing of reqular statistics about queued tasks.
-	 */
-	private static final boolean DEBUG_MODE = false;
+	private static final int MAX_BATCH_SIZE = 100;
 
 	private final Logger log = LoggerFactory.getLogger(QueueWriteWorker.class);
 	private final PostgresHandler parent;
 	private final HikariDataSource dataSource;
-
-	// Executor for subscriptions task. Like a CachedThreadPool, but properly typed
-	// for DEBUG_MODE.
-	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS,
-			new SynchronousQueue<Runnable>(),
-			new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGQueue-%d").build());
-
-	private final ScheduledExecutorService debugLogExecutor;
-
-	public QueueWriteWorker(PostgresHandler parent, HikariDataSource dataSource) {
+	private final int writeThreads;
+	private final CoalescingTaskQueue queue;
+
+	private final ExecutorService executor;
+	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
+
+	// Statistics; reset on every monitor log
+	private final LongAdder countAdded = new LongAdder();
+	private final LongAdder countCoalesced = new LongAdder();
+	private final LongAdder countRejected = new LongAdder();
+	private final LongAdder countWritten = new LongAdder();
+	private final LongAdder countFailed = new LongAdder();
+	private final LongAdder countBatches = new LongAdder();
+	private final LongAdder batchNanos = new LongAdder();
+	private final LongAccumulator batchMaxNanos = new LongAccumulator(Math::max, 0);
+
+	public QueueWriteWorker(PostgresHandler parent, HikariDataSource dataSource, int writeThreads, int maxQueueSize) {
 		this.parent = parent;
 		this.dataSource = dataSource;
-
-		if (QueueWriteWorker.DEBUG_MODE) {
-			this.debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
-		} else {
-			this.debugLogExecutor = null;
-		}
+		this.writeThreads = Math.max(1, writeThreads);
+		this.queue = new CoalescingTaskQueue(maxQueueSize);
+		this.executor = Executors.newFixedThreadPool(this.writeThreads,
+				new ThreadFactoryBuilder().setNameFormat("Metadata.Odoo.PGQueue-%d").build());
 	}
 
 	/**
 	 * Starts the {@link QueueWriteWorker}.
 	 */
 	public synchronized void start() {
-		if (QueueWriteWorker.DEBUG_MODE) {
-			this.initializeDebugLog();
+		for (var i = 0; i < this.writeThreads; i++) {
+			this.executor.execute(this::writeLoop);
 		}
+		this.initializeDebugLog();
 	}
 
 	/**
 	 * Stops the {@link QueueWriteWorker}.
 	 */
 	public synchronized void stop() {
+		// Writers finish the queued Tasks
+		this.queue.close();
+
 		// Shutdown executors
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 5);
@@ -77,95 +89,124 @@ public class QueueWriteWorker {
 	 * @param task the {@link DatabaseTask}
 	 */
 	public void addTask(DatabaseTask task) {
-		if (QueueWriteWorker.DEBUG_MODE) {
-			this.count(task, true);
+		switch (this.queue.add(task)) {
+		case ADDED:
+			this.countAdded.increment();
+			break;
+		case COALESCED:
+			this.countCoalesced.increment();
+			break;
+		case REJECTED:
+			this.countRejected.increment();
+			this.parent.logWarn(this.log, "Queue is full. Dropping Task " + task);
+			break;
 		}
+	}
 
-		this.executor.execute(() -> {
-			if (QueueWriteWorker.DEBUG_MODE) {
-				this.count(task, false);
+	private void writeLoop() {
+		while (true) {
+			List<DatabaseTask> tasks;
+			try {
+				tasks = this.queue.take(MAX_BATCH_SIZE);
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (tasks.isEmpty()) {
+				// closed
+				return;
 			}
 
+			var start = System.nanoTime();
+			var written = 0;
 			try {
-				task.execute(this.dataSource);
-			} catch (SQLException e) {
-				this.parent.logWarn(this.log,
-						"Unable to execute Task. " + task.getClass().getSimpleName() + ": " + e.getMessage());
-				e.printStackTrace();
+				written = this.write(tasks);
+			} catch (RuntimeException e) {
+				// Keep the writer thread alive; the batch is lost
+				this.parent.logWarn(this.log, "Unable to write batch of " + tasks.size() + " Tasks. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			} finally {
+				this.queue.release(tasks);
 			}
-		});
+			this.countWritten.add(written);
+			this.countFailed.add(tasks.size() - written);
+			if (written > 0) {
+				var nanos = System.nanoTime() - start;
+				this.countBatches.increment();
+				this.batchNanos.add(nanos);
+				this.batchMaxNanos.accumulate(nanos);
+			}
+		}
 	}
 
-	/*
-	 * From here required for DEBUG_MODE
+	/**
+	 * Writes the Tasks on one Connection, grouped by type.
+	 *
+	 * @param tasks the {@link DatabaseTask}s
+	 * @return the number of successfully written Tasks
 	 */
+	private int write(List<DatabaseTask> tasks) {
+		var tasksByType = new LinkedHashMap<Class<?>, List<DatabaseTask>>();
+		for (DatabaseTask task : tasks) {
+			tasksByType.computeIfAbsent(task.getClass(), c -> new ArrayList<>()).add(task);
+		}
 
-	private void initializeDebugLog() {
-		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
-			var totalTasks = this.executor.getTaskCount();
-			var completedTasks = this.executor.getCompletedTaskCount();
-			var countInsertEdgeConfigUpdateUp = this.countInsertEdgeConfigUpdateUp.get();
-			var countInsertEdgeConfigUpdateDown = this.countInsertEdgeConfigUpdateDown.get();
-			var countInsertOrUpdateDeviceStateUp = this.countInsertOrUpdateDeviceStateUp.get();
-			var countInsertOrUpdateDeviceStateDown = this.countInsertOrUpdateDeviceStateDown.get();
-			var countUpdateEdgeConfigUp = this.countUpdateEdgeConfigUp.get();
-			var countUpdateEdgeConfigDown = this.countUpdateEdgeConfigDown.get();
-			var countUpdateEdgeProducttypeUp = this.countUpdateEdgeProducttypeUp.get();
-			var countUpdateEdgeProducttypeDown = this.countUpdateEdgeProducttypeDown.get();
-
-			this.parent.logInfo(this.log, "QueueWriteWorker. " //
-					+ "Total tasks [" + totalTasks + "|" + completedTasks + "|" + (totalTasks - completedTasks) + "] " //
-					+ "Threads [" + this.executor.getPoolSize() + "] " //
-					+ "InsertEdgeConfigUpdate [" + countInsertEdgeConfigUpdateUp + "|" + countInsertEdgeConfigUpdateDown
-					+ "|" + (countInsertEdgeConfigUpdateUp - countInsertEdgeConfigUpdateDown) + "] " //
-					+ "InsertOrUpdateDeviceState [" + countInsertOrUpdateDeviceStateUp + "|"
-					+ countInsertOrUpdateDeviceStateDown + "|"
-					+ (countInsertOrUpdateDeviceStateUp - countInsertOrUpdateDeviceStateDown) + "] " //
-					+ "UpdateEdgeConfig [" + countUpdateEdgeConfigUp + "|" + countUpdateEdgeConfigDown + "|"
-					+ (countUpdateEdgeConfigUp - countUpdateEdgeConfigDown) + "] " //
-					+ "UpdateEdgeProducttype [" + countUpdateEdgeProducttypeUp + "|" + countUpdateEdgeProducttypeDown
-					+ "|" + (countUpdateEdgeProducttypeUp - countUpdateEdgeProducttypeDown) + "] " //
-			);
-		}, 10, 10, TimeUnit.SECONDS);
+		var written = 0;
+		try (var con = this.dataSource.getConnection()) {
+			for (List<DatabaseTask> group : tasksByType.values()) {
+				try {
+					DatabaseTask.executeBatch(con, group);
+					written += group.size();
+				} catch (SQLException | RuntimeException e) {
+					this.parent.logWarn(this.log, "Unable to execute batch of " + group.size() + " "
+							+ group.get(0).getClass().getSimpleName() + ": " + e.getMessage() + ". Retrying one by one");
+					written += this.writeOneByOne(con, group);
+				}
+			}
+		} catch (SQLException e) {
+			this.parent.logWarn(this.log, "Unable to get Connection: " + e.getMessage());
+		}
+		return written;
 	}
 
-	private final AtomicInteger countInsertEdgeConfigUpdateUp = new AtomicInteger(0);
-	private final AtomicInteger countInsertEdgeConfigUpdateDown = new AtomicInteger(0);
-	private final AtomicInteger countInsertOrUpdateDeviceStateUp = new AtomicInteger(0);
-	private final AtomicInteger countInsertOrUpdateDeviceStateDown = new AtomicInteger(0);
-	private final AtomicInteger countUpdateEdgeConfigUp = new AtomicInteger(0);
-	private final AtomicInteger countUpdateEdgeConfigDown = new AtomicInteger(0);
-	private final AtomicInteger countUpdateEdgeProducttypeUp = new AtomicInteger(0);
-	private final AtomicInteger countUpdateEdgeProducttypeDown = new AtomicInteger(0);
-
-	private void count(DatabaseTask task, boolean up) {
-		if (up) {
-			AtomicInteger counter;
-			if (task instanceof InsertEdgeConfigUpdate) {
-				counter = this.countInsertEdgeConfigUpdateUp;
-			} else if (task instanceof UpdateEdgeConfig) {
-				counter = this.countUpdateEdgeConfigUp;
-			} else if (task instanceof UpdateEdgeProducttype) {
-				counter = this.countUpdateEdgeProducttypeUp;
-			} else {
-				System.out.println("Unknown Task " + task.getClass());
-				return;
-			}
-			counter.getAndIncrement();
-		} else {
-			AtomicInteger counter;
-			if (task instanceof InsertEdgeConfigUpdate) {
-				counter = this.countInsertEdgeConfigUpdateDown;
-			} else if (task instanceof UpdateEdgeConfig) {
-				counter = this.countUpdateEdgeConfigDown;
-			} else if (task instanceof UpdateEdgeProducttype) {
-				counter = this.countUpdateEdgeProducttypeDown;
-			} else {
-				System.out.println("Unknown Task " + task.getClass());
-				return;
+	/**
+	 * Retries failed Tasks one by one on the Connection of the batch, so that a
+	 * writer never holds more than one Connection of the pool.
+	 *
+	 * @param con   the {@link Connection}
+	 * @param tasks the {@link DatabaseTask}s
+	 * @return the number of successfully written Tasks
+	 */
+	private int writeOneByOne(Connection con, List<DatabaseTask> tasks) {
+		var written = 0;
+		for (DatabaseTask task : tasks) {
+			try {
+				task.execute(con);
+				written++;
+			} catch (SQLException | RuntimeException e) {
+				this.parent.logWarn(this.log,
+						"Unable to execute Task. " + task.getClass().getSimpleName() + ": " + e.getMessage());
 			}
-			counter.getAndIncrement();
 		}
+		return written;
+	}
+
+	private void initializeDebugLog() {
+		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
+			var batches = this.countBatches.sumThenReset();
+			var nanos = this.batchNanos.sumThenReset();
+			this.parent.logInfo(this.log, new StringBuilder("[monitor] QueueWriteWorker. ") //
+					.append("Queue: ").append(this.queue.size()) //
+					.append(", Added: ").append(this.countAdded.sumThenReset()) //
+					.append(", Coalesced: ").append(this.countCoalesced.sumThenReset()) //
+					.append(", Rejected: ").append(this.countRejected.sumThenReset()) //
+					.append(", Written: ").append(this.countWritten.sumThenReset()) //
+					.append(", Failed: ").append(this.countFailed.sumThenReset()) //
+					.append(", Batches: ").append(batches) //
+					.append(", Batch-Latency avg/max: ") //
+					.append(batches > 0 ? TimeUnit.NANOSECONDS.toMillis(nanos / batches) : 0).append("/") //
+					.append(TimeUnit.NANOSECONDS.toMillis(this.batchMaxNanos.getThenReset())).append("ms") //
+					.toString());
+		}, 10, 10, TimeUnit.SECONDS);
 	}
 
 }
@@ -1,7 +1,9 @@
 package io.openems.backend.metadata.odoo.postgres.task;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -20,5 +22,54 @@ public abstract class DatabaseTask {
 		}
 	}
 
-	protected abstract void _execute(Connection connection) throws SQLException;
-}
\ No newline at end of file
+	/**
+	 * Execute the Task on an existing Connection.
+	 *
+	 * @param connection the {@link Connection}
+	 * @throws SQLException on error
+	 */
+	public void execute(Connection connection) throws SQLException {
+		this._execute(connection);
+	}
+
+	/**
+	 * Executes multiple Tasks of the same type as one JDBC batch.
+	 *
+	 * @param connection the {@link Connection}
+	 * @param tasks      the Tasks; all of the same class
+	 * @throws SQLException on error
+	 */
+	public static void executeBatch(Connection connection, List<? extends DatabaseTask> tasks) throws SQLException {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		try (var ps = tasks.get(0).prepareStatement(connection)) {
+			for (DatabaseTask task : tasks) {
+				task.setParameters(ps);
+				ps.addBatch();
+			}
+			ps.executeBatch();
+		}
+	}
+
+	/**
+	 * Gets the key for coalescing queued Tasks. Of multiple queued Tasks with the
+	 * same key only the last one is executed.
+	 *
+	 * @return the key; null if this Task must never be skipped
+	 */
+	public Object getCoalesceKey() {
+		return null;
+	}
+
+	protected void _execute(Connection connection) throws SQLException {
+		try (var ps = this.prepareStatement(connection)) {
+			this.setParameters(ps);
+			ps.execute();
+		}
+	}
+
+	protected abstract PreparedStatement prepareStatement(Connection connection) throws SQLException;
+
+	protected abstract void setParameters(PreparedStatement ps) throws SQLException;
+}
@@ -25,13 +25,11 @@ public class InsertEdgeConfigUpdate extends DatabaseTask {
 	}
 
 	@Override
-	protected void _execute(Connection connection) throws SQLException {
-		var ps = this.psInsertEdgeConfigUpdate(connection);
+	protected void setParameters(PreparedStatement ps) throws SQLException {
 		ps.setTimestamp(1, this.createDate);
 		ps.setInt(2, this.odooId);
 		ps.setString(3, this.teaser);
 		ps.setString(4, this.details);
-		ps.execute();
 	}
 
 	/**
@@ -42,7 +40,8 @@ public class InsertEdgeConfigUpdate extends DatabaseTask {
 	 * @return the PreparedStatement
 	 * @throws SQLException on error
 	 */
-	private PreparedStatement psInsertEdgeConfigUpdate(Connection connection) throws SQLException {
+	@Override
+	protected PreparedStatement prepareStatement(Connection connection) throws SQLException {
 		return connection.prepareStatement(//
 				"INSERT INTO " + EdgeConfigUpdate.ODOO_TABLE //
 						+ " (create_date" //
@@ -3,6 +3,7 @@ package io.openems.backend.metadata.odoo.postgres.task;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 import com.google.gson.GsonBuilder;
 
@@ -26,12 +27,10 @@ public class UpdateEdgeConfig extends DatabaseTask {
 	}
 
 	@Override
-	protected void _execute(Connection connection) throws SQLException {
-		var ps = this.psUpdateEdgeConfig(connection);
+	protected void setParameters(PreparedStatement ps) throws SQLException {
 		ps.setString(1, this.fullConfig);
 		ps.setString(2, this.componentsConfig);
 		ps.setInt(3, this.odooId);
-		ps.execute();
 	}
 
 	/**
@@ -42,7 +41,8 @@ public class UpdateEdgeConfig extends DatabaseTask {
 	 * @return the PreparedStatement
 	 * @throws SQLException on error
 	 */
-	private PreparedStatement psUpdateEdgeConfig(Connection connection) throws SQLException {
+	@Override
+	protected PreparedStatement prepareStatement(Connection connection) throws SQLException {
 		return connection.prepareStatement(//
 				"UPDATE " + EdgeDevice.ODOO_TABLE //
 						+ " SET" //
@@ -51,6 +51,11 @@ public class UpdateEdgeConfig extends DatabaseTask {
 						+ " WHERE id = ?");
 	}
 
+	@Override
+	public Object getCoalesceKey() {
+		return List.of(UpdateEdgeConfig.class, this.odooId);
+	}
+
 	@Override
 	public String toString() {
 		return "UpdateEdgeConfig [odooId=" + this.odooId + ", componentsConfig="
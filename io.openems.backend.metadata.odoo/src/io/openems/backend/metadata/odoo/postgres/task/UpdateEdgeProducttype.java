@@ -3,6 +3,7 @@ package io.openems.backend.metadata.odoo.postgres.task;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
 
@@ -17,11 +18,9 @@ public class UpdateEdgeProducttype extends DatabaseTask {
 	}
 
 	@Override
-	protected void _execute(Connection connection) throws SQLException {
-		var ps = this.psUpdateProductType(connection);
+	protected void setParameters(PreparedStatement ps) throws SQLException {
 		ps.setString(1, this.producttype);
 		ps.setInt(2, this.odooId);
-		ps.execute();
 	}
 
 	/**
@@ -31,7 +30,8 @@ public class UpdateEdgeProducttype extends DatabaseTask {
 	 * @return the PreparedStatement
 	 * @throws SQLException on error
 	 */
-	private PreparedStatement psUpdateProductType(Connection connection) throws SQLException {
+	@Override
+	protected PreparedStatement prepareStatement(Connection connection) throws SQLException {
 		return connection.prepareStatement(//
 				"UPDATE " + EdgeDevice.ODOO_TABLE //
 						+ " SET" //
@@ -39,6 +39,11 @@ public class UpdateEdgeProducttype extends DatabaseTask {
 						+ " WHERE id = ?");
 	}
 
+	@Override
+	public Object getCoalesceKey() {
+		return List.of(UpdateEdgeProducttype.class, this.odooId);
+	}
+
 	@Override
 	public String toString() {
 		return "UpdateEdgeProducttype [odooId=" + this.odooId + ", producttype=" + this.producttype + "]";
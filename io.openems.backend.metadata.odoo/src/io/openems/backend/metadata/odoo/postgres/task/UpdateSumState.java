@@ -3,6 +3,7 @@ package io.openems.backend.metadata.odoo.postgres.task;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
 import io.openems.backend.metadata.odoo.Field.EdgeDevice;
 import io.openems.common.channel.Level;
@@ -18,8 +19,7 @@ public class UpdateSumState extends DatabaseTask {
 	}
 
 	@Override
-	protected void _execute(Connection connection) throws SQLException {
-		var ps = this.psUpdateSumState(connection);
+	protected void setParameters(PreparedStatement ps) throws SQLException {
 		final String sumStateString;
 		if (this.sumState != null) {
 			sumStateString = this.sumState.getName().toLowerCase();
@@ -28,7 +28,6 @@ public class UpdateSumState extends DatabaseTask {
 		}
 		ps.setString(1, sumStateString);
 		ps.setInt(2, this.odooId);
-		ps.execute();
 	}
 
 	/**
@@ -38,7 +37,8 @@ public class UpdateSumState extends DatabaseTask {
 	 * @return the PreparedStatement
 	 * @throws SQLException on error
 	 */
-	private PreparedStatement psUpdateSumState(Connection connection) throws SQLException {
+	@Override
+	protected PreparedStatement prepareStatement(Connection connection) throws SQLException {
 		return connection.prepareStatement(//
 				"UPDATE " + EdgeDevice.ODOO_TABLE //
 						+ " SET" //
@@ -46,6 +46,11 @@ public class UpdateSumState extends DatabaseTask {
 						+ " WHERE id = ?");
 	}
 
+	@Override
+	public Object getCoalesceKey() {
+		return List.of(UpdateSumState.class, this.odooId);
+	}
+
 	@Override
 	public String toString() {
 		return "UpdateSumState [odooId=" + this.odooId + ", sumState=" + this.sumState + "]";
@@ -0,0 +1,53 @@
+package io.openems.backend.metadata.odoo.postgres;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import io.openems.backend.metadata.odoo.postgres.CoalescingTaskQueue.AddResult;
+import io.openems.backend.metadata.odoo.postgres.task.UpdateEdgeProducttype;
+import io.openems.backend.metadata.odoo.postgres.task.UpdateSumState;
+import io.openems.common.channel.Level;
+
+public class CoalescingTaskQueueTest {
+
+	@Test
+	public void test() throws InterruptedException {
+		var sut = new CoalescingTaskQueue(3);
+
+		var state0 = new UpdateSumState(0, Level.OK);
+		var state1 = new UpdateSumState(1, Level.OK);
+		var producttype0 = new UpdateEdgeProducttype(0, "home");
+		assertEquals(AddResult.ADDED, sut.add(state0));
+		assertEquals(AddResult.ADDED, sut.add(state1));
+		assertEquals(AddResult.ADDED, sut.add(producttype0));
+
+		// Last write wins
+		var state0b = new UpdateSumState(0, Level.FAULT);
+		assertEquals(AddResult.COALESCED, sut.add(state0b));
+		assertEquals(3, sut.size());
+
+		// Full
+		assertEquals(AddResult.REJECTED, sut.add(new UpdateSumState(2, Level.OK)));
+
+		var tasks = sut.take(2);
+		assertEquals(List.of(state0b, state1), tasks);
+
+		// A Task with an in-flight key is not taken before release
+		var state0c = new UpdateSumState(0, Level.WARNING);
+		assertEquals(AddResult.ADDED, sut.add(state0c));
+		assertEquals(List.of(producttype0), sut.take(10));
+		sut.release(tasks);
+		assertSame(state0c, sut.take(10).get(0));
+
+		// Closed and drained
+		sut.close();
+		assertEquals(AddResult.REJECTED, sut.add(state1));
+		assertTrue(sut.take(10).isEmpty());
+	}
+
+}
@@ -1,8 +1,6 @@
 package io.openems.backend.timedata.dummy;
 
 import java.time.ZonedDateTime;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
@@ -20,8 +18,9 @@ import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
-import io.openems.backend.common.timedata.EdgeCache;
+import io.openems.backend.common.timedata.EdgeCacheMap;
 import io.openems.backend.common.timedata.Timedata;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.Resolution;
@@ -32,7 +31,7 @@ import io.openems.common.types.ChannelAddress;
 public class TimedataDummy extends AbstractOpenemsBackendComponent implements Timedata {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataDummy.class);
-	private final Map<String, EdgeCache> edgeCacheMap = new HashMap<>();
+	private final EdgeCacheMap edgeCacheMap = new EdgeCacheMap();
 
 	public TimedataDummy() {
 		super("Timedata.Dummy");
@@ -60,17 +59,27 @@ public class TimedataDummy extends AbstractOpenemsBackendComponent implements Ti
 	@Override
 	public void write(String edgeId, TreeBasedTable<Long, ChannelAddress, JsonElement> data) throws OpenemsException {
 		// get existing or create new EdgeCache
-		var edgeCache = this.edgeCacheMap.get(edgeId);
-		if (edgeCache == null) {
-			edgeCache = new EdgeCache();
-			this.edgeCacheMap.put(edgeId, edgeCache);
-		}
+		var edgeCache = this.edgeCacheMap.getOrCreate(edgeId);
 
 		// Complement incoming data with data from Cache, because only changed values
 		// are transmitted
 		edgeCache.complementDataFromCache(edgeId, data.rowMap());
 	}
 
+	@Override
+	public void write(String edgeId, TimestampedDataBatch data) throws OpenemsException {
+		if (!data.isSorted()) {
+			this.write(edgeId, data.toTable());
+			return;
+		}
+		this.edgeCacheMap.getOrCreate(edgeId).complementDataFromCache(edgeId, data);
+	}
+
+	@Override
+	public void writeBackfill(String edgeId, TimestampedDataBatch data) throws OpenemsException {
+		// historic data does not change the cache
+	}
+
 	@Override
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
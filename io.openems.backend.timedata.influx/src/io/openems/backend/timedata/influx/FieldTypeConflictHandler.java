@@ -8,9 +8,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
-import com.influxdb.client.write.Point;
 import com.influxdb.exceptions.InfluxException;
 
+import io.openems.shared.influxdb.LineProtocolBuffer;
+
 /**
  * Handles Influx FieldTypeConflictExceptions. This helper provides conversion
  * functions to provide the correct field types for InfluxDB.
@@ -22,7 +23,7 @@ public class FieldTypeConflictHandler {
 
 	private final Logger log = LoggerFactory.getLogger(FieldTypeConflictHandler.class);
 	private final Influx parent;
-	private final ConcurrentHashMap<String, BiConsumer<Point, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String, BiConsumer<LineProtocolBuffer, JsonElement>> specialCaseFieldHandlers = new ConcurrentHashMap<>();
 
 	public FieldTypeConflictHandler(Influx parent) {
 		this.parent = parent;
@@ -63,21 +64,21 @@ public class FieldTypeConflictHandler {
 		STRING, INTEGER, FLOAT;
 	}
 
-	private BiConsumer<Point, JsonElement> createAndAddHandler(String field, RequiredType requiredType) {
+	private BiConsumer<LineProtocolBuffer, JsonElement> createAndAddHandler(String field, RequiredType requiredType) {
 		var handler = this.createHandler(field, requiredType);
 		this.specialCaseFieldHandlers.put(field, handler);
 		return handler;
 	}
 
 	/**
-	 * Creates a Handler for the given field, to convert a Point to a
+	 * Creates a Handler for the given field, to convert a value to a
 	 * 'requiredType'.
 	 * 
 	 * @param field        the field name, i.e. the Channel-Address
 	 * @param requiredType the {@link RequiredType
 	 * @return
 	 */
-	private BiConsumer<Point, JsonElement> createHandler(String field, RequiredType requiredType) {
+	private BiConsumer<LineProtocolBuffer, JsonElement> createHandler(String field, RequiredType requiredType) {
 		switch (requiredType) {
 		case STRING:
 			return (builder, jValue) -> {
@@ -189,7 +190,7 @@ public class FieldTypeConflictHandler {
 	 * @param field the Field
 	 * @return the handler or null
 	 */
-	public BiConsumer<Point, JsonElement> getHandler(String field) {
+	public BiConsumer<LineProtocolBuffer, JsonElement> getHandler(String field) {
 		return this.specialCaseFieldHandlers.get(field);
 	}
 }
@@ -2,12 +2,14 @@ package io.openems.backend.timedata.influx;
 
 import java.net.URI;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.osgi.service.component.annotations.Activate;
@@ -21,20 +23,21 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
-import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 import com.influxdb.exceptions.BadRequestException;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.metadata.Metadata;
-import io.openems.backend.common.timedata.EdgeCache;
+import io.openems.backend.common.timedata.EdgeCacheMap;
 import io.openems.backend.common.timedata.Timedata;
+import io.openems.backend.common.timedata.TimestampedDataBatch;
 import io.openems.common.OpenemsOEM;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocolBuffer;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -46,7 +49,8 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 	private static final Pattern NAME_NUMBER_PATTERN = Pattern.compile("[^0-9]+([0-9]+)$");
 
 	private final Logger log = LoggerFactory.getLogger(Influx.class);
-	private final Map<String, EdgeCache> edgeCacheMap = new HashMap<>();
+	private final EdgeCacheMap edgeCacheMap = new EdgeCacheMap();
+	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
 	private final FieldTypeConflictHandler fieldTypeConflictHandler;
 
 	private InfluxConnector influxConnector = null;
@@ -65,12 +69,13 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 				+ "url=" + config.url() + ";"//
 				+ "bucket=" + config.bucket() + ";"//
 				+ "apiKey=" + (config.apiKey() != null ? "ok" : "NOT_SET") + ";"//
-				+ "measurement=" + config.measurement() //
+				+ "measurement=" + config.measurement() + ";"//
+				+ "writeThreads=" + config.writeThreads() //
 				+ (config.isReadOnly() ? ";READ_ONLY_MODE" : "") //
 				+ "]");
 
 		this.influxConnector = new InfluxConnector(URI.create(config.url()), config.org(), config.apiKey(),
-				config.bucket(), config.isReadOnly(), //
+				config.bucket(), config.isReadOnly(), config.writeThreads(), //
 				(throwable) -> {
 					if (throwable instanceof BadRequestException) {
 						this.fieldTypeConflictHandler.handleException((BadRequestException) throwable);
@@ -78,14 +83,19 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 					} else {
 						this.logError(this.log, "Unable to write to InfluxDB. " + throwable.getClass().getSimpleName()
 								+ ": " + throwable.getMessage());
-						return false; // dump points
+						return false; // dump lines
 					}
 				});
+
+		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
+			this.log.info("[monitor] EdgeCache " + this.edgeCacheMap.toString());
+		}, 10, 10, TimeUnit.SECONDS);
 	}
 
 	@Deactivate
 	private void deactivate() {
 		this.logInfo(this.log, "Deactivate");
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 0);
 		if (this.influxConnector != null) {
 			this.influxConnector.deactivate();
 		}
@@ -97,11 +107,7 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 		int influxEdgeId = Influx.parseNumberFromName(edgeId);
 
 		// get existing or create new DeviceCache
-		var edgeCache = this.edgeCacheMap.get(edgeId);
-		if (edgeCache == null) {
-			edgeCache = new EdgeCache();
-			this.edgeCacheMap.put(edgeId, edgeCache);
-		}
+		var edgeCache = this.edgeCacheMap.getOrCreate(edgeId);
 
 		// Complement incoming data with data from Cache, because only changed values
 		// are transmitted
@@ -111,12 +117,40 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 		this.writeData(influxEdgeId, data);
 	}
 
+	@Override
+	public void write(String edgeId, TimestampedDataBatch data) throws OpenemsException {
+		if (!data.isSorted()) {
+			// rare case; the cache requires sorted data
+			this.write(edgeId, data.toTable());
+			return;
+		}
+
+		// parse the numeric EdgeId
+		int influxEdgeId = Influx.parseNumberFromName(edgeId);
+
+		// Complement incoming data with data from Cache, because only changed values
+		// are transmitted
+		var edgeCache = this.edgeCacheMap.getOrCreate(edgeId);
+		data = edgeCache.complementDataFromCache(edgeId, data);
+
+		// Write data to default location
+		this.writeData(influxEdgeId, data);
+	}
+
+	@Override
+	public void writeBackfill(String edgeId, TimestampedDataBatch data) throws OpenemsException {
+		// Historic data is written as-is: the EdgeCache holds the latest values only
+		this.writeData(Influx.parseNumberFromName(edgeId), data);
+	}
+
 	/**
 	 * Actually writes the data to InfluxDB.
 	 *
+	 * <p>
+	 * The data is serialized directly to line protocol; one line per timestamp.
+	 *
 	 * @param influxEdgeId the unique, numeric identifier of the Edge
 	 * @param data         the data
-	 * @throws OpenemsException on error
 	 */
 	private void writeData(int influxEdgeId, TreeBasedTable<Long, ChannelAddress, JsonElement> data) {
 		var dataEntries = data.rowMap().entrySet();
@@ -125,26 +159,50 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 			return;
 		}
 
-		for (Entry<Long, Map<ChannelAddress, JsonElement>> dataEntry : dataEntries) {
-			var channelEntries = dataEntry.getValue().entrySet();
-			if (channelEntries.isEmpty()) {
-				// no points to add
-				continue;
-			}
+		var prefix = LineProtocolBuffer.toPrefix(InfluxConnector.MEASUREMENT, OpenemsOEM.INFLUXDB_TAG,
+				String.valueOf(influxEdgeId));
+		this.influxConnector.write(lines -> {
+			for (Entry<Long, Map<ChannelAddress, JsonElement>> dataEntry : dataEntries) {
+				var channelEntries = dataEntry.getValue().entrySet();
+				if (channelEntries.isEmpty()) {
+					// no fields to add
+					continue;
+				}
 
-			var timestamp = dataEntry.getKey();
-			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
-					.measurement(InfluxConnector.MEASUREMENT) //
-					.addTag(OpenemsOEM.INFLUXDB_TAG, String.valueOf(influxEdgeId)) //
-					.time(timestamp, WritePrecision.MS);
-			for (Entry<ChannelAddress, JsonElement> channelEntry : channelEntries) {
-				this.addValue(point, channelEntry.getKey().toString(), channelEntry.getValue());
-			}
-			if (point.hasFields()) {
-				this.influxConnector.write(point);
+				// this builds an InfluxDB line for a given timestamp
+				lines.startLine(prefix);
+				for (Entry<ChannelAddress, JsonElement> channelEntry : channelEntries) {
+					this.addValue(lines, channelEntry.getKey().toString(), channelEntry.getValue());
+				}
+				lines.endLine(dataEntry.getKey());
 			}
+		});
+	}
+
+	/**
+	 * Actually writes the data of a {@link TimestampedDataBatch} to InfluxDB.
+	 *
+	 * @param influxEdgeId the unique, numeric identifier of the Edge
+	 * @param data         the data
+	 */
+	private void writeData(int influxEdgeId, TimestampedDataBatch data) {
+		if (data.size() == 0) {
+			// no data to write
+			return;
 		}
+
+		var prefix = LineProtocolBuffer.toPrefix(InfluxConnector.MEASUREMENT, OpenemsOEM.INFLUXDB_TAG,
+				String.valueOf(influxEdgeId));
+		var index = data.getIndex();
+		this.influxConnector.write(lines -> {
+			for (var row = 0; row < data.rows(); row++) {
+				lines.startLine(prefix);
+				for (var i = data.getRowStart(row); i < data.getRowEnd(row); i++) {
+					this.addValue(lines, index.getName(data.getId(i)), data, i);
+				}
+				lines.endLine(data.getTimestamp(row));
+			}
+		});
 	}
 
 	/**
@@ -201,36 +259,60 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param lines   the {@link LineProtocolBuffer} with a started line
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
-		if (element == null || element.isJsonNull() || this.specialCaseFieldHandling(builder, field, element)) {
+	private void addValue(LineProtocolBuffer lines, String field, JsonElement element) {
+		if (element == null || element.isJsonNull() || this.specialCaseFieldHandling(lines, field, element)) {
 			// already handled by special case handling
 			return;
 		}
 		if (element.isJsonPrimitive()) {
 			var value = element.getAsJsonPrimitive();
 			if (value.isNumber()) {
-				try {
-					builder.addField(field, Long.parseLong(value.toString()));
-				} catch (NumberFormatException e1) {
-					try {
-						builder.addField(field, Double.parseDouble(value.toString()));
-					} catch (NumberFormatException e2) {
-						builder.addField(field, value.getAsNumber());
-					}
-				}
+				// written from its JSON representation without re-parsing
+				lines.addField(field, value.getAsNumber());
 			} else if (value.isBoolean()) {
-				builder.addField(field, value.getAsBoolean());
+				lines.addField(field, value.getAsBoolean());
 			} else if (value.isString()) {
-				builder.addField(field, value.getAsString());
+				lines.addField(field, value.getAsString());
 			} else {
-				builder.addField(field, value.toString());
+				lines.addField(field, value.toString());
 			}
 		} else {
-			builder.addField(field, element.toString());
+			lines.addField(field, element.toString());
+		}
+	}
+
+	/**
+	 * Adds the value of a {@link TimestampedDataBatch} entry in the correct data
+	 * format for InfluxDB.
+	 *
+	 * @param lines the {@link LineProtocolBuffer} with a started line
+	 * @param field the field name
+	 * @param data  the {@link TimestampedDataBatch}
+	 * @param i     the index of the entry
+	 */
+	private void addValue(LineProtocolBuffer lines, String field, TimestampedDataBatch data, int i) {
+		var type = data.getType(i);
+		if (type == TimestampedDataBatch.TYPE_NULL) {
+			return;
+		}
+		if (type == TimestampedDataBatch.TYPE_OBJECT || this.fieldTypeConflictHandler.getHandler(field) != null) {
+			this.addValue(lines, field, data.toJson(i));
+			return;
+		}
+		switch (type) {
+		case TimestampedDataBatch.TYPE_LONG:
+			lines.addField(field, data.getBits(i));
+			break;
+		case TimestampedDataBatch.TYPE_DOUBLE:
+			lines.addField(field, Double.longBitsToDouble(data.getBits(i)));
+			break;
+		case TimestampedDataBatch.TYPE_BOOLEAN:
+			lines.addField(field, data.getBits(i) != 0);
+			break;
 		}
 	}
 
@@ -241,19 +323,19 @@ public class Influx extends AbstractOpenemsBackendComponent implements Timedata
 	 * E.g. to avoid errors like "field type conflict: input field XYZ on
 	 * measurement "data" is type integer, already exists as type string"
 	 *
-	 * @param builder the InfluxDB Builder
-	 * @param field   the fieldName, i.e. the ChannelAddress
-	 * @param value   the value, guaranteed to be not-null and not JsonNull.
+	 * @param lines the {@link LineProtocolBuffer} with a started line
+	 * @param field the fieldName, i.e. the ChannelAddress
+	 * @param value the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocolBuffer lines, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
 			return false;
 		}
 		// call special handler
-		handler.accept(builder, value);
+		handler.accept(lines, value);
 		return true;
 	}
 
@@ -0,0 +1,132 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.openems.backend.common.metadata.Metadata;
+import io.openems.backend.common.metadata.User;
+
+/**
+ * Indexes the authenticated UI sessions by the Edge-IDs their {@link User} has
+ * a Role for.
+ *
+ * <p>
+ * Lookups via {@link #getWsDatas(String)} are lock-free and do not depend on
+ * the total number of sessions. The index is updated on login, logout and
+ * changes of the Edge-Roles of a session, and regularly rebuilt via
+ * {@link #refresh(Collection, Metadata)}.
+ */
+public class EdgeSessionIndex {
+
+	private final Map<String, Set<WsData>> wsDatasByEdgeId = new ConcurrentHashMap<>();
+	private final Map<WsData, Set<String>> edgeIdsByWsData = new HashMap<>();
+
+	/**
+	 * Gets the sessions that have access to an Edge.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @return the {@link WsData}s; empty if there are none
+	 */
+	public Set<WsData> getWsDatas(String edgeId) {
+		var result = this.wsDatasByEdgeId.get(edgeId);
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * Sets the Edges a session has access to; i.e. all Edges the {@link User} has
+	 * a Role for.
+	 *
+	 * @param wsData the {@link WsData}
+	 * @param user   the {@link User}
+	 */
+	public synchronized void update(WsData wsData, User user) {
+		var edgeIds = new HashSet<>(user.getEdgeRoles().keySet());
+		var previousEdgeIds = this.edgeIdsByWsData.put(wsData, edgeIds);
+		if (previousEdgeIds != null) {
+			for (String edgeId : previousEdgeIds) {
+				if (!edgeIds.contains(edgeId)) {
+					this.removeFromEdge(edgeId, wsData);
+				}
+			}
+		}
+		for (String edgeId : edgeIds) {
+			this.wsDatasByEdgeId.computeIfAbsent(edgeId, k -> ConcurrentHashMap.newKeySet()).add(wsData);
+		}
+	}
+
+	/**
+	 * Removes a session, e.g. on logout or disconnect.
+	 *
+	 * @param wsData the {@link WsData}
+	 */
+	public synchronized void remove(WsData wsData) {
+		var edgeIds = this.edgeIdsByWsData.remove(wsData);
+		if (edgeIds == null) {
+			return;
+		}
+		for (String edgeId : edgeIds) {
+			this.removeFromEdge(edgeId, wsData);
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the open connections, e.g. to pick up changes of
+	 * Edge-Roles that were made outside of the UI session.
+	 *
+	 * @param wsDatas  the {@link WsData}s of all open connections
+	 * @param metadata the {@link Metadata} service
+	 */
+	public synchronized void refresh(Collection<WsData> wsDatas, Metadata metadata) {
+		for (WsData wsData : wsDatas) {
+			var userOpt = wsData.getUser(metadata);
+			if (userOpt.isPresent()) {
+				this.update(wsData, userOpt.get());
+			} else {
+				this.remove(wsData);
+			}
+		}
+
+		// Remove sessions of closed connections
+		var open = new HashSet<>(wsDatas);
+		for (WsData wsData : new ArrayList<>(this.edgeIdsByWsData.keySet())) {
+			if (!open.contains(wsData)) {
+				this.remove(wsData);
+			}
+		}
+	}
+
+	private void removeFromEdge(String edgeId, WsData wsData) {
+		this.wsDatasByEdgeId.computeIfPresent(edgeId, (k, wsDatas) -> {
+			wsDatas.remove(wsData);
+			return wsDatas.isEmpty() ? null : wsDatas;
+		});
+	}
+
+	/**
+	 * Gets the number of indexed sessions.
+	 *
+	 * @return the number of sessions
+	 */
+	public synchronized int getSessionCount() {
+		return this.edgeIdsByWsData.size();
+	}
+
+	/**
+	 * Gets the number of Edges with at least one session.
+	 *
+	 * @return the number of Edges
+	 */
+	public int getEdgeCount() {
+		return this.wsDatasByEdgeId.size();
+	}
+
+}
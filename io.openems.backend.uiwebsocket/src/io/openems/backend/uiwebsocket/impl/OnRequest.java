@@ -78,7 +78,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 			result = this.handleEdgeRpcRequest(wsData, user, EdgeRpcRequest.from(request));
 			break;
 		case AddEdgeToUserRequest.METHOD:
-			result = this.handleAddEdgeToUserRequest(user, AddEdgeToUserRequest.from(request));
+			result = this.handleAddEdgeToUserRequest(wsData, user, AddEdgeToUserRequest.from(request));
 			break;
 		case GetUserInformationRequest.METHOD:
 			result = this.handleGetUserInformationRequest(user, GetUserInformationRequest.from(request));
@@ -204,6 +204,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 
 		wsData.setUserId(user.getId());
 		wsData.setToken(user.getToken());
+		this.parent.edgeSessionIndex.update(wsData, user);
 		return CompletableFuture.completedFuture(new AuthenticateResponse(requestId, user.getToken(), user,
 				User.generateEdgeMetadatas(user, this.parent.metadata), user.getLanguage()));
 	}
@@ -235,6 +236,7 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	private CompletableFuture<JsonrpcResponseSuccess> handleLogoutRequest(WsData wsData, User user,
 			LogoutRequest request) throws OpenemsNamedException {
 		wsData.logout();
+		this.parent.edgeSessionIndex.remove(wsData);
 		this.parent.metadata.logout(user);
 		return CompletableFuture.completedFuture(new GenericJsonrpcResponseSuccess(request.getId()));
 	}
@@ -352,15 +354,19 @@ public class OnRequest implements io.openems.common.websocket.OnRequest {
 	/**
 	 * Handles an {@link AddEdgeToUserRequest}.
 	 *
+	 * @param wsData  the WebSocket attachment
 	 * @param user    the {@link User}
 	 * @param request the {@link AddEdgeToUserRequest}
 	 * @return the JSON-RPC Success Response Future
 	 * @throws OpenemsNamedException on error
 	 */
-	private CompletableFuture<AddEdgeToUserResponse> handleAddEdgeToUserRequest(User user, AddEdgeToUserRequest request)
-			throws OpenemsNamedException {
+	private CompletableFuture<AddEdgeToUserResponse> handleAddEdgeToUserRequest(WsData wsData, User user,
+			AddEdgeToUserRequest request) throws OpenemsNamedException {
 		var edge = this.parent.metadata.addEdgeToUser(user, request.getSetupPassword());
 
+		// Metadata might have replaced the User with the new Edge-Roles
+		this.parent.edgeSessionIndex.update(wsData, wsData.getUser(this.parent.metadata).orElse(user));
+
 		return CompletableFuture.completedFuture(new AddEdgeToUserResponse(request.getId(), edge));
 	}
 
@@ -0,0 +1,44 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class SubscribedChannelsHub extends io.openems.common.websocket.SubscribedChannelsHub {
+
+	private final UiWebsocketImpl parent;
+	private final String edgeId;
+
+	public SubscribedChannelsHub(UiWebsocketImpl parent, String edgeId) {
+		this.parent = parent;
+		this.edgeId = edgeId;
+	}
+
+	@Override
+	protected JsonElement getChannelValue(ChannelAddress channelAddress) {
+		if (this.edgeId == null) {
+			return JsonNull.INSTANCE;
+		}
+
+		var channelCacheValueOpt = this.parent.timeData.getChannelValue(this.edgeId, channelAddress);
+		return channelCacheValueOpt.orElse(JsonNull.INSTANCE);
+	}
+
+	@Override
+	protected JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData) {
+		return new EdgeRpcNotification(this.edgeId, currentData);
+	}
+
+	@Override
+	protected ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+			TimeUnit unit) {
+		return this.parent.server.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+	}
+}
@@ -1,11 +1,7 @@
 package io.openems.backend.uiwebsocket.impl;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
+import java.util.Set;
 
-import io.openems.common.jsonrpc.base.JsonrpcNotification;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
-import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.types.ChannelAddress;
 
 public class SubscribedChannelsWorker extends io.openems.common.websocket.SubscribedChannelsWorker {
@@ -20,17 +16,12 @@ public class SubscribedChannelsWorker extends io.openems.common.websocket.Subscr
 	}
 
 	@Override
-	protected JsonElement getChannelValue(ChannelAddress channelAddress) {
-		if (this.edgeId == null) {
-			return JsonNull.INSTANCE;
-		}
-
-		var channelCacheValueOpt = this.parent.timeData.getChannelValue(this.edgeId, channelAddress);
-		return channelCacheValueOpt.orElse(JsonNull.INSTANCE);
+	protected SubscribedChannelsHub subscribe(Set<ChannelAddress> channels) {
+		return this.parent.subscribeChannels(this.edgeId, this, channels);
 	}
 
 	@Override
-	protected JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData) {
-		return new EdgeRpcNotification(this.edgeId, currentData);
+	protected void unsubscribe() {
+		this.parent.unsubscribeChannels(this.edgeId, this);
 	}
 }
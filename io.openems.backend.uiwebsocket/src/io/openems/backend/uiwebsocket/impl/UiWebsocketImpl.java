@@ -1,11 +1,15 @@
 package io.openems.backend.uiwebsocket.impl;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -30,6 +34,7 @@ import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
 
 @Designate(ocd = Config.class, factory = false)
@@ -46,6 +51,28 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 	private final Logger log = LoggerFactory.getLogger(UiWebsocket.class);
 	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
 
+	/**
+	 * Interval of rebuilding the {@link #edgeSessionIndex} in [s].
+	 */
+	private static final int REFRESH_EDGE_SESSION_INDEX_SECONDS = 60;
+
+	/**
+	 * Sessions by Edge-ID; used to send broadcasts.
+	 */
+	protected final EdgeSessionIndex edgeSessionIndex = new EdgeSessionIndex();
+
+	/**
+	 * Publishes the current data of subscribed Channels per Edge-ID; a hub is
+	 * removed once it has no subscriptions.
+	 */
+	private final Map<String, SubscribedChannelsHub> subscribedChannelsHubs = new ConcurrentHashMap<>();
+
+	// Broadcast statistics; reset on every monitor log
+	private final LongAdder broadcastCount = new LongAdder();
+	private final LongAdder broadcastRecipients = new LongAdder();
+	private final LongAccumulator broadcastMaxRecipients = new LongAccumulator(Math::max, 0);
+	private final LongAdder broadcastNanos = new LongAdder();
+
 	protected WebsocketServer server = null;
 
 	@Reference
@@ -70,11 +97,25 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 	private void activate(Config config) {
 		this.config = config;
 		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
+			var broadcasts = this.broadcastCount.sumThenReset();
+			var recipients = this.broadcastRecipients.sumThenReset();
+			var maxRecipients = this.broadcastMaxRecipients.getThenReset();
+			var nanos = this.broadcastNanos.sumThenReset();
 			this.log.info(new StringBuilder("[monitor] ") //
 					.append("UI-Connections: ") //
 					.append(this.server != null ? this.server.getConnections().size() : "initializing") //
+					.append(", Indexed Sessions: ").append(this.edgeSessionIndex.getSessionCount()) //
+					.append(", Edges: ").append(this.edgeSessionIndex.getEdgeCount()) //
+					.append(", CurrentData-Edges: ").append(this.subscribedChannelsHubs.size()) //
+					.append(", Broadcasts: ").append(broadcasts) //
+					.append(", Fan-Out avg/max: ") //
+					.append(broadcasts > 0 ? recipients / broadcasts : 0).append("/").append(maxRecipients) //
+					.append(", Broadcast-Latency avg: ") //
+					.append(broadcasts > 0 ? TimeUnit.NANOSECONDS.toMicros(nanos / broadcasts) : 0).append("us") //
 					.toString());
 		}, 10, 10, TimeUnit.SECONDS);
+		this.debugLogExecutor.scheduleWithFixedDelay(this::refreshEdgeSessionIndex,
+				REFRESH_EDGE_SESSION_INDEX_SECONDS, REFRESH_EDGE_SESSION_INDEX_SECONDS, TimeUnit.SECONDS);
 	}
 
 	@Deactivate
@@ -129,15 +170,21 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public void sendBroadcast(String edgeId, JsonrpcNotification notification) throws OpenemsNamedException {
-		var wsDatas = this.getWsDatasForEdgeId(edgeId);
+		var start = System.nanoTime();
+		var recipients = 0;
 		OpenemsNamedException exception = null;
-		for (WsData wsData : wsDatas) {
+		for (WsData wsData : this.edgeSessionIndex.getWsDatas(edgeId)) {
+			recipients++;
 			try {
 				wsData.send(notification);
 			} catch (OpenemsNamedException e) {
 				exception = e;
 			}
 		}
+		this.broadcastCount.increment();
+		this.broadcastRecipients.add(recipients);
+		this.broadcastMaxRecipients.accumulate(recipients);
+		this.broadcastNanos.add(System.nanoTime() - start);
 		if (exception != null) {
 			throw exception;
 		}
@@ -163,34 +210,56 @@ public class UiWebsocketImpl extends AbstractOpenemsBackendComponent implements
 	}
 
 	/**
-	 * Gets the WebSocket connection attachments of all connections accessing an
-	 * Edge-ID.
+	 * Subscribes Channels of an Edge at the shared {@link SubscribedChannelsHub};
+	 * replaces a previous subscription of the same worker.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param worker   the {@link SubscribedChannelsWorker}
+	 * @param channels the subscribed Channels
+	 * @return the {@link SubscribedChannelsHub}
+	 */
+	protected SubscribedChannelsHub subscribeChannels(String edgeId, SubscribedChannelsWorker worker,
+			Set<ChannelAddress> channels) {
+		// Subscriptions are changed within compute() to not race with the removal of
+		// an empty hub
+		return this.subscribedChannelsHubs.compute(edgeId, (k, hub) -> {
+			if (hub == null) {
+				hub = new SubscribedChannelsHub(this, edgeId);
+			}
+			hub.subscribe(worker, channels);
+			return hub.isEmpty() ? null : hub;
+		});
+	}
+
+	/**
+	 * Removes the subscription of a {@link SubscribedChannelsWorker}.
 	 *
 	 * @param edgeId the Edge-ID
-	 * @return the WsDatas; empty list if there are none
+	 * @param worker the {@link SubscribedChannelsWorker}
 	 */
-	private List<WsData> getWsDatasForEdgeId(String edgeId) {
-		var result = new ArrayList<WsData>();
-		var connections = this.server.getConnections();
-		for (var websocket : connections) {
+	protected void unsubscribeChannels(String edgeId, SubscribedChannelsWorker worker) {
+		this.subscribedChannelsHubs.computeIfPresent(edgeId, (k, hub) -> {
+			hub.unsubscribe(worker);
+			return hub.isEmpty() ? null : hub;
+		});
+	}
+
+	/**
+	 * Rebuilds the {@link EdgeSessionIndex} from all open connections.
+	 */
+	private void refreshEdgeSessionIndex() {
+		var server = this.server;
+		if (server == null) {
+			return;
+		}
+		var wsDatas = new ArrayList<WsData>();
+		for (var websocket : server.getConnections()) {
 			WsData wsData = websocket.getAttachment();
-			// get attachment User-ID
-			var userIdOpt = wsData.getUserId();
-			if (userIdOpt.isPresent()) {
-				var userId = userIdOpt.get();
-				// get User for User-ID
-				var userOpt = this.metadata.getUser(userId);
-				if (userOpt.isPresent()) {
-					var user = userOpt.get();
-					var edgeRoleOpt = user.getRole(edgeId);
-					if (edgeRoleOpt.isPresent()) {
-						// User has access to this Edge-ID
-						result.add(wsData);
-					}
-				}
+			if (wsData != null) {
+				wsDatas.add(wsData);
 			}
 		}
-		return result;
+		this.edgeSessionIndex.refresh(wsDatas, this.metadata);
 	}
 
 	@Override
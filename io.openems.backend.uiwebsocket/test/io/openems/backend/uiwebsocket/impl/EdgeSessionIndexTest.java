@@ -0,0 +1,53 @@
+package io.openems.backend.uiwebsocket.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.backend.common.metadata.User;
+import io.openems.common.session.Language;
+import io.openems.common.session.Role;
+
+public class EdgeSessionIndexTest {
+
+	private static User createUser(String id, String... edgeIds) {
+		var roles = new TreeMap<String, Role>();
+		for (String edgeId : edgeIds) {
+			roles.put(edgeId, Role.OWNER);
+		}
+		return new User(id, id, "token-" + id, Language.DEFAULT, Role.GUEST, roles);
+	}
+
+	@Test
+	public void test() {
+		var sut = new EdgeSessionIndex();
+		var session0 = new WsData(null);
+		var session1 = new WsData(null);
+
+		sut.update(session0, createUser("user0", "edge0", "edge1"));
+		sut.update(session1, createUser("user1", "edge1"));
+		assertEquals(Set.of(session0), sut.getWsDatas("edge0"));
+		assertEquals(Set.of(session0, session1), sut.getWsDatas("edge1"));
+		assertTrue(sut.getWsDatas("edge2").isEmpty());
+		assertEquals(2, sut.getSessionCount());
+		assertEquals(2, sut.getEdgeCount());
+
+		// Edge-Roles changed
+		sut.update(session0, createUser("user0", "edge1", "edge2"));
+		assertTrue(sut.getWsDatas("edge0").isEmpty());
+		assertEquals(Set.of(session0), sut.getWsDatas("edge2"));
+		assertEquals(2, sut.getEdgeCount());
+
+		// Logout
+		sut.remove(session0);
+		assertEquals(Set.of(session1), sut.getWsDatas("edge1"));
+		assertTrue(sut.getWsDatas("edge2").isEmpty());
+		assertEquals(1, sut.getSessionCount());
+		assertEquals(1, sut.getEdgeCount());
+	}
+
+}
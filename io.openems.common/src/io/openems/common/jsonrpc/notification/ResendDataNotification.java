@@ -0,0 +1,106 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification for historic timestamped data that is
+ * resent from Edge to Backend after it could not be sent live, e.g. during a
+ * connection loss.
+ *
+ * <p>
+ * The format is the same as for {@link TimestampedDataNotification}; the
+ * separate method allows the Backend to handle bulk historic data with lower
+ * priority than live data.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "resendData",
+ *   "params": {
+ *     [timestamp: epoch in milliseconds]: {
+ *       [channelAddress]: String | Number
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class ResendDataNotification extends JsonrpcNotification {
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a {@link ResendDataNotification}.
+	 *
+	 * @param n the {@link JsonrpcNotification}
+	 * @return the {@link ResendDataNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static ResendDataNotification from(JsonrpcNotification n) throws OpenemsNamedException {
+		var result = new ResendDataNotification();
+		var j = n.getParams();
+		for (Entry<String, JsonElement> e1 : j.entrySet()) {
+			var timestamp = Long.parseLong(e1.getKey());
+			var jTime = JsonUtils.getAsJsonObject(e1.getValue());
+			for (Entry<String, JsonElement> e2 : jTime.entrySet()) {
+				result.add(timestamp, ChannelAddress.fromString(e2.getKey()), e2.getValue());
+			}
+		}
+		return result;
+	}
+
+	public static final String METHOD = "resendData";
+
+	private final TreeBasedTable<Long, ChannelAddress, JsonElement> data = TreeBasedTable.create();
+
+	public ResendDataNotification() {
+		super(ResendDataNotification.METHOD);
+	}
+
+	/**
+	 * Add timestamped data.
+	 *
+	 * @param timestamp the timestamp epoch in milliseconds
+	 * @param data      a map of {@link ChannelAddress} to {@link JsonElement} value
+	 */
+	public void add(long timestamp, Map<ChannelAddress, JsonElement> data) {
+		for (Entry<ChannelAddress, JsonElement> entry : data.entrySet()) {
+			this.add(timestamp, entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * Add a timestamped value.
+	 *
+	 * @param timestamp the timestamp epoch in milliseconds
+	 * @param address   the {@link ChannelAddress}
+	 * @param value     the {@link JsonElement} value
+	 */
+	public void add(long timestamp, ChannelAddress address, JsonElement value) {
+		this.data.put(timestamp, address, value);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		var p = new JsonObject();
+		for (Entry<Long, Map<ChannelAddress, JsonElement>> e1 : this.data.rowMap().entrySet()) {
+			var jTime = new JsonObject();
+			for (Entry<ChannelAddress, JsonElement> e2 : e1.getValue().entrySet()) {
+				jTime.add(e2.getKey().toString(), e2.getValue());
+			}
+			p.add(e1.getKey().toString(), jTime);
+		}
+		return p;
+	}
+
+	public TreeBasedTable<Long, ChannelAddress, JsonElement> getData() {
+		return this.data;
+	}
+}
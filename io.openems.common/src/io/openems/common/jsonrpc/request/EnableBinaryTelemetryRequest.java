@@ -0,0 +1,75 @@
+package io.openems.common.jsonrpc.request;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.websocket.BinaryTelemetry;
+
+/**
+ * Represents a JSON-RPC Request from Edge to Backend to switch the transmission
+ * of Channel values from JSON-RPC TimestampedDataNotifications to binary
+ * websocket frames in the {@link BinaryTelemetry} format.
+ *
+ * <p>
+ * A Backend that does not support the format responds with an error; the Edge
+ * then keeps sending JSON.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": UUID,
+ *   "method": "enableBinaryTelemetry",
+ *   "params": {
+ *     "version": number
+ *   }
+ * }
+ * </pre>
+ */
+public class EnableBinaryTelemetryRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "enableBinaryTelemetry";
+
+	/**
+	 * Create {@link EnableBinaryTelemetryRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link EnableBinaryTelemetryRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static EnableBinaryTelemetryRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		var p = r.getParams();
+		var version = JsonUtils.getAsInt(p, "version");
+		return new EnableBinaryTelemetryRequest(r, version);
+	}
+
+	private final int version;
+
+	private EnableBinaryTelemetryRequest(JsonrpcRequest request, int version) {
+		super(request, EnableBinaryTelemetryRequest.METHOD);
+		this.version = version;
+	}
+
+	public EnableBinaryTelemetryRequest() {
+		super(EnableBinaryTelemetryRequest.METHOD);
+		this.version = BinaryTelemetry.VERSION;
+	}
+
+	/**
+	 * Gets the version of the {@link BinaryTelemetry} format.
+	 *
+	 * @return the version
+	 */
+	public int getVersion() {
+		return this.version;
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("version", this.version) //
+				.build();
+	}
+}
@@ -0,0 +1,53 @@
+package io.openems.common.jsonrpc.request;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Represents a JSON-RPC Request from Edge to Backend to check whether the
+ * Backend handles historic data sent as {@link ResendDataNotification}.
+ *
+ * <p>
+ * A Backend that does not support the Notification responds with an error; the
+ * Edge then resends historic data as {@link TimestampedDataNotification}.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": UUID,
+ *   "method": "enableResendData",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class EnableResendDataRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "enableResendData";
+
+	/**
+	 * Create {@link EnableResendDataRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link EnableResendDataRequest}
+	 */
+	public static EnableResendDataRequest from(JsonrpcRequest r) {
+		return new EnableResendDataRequest(r);
+	}
+
+	private EnableResendDataRequest(JsonrpcRequest request) {
+		super(request, EnableResendDataRequest.METHOD);
+	}
+
+	public EnableResendDataRequest() {
+		super(EnableResendDataRequest.METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+}
@@ -3,6 +3,7 @@ package io.openems.common.websocket;
 import java.io.IOException;
 import java.net.BindException;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -93,28 +94,28 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 				try {
 					JsonrpcMessage message;
 					try {
-						message = JsonrpcMessage.from(stringMessage);
+						message = AbstractWebsocketServer.this.parseMessage(stringMessage);
 
 					} catch (OpenemsNamedException e) {
 						// handle deprecated non-JSON-RPC messages
 						message = AbstractWebsocketServer.this.handleNonJsonrpcMessage(stringMessage, e);
 					}
 
-					if (message instanceof JsonrpcRequest) {
-						AbstractWebsocketServer.this.execute(new OnRequestHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcRequest) message, response -> {
-									AbstractWebsocketServer.this.sendMessage(ws, response);
-								}));
+					AbstractWebsocketServer.this.handleMessage(ws, message);
 
-					} else if (message instanceof JsonrpcResponse) {
-						AbstractWebsocketServer.this.execute(
-								new OnResponseHandler(AbstractWebsocketServer.this, ws, (JsonrpcResponse) message));
-
-					} else if (message instanceof JsonrpcNotification) {
-						AbstractWebsocketServer.this.execute(new OnNotificationHandler(AbstractWebsocketServer.this, ws,
-								(JsonrpcNotification) message));
+				} catch (OpenemsNamedException e) {
+					AbstractWebsocketServer.this.handleInternalErrorAsync(e);
+				}
+			}
 
+			@Override
+			public void onMessage(WebSocket ws, ByteBuffer binaryMessage) {
+				try {
+					var message = AbstractWebsocketServer.this.parseBinaryMessage(ws, binaryMessage);
+					if (message != null) {
+						AbstractWebsocketServer.this.handleMessage(ws, message);
 					}
+
 				} catch (OpenemsNamedException e) {
 					AbstractWebsocketServer.this.handleInternalErrorAsync(e);
 				}
@@ -236,6 +237,53 @@ public abstract class AbstractWebsocketServer<T extends WsData> extends Abstract
 		super.stop();
 	}
 
+	private void handleMessage(WebSocket ws, JsonrpcMessage message) {
+		if (message instanceof JsonrpcRequest) {
+			this.execute(new OnRequestHandler(this, ws, (JsonrpcRequest) message, response -> {
+				this.sendMessage(ws, response);
+			}));
+
+		} else if (message instanceof JsonrpcResponse) {
+			this.execute(new OnResponseHandler(this, ws, (JsonrpcResponse) message));
+
+		} else if (message instanceof JsonrpcNotification) {
+			this.execute(new OnNotificationHandler(this, ws, (JsonrpcNotification) message));
+		}
+	}
+
+	/**
+	 * Parses a binary message to a {@link JsonrpcMessage}.
+	 *
+	 * <p>
+	 * Binary messages are parsed synchronously in the order they were received
+	 * on the connection. By default they are not supported.
+	 *
+	 * @param ws            the {@link WebSocket}
+	 * @param binaryMessage the message
+	 * @return the {@link JsonrpcMessage}; null if the message does not result in
+	 *         a {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException if the message is not supported or invalid
+	 */
+	protected JsonrpcMessage parseBinaryMessage(WebSocket ws, ByteBuffer binaryMessage) throws OpenemsNamedException {
+		throw new OpenemsException("Unhandled binary message");
+	}
+
+	/**
+	 * Parses a String message to a {@link JsonrpcMessage}.
+	 *
+	 * <p>
+	 * Override this method to decode frequent messages without building a
+	 * generic JSON tree.
+	 *
+	 * @param stringMessage the message
+	 * @return the {@link JsonrpcMessage}
+	 * @throws OpenemsNamedException if the message is not a valid JSON-RPC
+	 *                               message
+	 */
+	protected JsonrpcMessage parseMessage(String stringMessage) throws OpenemsNamedException {
+		return JsonrpcMessage.from(stringMessage);
+	}
+
 	/**
 	 * Handle Non-JSON-RPC messages.
 	 *
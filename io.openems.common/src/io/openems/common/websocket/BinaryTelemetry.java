@@ -0,0 +1,316 @@
+package io.openems.common.websocket;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.request.EnableBinaryTelemetryRequest;
+
+/**
+ * Binary websocket frame format for timestamped Channel values sent from Edge
+ * to Backend. It replaces JSON-RPC TimestampedDataNotifications once it was
+ * negotiated with an {@link EnableBinaryTelemetryRequest}.
+ *
+ * <p>
+ * Every frame starts with a header byte: the frame type, optionally combined
+ * with {@link #FLAG_DEFLATE} if the rest of the frame is compressed with raw
+ * Deflate. All integers are unsigned varints; signed values are zigzag-encoded
+ * first.
+ *
+ * <pre>
+ * DICTIONARY: firstId, count, count * (length, UTF-8 "Component-ID/Channel-ID")
+ * DATA:       rows, rows * (timestamp delta, entries,
+ *                           entries * (id delta, value type, value))
+ * </pre>
+ *
+ * <p>
+ * Dictionary ids are assigned in ascending order per connection; a
+ * DICTIONARY frame with firstId 0 starts a new dictionary and resets all delta
+ * state. Timestamps are sent as delta to the previous row, entries are sorted
+ * by id and sent as delta to the previous id + 1, integer values are sent as
+ * delta to the last integer value of the same Channel.
+ */
+public final class BinaryTelemetry {
+
+	public static final int VERSION = 1;
+
+	public static final byte FRAME_DICTIONARY = 1;
+	public static final byte FRAME_DATA = 2;
+	public static final byte FLAG_DEFLATE = (byte) 0x80;
+
+	/**
+	 * Maximum size of an inflated payload; protects against 'zip bombs'.
+	 */
+	public static final int MAX_PAYLOAD_SIZE = 16 * 1024 * 1024;
+
+	public static final byte VALUE_NULL = 0;
+	public static final byte VALUE_TRUE = 1;
+	public static final byte VALUE_FALSE = 2;
+	public static final byte VALUE_LONG_DELTA = 3;
+	public static final byte VALUE_DOUBLE = 4;
+	public static final byte VALUE_STRING = 5;
+	public static final byte VALUE_JSON = 6;
+
+	private BinaryTelemetry() {
+	}
+
+	/**
+	 * A growable output buffer for one frame.
+	 */
+	public static class Output {
+
+		private byte[] buffer = new byte[1024];
+		private int size = 0;
+
+		/**
+		 * Writes one byte.
+		 *
+		 * @param b the byte
+		 */
+		public void writeByte(int b) {
+			this.ensureCapacity(1);
+			this.buffer[this.size++] = (byte) b;
+		}
+
+		/**
+		 * Writes an unsigned varint.
+		 *
+		 * @param value the value; interpreted as unsigned
+		 */
+		public void writeVarint(long value) {
+			this.ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.buffer[this.size++] = (byte) value;
+		}
+
+		/**
+		 * Writes a signed value as zigzag-encoded varint.
+		 *
+		 * @param value the value
+		 */
+		public void writeZigzag(long value) {
+			this.writeVarint((value << 1) ^ (value >> 63));
+		}
+
+		/**
+		 * Writes a double as 8 bytes, little endian.
+		 *
+		 * @param value the value
+		 */
+		public void writeDouble(double value) {
+			this.ensureCapacity(8);
+			var bits = Double.doubleToRawLongBits(value);
+			for (var i = 0; i < 8; i++) {
+				this.buffer[this.size++] = (byte) (bits >>> (8 * i));
+			}
+		}
+
+		/**
+		 * Writes a String as varint length and UTF-8 bytes.
+		 *
+		 * @param value the value
+		 */
+		public void writeString(String value) {
+			var bytes = value.getBytes(StandardCharsets.UTF_8);
+			this.writeVarint(bytes.length);
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+			this.size += bytes.length;
+		}
+
+		/**
+		 * Gets the number of written bytes.
+		 *
+		 * @return the size
+		 */
+		public int size() {
+			return this.size;
+		}
+
+		/**
+		 * Removes all written bytes, keeping the capacity.
+		 */
+		public void reset() {
+			this.size = 0;
+		}
+
+		/**
+		 * Builds the frame; compresses the payload if that makes it smaller.
+		 *
+		 * @param frameType the frame type, e.g. {@link BinaryTelemetry#FRAME_DATA}
+		 * @param deflater  a {@link Deflater} in raw mode ('nowrap'); null to never
+		 *                  compress
+		 * @param threshold the minimum payload size in bytes for compression
+		 * @return the frame
+		 */
+		public ByteBuffer toFrame(byte frameType, Deflater deflater, int threshold) {
+			if (deflater != null && this.size >= threshold) {
+				deflater.reset();
+				deflater.setInput(this.buffer, 0, this.size);
+				deflater.finish();
+				var compressed = new byte[this.size + 1];
+				compressed[0] = (byte) (frameType | FLAG_DEFLATE);
+				var length = 1;
+				while (!deflater.finished() && length < compressed.length) {
+					length += deflater.deflate(compressed, length, compressed.length - length);
+				}
+				if (deflater.finished() && length < compressed.length) {
+					return ByteBuffer.wrap(compressed, 0, length);
+				}
+				// not smaller: send uncompressed
+			}
+			var frame = new byte[this.size + 1];
+			frame[0] = frameType;
+			System.arraycopy(this.buffer, 0, frame, 1, this.size);
+			return ByteBuffer.wrap(frame);
+		}
+
+		private void ensureCapacity(int additional) {
+			if (this.size + additional > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.size + additional));
+			}
+		}
+	}
+
+	/**
+	 * Reads the payload of a frame; inflates it if it is compressed.
+	 *
+	 * @param frame    the frame, positioned at the header byte
+	 * @param inflater an {@link Inflater} in raw mode ('nowrap')
+	 * @return the payload
+	 * @throws OpenemsException on error, e.g. if the inflated payload exceeds
+	 *                          {@link #MAX_PAYLOAD_SIZE}
+	 */
+	public static ByteBuffer readPayload(ByteBuffer frame, Inflater inflater) throws OpenemsException {
+		var header = frame.get(frame.position());
+		var payload = frame.duplicate();
+		payload.position(frame.position() + 1);
+		if ((header & FLAG_DEFLATE) == 0) {
+			return payload;
+		}
+		inflater.reset();
+		var input = new byte[payload.remaining()];
+		payload.get(input);
+		inflater.setInput(input);
+		var out = new ByteArrayOutputStream(input.length * 4);
+		var chunk = new byte[4096];
+		try {
+			while (!inflater.finished()) {
+				var length = inflater.inflate(chunk);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new OpenemsException("Truncated compressed frame");
+				}
+				if (out.size() + length > MAX_PAYLOAD_SIZE) {
+					throw new OpenemsException("Compressed frame exceeds " + MAX_PAYLOAD_SIZE + " bytes");
+				}
+				out.write(chunk, 0, length);
+			}
+		} catch (DataFormatException e) {
+			throw new OpenemsException("Invalid compressed frame: " + e.getMessage());
+		}
+		return ByteBuffer.wrap(out.toByteArray());
+	}
+
+	/**
+	 * Gets the frame type from the header byte of a frame.
+	 *
+	 * @param frame the frame, positioned at the header byte
+	 * @return the frame type, e.g. {@link #FRAME_DATA}
+	 */
+	public static byte getFrameType(ByteBuffer frame) {
+		return (byte) (frame.get(frame.position()) & ~FLAG_DEFLATE);
+	}
+
+	/**
+	 * Reads an unsigned varint.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static long readVarint(ByteBuffer buffer) throws OpenemsException {
+		var result = 0L;
+		for (var shift = 0; shift < 64; shift += 7) {
+			if (!buffer.hasRemaining()) {
+				throw new OpenemsException("Truncated varint");
+			}
+			var b = buffer.get();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new OpenemsException("Malformed varint");
+	}
+
+	/**
+	 * Reads an unsigned varint that must fit into an int.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static int readVarintAsInt(ByteBuffer buffer) throws OpenemsException {
+		var value = readVarint(buffer);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new OpenemsException("Varint out of range: " + value);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Reads a zigzag-encoded signed varint.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static long readZigzag(ByteBuffer buffer) throws OpenemsException {
+		var value = readVarint(buffer);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads a double written by {@link Output#writeDouble(double)}.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static double readDouble(ByteBuffer buffer) throws OpenemsException {
+		if (buffer.remaining() < 8) {
+			throw new OpenemsException("Truncated double");
+		}
+		var bits = 0L;
+		for (var i = 0; i < 8; i++) {
+			bits |= (buffer.get() & 0xFFL) << (8 * i);
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Reads a String written by {@link Output#writeString(String)}.
+	 *
+	 * @param buffer the {@link ByteBuffer}
+	 * @return the value
+	 * @throws OpenemsException on malformed input
+	 */
+	public static String readString(ByteBuffer buffer) throws OpenemsException {
+		var length = readVarintAsInt(buffer);
+		if (buffer.remaining() < length) {
+			throw new OpenemsException("Truncated String");
+		}
+		var bytes = new byte[length];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
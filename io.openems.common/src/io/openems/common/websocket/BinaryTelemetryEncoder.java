@@ -0,0 +1,200 @@
+package io.openems.common.websocket;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.Deflater;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Encodes timestamped Channel values to frames in the {@link BinaryTelemetry}
+ * format.
+ *
+ * <p>
+ * An instance holds the dictionary and delta state of exactly one connection;
+ * create a new instance for every connection. This class is not thread-safe.
+ */
+public class BinaryTelemetryEncoder {
+
+	private static final int COMPRESSION_THRESHOLD = 256; // [bytes]
+
+	private final Map<ChannelAddress, Integer> ids = new HashMap<>();
+	private final List<String> pendingNames = new ArrayList<>();
+	private final BinaryTelemetry.Output output = new BinaryTelemetry.Output();
+	private final Deflater deflater;
+
+	private int nextId = 0;
+	private int firstPendingId = 0;
+	private long lastTimestamp = 0L;
+	private long[] lastLongs = new long[256];
+	private JsonElement[] scratch = new JsonElement[256];
+
+	/**
+	 * Creates an encoder that compresses large frames.
+	 */
+	public BinaryTelemetryEncoder() {
+		this(true);
+	}
+
+	/**
+	 * Creates an encoder.
+	 *
+	 * @param compress true to compress frames with Deflate if that makes them
+	 *                 smaller
+	 */
+	public BinaryTelemetryEncoder(boolean compress) {
+		this.deflater = compress ? new Deflater(Deflater.BEST_SPEED, true) : null;
+	}
+
+	/**
+	 * Encodes the values of one timestamp.
+	 *
+	 * <p>
+	 * If the values contain Channels that were not sent before, the result starts
+	 * with a DICTIONARY frame. All returned frames must be sent in order.
+	 *
+	 * @param timestamp the timestamp epoch in milliseconds
+	 * @param values    a map of {@link ChannelAddress} to {@link JsonElement} value
+	 * @return the frames
+	 */
+	public List<ByteBuffer> encode(long timestamp, Map<ChannelAddress, JsonElement> values) {
+		// Resolve dictionary ids
+		var entries = new int[values.size()];
+		var count = 0;
+		for (Entry<ChannelAddress, JsonElement> entry : values.entrySet()) {
+			var id = this.getOrCreateId(entry.getKey());
+			this.scratch[id] = entry.getValue();
+			entries[count++] = id;
+		}
+		Arrays.sort(entries, 0, count);
+
+		var result = new ArrayList<ByteBuffer>(2);
+		if (!this.pendingNames.isEmpty()) {
+			result.add(this.encodeDictionary());
+		}
+
+		// Encode data
+		var out = this.output;
+		out.reset();
+		out.writeVarint(1); // rows
+		out.writeZigzag(timestamp - this.lastTimestamp);
+		this.lastTimestamp = timestamp;
+		out.writeVarint(count);
+		var previousId = -1;
+		for (var i = 0; i < count; i++) {
+			var id = entries[i];
+			out.writeVarint(id - previousId - 1);
+			previousId = id;
+			this.writeValue(id, this.scratch[id]);
+			this.scratch[id] = null;
+		}
+		result.add(out.toFrame(BinaryTelemetry.FRAME_DATA, this.deflater, COMPRESSION_THRESHOLD));
+		return result;
+	}
+
+	/**
+	 * Gets the number of Channels in the dictionary.
+	 *
+	 * @return the number of Channels
+	 */
+	public int getDictionarySize() {
+		return this.nextId;
+	}
+
+	private int getOrCreateId(ChannelAddress address) {
+		var id = this.ids.get(address);
+		if (id != null) {
+			return id;
+		}
+		id = this.nextId++;
+		this.ids.put(address, id);
+		this.pendingNames.add(address.toString());
+		if (id == this.lastLongs.length) {
+			this.lastLongs = Arrays.copyOf(this.lastLongs, id * 2);
+			this.scratch = Arrays.copyOf(this.scratch, id * 2);
+		}
+		return id;
+	}
+
+	private ByteBuffer encodeDictionary() {
+		var out = this.output;
+		out.reset();
+		out.writeVarint(this.firstPendingId);
+		out.writeVarint(this.pendingNames.size());
+		for (String name : this.pendingNames) {
+			out.writeString(name);
+		}
+		this.firstPendingId = this.nextId;
+		this.pendingNames.clear();
+		return out.toFrame(BinaryTelemetry.FRAME_DICTIONARY, this.deflater, COMPRESSION_THRESHOLD);
+	}
+
+	private void writeValue(int id, JsonElement value) {
+		var out = this.output;
+		if (value == null || value.isJsonNull()) {
+			out.writeByte(BinaryTelemetry.VALUE_NULL);
+			return;
+		}
+		if (value.isJsonPrimitive()) {
+			var primitive = value.getAsJsonPrimitive();
+			if (primitive.isBoolean()) {
+				out.writeByte(primitive.getAsBoolean() ? BinaryTelemetry.VALUE_TRUE : BinaryTelemetry.VALUE_FALSE);
+				return;
+			}
+			if (primitive.isString()) {
+				out.writeByte(BinaryTelemetry.VALUE_STRING);
+				out.writeString(primitive.getAsString());
+				return;
+			}
+			var number = primitive.getAsNumber();
+			if (number instanceof Integer || number instanceof Long || number instanceof Short
+					|| number instanceof Byte) {
+				this.writeLong(id, number.longValue());
+				return;
+			}
+			if (number instanceof Float) {
+				// keep the decimal representation of the float, like JSON does
+				out.writeByte(BinaryTelemetry.VALUE_DOUBLE);
+				out.writeDouble(Double.parseDouble(number.toString()));
+				return;
+			}
+			if (number instanceof Double) {
+				out.writeByte(BinaryTelemetry.VALUE_DOUBLE);
+				out.writeDouble(number.doubleValue());
+				return;
+			}
+			// e.g. lazily parsed number: decide by its literal
+			var literal = number.toString();
+			try {
+				this.writeLong(id, Long.parseLong(literal));
+				return;
+			} catch (NumberFormatException e) {
+				// not an integer
+			}
+			try {
+				var d = Double.parseDouble(literal);
+				out.writeByte(BinaryTelemetry.VALUE_DOUBLE);
+				out.writeDouble(d);
+				return;
+			} catch (NumberFormatException e) {
+				// fall through to JSON
+			}
+		}
+		out.writeByte(BinaryTelemetry.VALUE_JSON);
+		out.writeString(value.toString());
+	}
+
+	private void writeLong(int id, long value) {
+		this.output.writeByte(BinaryTelemetry.VALUE_LONG_DELTA);
+		this.output.writeZigzag(value - this.lastLongs[id]);
+		this.lastLongs[id] = value;
+	}
+
+}
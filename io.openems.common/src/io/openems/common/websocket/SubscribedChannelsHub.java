@@ -0,0 +1,147 @@
+package io.openems.common.websocket;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.google.gson.JsonElement;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Publishes the current data of subscribed Channels to all
+ * {@link SubscribedChannelsWorker}s of one Edge.
+ *
+ * <p>
+ * A single task per hub runs every
+ * {@link SubscribedChannelsWorker#UPDATE_INTERVAL_IN_SECONDS}. It reads the
+ * value of every Channel in the union of all subscriptions only once, and
+ * serializes the {@link CurrentDataNotification} only once per distinct set of
+ * subscribed Channels - e.g. for all UI sessions that show the same view.
+ */
+public abstract class SubscribedChannelsHub {
+
+	/**
+	 * Holds the subscribed Channels per {@link SubscribedChannelsWorker}. Guarded
+	 * by 'this'.
+	 */
+	private final Map<SubscribedChannelsWorker, Set<ChannelAddress>> subscriptions = new HashMap<>();
+
+	/**
+	 * Holds the scheduled task for currentData; null if there are no
+	 * subscriptions.
+	 */
+	private ScheduledFuture<?> future = null;
+
+	/**
+	 * Subscribes a {@link SubscribedChannelsWorker}; replaces a previous
+	 * subscription of the same worker.
+	 *
+	 * @param worker   the {@link SubscribedChannelsWorker}
+	 * @param channels the subscribed Channels; an empty Set unsubscribes
+	 */
+	public synchronized void subscribe(SubscribedChannelsWorker worker, Set<ChannelAddress> channels) {
+		if (channels.isEmpty()) {
+			this.unsubscribe(worker);
+			return;
+		}
+		// Immutable copy; used as key for sharing serialized notifications
+		this.subscriptions.put(worker, Set.copyOf(channels));
+		if (this.future == null) {
+			this.future = this.scheduleWithFixedDelay(this::publish, SubscribedChannelsWorker.UPDATE_INTERVAL_IN_SECONDS,
+					SubscribedChannelsWorker.UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Unsubscribes a {@link SubscribedChannelsWorker}.
+	 *
+	 * @param worker the {@link SubscribedChannelsWorker}
+	 */
+	public synchronized void unsubscribe(SubscribedChannelsWorker worker) {
+		this.subscriptions.remove(worker);
+		if (this.subscriptions.isEmpty() && this.future != null) {
+			this.future.cancel(false);
+			this.future = null;
+		}
+	}
+
+	/**
+	 * Is this hub without any subscriptions?.
+	 *
+	 * @return true if there are no subscriptions
+	 */
+	public synchronized boolean isEmpty() {
+		return this.subscriptions.isEmpty();
+	}
+
+	/**
+	 * Gets the number of subscribed {@link SubscribedChannelsWorker}s.
+	 *
+	 * @return the number of subscriptions
+	 */
+	public synchronized int getSubscriptionCount() {
+		return this.subscriptions.size();
+	}
+
+	/**
+	 * Sends the current data of the subscribed Channels to one
+	 * {@link SubscribedChannelsWorker} immediately, e.g. after it changed its
+	 * subscription.
+	 *
+	 * @param worker the {@link SubscribedChannelsWorker}
+	 */
+	public void publish(SubscribedChannelsWorker worker) {
+		Set<ChannelAddress> channels;
+		synchronized (this) {
+			channels = this.subscriptions.get(worker);
+		}
+		if (channels == null) {
+			return;
+		}
+		worker.send(this.serialize(channels, new HashMap<>()));
+	}
+
+	/**
+	 * Sends the current data to all subscribed {@link SubscribedChannelsWorker}s.
+	 */
+	protected void publish() {
+		Map<SubscribedChannelsWorker, Set<ChannelAddress>> subscriptions;
+		synchronized (this) {
+			subscriptions = new HashMap<>(this.subscriptions);
+		}
+		var values = new HashMap<ChannelAddress, JsonElement>();
+		var messages = new HashMap<Set<ChannelAddress>, String>();
+		for (Entry<SubscribedChannelsWorker, Set<ChannelAddress>> entry : subscriptions.entrySet()) {
+			var message = messages.computeIfAbsent(entry.getValue(), channels -> this.serialize(channels, values));
+			entry.getKey().send(message);
+		}
+	}
+
+	/**
+	 * Serializes the JSON-RPC Notification for a Set of Channels.
+	 *
+	 * @param channels the Channels
+	 * @param values   the Channel values of the current run; filled on demand
+	 * @return the serialized JSON-RPC Notification
+	 */
+	private String serialize(Set<ChannelAddress> channels, Map<ChannelAddress, JsonElement> values) {
+		var currentData = new CurrentDataNotification();
+		for (ChannelAddress channel : channels) {
+			currentData.add(channel, values.computeIfAbsent(channel, this::getChannelValue));
+		}
+		return this.getJsonRpcNotification(currentData).toString();
+	}
+
+	protected abstract JsonElement getChannelValue(ChannelAddress channelAddress);
+
+	protected abstract JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData);
+
+	protected abstract ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+			TimeUnit unit);
+}
@@ -1,19 +1,11 @@
 package io.openems.common.websocket;
 
-import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonElement;
-
 import io.openems.common.exceptions.OpenemsException;
-import io.openems.common.jsonrpc.base.JsonrpcNotification;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
 import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
 import io.openems.common.session.Role;
 import io.openems.common.types.ChannelAddress;
@@ -24,16 +16,6 @@ public abstract class SubscribedChannelsWorker {
 
 	private final Logger log = LoggerFactory.getLogger(SubscribedChannelsWorker.class);
 
-	/**
-	 * Holds subscribed channels.
-	 */
-	private final TreeSet<ChannelAddress> channels = new TreeSet<>();
-
-	/**
-	 * Holds the scheduled task for currentData.
-	 */
-	private Optional<ScheduledFuture<?>> futureOpt = Optional.empty();
-
 	protected final WsData parent;
 
 	private int lastRequestCount = Integer.MIN_VALUE;
@@ -61,38 +43,33 @@ public abstract class SubscribedChannelsWorker {
 	 * @param channels Set of ChannelAddresses
 	 */
 	private synchronized void setChannels(Set<ChannelAddress> channels) {
-		// stop current thread
-		if (this.futureOpt.isPresent()) {
-			this.futureOpt.get().cancel(true);
-			this.futureOpt = Optional.empty();
+		if (channels.isEmpty()) {
+			this.unsubscribe();
+			return;
+		}
+
+		// registered channels -> subscribe and send current data immediately
+		this.subscribe(channels).publish(this);
+	}
+
+	/**
+	 * Sends a serialized JSON-RPC Notification to the Websocket. Called by the
+	 * {@link SubscribedChannelsHub}.
+	 *
+	 * @param message the serialized JSON-RPC Notification
+	 */
+	protected void send(String message) {
+		var ws = this.parent.getWebsocket();
+		if (ws == null || !ws.isOpen()) {
+			// disconnected; stop worker
+			this.dispose();
+			return;
 		}
 
-		// clear existing channels
-		this.channels.clear();
-
-		// set new channels
-		this.channels.addAll(channels);
-
-		if (!channels.isEmpty()) {
-			// registered channels -> create new thread
-			this.futureOpt = Optional.of(this.parent.scheduleWithFixedDelay(() -> {
-				/*
-				 * This task is executed regularly. Sends data to Websocket.
-				 */
-				var ws = this.parent.getWebsocket();
-				if (ws == null || !ws.isOpen()) {
-					// disconnected; stop worker
-					this.dispose();
-					return;
-				}
-
-				try {
-					this.parent.send(this.getJsonRpcNotification(this.getCurrentData()));
-				} catch (OpenemsException e) {
-					this.log.warn("Unable to send SubscribedChannels: " + e.getMessage());
-				}
-
-			}, 0, SubscribedChannelsWorker.UPDATE_INTERVAL_IN_SECONDS, TimeUnit.SECONDS));
+		try {
+			this.parent.send(message);
+		} catch (OpenemsException e) {
+			this.log.warn("Unable to send SubscribedChannels: " + e.getMessage());
 		}
 	}
 
@@ -100,27 +77,20 @@ public abstract class SubscribedChannelsWorker {
 	 * Dispose and deactivate the {@link SubscribedChannelsWorker}.
 	 */
 	public void dispose() {
-		// unsubscribe regular task
-		if (this.futureOpt.isPresent()) {
-			this.futureOpt.get().cancel(true);
-		}
+		this.unsubscribe();
 	}
 
 	/**
-	 * Gets a JSON-RPC Notification with all subscribed channels data.
+	 * Subscribes the Channels at the {@link SubscribedChannelsHub}; replaces a
+	 * previous subscription.
 	 *
-	 * @return the {@link CurrentDataNotification}
+	 * @param channels the Channels; never empty
+	 * @return the {@link SubscribedChannelsHub}
 	 */
-	private CurrentDataNotification getCurrentData() {
-		var result = new CurrentDataNotification();
-		for (ChannelAddress channel : this.channels) {
-			var value = this.getChannelValue(channel);
-			result.add(channel, value);
-		}
-		return result;
-	}
-
-	protected abstract JsonElement getChannelValue(ChannelAddress channelAddress);
+	protected abstract SubscribedChannelsHub subscribe(Set<ChannelAddress> channels);
 
-	protected abstract JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData);
+	/**
+	 * Removes the subscription at the {@link SubscribedChannelsHub}.
+	 */
+	protected abstract void unsubscribe();
 }
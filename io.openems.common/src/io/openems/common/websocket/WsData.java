@@ -88,6 +88,17 @@ public abstract class WsData {
 		this.sendMessage(notification);
 	}
 
+	/**
+	 * Sends an already serialized JSON-RPC Notification to a WebSocket, e.g. one
+	 * that is shared by multiple WebSockets.
+	 *
+	 * @param notification the serialized JSON-RPC Notification
+	 * @throws OpenemsException on error
+	 */
+	public void send(String notification) throws OpenemsException {
+		this.sendMessage(notification);
+	}
+
 	/**
 	 * Sends the JSON-RPC message.
 	 *
@@ -95,11 +106,15 @@ public abstract class WsData {
 	 * @throws OpenemsException on error
 	 */
 	private void sendMessage(JsonrpcMessage message) throws OpenemsException {
+		this.sendMessage(message.toString());
+	}
+
+	private void sendMessage(String message) throws OpenemsException {
 		if (this.websocket == null) {
 			throw new OpenemsException("There is no Websocket defined for this WsData.");
 		}
 		try {
-			this.websocket.send(message.toString());
+			this.websocket.send(message);
 		} catch (WebsocketNotConnectedException e) {
 			throw new OpenemsException("Websocket is not connected: " + e.getMessage());
 		}
@@ -0,0 +1,118 @@
+package io.openems.common.websocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
+
+public class SubscribedChannelsHubTest {
+
+	private static final ChannelAddress CHANNEL_0 = new ChannelAddress("_sum", "EssSoc");
+	private static final ChannelAddress CHANNEL_1 = new ChannelAddress("_sum", "GridActivePower");
+
+	private static class TestHub extends SubscribedChannelsHub {
+
+		private final ScheduledExecutorService executor;
+		private final List<ChannelAddress> reads = new ArrayList<>();
+
+		private TestHub(ScheduledExecutorService executor) {
+			this.executor = executor;
+		}
+
+		@Override
+		protected JsonElement getChannelValue(ChannelAddress channelAddress) {
+			this.reads.add(channelAddress);
+			return new JsonPrimitive(this.reads.size());
+		}
+
+		@Override
+		protected JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData) {
+			return new EdgeRpcNotification("edge0", currentData);
+		}
+
+		@Override
+		protected ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay,
+				TimeUnit unit) {
+			return this.executor.scheduleWithFixedDelay(command, initialDelay, delay, unit);
+		}
+	}
+
+	private static class TestWorker extends SubscribedChannelsWorker {
+
+		private final TestHub hub;
+		private final List<String> messages = new ArrayList<>();
+
+		private TestWorker(TestHub hub) {
+			super(null);
+			this.hub = hub;
+		}
+
+		@Override
+		protected void send(String message) {
+			this.messages.add(message);
+		}
+
+		@Override
+		protected SubscribedChannelsHub subscribe(Set<ChannelAddress> channels) {
+			this.hub.subscribe(this, channels);
+			return this.hub;
+		}
+
+		@Override
+		protected void unsubscribe() {
+			this.hub.unsubscribe(this);
+		}
+	}
+
+	@Test
+	public void test() {
+		var executor = Executors.newSingleThreadScheduledExecutor();
+		try {
+			var sut = new TestHub(executor);
+			var worker0 = new TestWorker(sut);
+			var worker1 = new TestWorker(sut);
+			var worker2 = new TestWorker(sut);
+			sut.subscribe(worker0, Set.of(CHANNEL_0, CHANNEL_1));
+			sut.subscribe(worker1, Set.of(CHANNEL_1, CHANNEL_0));
+			sut.subscribe(worker2, Set.of(CHANNEL_0));
+			assertEquals(3, sut.getSubscriptionCount());
+
+			// Every Channel is read once; equal subscriptions share the message
+			sut.publish();
+			assertEquals(2, sut.reads.size());
+			assertSame(worker0.messages.get(0), worker1.messages.get(0));
+			assertNotSame(worker0.messages.get(0), worker2.messages.get(0));
+			assertTrue(worker2.messages.get(0).contains("\"_sum/EssSoc\""));
+
+			// Empty subscription unsubscribes
+			sut.subscribe(worker0, Set.of());
+			sut.unsubscribe(worker1);
+			worker2.dispose();
+			assertTrue(sut.isEmpty());
+			sut.publish();
+			assertEquals(1, worker0.messages.size());
+		} finally {
+			ThreadPoolUtils.shutdownAndAwaitTermination(executor, 0);
+		}
+	}
+
+}
@@ -84,7 +84,7 @@ public class BridgeModbusSerialImpl extends AbstractModbusBridge
 	@Activate
 	void activate(ComponentContext context, ConfigSerial config) {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap(), config.failedDeviceMaxBackoff());
 		this.portName = config.portName();
 		this.baudrate = config.baudRate();
 		this.databits = config.databits();
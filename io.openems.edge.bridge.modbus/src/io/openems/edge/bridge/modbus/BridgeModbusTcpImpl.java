@@ -2,6 +2,8 @@ package io.openems.edge.bridge.modbus;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -21,6 +23,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.BridgeModbusTcp;
+import io.openems.edge.bridge.modbus.api.ModbusWorker;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
 import io.openems.edge.common.event.EdgeEventConstants;
@@ -49,6 +52,7 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	 */
 	private InetAddress ipAddress = null;
 	private int port;
+	private int maxConnections = 1;
 
 	public BridgeModbusTcpImpl() {
 		super(//
@@ -61,15 +65,17 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 	@Activate
 	protected void activate(ComponentContext context, ConfigTcp config) throws UnknownHostException {
 		super.activate(context, config.id(), config.alias(), config.enabled(), config.logVerbosity(),
-				config.invalidateElementsAfterReadErrors());
+				config.invalidateElementsAfterReadErrors(), config.readTasksMaxGap(), config.failedDeviceMaxBackoff());
 		this.setIpAddress(InetAddress.getByName(config.ip()));
 		this.port = config.port();
+		this.maxConnections = Math.max(1, config.maxConnections());
 	}
 
 	@Override
 	@Deactivate
 	protected void deactivate() {
 		super.deactivate();
+		this.closeAllModbusConnections();
 	}
 
 	@Override
@@ -77,14 +83,31 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return this.cycle;
 	}
 
+	@Override
+	protected int getMaxConcurrentTasks() {
+		return this.maxConnections;
+	}
+
+	/**
+	 * Closes the Modbus connection of the current thread.
+	 */
 	@Override
 	public void closeModbusConnection() {
-		if (this._connection != null) {
-			this._connection.close();
-			this._connection = null;
+		var connection = this._connection.get();
+		if (connection != null) {
+			connection.close();
+			this._connection.remove();
+			this.connections.remove(connection);
 		}
 	}
 
+	private void closeAllModbusConnections() {
+		for (TCPMasterConnection connection : this.connections) {
+			connection.close();
+		}
+		this.connections.clear();
+	}
+
 	@Override
 	public ModbusTransaction getNewModbusTransaction() throws OpenemsException {
 		var connection = this.getModbusConnection();
@@ -93,27 +116,39 @@ public class BridgeModbusTcpImpl extends AbstractModbusBridge
 		return transaction;
 	}
 
-	private TCPMasterConnection _connection = null;
+	/**
+	 * Holds one connection per thread of the {@link ModbusWorker}. With the default
+	 * of 'maxConnections = 1' this is always exactly one connection.
+	 */
+	private final ThreadLocal<TCPMasterConnection> _connection = new ThreadLocal<>();
+
+	/**
+	 * All open connections; used to close them on deactivate.
+	 */
+	private final Set<TCPMasterConnection> connections = ConcurrentHashMap.newKeySet();
 
-	private synchronized TCPMasterConnection getModbusConnection() throws OpenemsException {
-		if (this._connection == null) {
+	private TCPMasterConnection getModbusConnection() throws OpenemsException {
+		var connection = this._connection.get();
+		if (connection == null) {
 			/*
 			 * create new connection
 			 */
-			var connection = new TCPMasterConnection(this.getIpAddress());
+			connection = new TCPMasterConnection(this.getIpAddress());
 			connection.setPort(this.port);
-			this._connection = connection;
+			this._connection.set(connection);
+			this.connections.add(connection);
 		}
-		if (!this._connection.isConnected()) {
+		if (!connection.isConnected()) {
+			this.connections.add(connection);
 			try {
-				this._connection.connect();
+				connection.connect();
 			} catch (Exception e) {
 				throw new OpenemsException(
 						"Connection to [" + this.getIpAddress().getHostAddress() + "] failed: " + e.getMessage());
 			}
-			this._connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
+			connection.getModbusTransport().setTimeout(AbstractModbusBridge.DEFAULT_TIMEOUT);
 		}
-		return this._connection;
+		return connection;
 	}
 
 	@Override
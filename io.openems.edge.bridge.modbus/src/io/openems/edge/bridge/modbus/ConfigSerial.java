@@ -42,5 +42,11 @@ import io.openems.edge.bridge.modbus.api.Stopbit;
 	@AttributeDefinition(name = "Invalidate elements after how many read Errors?", description = "Increase this value if modbus read errors happen frequently.")
 	int invalidateElementsAfterReadErrors() default 1;
 
+	@AttributeDefinition(name = "Combine Read-Tasks: max. gap", description = "Combine adjacent Read-Tasks (FC3/FC4) of one device to fewer requests, if the number of unused registers between them is not larger than this value. '-1' disables combining.")
+	int readTasksMaxGap() default -1;
+
+	@AttributeDefinition(name = "Failed device: max. retry back-off [s]", description = "On communication errors, retry a device after 1, 2, 4,... Cycles up to this limit. '0' retries every Cycle.")
+	int failedDeviceMaxBackoff() default 0;
+
 	String webconsole_configurationFactory_nameHint() default "Bridge Modbus/RTU Serial [{id}]";
 }
\ No newline at end of file
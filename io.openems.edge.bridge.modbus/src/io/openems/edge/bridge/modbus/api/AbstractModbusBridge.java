@@ -35,6 +35,8 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	private LogVerbosity logVerbosity = LogVerbosity.NONE;
 	private int invalidateElementsAfterReadErrors = 1;
+	private int readTasksMaxGap = -1;
+	private int failedDeviceMaxBackoff = 0;
 
 	// private final Logger log =
 	// LoggerFactory.getLogger(AbstractModbusBridge.class);
@@ -47,9 +49,17 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 
 	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
 			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors) {
+		this.activate(context, id, alias, enabled, logVerbosity, invalidateElementsAfterReadErrors, -1, 0);
+	}
+
+	protected void activate(ComponentContext context, String id, String alias, boolean enabled,
+			LogVerbosity logVerbosity, int invalidateElementsAfterReadErrors, int readTasksMaxGap,
+			int failedDeviceMaxBackoff) {
 		super.activate(context, id, alias, enabled);
 		this.logVerbosity = logVerbosity;
 		this.invalidateElementsAfterReadErrors = invalidateElementsAfterReadErrors;
+		this.readTasksMaxGap = readTasksMaxGap;
+		this.failedDeviceMaxBackoff = failedDeviceMaxBackoff;
 		if (this.isEnabled()) {
 			this.worker.activate(id);
 		}
@@ -100,6 +110,21 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		}
 	}
 
+	/**
+	 * Gets the maximum number of Tasks that may be executed concurrently, i.e.
+	 * the number of parallel connections to the device.
+	 *
+	 * <p>
+	 * If this is greater than '1', the {@link ModbusWorker} executes Read-Tasks
+	 * for different Unit-IDs in parallel. Implementations must then return a
+	 * separate connection per thread in {@link #getNewModbusTransaction()}.
+	 *
+	 * @return the max number of concurrent Tasks; '1' by default
+	 */
+	protected int getMaxConcurrentTasks() {
+		return 1;
+	}
+
 	/**
 	 * Creates a new Modbus Transaction on an open Modbus connection.
 	 *
@@ -132,6 +157,26 @@ public abstract class AbstractModbusBridge extends AbstractOpenemsComponent impl
 		super.logError(log, message);
 	}
 
+	/**
+	 * Gets the max number of unused registers between two Read-Tasks that are
+	 * combined to one request.
+	 *
+	 * @return the max gap; negative if combining is disabled
+	 */
+	public int getReadTasksMaxGap() {
+		return this.readTasksMaxGap;
+	}
+
+	/**
+	 * Gets the max back-off in [s] before a device with communication errors is
+	 * retried.
+	 *
+	 * @return the max back-off; '0' if devices are retried every Cycle
+	 */
+	public int getFailedDeviceMaxBackoff() {
+		return this.failedDeviceMaxBackoff;
+	}
+
 	/**
 	 * After how many errors should a element be invalidated?.
 	 *
@@ -7,6 +7,7 @@ import io.openems.common.channel.Level;
 import io.openems.common.channel.Unit;
 import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
@@ -19,6 +20,37 @@ public interface BridgeModbus extends OpenemsComponent {
 		CYCLE_TIME_IS_TOO_SHORT(Doc.of(Level.INFO) //
 				.debounce(10, Debounce.TRUE_VALUES_IN_A_ROW_TO_SET_TRUE)), //
 		EXECUTION_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Number of Tasks planned for the current Cycle(s), i.e. the depth of the
+		 * Tasks-Queue.
+		 */
+		PLANNED_TASKS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of Priority LOW/ONCE Read-Tasks that fit into the idle time of the
+		 * current Cycle.
+		 */
+		PLANNED_LOW_PRIORITY_TASKS(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Number of devices that are currently skipped because of communication
+		 * errors.
+		 */
+		DEVICES_IN_BACKOFF(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Median execution duration of a Task within the last few hundred Tasks.
+		 */
+		TASK_DURATION_P50(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the execution duration of a Task within the last few
+		 * hundred Tasks.
+		 */
+		TASK_DURATION_P95(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum execution duration of a Task within the last few hundred Tasks.
+		 */
+		TASK_DURATION_MAX(Doc.of(OpenemsType.LONG) //
 				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
@@ -91,6 +123,235 @@ public interface BridgeModbus extends OpenemsComponent {
 		this.getExecutionDurationChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#PLANNED_TASKS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getPlannedTasksChannel() {
+		return this.channel(ChannelId.PLANNED_TASKS);
+	}
+
+	/**
+	 * Gets the Planned Tasks. See {@link ChannelId#PLANNED_TASKS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getPlannedTasks() {
+		return this.getPlannedTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PLANNED_TASKS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlannedTasks(Integer value) {
+		this.getPlannedTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#PLANNED_TASKS}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlannedTasks(int value) {
+		this.getPlannedTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getPlannedLowPriorityTasksChannel() {
+		return this.channel(ChannelId.PLANNED_LOW_PRIORITY_TASKS);
+	}
+
+	/**
+	 * Gets the Planned Low Priority Tasks. See
+	 * {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getPlannedLowPriorityTasks() {
+		return this.getPlannedLowPriorityTasksChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlannedLowPriorityTasks(Integer value) {
+		this.getPlannedLowPriorityTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PLANNED_LOW_PRIORITY_TASKS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPlannedLowPriorityTasks(int value) {
+		this.getPlannedLowPriorityTasksChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DEVICES_IN_BACKOFF}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getDevicesInBackoffChannel() {
+		return this.channel(ChannelId.DEVICES_IN_BACKOFF);
+	}
+
+	/**
+	 * Gets the Devices In Backoff. See {@link ChannelId#DEVICES_IN_BACKOFF}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getDevicesInBackoff() {
+		return this.getDevicesInBackoffChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#DEVICES_IN_BACKOFF}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDevicesInBackoff(Integer value) {
+		this.getDevicesInBackoffChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#DEVICES_IN_BACKOFF}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDevicesInBackoff(int value) {
+		this.getDevicesInBackoffChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TASK_DURATION_P50}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getTaskDurationP50Channel() {
+		return this.channel(ChannelId.TASK_DURATION_P50);
+	}
+
+	/**
+	 * Gets the Task Duration P50. See {@link ChannelId#TASK_DURATION_P50}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getTaskDurationP50() {
+		return this.getTaskDurationP50Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_P50}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationP50(Long value) {
+		this.getTaskDurationP50Channel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_P50}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationP50(long value) {
+		this.getTaskDurationP50Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TASK_DURATION_P95}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getTaskDurationP95Channel() {
+		return this.channel(ChannelId.TASK_DURATION_P95);
+	}
+
+	/**
+	 * Gets the Task Duration P95. See {@link ChannelId#TASK_DURATION_P95}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getTaskDurationP95() {
+		return this.getTaskDurationP95Channel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_P95}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationP95(Long value) {
+		this.getTaskDurationP95Channel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_P95}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationP95(long value) {
+		this.getTaskDurationP95Channel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#TASK_DURATION_MAX}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getTaskDurationMaxChannel() {
+		return this.channel(ChannelId.TASK_DURATION_MAX);
+	}
+
+	/**
+	 * Gets the Task Duration Max. See {@link ChannelId#TASK_DURATION_MAX}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getTaskDurationMax() {
+		return this.getTaskDurationMaxChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_MAX}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationMax(Long value) {
+		this.getTaskDurationMaxChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#TASK_DURATION_MAX}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setTaskDurationMax(long value) {
+		this.getTaskDurationMaxChannel().setNextValue(value);
+	}
+
 	/**
 	 * Adds a Protocol with a source identifier to this Modbus Bridge.
 	 *
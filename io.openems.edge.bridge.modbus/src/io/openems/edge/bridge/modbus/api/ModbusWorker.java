@@ -3,8 +3,18 @@ package io.openems.edge.bridge.modbus.api;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 
@@ -13,16 +23,20 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.collect.Multimap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.bridge.modbus.api.element.ModbusElement;
 import io.openems.edge.bridge.modbus.api.task.ReadTask;
+import io.openems.edge.bridge.modbus.api.task.ReadTaskCoalescer;
 import io.openems.edge.bridge.modbus.api.task.Task;
 import io.openems.edge.bridge.modbus.api.task.WaitTask;
 import io.openems.edge.bridge.modbus.api.task.WriteTask;
 import io.openems.edge.common.taskmanager.MetaTasksManager;
 import io.openems.edge.common.taskmanager.Priority;
+import io.openems.edge.common.type.DurationHistogram;
 
 /**
  * The ModbusWorker schedules the execution of all Modbus-Tasks, like reading
@@ -33,6 +47,24 @@ import io.openems.edge.common.taskmanager.Priority;
  * TOPIC_CYCLE_EXECUTE_WRITE event) and all Read-Tasks as late as possible to
  * have correct values available exactly when they are needed (i.e. at the
  * TOPIC_CYCLE_BEFORE_PROCESS_IMAGE event).
+ *
+ * <p>
+ * If the parent Bridge allows more than one concurrent Task (see
+ * {@link AbstractModbusBridge#getMaxConcurrentTasks()}), consecutive
+ * Read-Tasks in the queue are grouped by Unit-ID and the groups are executed in
+ * parallel. Tasks of the same Unit-ID and all Write-Tasks are still executed
+ * sequentially and in their planned order.
+ *
+ * <p>
+ * If configured, adjacent Read-Tasks of one device are combined to fewer
+ * requests by a {@link ReadTaskCoalescer}.
+ *
+ * <p>
+ * Planning is based on the expected duration of each Task, derived from rolling
+ * statistics of its previous executions. Priority LOW Tasks are added as long
+ * as they fit into the idle time of the Cycle. Devices with communication
+ * errors can be skipped with an exponential back-off (see
+ * {@link AbstractModbusBridge#getFailedDeviceMaxBackoff()}).
  */
 public class ModbusWorker extends AbstractImmediateWorker {
 
@@ -43,11 +75,25 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	private final LinkedBlockingDeque<Task> tasksQueue = new LinkedBlockingDeque<>();
 	private final MetaTasksManager<ReadTask> readTasksManager = new MetaTasksManager<>();
 	private final MetaTasksManager<WriteTask> writeTasksManager = new MetaTasksManager<>();
+	private final ReadTaskCoalescer readTaskCoalescer = new ReadTaskCoalescer();
 	private final AbstractModbusBridge parent;
 
 	// The measured duration between BeforeProcessImage event and ExecuteWrite event
 	private long durationBetweenBeforeProcessImageTillExecuteWrite = 0;
 
+	// Rolling statistics of the execution duration of all Tasks
+	private final DurationHistogram taskDurations = new DurationHistogram();
+
+	// Back-off state of devices with communication errors by Component-ID
+	private final Map<String, DeviceState> deviceStates = new ConcurrentHashMap<>();
+
+	// Incremented whenever the Tasks for the next Cycle(s) are planned
+	private volatile long cycleCounter = 0;
+
+	// Helper threads for parallel execution of Read-Tasks; created on demand
+	private ExecutorService executor = null;
+	private int executorThreads = 0;
+
 	protected ModbusWorker(AbstractModbusBridge parent) {
 		this.parent = parent;
 	}
@@ -65,33 +111,41 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		if (!this.tasksQueue.isEmpty()) {
 			return;
 		}
+		this.cycleCounter++;
 
-		// Collect the next read-tasks
-		List<ReadTask> nextReadTasks = new ArrayList<>();
-		var lowPriorityTask = this.getOneLowPriorityReadTask();
-		if (lowPriorityTask != null) {
-			nextReadTasks.add(lowPriorityTask);
-		}
-		nextReadTasks.addAll(this.getAllHighPriorityReadTasks());
-		var readTasksDuration = 0L;
-		for (ReadTask task : nextReadTasks) {
-			readTasksDuration += task.getExecuteDuration();
-		}
+		var parallelism = this.parent.getMaxConcurrentTasks();
+		var now = System.currentTimeMillis();
 
 		// collect the next write-tasks
 		var writeTasksDuration = 0L;
-		var nextWriteTasks = this.getAllWriteTasks();
+		var nextWriteTasks = this.getAllWriteTasks(now);
 		for (WriteTask task : nextWriteTasks) {
-			writeTasksDuration += task.getExecuteDuration();
+			writeTasksDuration += task.getExpectedExecuteDuration();
 		}
 
+		// Collect the next read-tasks; fill the idle time with low priority tasks
+		var highPriorityTasks = this.getAllHighPriorityReadTasks(now);
+		var idleTime = cycleTime - TASK_DURATION_BUFFER - writeTasksDuration
+				- getReadTasksDuration(highPriorityTasks, parallelism);
+		List<ReadTask> nextReadTasks = this.getLowPriorityReadTasks(idleTime, now);
+		var noOfLowPriorityTasks = nextReadTasks.size();
+		nextReadTasks.addAll(highPriorityTasks);
+		nextReadTasks = this.readTaskCoalescer.coalesce(nextReadTasks, this.parent.getReadTasksMaxGap());
+		var readTasksDuration = getReadTasksDuration(nextReadTasks, parallelism);
+
 		// plan the execution for the next cycles
 		var totalDuration = readTasksDuration + writeTasksDuration;
 		var totalDurationWithBuffer = totalDuration + TASK_DURATION_BUFFER;
 		var noOfRequiredCycles = ceilDiv(totalDurationWithBuffer, cycleTime);
 
-		// Set EXECUTION_DURATION channel
+		// Set EXECUTION_DURATION and statistics channels
 		this.parent._setExecutionDuration(totalDuration);
+		this.parent._setPlannedTasks(nextReadTasks.size() + nextWriteTasks.size());
+		this.parent._setPlannedLowPriorityTasks(noOfLowPriorityTasks);
+		this.parent._setDevicesInBackoff(this.updateDevicesInBackoff(now));
+		this.parent._setTaskDurationP50(TimeUnit.NANOSECONDS.toMillis(this.taskDurations.getPercentile(0.5)));
+		this.parent._setTaskDurationP95(TimeUnit.NANOSECONDS.toMillis(this.taskDurations.getPercentile(0.95)));
+		this.parent._setTaskDurationMax(TimeUnit.NANOSECONDS.toMillis(this.taskDurations.getMax()));
 
 		// Set CYCLE_TIME_IS_TOO_SHORT state-channel
 		if (noOfRequiredCycles > 1) {
@@ -107,7 +161,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				break;
 			}
 			noOfTasksBeforeExecuteWriteEvent++;
-			durationOfTasksBeforeExecuteWriteEvent += task.getExecuteDuration();
+			durationOfTasksBeforeExecuteWriteEvent += task.getExpectedExecuteDuration();
 		}
 
 		// Build Queue
@@ -152,6 +206,17 @@ public class ModbusWorker extends AbstractImmediateWorker {
 		}
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			if (this.executor != null) {
+				ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+				this.executor = null;
+			}
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
 		var task = this.tasksQueue.takeLast();
@@ -162,7 +227,86 @@ public class ModbusWorker extends AbstractImmediateWorker {
 			return;
 		}
 
+		var maxConcurrentTasks = this.parent.getMaxConcurrentTasks();
+		if (maxConcurrentTasks > 1 && task instanceof ReadTask) {
+			// Collect all directly following Read-Tasks
+			var readTasks = new ArrayList<Task>();
+			readTasks.add(task);
+			Task next;
+			while ((next = this.tasksQueue.peekLast()) instanceof ReadTask
+					&& this.tasksQueue.removeLastOccurrence(next)) {
+				readTasks.add(next);
+			}
+			this.executeParallel(readTasks, maxConcurrentTasks);
+			return;
+		}
+
+		this.execute(task);
+	}
+
+	/**
+	 * Executes the given Tasks grouped by Unit-ID. Groups are executed by up to
+	 * 'maxConcurrentTasks' threads - including the current thread.
+	 *
+	 * @param tasks              the Tasks in order of execution
+	 * @param maxConcurrentTasks the max number of concurrent Tasks
+	 * @throws InterruptedException on interrupt
+	 */
+	private void executeParallel(List<Task> tasks, int maxConcurrentTasks) throws InterruptedException {
+		var groups = new ConcurrentLinkedQueue<List<Task>>(groupByUnitId(tasks));
+		Runnable drain = () -> {
+			List<Task> group;
+			while ((group = groups.poll()) != null) {
+				for (Task task : group) {
+					this.execute(task);
+				}
+			}
+		};
+
+		// Start helper threads
+		var noOfHelpers = Math.min(groups.size(), maxConcurrentTasks) - 1;
+		var futures = new ArrayList<Future<?>>(noOfHelpers);
+		if (noOfHelpers > 0) {
+			var executor = this.getExecutor(maxConcurrentTasks - 1);
+			for (var i = 0; i < noOfHelpers; i++) {
+				futures.add(executor.submit(drain));
+			}
+		}
+
+		// Work on the current thread as well
+		drain.run();
+
+		for (Future<?> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				this.parent.logWarn(this.log, "Parallel execution failed: " + e.getMessage());
+			}
+		}
+	}
+
+	private synchronized ExecutorService getExecutor(int threads) {
+		if (this.executor != null && this.executorThreads != threads) {
+			// Max connections were reconfigured
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+			this.executor = null;
+		}
+		if (this.executor == null) {
+			this.executor = Executors.newFixedThreadPool(threads,
+					new ThreadFactoryBuilder().setNameFormat(this.parent.id() + ":ModbusWorker-%d").build());
+			this.executorThreads = threads;
+		}
+		return this.executor;
+	}
+
+	/**
+	 * Executes a Task and handles errors.
+	 *
+	 * @param task the Task
+	 */
+	private void execute(Task task) {
 		var modbusComponent = task.getParent();
+		var start = System.nanoTime();
 		try {
 			// execute the task
 			var noOfExecutedSubTasks = task.execute(this.parent);
@@ -172,6 +316,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 				// erroneous list and set the CommunicationFailedChannel to false
 				if (modbusComponent != null) {
 					modbusComponent._setModbusCommunicationFailed(false);
+					this.deviceStates.remove(modbusComponent.id());
 				}
 			}
 
@@ -181,30 +326,192 @@ public class ModbusWorker extends AbstractImmediateWorker {
 			// mark this component as erroneous
 			if (modbusComponent != null) {
 				modbusComponent._setModbusCommunicationFailed(true);
+				this.onFailure(modbusComponent);
 			}
 
 			// invalidate elements of this task
 			for (ModbusElement<?> element : task.getElements()) {
 				element.invalidate(this.parent);
 			}
+
+		} finally {
+			if (!(task instanceof WaitTask)) {
+				this.taskDurations.record(System.nanoTime() - start);
+			}
 		}
 	}
 
 	/**
-	 * Gets one Read-Tasks with priority Low or Once.
+	 * Applies an exponential back-off to a device after a communication error.
+	 *
+	 * <p>
+	 * Failures are counted at most once per Cycle, so that a device with many
+	 * Tasks is treated like a device with a single Task.
 	 *
-	 * @return a list of ReadTasks by Source-ID
+	 * @param modbusComponent the device
 	 */
-	private ReadTask getOneLowPriorityReadTask() {
+	private void onFailure(ModbusComponent modbusComponent) {
+		var maxBackoff = TimeUnit.SECONDS.toMillis(this.parent.getFailedDeviceMaxBackoff());
+		if (maxBackoff <= 0) {
+			// Back-off is disabled
+			return;
+		}
+		var cycleTime = this.parent.getCycle().getCycleTime();
+		var cycleCounter = this.cycleCounter;
+		this.deviceStates.compute(modbusComponent.id(), (id, state) -> {
+			if (state == null) {
+				state = new DeviceState(modbusComponent);
+			}
+			if (state.lastFailedCycle == cycleCounter) {
+				// Failure of this Cycle was already counted
+				return state;
+			}
+			state.lastFailedCycle = cycleCounter;
+			state.failures++;
+			// 1, 2, 4, 8,... Cycles
+			var backoff = Math.min(maxBackoff, (long) cycleTime << Math.min(state.failures - 1, 20));
+			state.retryAt = System.currentTimeMillis() + backoff;
+			return state;
+		});
+	}
+
+	/**
+	 * Is the device currently skipped because of communication errors?.
+	 *
+	 * @param componentId the Component-ID of the device
+	 * @param now         the current time in epoch milliseconds
+	 * @return true if Tasks of this device should not be executed
+	 */
+	private boolean isInBackoff(String componentId, long now) {
+		var state = this.deviceStates.get(componentId);
+		return state != null && state.retryAt > now;
+	}
+
+	/**
+	 * Keeps the ModbusCommunicationFailed Channel of devices in back-off active.
+	 *
+	 * @param now the current time in epoch milliseconds
+	 * @return the number of devices in back-off
+	 */
+	private int updateDevicesInBackoff(long now) {
+		var result = 0;
+		for (DeviceState state : this.deviceStates.values()) {
+			if (state.retryAt > now) {
+				state.component._setModbusCommunicationFailed(true);
+				result++;
+			}
+		}
+		return result;
+	}
+
+	private static class DeviceState {
+
+		private final ModbusComponent component;
+		private int failures = 0;
+		private long lastFailedCycle = -1;
+		private long retryAt = 0;
+
+		private DeviceState(ModbusComponent component) {
+			this.component = component;
+		}
+	}
+
+	/**
+	 * Groups Tasks by Unit-ID, keeping the order of Tasks within a group.
+	 *
+	 * @param tasks the Tasks
+	 * @return a list of groups
+	 */
+	protected static List<List<Task>> groupByUnitId(List<Task> tasks) {
+		var groups = new LinkedHashMap<Integer, List<Task>>();
+		for (Task task : tasks) {
+			groups.computeIfAbsent(getUnitId(task), k -> new ArrayList<>()).add(task);
+		}
+		return new ArrayList<>(groups.values());
+	}
+
+	private static int getUnitId(Task task) {
+		var parent = task.getParent();
+		if (parent instanceof AbstractOpenemsModbusComponent) {
+			return ((AbstractOpenemsModbusComponent) parent).getUnitId();
+		}
+		return -1;
+	}
+
+	/**
+	 * Estimates the total duration of the given Read-Tasks.
+	 *
+	 * <p>
+	 * With a parallelism greater than '1', the duration is bounded by the slowest
+	 * Unit-ID, as Tasks of one Unit-ID are executed sequentially.
+	 *
+	 * @param tasks       the Read-Tasks
+	 * @param parallelism the max number of concurrent Tasks
+	 * @return the estimated duration in [ms]
+	 */
+	protected static long getReadTasksDuration(List<ReadTask> tasks, int parallelism) {
+		var total = 0L;
+		var durationPerUnitId = new HashMap<Integer, Long>();
+		for (ReadTask task : tasks) {
+			var duration = task.getExpectedExecuteDuration();
+			total += duration;
+			durationPerUnitId.merge(getUnitId(task), duration, Long::sum);
+		}
+		if (parallelism <= 1) {
+			return total;
+		}
+		var slowestUnitId = 0L;
+		for (Long duration : durationPerUnitId.values()) {
+			slowestUnitId = Math.max(slowestUnitId, duration);
+		}
+		return Math.max(slowestUnitId, ceilDiv(total, parallelism));
+	}
+
+	/**
+	 * Gets the Read-Tasks with priority Low or Once.
+	 *
+	 * <p>
+	 * If there are Priority ONCE Tasks that have not been executed, one of them is
+	 * returned. Otherwise Priority LOW Tasks are added as long as their expected
+	 * duration fits into the given idle time - but at least one.
+	 *
+	 * @param idleTime the idle time of the Cycle in [ms]
+	 * @param now      the current time in epoch milliseconds
+	 * @return a list of ReadTasks
+	 */
+	private List<ReadTask> getLowPriorityReadTasks(long idleTime, long now) {
+		List<ReadTask> result = new ArrayList<>();
+
 		// Get next Priority ONCE task
 		var oncePriorityTask = this.readTasksManager.getOneTask(Priority.ONCE);
 		if (oncePriorityTask != null && !oncePriorityTask.hasBeenExecuted()) {
-			return oncePriorityTask;
+			if (!this.isInBackoff(oncePriorityTask.getParent().id(), now)) {
+				result.add(oncePriorityTask);
+			}
+			return result;
+		}
 
+		// No more Priority ONCE tasks available -> add Priority LOW tasks
+		var duration = 0L;
+		var seen = new HashSet<ReadTask>();
+		ReadTask task;
+		while ((task = this.readTasksManager.peekOneTask(Priority.LOW)) != null) {
+			if (!seen.add(task)) {
+				// all Priority LOW tasks were considered
+				break;
+			}
+			if (this.isInBackoff(task.getParent().id(), now)) {
+				this.readTasksManager.getOneTask(Priority.LOW);
+				continue;
+			}
+			duration += task.getExpectedExecuteDuration();
+			if (!result.isEmpty() && duration > idleTime) {
+				// keep this task for the next Cycle
+				break;
+			}
+			result.add(this.readTasksManager.getOneTask(Priority.LOW));
 		}
-		// No more Priority ONCE tasks available -> add Priority LOW task
-		var lowPriorityTask = this.readTasksManager.getOneTask(Priority.LOW);
-		return lowPriorityTask;
+		return result;
 	}
 
 	/**
@@ -214,11 +521,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * This checks if a device is listed as defective and - if it is - adds only one
 	 * ReadTask of this Source-Component to the queue
 	 *
+	 * @param now the current time in epoch milliseconds
 	 * @return a list of ReadTasks
 	 */
-	private List<ReadTask> getAllHighPriorityReadTasks() {
+	private List<ReadTask> getAllHighPriorityReadTasks(long now) {
 		var tasks = this.readTasksManager.getAllTasksBySourceId(Priority.HIGH);
-		return this.filterDefectiveComponents(tasks);
+		return this.filterDefectiveComponents(tasks, now);
 	}
 
 	/**
@@ -228,11 +536,12 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	 * This checks if a device is listed as defective and - if it is - adds only one
 	 * WriteTask of this Source-Component to the queue
 	 *
+	 * @param now the current time in epoch milliseconds
 	 * @return a list of WriteTasks by Source-ID
 	 */
-	private List<WriteTask> getAllWriteTasks() {
+	private List<WriteTask> getAllWriteTasks(long now) {
 		var tasks = this.writeTasksManager.getAllTasksBySourceId();
-		return this.filterDefectiveComponents(tasks);
+		return this.filterDefectiveComponents(tasks, now);
 	}
 
 	/**
@@ -247,19 +556,25 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	/**
 	 * Filters a Multimap with Tasks by Component-ID. For Components that are known
 	 * to be defective, only one task is added; otherwise all tasks are added to the
-	 * result. The idea is to not execute tasks that are known to fail.
+	 * result. Components in back-off are skipped completely. The idea is to not
+	 * execute tasks that are known to fail.
 	 *
 	 * @param <T>   the Task type
 	 * @param tasks Tasks by Component-ID
+	 * @param now   the current time in epoch milliseconds
 	 * @return a list of filtered tasks
 	 */
-	private <T extends Task> List<T> filterDefectiveComponents(Multimap<String, T> tasks) {
+	private <T extends Task> List<T> filterDefectiveComponents(Multimap<String, T> tasks, long now) {
 		List<T> result = new ArrayList<>();
 		for (Collection<T> tasksOfComponent : tasks.asMap().values()) {
 			var iterator = tasksOfComponent.iterator();
 			if (iterator.hasNext()) {
 				var task = iterator.next(); // get first task
 				var modbusComponent = task.getParent();
+				if (this.isInBackoff(modbusComponent.id(), now)) {
+					// Component is erroneous and waits for its next retry
+					continue;
+				}
 				if (modbusComponent.getModbusCommunicationFailed().get() == Boolean.TRUE) {
 					// Component is known to be erroneous -> add only one Task
 					result.add(task);
@@ -291,6 +606,7 @@ public class ModbusWorker extends AbstractImmediateWorker {
 	public void removeProtocol(String sourceId) {
 		this.readTasksManager.removeTasksManager(sourceId);
 		this.writeTasksManager.removeTasksManager(sourceId);
+		this.deviceStates.remove(sourceId);
 	}
 
 	/**
@@ -25,7 +25,7 @@ public abstract class AbstractTask implements Task {
 	private final ModbusElement<?>[] elements;
 	private AbstractOpenemsModbusComponent parent = null; // this is always set by ModbusProtocol.addTask()
 	private boolean hasBeenExecutedSuccessfully = false;
-	private long lastExecuteDuration = DEFAULT_EXECUTION_DURATION; // initialize to some default
+	private final RollingDuration executeDuration = new RollingDuration(DEFAULT_EXECUTION_DURATION);
 
 	public AbstractTask(int startAddress, ModbusElement<?>... elements) {
 		this.startAddress = startAddress;
@@ -88,7 +88,7 @@ public abstract class AbstractTask implements Task {
 			return noOfSubTasksExecuted;
 
 		} finally {
-			this.lastExecuteDuration = this.stopwatch.elapsed(TimeUnit.MILLISECONDS);
+			this.executeDuration.record(this.stopwatch.elapsed(TimeUnit.MILLISECONDS));
 		}
 	}
 
@@ -154,7 +154,12 @@ public abstract class AbstractTask implements Task {
 
 	@Override
 	public long getExecuteDuration() {
-		return this.lastExecuteDuration;
+		return this.executeDuration.getLast();
+	}
+
+	@Override
+	public long getExpectedExecuteDuration() {
+		return this.executeDuration.getExpected();
 	}
 
 	protected abstract String getActiondescription();
@@ -0,0 +1,243 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.ghgande.j2mod.modbus.Modbus;
+import com.ghgande.j2mod.modbus.ModbusException;
+import com.ghgande.j2mod.modbus.ModbusSlaveException;
+import com.ghgande.j2mod.modbus.msg.ModbusRequest;
+import com.ghgande.j2mod.modbus.msg.ReadInputRegistersRequest;
+import com.ghgande.j2mod.modbus.msg.ReadMultipleRegistersRequest;
+import com.ghgande.j2mod.modbus.procimg.InputRegister;
+import com.google.common.base.Stopwatch;
+
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.edge.bridge.modbus.api.AbstractModbusBridge;
+import io.openems.edge.bridge.modbus.api.AbstractOpenemsModbusComponent;
+import io.openems.edge.bridge.modbus.api.element.ModbusElement;
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Reads the registers of multiple {@link AbstractReadInputRegistersTask}s with
+ * one single request and distributes the response to the original Tasks.
+ *
+ * <p>
+ * All Tasks have the same parent, function code and {@link Priority} and are
+ * sorted by start address. Registers in gaps between the Tasks are read, but
+ * ignored. If the device rejects the combined request with an "Illegal Data
+ * Address" or "Illegal Data Value" exception response or answers with too few
+ * registers, the Tasks are executed separately; if that succeeds, the
+ * combination is reported as rejected to the {@link ReadTaskCoalescer}. Other
+ * errors, like timeouts of an offline device, fail the Task and keep the
+ * combination.
+ *
+ * <p>
+ * This Task does not take ownership of the {@link ModbusElement}s; they stay
+ * assigned to their original Task.
+ */
+public class CoalescedReadTask implements ReadTask {
+
+	private final ReadTaskCoalescer coalescer;
+	private final List<AbstractReadInputRegistersTask> tasks;
+	private final ModbusElement<?>[] elements;
+	private final int startAddress;
+	private final int length;
+	private final Stopwatch stopwatch = Stopwatch.createUnstarted();
+	private final RollingDuration executeDuration;
+
+	private boolean hasBeenExecutedSuccessfully = false;
+
+	protected CoalescedReadTask(ReadTaskCoalescer coalescer, List<AbstractReadInputRegistersTask> tasks) {
+		this.coalescer = coalescer;
+		this.tasks = tasks;
+		this.elements = tasks.stream() //
+				.flatMap(t -> Arrays.stream(t.getElements())) //
+				.toArray(ModbusElement<?>[]::new);
+		var first = tasks.get(0);
+		var last = tasks.get(tasks.size() - 1);
+		this.startAddress = first.getStartAddress();
+		this.length = last.getStartAddress() + last.getLength() - this.startAddress;
+		// Initialize with the worst case
+		this.executeDuration = new RollingDuration(tasks.stream() //
+				.mapToLong(Task::getExpectedExecuteDuration) //
+				.sum());
+	}
+
+	/**
+	 * Gets the original Tasks.
+	 *
+	 * @return the list of Tasks, sorted by start address
+	 */
+	public List<AbstractReadInputRegistersTask> getTasks() {
+		return this.tasks;
+	}
+
+	@Override
+	public ModbusElement<?>[] getElements() {
+		return this.elements;
+	}
+
+	@Override
+	public int getStartAddress() {
+		return this.startAddress;
+	}
+
+	@Override
+	public int getLength() {
+		return this.length;
+	}
+
+	@Override
+	public void setParent(AbstractOpenemsModbusComponent parent) {
+		// Parent is always the parent of the original Tasks
+	}
+
+	@Override
+	public AbstractOpenemsModbusComponent getParent() {
+		return this.tasks.get(0).getParent();
+	}
+
+	@Override
+	public Priority getPriority() {
+		return this.tasks.get(0).getPriority();
+	}
+
+	@Override
+	public void deactivate() {
+		// Elements are deactivated by the original Tasks
+	}
+
+	@Override
+	public synchronized int execute(AbstractModbusBridge bridge) throws OpenemsException {
+		this.stopwatch.reset();
+		this.stopwatch.start();
+		try {
+			InputRegister[] response;
+			try {
+				response = this.tasks.get(0).handleResponse(
+						Utils.getResponse(this.getRequest(), this.getParent().getUnitId(), bridge));
+
+			} catch (ModbusSlaveException e) {
+				if (e.isType(Modbus.ILLEGAL_ADDRESS_EXCEPTION) || e.isType(Modbus.ILLEGAL_VALUE_EXCEPTION)) {
+					// The device does not support the combined request, e.g. because of a gap
+					return this.executeSeparately(bridge, e);
+				}
+				throw this.fail(bridge, e);
+
+			} catch (OpenemsException | ModbusException e) {
+				// Probably a communication problem, e.g. a timeout; keep the combination
+				throw this.fail(bridge, e);
+			}
+
+			if (response.length < this.length) {
+				return this.executeSeparately(bridge, new OpenemsException("Received message is too short. Expected ["
+						+ this.length + "], got [" + response.length + "]"));
+			}
+
+			for (AbstractReadInputRegistersTask task : this.tasks) {
+				var offset = task.getStartAddress() - this.startAddress;
+				task.fillElements(Arrays.copyOfRange(response, offset, offset + task.getLength()));
+			}
+			this.hasBeenExecutedSuccessfully = true;
+			return this.tasks.size();
+
+		} finally {
+			this.executeDuration.record(this.stopwatch.elapsed(TimeUnit.MILLISECONDS));
+		}
+	}
+
+	/**
+	 * Fallback: executes the original Tasks one by one.
+	 *
+	 * @param bridge the Modbus-Bridge
+	 * @param cause  the error of the combined request
+	 * @return the number of executed Sub-Tasks
+	 * @throws OpenemsException if any of the original Tasks failed
+	 */
+	private int executeSeparately(AbstractModbusBridge bridge, Exception cause) throws OpenemsException {
+		var noOfExecutedSubTasks = 0;
+		OpenemsException error = null;
+		for (AbstractReadInputRegistersTask task : this.tasks) {
+			try {
+				noOfExecutedSubTasks += task.execute(bridge);
+			} catch (OpenemsException e) {
+				error = e;
+			}
+		}
+		if (error != null) {
+			// Probably a communication problem; keep the combination
+			throw error;
+		}
+
+		// Only the combined request failed -> do not combine these Tasks again
+		this.coalescer.reject(this);
+		bridge.logInfo(this.coalescer.log, this.toString() + " was rejected by the device: " + cause.getMessage()
+				+ ". Executing the original Tasks separately from now on.");
+		this.hasBeenExecutedSuccessfully = true;
+		return noOfExecutedSubTasks;
+	}
+
+	/**
+	 * Handles a failed combined request that does not indicate an unsupported
+	 * combination: invalidates the Elements of all original Tasks and closes the
+	 * connection - like a failed original Task would do.
+	 *
+	 * @param bridge the Modbus-Bridge
+	 * @param cause  the error
+	 * @return the {@link OpenemsException} to throw
+	 */
+	private OpenemsException fail(AbstractModbusBridge bridge, Exception cause) {
+		bridge.closeModbusConnection();
+		for (ModbusElement<?> element : this.elements) {
+			if (!element.isIgnored()) {
+				element.invalidate(bridge);
+			}
+		}
+		return new OpenemsException("Transaction failed: " + cause.getMessage(), cause);
+	}
+
+	private ModbusRequest getRequest() {
+		if (this.tasks.get(0) instanceof FC4ReadInputRegistersTask) {
+			return new ReadInputRegistersRequest(this.startAddress, this.length);
+		}
+		return new ReadMultipleRegistersRequest(this.startAddress, this.length);
+	}
+
+	@Override
+	public boolean hasBeenExecuted() {
+		return this.hasBeenExecutedSuccessfully;
+	}
+
+	@Override
+	public long getExecuteDuration() {
+		return this.executeDuration.getLast();
+	}
+
+	@Override
+	public long getExpectedExecuteDuration() {
+		return this.executeDuration.getExpected();
+	}
+
+	@Override
+	public String toString() {
+		var sb = new StringBuilder();
+		sb.append("Coalesced");
+		sb.append(this.tasks.get(0).getActiondescription());
+		sb.append(" [");
+		sb.append(this.getParent().id());
+		sb.append(";unitid=");
+		sb.append(this.getParent().getUnitId());
+		sb.append(";ref=");
+		sb.append(this.startAddress);
+		sb.append("/0x");
+		sb.append(Integer.toHexString(this.startAddress));
+		sb.append(";length=");
+		sb.append(this.length);
+		sb.append(";tasks=");
+		sb.append(this.tasks.size());
+		sb.append("]");
+		return sb.toString();
+	}
+}
@@ -0,0 +1,172 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.edge.common.taskmanager.Priority;
+
+/**
+ * Combines {@link FC3ReadRegistersTask}s and {@link FC4ReadInputRegistersTask}s
+ * with adjacent or nearly-adjacent register ranges to
+ * {@link CoalescedReadTask}s, so that they are read with one single request.
+ *
+ * <p>
+ * Tasks are only combined if they have the same parent, function code and
+ * {@link Priority}, if the gap between them is not larger than the given max
+ * gap and if the combined request does not exceed {@link #MAX_REGISTERS}.
+ * Combinations that are rejected by the device are remembered and not tried
+ * again.
+ */
+public class ReadTaskCoalescer {
+
+	/**
+	 * Maximum number of registers per FC3/FC4 request according to the Modbus
+	 * specification.
+	 */
+	public static final int MAX_REGISTERS = 125;
+
+	protected final Logger log = LoggerFactory.getLogger(ReadTaskCoalescer.class);
+
+	/**
+	 * Pairs of Tasks that must not be combined.
+	 */
+	private final Set<List<ReadTask>> rejected = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Cache of {@link CoalescedReadTask}s by their original Tasks; keeps the
+	 * measured execution duration between Cycles.
+	 */
+	private Map<List<AbstractReadInputRegistersTask>, CoalescedReadTask> cache = new HashMap<>();
+
+	/**
+	 * Combines the given Tasks where possible.
+	 *
+	 * @param tasks  the list of Tasks
+	 * @param maxGap the max number of unused registers between two Tasks; negative
+	 *               to disable combining
+	 * @return a list of Tasks, where combined Tasks are replaced by a
+	 *         {@link CoalescedReadTask} at the position of the first combined
+	 *         Task
+	 */
+	public synchronized List<ReadTask> coalesce(List<ReadTask> tasks, int maxGap) {
+		if (maxGap < 0 || tasks.size() < 2) {
+			return tasks;
+		}
+
+		// Group candidates by parent, function code and priority
+		var groups = new LinkedHashMap<List<Object>, List<AbstractReadInputRegistersTask>>();
+		for (ReadTask task : tasks) {
+			if ((task instanceof FC3ReadRegistersTask || task instanceof FC4ReadInputRegistersTask)
+					&& task.getParent() != null) {
+				var key = List.<Object>of(task.getParent(), task.getClass(), task.getPriority());
+				groups.computeIfAbsent(key, k -> new ArrayList<>()).add((AbstractReadInputRegistersTask) task);
+			}
+		}
+
+		// Build runs of combinable Tasks
+		var replacements = new IdentityHashMap<ReadTask, CoalescedReadTask>();
+		var cache = new HashMap<List<AbstractReadInputRegistersTask>, CoalescedReadTask>();
+		for (List<AbstractReadInputRegistersTask> group : groups.values()) {
+			if (group.size() < 2) {
+				continue;
+			}
+			group.sort(Comparator.comparingInt(Task::getStartAddress));
+			var run = new ArrayList<AbstractReadInputRegistersTask>();
+			for (AbstractReadInputRegistersTask task : group) {
+				if (!run.isEmpty() && !this.isCombinable(run, task, maxGap)) {
+					this.finishRun(run, replacements, cache);
+					run = new ArrayList<>();
+				}
+				run.add(task);
+			}
+			this.finishRun(run, replacements, cache);
+		}
+		this.cache = cache;
+		if (replacements.isEmpty()) {
+			return tasks;
+		}
+
+		// Replace original Tasks, keeping the order
+		var result = new ArrayList<ReadTask>(tasks.size());
+		var added = new IdentityHashMap<CoalescedReadTask, Boolean>();
+		for (ReadTask task : tasks) {
+			var replacement = replacements.get(task);
+			if (replacement == null) {
+				result.add(task);
+			} else if (added.put(replacement, Boolean.TRUE) == null) {
+				result.add(replacement);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Marks the given {@link CoalescedReadTask} as rejected by the device.
+	 *
+	 * <p>
+	 * If the Tasks have gaps, only combinations with gaps are excluded in
+	 * future; otherwise all combinations of the Tasks are excluded.
+	 *
+	 * @param task the {@link CoalescedReadTask}
+	 */
+	protected void reject(CoalescedReadTask task) {
+		var tasks = task.getTasks();
+		var hasGaps = false;
+		for (var i = 1; i < tasks.size(); i++) {
+			if (getGap(tasks.get(i - 1), tasks.get(i)) > 0) {
+				hasGaps = true;
+				this.rejected.add(List.of(tasks.get(i - 1), tasks.get(i)));
+			}
+		}
+		if (!hasGaps) {
+			for (var i = 1; i < tasks.size(); i++) {
+				this.rejected.add(List.of(tasks.get(i - 1), tasks.get(i)));
+			}
+		}
+	}
+
+	private boolean isCombinable(List<AbstractReadInputRegistersTask> run, AbstractReadInputRegistersTask task,
+			int maxGap) {
+		var first = run.get(0);
+		var last = run.get(run.size() - 1);
+		var gap = getGap(last, task);
+		if (gap < 0 || gap > maxGap) {
+			// overlapping or too far away
+			return false;
+		}
+		if (task.getStartAddress() + task.getLength() - first.getStartAddress() > MAX_REGISTERS) {
+			return false;
+		}
+		return !this.rejected.contains(List.of(last, task));
+	}
+
+	private void finishRun(List<AbstractReadInputRegistersTask> run, Map<ReadTask, CoalescedReadTask> replacements,
+			Map<List<AbstractReadInputRegistersTask>, CoalescedReadTask> cache) {
+		if (run.size() < 2) {
+			return;
+		}
+		var coalesced = this.cache.get(run);
+		if (coalesced == null) {
+			coalesced = new CoalescedReadTask(this, List.copyOf(run));
+		}
+		cache.put(coalesced.getTasks(), coalesced);
+		for (AbstractReadInputRegistersTask task : run) {
+			replacements.put(task, coalesced);
+		}
+	}
+
+	private static int getGap(Task previous, Task next) {
+		return next.getStartAddress() - (previous.getStartAddress() + previous.getLength());
+	}
+
+}
@@ -0,0 +1,74 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+/**
+ * Keeps rolling statistics of the execution duration of a {@link Task}.
+ *
+ * <p>
+ * Mean and mean deviation are calculated as exponentially weighted moving
+ * averages, similar to the round-trip-time estimation of TCP (RFC 6298). The
+ * expected duration is the mean plus twice the mean deviation, i.e. a
+ * conservative estimate that adapts to jitter.
+ */
+public class RollingDuration {
+
+	/**
+	 * Weight of a new measurement for the mean.
+	 */
+	private static final double ALPHA = 0.125;
+
+	/**
+	 * Weight of a new measurement for the mean deviation.
+	 */
+	private static final double BETA = 0.25;
+
+	private long last;
+	private double mean;
+	private double deviation = 0;
+	private boolean hasMeasurement = false;
+
+	/**
+	 * Creates a {@link RollingDuration}.
+	 *
+	 * @param initialDuration the duration that is assumed before the first
+	 *                        measurement in [ms]
+	 */
+	public RollingDuration(long initialDuration) {
+		this.last = initialDuration;
+		this.mean = initialDuration;
+	}
+
+	/**
+	 * Records a measured duration.
+	 *
+	 * @param duration the duration in [ms]
+	 */
+	public synchronized void record(long duration) {
+		this.last = duration;
+		if (!this.hasMeasurement) {
+			this.mean = duration;
+			this.deviation = duration / 2.;
+			this.hasMeasurement = true;
+			return;
+		}
+		this.deviation = (1 - BETA) * this.deviation + BETA * Math.abs(this.mean - duration);
+		this.mean = (1 - ALPHA) * this.mean + ALPHA * duration;
+	}
+
+	/**
+	 * Gets the last measured duration in [ms].
+	 *
+	 * @return the duration
+	 */
+	public synchronized long getLast() {
+		return this.last;
+	}
+
+	/**
+	 * Gets the expected duration in [ms].
+	 *
+	 * @return the expected duration
+	 */
+	public synchronized long getExpected() {
+		return Math.round(this.mean + 2 * this.deviation);
+	}
+}
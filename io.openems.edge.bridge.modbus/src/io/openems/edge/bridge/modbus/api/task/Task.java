@@ -76,4 +76,14 @@ public interface Task extends ManagedTask {
 	 */
 	long getExecuteDuration();
 
+	/**
+	 * Gets the expected execution duration in [ms], based on the rolling
+	 * statistics of previous executions.
+	 *
+	 * @return the duration in [ms]
+	 */
+	default long getExpectedExecuteDuration() {
+		return this.getExecuteDuration();
+	}
+
 }
\ No newline at end of file
@@ -111,6 +111,155 @@ public class BridgeModbusTcpImplTest {
 		}
 	}
 
+	@Test
+	public void testMaxConnections() throws Exception {
+		final ThrowingRunnable<Exception> sleep = () -> Thread.sleep(CYCLE_TIME);
+		final var device1Id = "device1";
+		final var unitId1 = 2;
+
+		var port = TestUtils.findRandomOpenPortOnAllLocalInterfaces();
+		ModbusSlave slave = null;
+		try {
+			/*
+			 * Open Modbus/TCP Slave with two Unit-IDs
+			 */
+			slave = ModbusSlaveFactory.createTCPSlave(port, 4);
+			var processImage0 = new SimpleProcessImage(UNIT_ID);
+			processImage0.addRegister(100, new SimpleRegister(123));
+			slave.addProcessImage(UNIT_ID, processImage0);
+			var processImage1 = new SimpleProcessImage(unitId1);
+			processImage1.addRegister(100, new SimpleRegister(456));
+			slave.addProcessImage(unitId1, processImage1);
+			slave.open();
+
+			/*
+			 * Instantiate Modbus-Bridge with parallel connections
+			 */
+			var sut = new BridgeModbusTcpImpl();
+			var device0 = new MyModbusComponent(DEVICE_ID, sut, UNIT_ID);
+			var device1 = new MyModbusComponent(device1Id, sut, unitId1);
+			new ComponentTest(sut) //
+					.addComponent(device0) //
+					.addComponent(device1) //
+					.addReference("cycle", new DummyCycle(CYCLE_TIME)) //
+					.activate(MyConfigTcp.create() //
+							.setId(MODBUS_ID) //
+							.setIp("127.0.0.1") //
+							.setPort(port) //
+							.setMaxConnections(2) //
+							.setInvalidateElementsAfterReadErrors(1) //
+							.setLogVerbosity(LogVerbosity.NONE) //
+							.build()) //
+					.next(new TestCase() //
+							.onAfterProcessImage(sleep)) //
+					.next(new TestCase() //
+							.onAfterProcessImage(sleep) //
+							.output(REGISTER_100, 123) //
+							.output(new ChannelAddress(device1Id, "Register100"), 456) //
+							.output(MODBUS_COMMUNICATION_FAILED, false)); //
+		} finally {
+			if (slave != null) {
+				slave.close();
+			}
+		}
+	}
+
+	@Test
+	public void testReadTasksMaxGap() throws Exception {
+		// Combined request
+		this.testReadTasksMaxGap(true);
+		// Combined request is rejected, so Tasks are executed separately
+		this.testReadTasksMaxGap(false);
+	}
+
+	private void testReadTasksMaxGap(boolean withRegister101) throws Exception {
+		final ThrowingRunnable<Exception> sleep = () -> Thread.sleep(CYCLE_TIME);
+		final var register102 = new ChannelAddress(DEVICE_ID, "Register102");
+
+		var port = TestUtils.findRandomOpenPortOnAllLocalInterfaces();
+		ModbusSlave slave = null;
+		try {
+			/*
+			 * Open Modbus/TCP Slave with or without Register 101
+			 */
+			slave = ModbusSlaveFactory.createTCPSlave(port, 1);
+			var processImage = new SimpleProcessImage(UNIT_ID);
+			processImage.addRegister(100, new SimpleRegister(123));
+			if (withRegister101) {
+				processImage.addRegister(101, new SimpleRegister(0));
+			}
+			processImage.addRegister(102, new SimpleRegister(456));
+			slave.addProcessImage(UNIT_ID, processImage);
+			slave.open();
+
+			/*
+			 * Instantiate Modbus-Bridge
+			 */
+			var sut = new BridgeModbusTcpImpl();
+			var device = new MyGapModbusComponent(DEVICE_ID, sut, UNIT_ID);
+			new ComponentTest(sut) //
+					.addComponent(device) //
+					.addReference("cycle", new DummyCycle(CYCLE_TIME)) //
+					.activate(MyConfigTcp.create() //
+							.setId(MODBUS_ID) //
+							.setIp("127.0.0.1") //
+							.setPort(port) //
+							.setReadTasksMaxGap(1) //
+							.setInvalidateElementsAfterReadErrors(1) //
+							.setLogVerbosity(LogVerbosity.NONE) //
+							.build()) //
+					.next(new TestCase() //
+							.onAfterProcessImage(sleep)) //
+					.next(new TestCase() //
+							.onAfterProcessImage(sleep) //
+							.output(REGISTER_100, 123) //
+							.output(register102, 456) //
+							.output(MODBUS_COMMUNICATION_FAILED, false)) //
+					.next(new TestCase() //
+							.onAfterProcessImage(sleep) //
+							.output(REGISTER_100, 123) //
+							.output(register102, 456) //
+							.output(MODBUS_COMMUNICATION_FAILED, false)); //
+		} finally {
+			if (slave != null) {
+				slave.close();
+			}
+		}
+	}
+
+	private static class MyGapModbusComponent extends DummyModbusComponent {
+
+		public MyGapModbusComponent(String id, AbstractModbusBridge bridge, int unitId) throws OpenemsException {
+			super(id, bridge, unitId, ChannelId.values());
+		}
+
+		public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+			REGISTER_100(Doc.of(OpenemsType.INTEGER)), //
+			REGISTER_102(Doc.of(OpenemsType.INTEGER)); //
+
+			private final Doc doc;
+
+			private ChannelId(Doc doc) {
+				this.doc = doc;
+			}
+
+			@Override
+			public Doc doc() {
+				return this.doc;
+			}
+		}
+
+		@Override
+		protected ModbusProtocol defineModbusProtocol() throws OpenemsException {
+			return new ModbusProtocol(this, //
+					new FC3ReadRegistersTask(100, Priority.HIGH, //
+							m(ChannelId.REGISTER_100, new UnsignedWordElement(100))), //
+					new FC3ReadRegistersTask(102, Priority.HIGH, //
+							m(ChannelId.REGISTER_102, new UnsignedWordElement(102)))); //
+		}
+
+	}
+
 	private static class MyModbusComponent extends DummyModbusComponent {
 
 		public MyModbusComponent(String id, AbstractModbusBridge bridge, int unitId) throws OpenemsException {
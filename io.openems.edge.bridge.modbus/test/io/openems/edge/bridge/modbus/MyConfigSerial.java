@@ -17,6 +17,8 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		public Parity parity;
 		public LogVerbosity logVerbosity;
 		public int invalidateElementsAfterReadErrors;
+		public int readTasksMaxGap = -1;
+		public int failedDeviceMaxBackoff = 0;
 
 		private Builder() {
 		}
@@ -61,6 +63,16 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 			return this;
 		}
 
+		public Builder setReadTasksMaxGap(int readTasksMaxGap) {
+			this.readTasksMaxGap = readTasksMaxGap;
+			return this;
+		}
+
+		public Builder setFailedDeviceMaxBackoff(int failedDeviceMaxBackoff) {
+			this.failedDeviceMaxBackoff = failedDeviceMaxBackoff;
+			return this;
+		}
+
 		public MyConfigSerial build() {
 			return new MyConfigSerial(this);
 		}
@@ -117,4 +129,14 @@ public class MyConfigSerial extends AbstractComponentConfig implements ConfigSer
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readTasksMaxGap() {
+		return this.builder.readTasksMaxGap;
+	}
+
+	@Override
+	public int failedDeviceMaxBackoff() {
+		return this.builder.failedDeviceMaxBackoff;
+	}
+
 }
\ No newline at end of file
@@ -10,8 +10,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		private String id = null;
 		public String ip;
 		public int port;
+		public int maxConnections = 1;
 		public LogVerbosity logVerbosity;
 		public int invalidateElementsAfterReadErrors;
+		public int readTasksMaxGap = -1;
+		public int failedDeviceMaxBackoff = 0;
 
 		private Builder() {
 		}
@@ -31,6 +34,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setMaxConnections(int maxConnections) {
+			this.maxConnections = maxConnections;
+			return this;
+		}
+
 		public Builder setLogVerbosity(LogVerbosity logVerbosity) {
 			this.logVerbosity = logVerbosity;
 			return this;
@@ -41,6 +49,16 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 			return this;
 		}
 
+		public Builder setReadTasksMaxGap(int readTasksMaxGap) {
+			this.readTasksMaxGap = readTasksMaxGap;
+			return this;
+		}
+
+		public Builder setFailedDeviceMaxBackoff(int failedDeviceMaxBackoff) {
+			this.failedDeviceMaxBackoff = failedDeviceMaxBackoff;
+			return this;
+		}
+
 		public MyConfigTcp build() {
 			return new MyConfigTcp(this);
 		}
@@ -72,6 +90,11 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.port;
 	}
 
+	@Override
+	public int maxConnections() {
+		return this.builder.maxConnections;
+	}
+
 	@Override
 	public LogVerbosity logVerbosity() {
 		return this.builder.logVerbosity;
@@ -82,4 +105,14 @@ public class MyConfigTcp extends AbstractComponentConfig implements ConfigTcp {
 		return this.builder.invalidateElementsAfterReadErrors;
 	}
 
+	@Override
+	public int readTasksMaxGap() {
+		return this.builder.readTasksMaxGap;
+	}
+
+	@Override
+	public int failedDeviceMaxBackoff() {
+		return this.builder.failedDeviceMaxBackoff;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package io.openems.edge.bridge.modbus.api.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class RollingDurationTest {
+
+	@Test
+	public void test() {
+		var d = new RollingDuration(300);
+		assertEquals(300, d.getLast());
+		assertEquals(300, d.getExpected());
+
+		// First measurement replaces the initial value
+		d.record(10);
+		assertEquals(10, d.getLast());
+		assertEquals(20, d.getExpected());
+
+		// Converges towards a stable duration
+		for (var i = 0; i < 100; i++) {
+			d.record(10);
+		}
+		assertEquals(10, d.getExpected());
+
+		// A single outlier raises the expected duration, but not to the outlier
+		d.record(100);
+		assertEquals(100, d.getLast());
+		var expected = d.getExpected();
+		assertTrue(expected > 10 && expected < 100);
+	}
+
+}
@@ -10,6 +10,7 @@ import io.openems.edge.common.channel.internal.AbstractReadChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.CircularTreeMap;
+import io.openems.edge.common.type.TimeseriesRingBuffer;
 import io.openems.edge.common.type.TypeUtils;
 
 /**
@@ -171,6 +172,19 @@ public interface Channel<T> {
 	// TODO this should be a ZonedDateTime
 	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues();
 
+	/**
+	 * Gets the past values for this Channel as a primitive
+	 * {@link TimeseriesRingBuffer}.
+	 *
+	 * <p>
+	 * Prefer this method over {@link #getPastValues()} on hot paths: it allows
+	 * aggregating past values without allocation.
+	 *
+	 * @return the {@link TimeseriesRingBuffer}; null if the {@link OpenemsType} of
+	 *         the Channel is not numeric or boolean
+	 */
+	public TimeseriesRingBuffer getPastValuesBuffer();
+
 	/**
 	 * Add an onUpdate callback. It is called, after the active value was updated by
 	 * nextProcessImage().
@@ -201,6 +215,38 @@ public interface Channel<T> {
 	 */
 	public void removeOnChangeCallback(BiConsumer<?, ?> callback);
 
+	/**
+	 * Does nextProcessImage() call any onUpdate- or onChange-Callbacks of this
+	 * Channel?
+	 *
+	 * @return true if callbacks are registered
+	 */
+	public boolean hasProcessImageCallbacks();
+
+	/**
+	 * Gets the change sequence of the last time a new, different active value was
+	 * set by nextProcessImage(). The sequence is shared by all Channels and
+	 * strictly increasing.
+	 *
+	 * <p>
+	 * Compare it with a previously stored {@link #getCurrentChangeSequence()} to
+	 * find out if the value of this Channel has changed since then, without
+	 * registering onChange callbacks or comparing values.
+	 *
+	 * @return the change sequence
+	 */
+	public long getLastChangeSequence();
+
+	/**
+	 * Gets the latest change sequence of all Channels.
+	 *
+	 * @see #getLastChangeSequence()
+	 * @return the current change sequence
+	 */
+	public static long getCurrentChangeSequence() {
+		return AbstractReadChannel.getCurrentChangeSequence();
+	}
+
 	/**
 	 * Deactivates the Channel and makes sure all callbacks are released for garbe
 	 * collection to avoid memory-leaks.
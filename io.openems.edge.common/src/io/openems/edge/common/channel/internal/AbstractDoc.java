@@ -153,6 +153,33 @@ public abstract class AbstractDoc<T> implements Doc {
 		return this.debug;
 	}
 
+	/*
+	 * Primitive Process-Image
+	 */
+	private boolean primitiveProcessImage = false;
+
+	/**
+	 * Stores the values of the Channel in a {@link PrimitiveProcessImage} instead
+	 * of allocating a new {@link io.openems.edge.common.channel.value.Value} on
+	 * every update. Only applicable for numeric and boolean Channels; ignored
+	 * otherwise.
+	 *
+	 * @return myself
+	 */
+	public AbstractDoc<T> primitiveProcessImage() {
+		this.primitiveProcessImage = true;
+		return this.self();
+	}
+
+	/**
+	 * Is the {@link PrimitiveProcessImage} storage mode activated?.
+	 *
+	 * @return true if activated
+	 */
+	public boolean isPrimitiveProcessImage() {
+		return this.primitiveProcessImage;
+	}
+
 	/*
 	 * On Channel initialization Callback
 	 */
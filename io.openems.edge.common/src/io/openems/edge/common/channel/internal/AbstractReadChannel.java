@@ -1,15 +1,19 @@
 package io.openems.edge.common.channel.internal;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.types.ChannelAddress;
@@ -20,9 +24,25 @@ import io.openems.edge.common.channel.WriteChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.type.CircularTreeMap;
+import io.openems.edge.common.type.TimeseriesRingBuffer;
+import io.openems.edge.common.type.TypeUtils;
 
 public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implements Channel<T> {
 
+	/**
+	 * The change sequence shared by all Channels.
+	 */
+	private static final AtomicLong CHANGE_SEQUENCE = new AtomicLong();
+
+	/**
+	 * Gets the latest change sequence of all Channels.
+	 *
+	 * @return the current change sequence
+	 */
+	public static long getCurrentChangeSequence() {
+		return CHANGE_SEQUENCE.get();
+	}
+
 	private final Logger log = LoggerFactory.getLogger(AbstractReadChannel.class);
 
 	protected final OpenemsComponent parent;
@@ -33,10 +53,32 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	private final List<Consumer<Value<T>>> onUpdateCallbacks = new CopyOnWriteArrayList<>();
 	private final List<Consumer<Value<T>>> onSetNextValueCallbacks = new CopyOnWriteArrayList<>();
 	private final List<BiConsumer<Value<T>, Value<T>>> onChangeCallbacks = new CopyOnWriteArrayList<>();
-	private final CircularTreeMap<LocalDateTime, Value<T>> pastValues = new CircularTreeMap<>(NO_OF_PAST_VALUES);
+
+	/**
+	 * Holds the past values for numeric and boolean Channels; null otherwise.
+	 */
+	private final TimeseriesRingBuffer pastValuesBuffer;
+
+	/**
+	 * Holds the past values for Channels without 'pastValuesBuffer'; otherwise
+	 * this is a lazily created legacy view on the 'pastValuesBuffer'.
+	 */
+	private CircularTreeMap<LocalDateTime, Value<T>> pastValues = null;
+	private long pastValuesVersion = -1;
 
 	private volatile Value<T> nextValue = null;
+	private volatile long nextValueTimestamp = 0;
 	private volatile Value<T> activeValue = null;
+	private volatile long lastChangeSequence = CHANGE_SEQUENCE.incrementAndGet();
+
+	/**
+	 * Holds the values if {@link AbstractDoc#isPrimitiveProcessImage()} is set;
+	 * null otherwise. In this mode 'nextValue' and 'activeValue' are only lazily
+	 * created caches for legacy callers.
+	 */
+	private final PrimitiveProcessImage primitiveImage;
+	private long nextValueVersion = -1;
+	private long activeValueVersion = -1;
 
 	protected AbstractReadChannel(OpenemsType type, OpenemsComponent parent, ChannelId channelId, D channelDoc) {
 		this.type = type;
@@ -45,6 +87,17 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.channelDoc = channelDoc;
 		this.nextValue = new Value<>(this, null);
 		this.activeValue = new Value<>(this, null);
+		if (channelDoc.isPrimitiveProcessImage() && PrimitiveProcessImage.isSupported(type)) {
+			this.primitiveImage = new PrimitiveProcessImage(type);
+		} else {
+			this.primitiveImage = null;
+		}
+		if (PrimitiveProcessImage.isSupported(type)) {
+			this.pastValuesBuffer = new TimeseriesRingBuffer(NO_OF_PAST_VALUES);
+		} else {
+			this.pastValuesBuffer = null;
+			this.pastValues = new CircularTreeMap<>(NO_OF_PAST_VALUES);
+		}
 
 		// validate Type
 		if (!this.validateType(channelDoc.getType(), type)) {
@@ -99,7 +152,12 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public void nextProcessImage() {
+		if (this.primitiveImage != null) {
+			this.nextPrimitiveProcessImage();
+			return;
+		}
 		var oldValue = this.activeValue;
+		var timestamp = this.nextValueTimestamp;
 		final boolean valueHasChanged;
 		if (oldValue == null && this.nextValue == null) {
 			valueHasChanged = false;
@@ -109,11 +167,55 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 			valueHasChanged = !Objects.equals(oldValue.get(), this.nextValue.get());
 		}
 		this.activeValue = this.nextValue;
+		if (valueHasChanged) {
+			this.lastChangeSequence = CHANGE_SEQUENCE.incrementAndGet();
+		}
 		this.onUpdateCallbacks.forEach(callback -> callback.accept(this.activeValue));
 		if (valueHasChanged) {
 			this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, this.activeValue));
 		}
-		this.pastValues.put(this.activeValue.getTimestamp(), this.activeValue);
+		if (this.pastValuesBuffer != null) {
+			var value = this.activeValue.get();
+			if (value instanceof Number) {
+				this.pastValuesBuffer.add(timestamp, ((Number) value).doubleValue());
+			} else if (value instanceof Boolean) {
+				this.pastValuesBuffer.add(timestamp, (Boolean) value ? 1. : 0.);
+			} else {
+				this.pastValuesBuffer.addUndefined(timestamp);
+			}
+		} else {
+			this.pastValues.put(this.activeValue.getTimestamp(), this.activeValue);
+		}
+	}
+
+	/**
+	 * Switches the {@link PrimitiveProcessImage}. {@link Value} objects are only
+	 * created if required by registered callbacks.
+	 */
+	private void nextPrimitiveProcessImage() {
+		final var oldValue = this.onChangeCallbacks.isEmpty() ? null : this.getActiveValue();
+		final var valueHasChanged = this.primitiveImage.switchImage();
+		if (valueHasChanged) {
+			this.lastChangeSequence = CHANGE_SEQUENCE.incrementAndGet();
+		}
+		if (!this.onUpdateCallbacks.isEmpty() || valueHasChanged && !this.onChangeCallbacks.isEmpty()) {
+			final var activeValue = this.getActiveValue();
+			this.onUpdateCallbacks.forEach(callback -> callback.accept(activeValue));
+			if (valueHasChanged) {
+				this.onChangeCallbacks.forEach(callback -> callback.accept(oldValue, activeValue));
+			}
+		}
+		var timestamp = this.primitiveImage.getActiveTimestamp();
+		if (this.primitiveImage.isActiveDefined()) {
+			this.pastValuesBuffer.add(timestamp, this.primitiveImage.getActiveAsDouble(0));
+		} else {
+			this.pastValuesBuffer.addUndefined(timestamp);
+		}
+	}
+
+	@Override
+	public long getLastChangeSequence() {
+		return this.lastChangeSequence;
 	}
 
 	@Override
@@ -134,7 +236,17 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	@Override
 	@Deprecated
 	public void _setNextValue(T value) {
-		this.nextValue = new Value<>(this, value);
+		if (this.primitiveImage != null) {
+			this.primitiveImage.setNext(value, System.currentTimeMillis());
+			if (this.channelDoc.isDebug() || !this.onSetNextValueCallbacks.isEmpty()) {
+				this.nextValue = this.getNextValue();
+			} else {
+				return;
+			}
+		} else {
+			this.nextValue = new Value<>(this, value);
+			this.nextValueTimestamp = System.currentTimeMillis();
+		}
 		if (this.channelDoc.isDebug()) {
 			this.log.info("Next value for [" + this.address() + "]: " + this.nextValue.asString());
 		}
@@ -143,6 +255,16 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 
 	@Override
 	public Value<T> getNextValue() {
+		if (this.primitiveImage != null) {
+			synchronized (this.primitiveImage) {
+				var version = this.primitiveImage.getNextVersion();
+				if (version != this.nextValueVersion) {
+					this.nextValue = this.toValue(this.primitiveImage.getNextAsObject(),
+							this.primitiveImage.getNextTimestamp());
+					this.nextValueVersion = version;
+				}
+			}
+		}
 		return this.nextValue;
 	}
 
@@ -155,15 +277,159 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		case READ_WRITE:
 			break;
 		}
+		return this.getActiveValue();
+	}
+
+	/**
+	 * Gets the active value without validating the {@link AccessMode}. In
+	 * {@link PrimitiveProcessImage} storage mode the {@link Value} is lazily
+	 * created and cached until the next process image switch.
+	 *
+	 * @return the active value
+	 */
+	private Value<T> getActiveValue() {
+		if (this.primitiveImage != null) {
+			synchronized (this.primitiveImage) {
+				var version = this.primitiveImage.getActiveVersion();
+				if (version != this.activeValueVersion) {
+					this.activeValue = this.toValue(this.primitiveImage.getActiveAsObject(),
+							this.primitiveImage.getActiveTimestamp());
+					this.activeValueVersion = version;
+				}
+			}
+		}
 		return this.activeValue;
 	}
 
+	/**
+	 * Sets the next value from a primitive long without allocation if the
+	 * {@link PrimitiveProcessImage} storage mode is activated.
+	 *
+	 * @param value the next value
+	 */
+	public void setNextPrimitiveValue(long value) {
+		if (this.primitiveImage != null && this.isAllocationFreeSet()) {
+			this.primitiveImage.setNext(value, System.currentTimeMillis());
+		} else {
+			this.setNextValue(value);
+		}
+	}
+
+	/**
+	 * Sets the next value from a primitive double without allocation if the
+	 * {@link PrimitiveProcessImage} storage mode is activated.
+	 *
+	 * @param value the next value
+	 */
+	public void setNextPrimitiveValue(double value) {
+		if (this.primitiveImage != null && this.isAllocationFreeSet()) {
+			this.primitiveImage.setNext(value, System.currentTimeMillis());
+		} else {
+			this.setNextValue(value);
+		}
+	}
+
+	/**
+	 * Sets the next value from a primitive boolean without allocation if the
+	 * {@link PrimitiveProcessImage} storage mode is activated.
+	 *
+	 * @param value the next value
+	 */
+	public void setNextPrimitiveValue(boolean value) {
+		if (this.primitiveImage != null && this.isAllocationFreeSet()) {
+			this.primitiveImage.setNext(value, System.currentTimeMillis());
+		} else {
+			this.setNextValue(value);
+		}
+	}
+
+	/**
+	 * Is the active value defined?.
+	 *
+	 * @return true if the value is defined; false if it is UNDEFINED
+	 */
+	public boolean isPrimitiveValueDefined() {
+		if (this.primitiveImage != null) {
+			return this.primitiveImage.isActiveDefined();
+		}
+		return this.getActiveValue().isDefined();
+	}
+
+	/**
+	 * Gets the active value as long or the given alternative if it is UNDEFINED.
+	 * Does not allocate if the {@link PrimitiveProcessImage} storage mode is
+	 * activated.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public long getPrimitiveValueAsLong(long orElse) {
+		if (this.primitiveImage != null) {
+			return this.primitiveImage.getActiveAsLong(orElse);
+		}
+		var value = this.getActiveValue().get();
+		if (value instanceof Number) {
+			return ((Number) value).longValue();
+		} else if (value instanceof Boolean) {
+			return (Boolean) value ? 1L : 0L;
+		}
+		return orElse;
+	}
+
+	/**
+	 * Gets the active value as double or the given alternative if it is
+	 * UNDEFINED. Does not allocate if the {@link PrimitiveProcessImage} storage
+	 * mode is activated.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public double getPrimitiveValueAsDouble(double orElse) {
+		if (this.primitiveImage != null) {
+			return this.primitiveImage.getActiveAsDouble(orElse);
+		}
+		var value = this.getActiveValue().get();
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue();
+		} else if (value instanceof Boolean) {
+			return (Boolean) value ? 1. : 0.;
+		}
+		return orElse;
+	}
+
+	/**
+	 * Gets the {@link PrimitiveProcessImage} of this Channel.
+	 *
+	 * @return the {@link PrimitiveProcessImage}; null if the storage mode is not
+	 *         activated
+	 */
+	public PrimitiveProcessImage getPrimitiveProcessImage() {
+		return this.primitiveImage;
+	}
+
+	/**
+	 * Setting a value can skip the legacy {@link #_setNextValue(Object)} path if
+	 * neither debug logging nor onSetNextValue-Callbacks require a {@link Value}.
+	 *
+	 * @return true if allocation free setting is possible
+	 */
+	private boolean isAllocationFreeSet() {
+		return !this.channelDoc.isDebug() && this.onSetNextValueCallbacks.isEmpty();
+	}
+
+	private Value<T> toValue(Object value, long timestamp) {
+		@SuppressWarnings("unchecked")
+		var typedValue = (T) value;
+		return new Value<>(this, typedValue,
+				LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()));
+	}
+
 	@Override
 	public String toString() {
 		return "Channel [" //
 				+ "ID=" + this.channelId.id() + ", " //
 				+ "type=" + this.type + ", " //
-				+ "activeValue=" + this.activeValue.asString() + ", "//
+				+ "activeValue=" + this.getActiveValue().asString() + ", "//
 				+ "access=" + this.channelDoc.getAccessMode() //
 				+ "]";
 	}
@@ -201,6 +467,11 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 		this.onChangeCallbacks.remove(callback);
 	}
 
+	@Override
+	public boolean hasProcessImageCallbacks() {
+		return !this.onUpdateCallbacks.isEmpty() || !this.onChangeCallbacks.isEmpty();
+	}
+
 	/*
 	 * This is to help WriteChannels implement the WriteChannel interface.
 	 * 'onSetNextWriteCallbacks' is not final by purpose, because it might be called
@@ -258,7 +529,35 @@ public abstract class AbstractReadChannel<D extends AbstractDoc<T>, T> implement
 	 */
 	@Override
 	public CircularTreeMap<LocalDateTime, Value<T>> getPastValues() {
-		return this.pastValues;
+		if (this.pastValuesBuffer == null) {
+			return this.pastValues;
+		}
+		// Create legacy view on the TimeseriesRingBuffer if it changed since last call
+		synchronized (this.pastValuesBuffer) {
+			var version = this.pastValuesBuffer.version();
+			if (version != this.pastValuesVersion) {
+				var result = new CircularTreeMap<LocalDateTime, Value<T>>(NO_OF_PAST_VALUES);
+				for (var i = 0; i < this.pastValuesBuffer.size(); i++) {
+					var timestamp = this.pastValuesBuffer.getTimestamp(i);
+					final Object value;
+					if (this.pastValuesBuffer.isDefined(i)) {
+						value = TypeUtils.getAsType(this.type, this.pastValuesBuffer.getValue(i));
+					} else {
+						value = null;
+					}
+					var v = this.toValue(value, timestamp);
+					result.put(v.getTimestamp(), v);
+				}
+				this.pastValues = result;
+				this.pastValuesVersion = version;
+			}
+			return this.pastValues;
+		}
+	}
+
+	@Override
+	public TimeseriesRingBuffer getPastValuesBuffer() {
+		return this.pastValuesBuffer;
 	}
 
 	/**
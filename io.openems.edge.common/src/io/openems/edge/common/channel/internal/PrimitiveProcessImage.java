@@ -0,0 +1,415 @@
+package io.openems.edge.common.channel.internal;
+
+import io.openems.common.types.OpenemsType;
+
+/**
+ * Holds the 'next' and the 'active' value of a numeric or boolean
+ * {@link AbstractReadChannel} in primitive arrays.
+ *
+ * <p>
+ * Setting, switching and reading values does not allocate any objects. Values
+ * of type {@link OpenemsType#BOOLEAN}, {@link OpenemsType#SHORT},
+ * {@link OpenemsType#INTEGER} and {@link OpenemsType#LONG} are stored in a
+ * long-array; {@link OpenemsType#FLOAT} and {@link OpenemsType#DOUBLE} are
+ * stored in a double-array. Validity of each slot is tracked in a bitset; the
+ * timestamp is stored as epoch milliseconds.
+ *
+ * <p>
+ * The 'next' and 'active' slots are swapped on {@link #switchImage()}, i.e.
+ * the former 'next' value becomes the 'active' value and the 'next' value is
+ * kept, exactly like the legacy {@link AbstractReadChannel} behaviour.
+ */
+public final class PrimitiveProcessImage {
+
+	private static final int SLOTS = 2;
+
+	private final OpenemsType type;
+	private final boolean isFloatingPoint;
+	private final long[] longValues;
+	private final double[] doubleValues;
+	private final long[] timestamps = new long[SLOTS];
+
+	/**
+	 * Validity bitset; bit 'n' is set if slot 'n' holds a defined value.
+	 */
+	private int valid = 0;
+
+	/**
+	 * Index of the 'next' slot; the 'active' slot is always the other one.
+	 */
+	private int next = 0;
+
+	/**
+	 * Incremented on every write to the 'next' slot.
+	 */
+	private long nextVersion = 0;
+
+	/**
+	 * Incremented on every {@link #switchImage()}.
+	 */
+	private long activeVersion = 0;
+
+	/**
+	 * Checks whether values of the given {@link OpenemsType} can be stored in a
+	 * {@link PrimitiveProcessImage}.
+	 *
+	 * @param type the {@link OpenemsType}
+	 * @return true if supported
+	 */
+	public static boolean isSupported(OpenemsType type) {
+		switch (type) {
+		case BOOLEAN:
+		case SHORT:
+		case INTEGER:
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+			return true;
+		case STRING:
+			return false;
+		}
+		return false;
+	}
+
+	public PrimitiveProcessImage(OpenemsType type) {
+		if (!isSupported(type)) {
+			throw new IllegalArgumentException("OpenemsType [" + type + "] is not supported by PrimitiveProcessImage");
+		}
+		this.type = type;
+		this.isFloatingPoint = type == OpenemsType.FLOAT || type == OpenemsType.DOUBLE;
+		if (this.isFloatingPoint) {
+			this.longValues = null;
+			this.doubleValues = new double[SLOTS];
+		} else {
+			this.longValues = new long[SLOTS];
+			this.doubleValues = null;
+		}
+	}
+
+	/**
+	 * Gets the {@link OpenemsType} of the stored values.
+	 *
+	 * @return the {@link OpenemsType}
+	 */
+	public OpenemsType getType() {
+		return this.type;
+	}
+
+	/**
+	 * Sets the 'next' value from a long.
+	 *
+	 * @param value     the value
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void setNext(long value, long timestamp) {
+		if (this.isFloatingPoint) {
+			this.doubleValues[this.next] = value;
+		} else {
+			this.longValues[this.next] = this.normalize(value);
+		}
+		this.markNext(true, timestamp);
+	}
+
+	/**
+	 * Sets the 'next' value from a double.
+	 *
+	 * @param value     the value
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void setNext(double value, long timestamp) {
+		if (this.isFloatingPoint) {
+			this.doubleValues[this.next] = this.type == OpenemsType.FLOAT ? (float) value : value;
+		} else {
+			this.longValues[this.next] = this.normalize(Math.round(value));
+		}
+		this.markNext(true, timestamp);
+	}
+
+	/**
+	 * Sets the 'next' value from a boolean.
+	 *
+	 * @param value     the value
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void setNext(boolean value, long timestamp) {
+		this.setNext(value ? 1L : 0L, timestamp);
+	}
+
+	/**
+	 * Sets the 'next' value from an Object that was already converted to the
+	 * {@link OpenemsType} of this process image; null is UNDEFINED.
+	 *
+	 * @param value     the value or null
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void setNext(Object value, long timestamp) {
+		if (value == null) {
+			this.setNextUndefined(timestamp);
+		} else if (value instanceof Boolean) {
+			this.setNext(((Boolean) value).booleanValue(), timestamp);
+		} else if (value instanceof Float || value instanceof Double) {
+			this.setNext(((Number) value).doubleValue(), timestamp);
+		} else if (value instanceof Number) {
+			this.setNext(((Number) value).longValue(), timestamp);
+		} else {
+			throw new IllegalArgumentException("Value [" + value + "] of type [" + value.getClass().getSimpleName()
+					+ "] cannot be stored as [" + this.type + "]");
+		}
+	}
+
+	/**
+	 * Sets the 'next' value to UNDEFINED.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void setNextUndefined(long timestamp) {
+		if (this.isFloatingPoint) {
+			this.doubleValues[this.next] = 0;
+		} else {
+			this.longValues[this.next] = 0;
+		}
+		this.markNext(false, timestamp);
+	}
+
+	/**
+	 * Switches the process image: copies the 'next' value to the 'active' value.
+	 *
+	 * @return true if the 'active' value has changed
+	 */
+	public synchronized boolean switchImage() {
+		final var active = this.next;
+		final var inactive = 1 - this.next;
+		final var wasValid = this.isValid(inactive);
+		final var isValid = this.isValid(active);
+		final boolean hasChanged;
+		if (wasValid != isValid) {
+			hasChanged = true;
+		} else if (!isValid) {
+			hasChanged = false;
+		} else if (this.isFloatingPoint) {
+			hasChanged = Double.doubleToLongBits(this.doubleValues[active]) != Double
+					.doubleToLongBits(this.doubleValues[inactive]);
+		} else {
+			hasChanged = this.longValues[active] != this.longValues[inactive];
+		}
+
+		// Swap slots and keep a copy of the new 'active' value as 'next' value
+		this.next = inactive;
+		if (this.isFloatingPoint) {
+			this.doubleValues[inactive] = this.doubleValues[active];
+		} else {
+			this.longValues[inactive] = this.longValues[active];
+		}
+		this.timestamps[inactive] = this.timestamps[active];
+		this.setValid(inactive, isValid);
+		this.activeVersion++;
+		return hasChanged;
+	}
+
+	/**
+	 * Is the 'next' value defined?.
+	 *
+	 * @return true if defined
+	 */
+	public synchronized boolean isNextDefined() {
+		return this.isValid(this.next);
+	}
+
+	/**
+	 * Is the 'active' value defined?.
+	 *
+	 * @return true if defined
+	 */
+	public synchronized boolean isActiveDefined() {
+		return this.isValid(1 - this.next);
+	}
+
+	/**
+	 * Gets the 'next' value as long or the given alternative if it is UNDEFINED.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public synchronized long getNextAsLong(long orElse) {
+		return this.getAsLong(this.next, orElse);
+	}
+
+	/**
+	 * Gets the 'active' value as long or the given alternative if it is UNDEFINED.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public synchronized long getActiveAsLong(long orElse) {
+		return this.getAsLong(1 - this.next, orElse);
+	}
+
+	/**
+	 * Gets the 'next' value as double or the given alternative if it is
+	 * UNDEFINED.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public synchronized double getNextAsDouble(double orElse) {
+		return this.getAsDouble(this.next, orElse);
+	}
+
+	/**
+	 * Gets the 'active' value as double or the given alternative if it is
+	 * UNDEFINED.
+	 *
+	 * @param orElse the alternative value
+	 * @return the value
+	 */
+	public synchronized double getActiveAsDouble(double orElse) {
+		return this.getAsDouble(1 - this.next, orElse);
+	}
+
+	/**
+	 * Gets the timestamp of the 'next' value in epoch milliseconds.
+	 *
+	 * @return the timestamp
+	 */
+	public synchronized long getNextTimestamp() {
+		return this.timestamps[this.next];
+	}
+
+	/**
+	 * Gets the timestamp of the 'active' value in epoch milliseconds.
+	 *
+	 * @return the timestamp
+	 */
+	public synchronized long getActiveTimestamp() {
+		return this.timestamps[1 - this.next];
+	}
+
+	/**
+	 * Gets a counter that is incremented on every write to the 'next' value.
+	 *
+	 * <p>
+	 * Can be used to cache objects that are lazily created from the 'next' value.
+	 *
+	 * @return the version counter
+	 */
+	public synchronized long getNextVersion() {
+		return this.nextVersion;
+	}
+
+	/**
+	 * Gets a counter that is incremented on every {@link #switchImage()}.
+	 *
+	 * <p>
+	 * Can be used to cache objects that are lazily created from the 'active'
+	 * value.
+	 *
+	 * @return the version counter
+	 */
+	public synchronized long getActiveVersion() {
+		return this.activeVersion;
+	}
+
+	/**
+	 * Gets the 'next' value boxed as the {@link OpenemsType} of this process
+	 * image; null if UNDEFINED. Allocates; use only for legacy callers.
+	 *
+	 * @return the boxed value
+	 */
+	public synchronized Object getNextAsObject() {
+		return this.getAsObject(this.next);
+	}
+
+	/**
+	 * Gets the 'active' value boxed as the {@link OpenemsType} of this process
+	 * image; null if UNDEFINED. Allocates; use only for legacy callers.
+	 *
+	 * @return the boxed value
+	 */
+	public synchronized Object getActiveAsObject() {
+		return this.getAsObject(1 - this.next);
+	}
+
+	private void markNext(boolean isValid, long timestamp) {
+		this.setValid(this.next, isValid);
+		this.timestamps[this.next] = timestamp;
+		this.nextVersion++;
+	}
+
+	private boolean isValid(int slot) {
+		return (this.valid & 1 << slot) != 0;
+	}
+
+	private void setValid(int slot, boolean isValid) {
+		if (isValid) {
+			this.valid |= 1 << slot;
+		} else {
+			this.valid &= ~(1 << slot);
+		}
+	}
+
+	/**
+	 * Applies the value range of the integral {@link OpenemsType}.
+	 *
+	 * @param value the value
+	 * @return the normalized value
+	 */
+	private long normalize(long value) {
+		switch (this.type) {
+		case BOOLEAN:
+			return value == 0 ? 0L : 1L;
+		case SHORT:
+			return (short) value;
+		case INTEGER:
+			return (int) value;
+		case LONG:
+		case FLOAT:
+		case DOUBLE:
+		case STRING:
+			break;
+		}
+		return value;
+	}
+
+	private long getAsLong(int slot, long orElse) {
+		if (!this.isValid(slot)) {
+			return orElse;
+		}
+		if (this.isFloatingPoint) {
+			return Math.round(this.doubleValues[slot]);
+		}
+		return this.longValues[slot];
+	}
+
+	private double getAsDouble(int slot, double orElse) {
+		if (!this.isValid(slot)) {
+			return orElse;
+		}
+		if (this.isFloatingPoint) {
+			return this.doubleValues[slot];
+		}
+		return this.longValues[slot];
+	}
+
+	private Object getAsObject(int slot) {
+		if (!this.isValid(slot)) {
+			return null;
+		}
+		switch (this.type) {
+		case BOOLEAN:
+			return this.longValues[slot] != 0;
+		case SHORT:
+			return (short) this.longValues[slot];
+		case INTEGER:
+			return (int) this.longValues[slot];
+		case LONG:
+			return this.longValues[slot];
+		case FLOAT:
+			return (float) this.doubleValues[slot];
+		case DOUBLE:
+			return this.doubleValues[slot];
+		case STRING:
+			break;
+		}
+		return null;
+	}
+}
@@ -35,7 +35,60 @@ public interface Cycle extends OpenemsComponent {
 		 * <li>Type: State
 		 * </ul>
 		 */
-		IGNORE_DISABLED_CONTROLLER(Doc.of(Level.INFO));
+		IGNORE_DISABLED_CONTROLLER(Doc.of(Level.INFO)), //
+		/**
+		 * Duration of the BEFORE_PROCESS_IMAGE event handling in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DURATION_BEFORE_PROCESS_IMAGE(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Duration of the process image switch of all Components, including Sum
+		 * in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DURATION_PROCESS_IMAGE(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Duration of the AFTER_PROCESS_IMAGE and BEFORE_CONTROLLERS event
+		 * handling in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DURATION_AFTER_PROCESS_IMAGE(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Duration of executing all Schedulers and their Controllers in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DURATION_CONTROLLERS(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Duration of the AFTER_CONTROLLERS, BEFORE_WRITE, EXECUTE_WRITE and
+		 * AFTER_WRITE event handling in [ms].
+		 *
+		 * <ul>
+		 * <li>Interface: Cycle
+		 * <li>Type: Long
+		 * </ul>
+		 */
+		DURATION_WRITE(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
 
@@ -117,6 +170,200 @@ public interface Cycle extends OpenemsComponent {
 		this.getIgnoreDisabledControllerChannel().setNextValue(value);
 	}
 
+	/**
+	 * Gets the Channel for {@link ChannelId#DURATION_BEFORE_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDurationBeforeProcessImageChannel() {
+		return this.channel(ChannelId.DURATION_BEFORE_PROCESS_IMAGE);
+	}
+
+	/**
+	 * Gets the Duration Before Process Image. See
+	 * {@link ChannelId#DURATION_BEFORE_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDurationBeforeProcessImage() {
+		return this.getDurationBeforeProcessImageChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_BEFORE_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationBeforeProcessImage(Long value) {
+		this.getDurationBeforeProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_BEFORE_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationBeforeProcessImage(long value) {
+		this.getDurationBeforeProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DURATION_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDurationProcessImageChannel() {
+		return this.channel(ChannelId.DURATION_PROCESS_IMAGE);
+	}
+
+	/**
+	 * Gets the Duration Process Image. See
+	 * {@link ChannelId#DURATION_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDurationProcessImage() {
+		return this.getDurationProcessImageChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationProcessImage(Long value) {
+		this.getDurationProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationProcessImage(long value) {
+		this.getDurationProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DURATION_AFTER_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDurationAfterProcessImageChannel() {
+		return this.channel(ChannelId.DURATION_AFTER_PROCESS_IMAGE);
+	}
+
+	/**
+	 * Gets the Duration After Process Image. See
+	 * {@link ChannelId#DURATION_AFTER_PROCESS_IMAGE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDurationAfterProcessImage() {
+		return this.getDurationAfterProcessImageChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_AFTER_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationAfterProcessImage(Long value) {
+		this.getDurationAfterProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_AFTER_PROCESS_IMAGE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationAfterProcessImage(long value) {
+		this.getDurationAfterProcessImageChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DURATION_CONTROLLERS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDurationControllersChannel() {
+		return this.channel(ChannelId.DURATION_CONTROLLERS);
+	}
+
+	/**
+	 * Gets the Duration Controllers. See
+	 * {@link ChannelId#DURATION_CONTROLLERS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDurationControllers() {
+		return this.getDurationControllersChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_CONTROLLERS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationControllers(Long value) {
+		this.getDurationControllersChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_CONTROLLERS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationControllers(long value) {
+		this.getDurationControllersChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#DURATION_WRITE}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getDurationWriteChannel() {
+		return this.channel(ChannelId.DURATION_WRITE);
+	}
+
+	/**
+	 * Gets the Duration Write. See {@link ChannelId#DURATION_WRITE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getDurationWrite() {
+		return this.getDurationWriteChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_WRITE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationWrite(Long value) {
+		this.getDurationWriteChannel().setNextValue(value);
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#DURATION_WRITE} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setDurationWrite(long value) {
+		this.getDurationWriteChannel().setNextValue(value);
+	}
+
 	/**
 	 * Gets the duration of one global OpenEMS Cycle in [ms].
 	 *
@@ -37,7 +37,8 @@ public interface Sum extends OpenemsComponent {
 		ESS_SOC(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.PERCENT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Range 0..100")), //
+				.text("Range 0..100") //
+				.primitiveProcessImage()), //
 		/**
 		 * Ess: Active Power.
 		 *
@@ -53,7 +54,8 @@ public interface Sum extends OpenemsComponent {
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("AC-side power of Energy Storage System. " //
 						+ "Includes excess DC-PV production for hybrid inverters. " //
-						+ "Negative values for charge; positive for discharge")),
+						+ "Negative values for charge; positive for discharge") //
+				.primitiveProcessImage()),
 		/**
 		 * Reactive Power.
 		 *
@@ -65,7 +67,8 @@ public interface Sum extends OpenemsComponent {
 		 */
 		ESS_REACTIVE_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.VOLT_AMPERE_REACTIVE) //
-				.persistencePriority(PersistencePriority.VERY_HIGH)), //
+				.persistencePriority(PersistencePriority.VERY_HIGH) //
+				.primitiveProcessImage()), //
 		/**
 		 * Ess: Active Power L1.
 		 *
@@ -81,7 +84,8 @@ public interface Sum extends OpenemsComponent {
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("AC-side power of Energy Storage System on phase L1. " //
 						+ "Includes excess DC-PV production for hybrid inverters. " //
-						+ "Negative values for charge; positive for discharge")),
+						+ "Negative values for charge; positive for discharge") //
+				.primitiveProcessImage()),
 		/**
 		 * Ess: Active Power L2.
 		 *
@@ -97,7 +101,8 @@ public interface Sum extends OpenemsComponent {
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("AC-side power of Energy Storage System on phase L2. " //
 						+ "Includes excess DC-PV production for hybrid inverters. " //
-						+ "Negative values for charge; positive for discharge")),
+						+ "Negative values for charge; positive for discharge") //
+				.primitiveProcessImage()),
 		/**
 		 * Ess: Active Power L3.
 		 *
@@ -113,7 +118,8 @@ public interface Sum extends OpenemsComponent {
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("AC-side power of Energy Storage System on phase L3. " //
 						+ "Includes excess DC-PV production for hybrid inverters. " //
-						+ "Negative values for charge; positive for discharge")),
+						+ "Negative values for charge; positive for discharge") //
+				.primitiveProcessImage()),
 		/**
 		 * Ess: Discharge Power.
 		 *
@@ -133,7 +139,8 @@ public interface Sum extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Actual AC-side battery discharge power of Energy Storage System. " //
-						+ "Negative values for charge; positive for discharge")),
+						+ "Negative values for charge; positive for discharge") //
+				.primitiveProcessImage()),
 		/**
 		 * Ess: Capacity.
 		 *
@@ -164,7 +171,8 @@ public interface Sum extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Grid exchange power. " //
-						+ "Negative values for sell-to-grid; positive for buy-from-grid")),
+						+ "Negative values for sell-to-grid; positive for buy-from-grid") //
+				.primitiveProcessImage()),
 		/**
 		 * Grid: Active Power L1.
 		 *
@@ -181,7 +189,8 @@ public interface Sum extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Grid exchange power on phase L1. " //
-						+ "Negative values for sell-to-grid; positive for buy-from-grid")),
+						+ "Negative values for sell-to-grid; positive for buy-from-grid") //
+				.primitiveProcessImage()),
 		/**
 		 * Grid: Active Power L2.
 		 *
@@ -198,7 +207,8 @@ public interface Sum extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Grid exchange power on phase L2. " //
-						+ "Negative values for sell-to-grid; positive for buy-from-grid")),
+						+ "Negative values for sell-to-grid; positive for buy-from-grid") //
+				.primitiveProcessImage()),
 		/**
 		 * Grid: Active Power L3.
 		 *
@@ -215,7 +225,8 @@ public interface Sum extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
 				.text("Grid exchange power on phase L3. " //
-						+ "Negative values for sell-to-grid; positive for buy-from-grid")),
+						+ "Negative values for sell-to-grid; positive for buy-from-grid") //
+				.primitiveProcessImage()),
 		/**
 		 * Grid: Minimum Ever Active Power.
 		 *
@@ -255,7 +266,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_ACTIVE_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Total production; always positive")),
+				.text("Total production; always positive") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: AC Active Power.
 		 *
@@ -269,7 +281,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_AC_ACTIVE_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Production from AC source")),
+				.text("Production from AC source") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: AC Active Power L1.
 		 *
@@ -283,7 +296,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_AC_ACTIVE_POWER_L1(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Production from AC source on phase L1")),
+				.text("Production from AC source on phase L1") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: AC Active Power L2.
 		 *
@@ -297,7 +311,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_AC_ACTIVE_POWER_L2(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Production from AC source on phase L2")),
+				.text("Production from AC source on phase L2") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: AC Active Power L3.
 		 *
@@ -311,7 +326,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_AC_ACTIVE_POWER_L3(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Production from AC source on phase L3")),
+				.text("Production from AC source on phase L3") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: DC Actual Power.
 		 *
@@ -325,7 +341,8 @@ public interface Sum extends OpenemsComponent {
 		PRODUCTION_DC_ACTUAL_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.VERY_HIGH) //
-				.text("Production from DC source")),
+				.text("Production from DC source") //
+				.primitiveProcessImage()),
 		/**
 		 * Production: Maximum Ever Active Power.
 		 *
@@ -379,7 +396,8 @@ public interface Sum extends OpenemsComponent {
 		 */
 		CONSUMPTION_ACTIVE_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
-				.persistencePriority(PersistencePriority.VERY_HIGH)), //
+				.persistencePriority(PersistencePriority.VERY_HIGH) //
+				.primitiveProcessImage()), //
 		/**
 		 * Consumption: Active Power L1.
 		 *
@@ -394,7 +412,8 @@ public interface Sum extends OpenemsComponent {
 		 */
 		CONSUMPTION_ACTIVE_POWER_L1(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
-				.persistencePriority(PersistencePriority.VERY_HIGH)), //
+				.persistencePriority(PersistencePriority.VERY_HIGH) //
+				.primitiveProcessImage()), //
 		/**
 		 * Consumption: Active Power L2.
 		 *
@@ -409,7 +428,8 @@ public interface Sum extends OpenemsComponent {
 		 */
 		CONSUMPTION_ACTIVE_POWER_L2(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
-				.persistencePriority(PersistencePriority.VERY_HIGH)), //
+				.persistencePriority(PersistencePriority.VERY_HIGH) //
+				.primitiveProcessImage()), //
 		/**
 		 * Consumption: Active Power L3.
 		 *
@@ -424,7 +444,8 @@ public interface Sum extends OpenemsComponent {
 		 */
 		CONSUMPTION_ACTIVE_POWER_L3(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.WATT) //
-				.persistencePriority(PersistencePriority.VERY_HIGH)), //
+				.persistencePriority(PersistencePriority.VERY_HIGH) //
+				.primitiveProcessImage()), //
 		/**
 		 * Consumption: Maximum Ever Active Power.
 		 *
@@ -69,6 +69,22 @@ public class MetaTasksManager<T extends ManagedTask> {
 	 * @return the next task; null if there are no tasks with the given Priority
 	 */
 	public synchronized T getOneTask(Priority priority) {
+		// returns the head or 'null' if the queue is still empty after refilling it
+		return this.getNextTasks(priority).poll();
+	}
+
+	/**
+	 * Gets the task that would be returned by the next call of
+	 * {@link #getOneTask(Priority)}, without removing it.
+	 *
+	 * @param priority the Priority
+	 * @return the next task; null if there are no tasks with the given Priority
+	 */
+	public synchronized T peekOneTask(Priority priority) {
+		return this.getNextTasks(priority).peek();
+	}
+
+	private Queue<T> getNextTasks(Priority priority) {
 		var tasks = this.nextTasks.get(priority);
 		if (tasks.isEmpty()) {
 			// refill the queue
@@ -76,9 +92,7 @@ public class MetaTasksManager<T extends ManagedTask> {
 				tasks.addAll(tasksManager.getAllTasks(priority));
 			}
 		}
-
-		// returns the head or 'null' if the queue is still empty after refilling it
-		return tasks.poll();
+		return tasks;
 	}
 
 	/**
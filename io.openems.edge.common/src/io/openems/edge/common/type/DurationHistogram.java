@@ -0,0 +1,164 @@
+package io.openems.edge.common.type;
+
+import java.util.Arrays;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * A low-overhead histogram of durations, recorded in nanoseconds.
+ *
+ * <p>
+ * Durations are counted in exponential buckets (4 buckets per power of two,
+ * i.e. a relative error of below 19 %) starting at 1 microsecond. Recording
+ * does not allocate. Percentiles are evaluated over a sliding window: after
+ * every {@link #WINDOW_SIZE} recordings the current window becomes the
+ * previous one, and both windows are used for evaluation.
+ */
+public class DurationHistogram {
+
+	/**
+	 * Number of recordings per window; i.e. 5 minutes if recorded once per Cycle
+	 * at the default Cycle-Time.
+	 */
+	public static final int WINDOW_SIZE = 300;
+
+	private static final int BUCKETS_PER_POWER_OF_TWO = 4;
+	private static final int NO_OF_BUCKETS = 30 * BUCKETS_PER_POWER_OF_TWO; // up to ~18 minutes
+	private static final long MIN_NANOS = 1_000; // 1 microsecond
+
+	/**
+	 * Upper bounds of the buckets in nanoseconds.
+	 */
+	private static final long[] BUCKET_LIMITS = new long[NO_OF_BUCKETS];
+
+	static {
+		for (var i = 0; i < NO_OF_BUCKETS; i++) {
+			BUCKET_LIMITS[i] = Math.round(MIN_NANOS * Math.pow(2, (double) (i + 1) / BUCKETS_PER_POWER_OF_TWO));
+		}
+	}
+
+	private final int[] current = new int[NO_OF_BUCKETS];
+	private final int[] previous = new int[NO_OF_BUCKETS];
+	private int currentCount = 0;
+	private int previousCount = 0;
+	private long currentMax = 0;
+	private long previousMax = 0;
+	private long last = 0;
+	private long total = 0;
+
+	/**
+	 * Records a duration.
+	 *
+	 * @param nanos the duration in nanoseconds
+	 */
+	public synchronized void record(long nanos) {
+		if (this.currentCount >= WINDOW_SIZE) {
+			System.arraycopy(this.current, 0, this.previous, 0, NO_OF_BUCKETS);
+			Arrays.fill(this.current, 0);
+			this.previousCount = this.currentCount;
+			this.previousMax = this.currentMax;
+			this.currentCount = 0;
+			this.currentMax = 0;
+		}
+		this.current[getBucket(nanos)]++;
+		this.currentCount++;
+		this.currentMax = Math.max(this.currentMax, nanos);
+		this.last = nanos;
+		this.total++;
+	}
+
+	/**
+	 * Gets the given percentile in nanoseconds.
+	 *
+	 * @param percentile the percentile, e.g. 0.95
+	 * @return the upper bound of the matching bucket in nanoseconds; 0 if
+	 *         nothing
+	 *         was recorded
+	 */
+	public synchronized long getPercentile(double percentile) {
+		var count = this.currentCount + this.previousCount;
+		if (count == 0) {
+			return 0;
+		}
+		var rank = (long) Math.ceil(percentile * count);
+		long sum = 0;
+		for (var i = 0; i < NO_OF_BUCKETS; i++) {
+			sum += this.current[i] + this.previous[i];
+			if (sum >= rank) {
+				// Do not report more than the actually measured maximum
+				return Math.min(BUCKET_LIMITS[i], this.getMax());
+			}
+		}
+		return this.getMax();
+	}
+
+	/**
+	 * Gets the maximum duration within the sliding window in nanoseconds.
+	 *
+	 * @return the maximum
+	 */
+	public synchronized long getMax() {
+		return Math.max(this.currentMax, this.previousMax);
+	}
+
+	/**
+	 * Gets the last recorded duration in nanoseconds.
+	 *
+	 * @return the last duration
+	 */
+	public synchronized long getLast() {
+		return this.last;
+	}
+
+	/**
+	 * Gets the total number of recordings.
+	 *
+	 * @return the number of recordings
+	 */
+	public synchronized long getTotal() {
+		return this.total;
+	}
+
+	/**
+	 * Exports the histogram as {@link JsonObject}; all durations in
+	 * microseconds.
+	 *
+	 * <pre>
+	 * {
+	 *   "count": number,
+	 *   "last": number,
+	 *   "p50": number,
+	 *   "p95": number,
+	 *   "max": number
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public synchronized JsonObject toJson() {
+		return JsonUtils.buildJsonObject() //
+				.addProperty("count", this.total) //
+				.addProperty("last", this.last / 1000) //
+				.addProperty("p50", this.getPercentile(0.5) / 1000) //
+				.addProperty("p95", this.getPercentile(0.95) / 1000) //
+				.addProperty("max", this.getMax() / 1000) //
+				.build();
+	}
+
+	private static int getBucket(long nanos) {
+		// Binary search for the first bucket whose limit is >= nanos
+		int low = 0;
+		int high = NO_OF_BUCKETS - 1;
+		while (low < high) {
+			var mid = low + high >>> 1;
+			if (BUCKET_LIMITS[mid] < nanos) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+}
@@ -0,0 +1,245 @@
+package io.openems.edge.common.type;
+
+/**
+ * Implements a fixed-size circular buffer of timestamped numeric values.
+ *
+ * <p>
+ * Timestamps are stored as epoch milliseconds in a long-array; values are
+ * stored in a double-array. UNDEFINED values are stored as well, so that the
+ * buffer reflects the full history of a Channel.
+ *
+ * <p>
+ * Appending is O(1). If a value is appended with the same timestamp as the
+ * newest entry, the newest entry is replaced instead - similar to the
+ * behaviour of {@link CircularTreeMap}. Aggregations via
+ * {@link #aggregateSince(long, Aggregation)} do not allocate any objects.
+ */
+public final class TimeseriesRingBuffer {
+
+	public static enum Aggregation {
+		/**
+		 * Sum of all defined values.
+		 */
+		SUM,
+		/**
+		 * Average of all defined values.
+		 */
+		AVERAGE,
+		/**
+		 * Minimum of all defined values.
+		 */
+		MIN,
+		/**
+		 * Maximum of all defined values.
+		 */
+		MAX,
+		/**
+		 * The eldest defined value.
+		 */
+		FIRST,
+		/**
+		 * The newest defined value.
+		 */
+		LAST;
+	}
+
+	private final int capacity;
+	private final long[] timestamps;
+	private final double[] values;
+	private final boolean[] defined;
+
+	/**
+	 * Index of the next write position.
+	 */
+	private int head = 0;
+	private int size = 0;
+
+	/**
+	 * Incremented on every modification.
+	 */
+	private long version = 0;
+
+	public TimeseriesRingBuffer(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive. Got [" + capacity + "]");
+		}
+		this.capacity = capacity;
+		this.timestamps = new long[capacity];
+		this.values = new double[capacity];
+		this.defined = new boolean[capacity];
+	}
+
+	/**
+	 * Adds a defined value.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 * @param value     the value
+	 */
+	public synchronized void add(long timestamp, double value) {
+		this.put(timestamp, value, true);
+	}
+
+	/**
+	 * Adds an UNDEFINED value.
+	 *
+	 * @param timestamp the timestamp in epoch milliseconds
+	 */
+	public synchronized void addUndefined(long timestamp) {
+		this.put(timestamp, 0, false);
+	}
+
+	/**
+	 * Gets the maximum number of entries.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Gets the current number of entries.
+	 *
+	 * @return the size
+	 */
+	public synchronized int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets a counter that is incremented on every modification.
+	 *
+	 * @return the version
+	 */
+	public synchronized long version() {
+		return this.version;
+	}
+
+	/**
+	 * Gets the timestamp of the entry at the given position; 0 is the eldest
+	 * entry.
+	 *
+	 * @param index the position
+	 * @return the timestamp in epoch milliseconds
+	 */
+	public synchronized long getTimestamp(int index) {
+		return this.timestamps[this.toSlot(index)];
+	}
+
+	/**
+	 * Is the entry at the given position defined?; 0 is the eldest entry.
+	 *
+	 * @param index the position
+	 * @return true if defined
+	 */
+	public synchronized boolean isDefined(int index) {
+		return this.defined[this.toSlot(index)];
+	}
+
+	/**
+	 * Gets the value of the entry at the given position; 0 is the eldest entry.
+	 *
+	 * @param index the position
+	 * @return the value; {@link Double#NaN} if UNDEFINED
+	 */
+	public synchronized double getValue(int index) {
+		var slot = this.toSlot(index);
+		return this.defined[slot] ? this.values[slot] : Double.NaN;
+	}
+
+	/**
+	 * Aggregates all defined values with a timestamp strictly after the given
+	 * timestamp.
+	 *
+	 * @param sinceExclusive the timestamp in epoch milliseconds
+	 * @param aggregation    the {@link Aggregation}
+	 * @return the aggregated value; {@link Double#NaN} if there is no defined
+	 *         value
+	 */
+	public synchronized double aggregateSince(long sinceExclusive, Aggregation aggregation) {
+		var count = 0;
+		var result = 0d;
+		// Iterate from newest to eldest
+		for (var i = this.size - 1; i >= 0; i--) {
+			var slot = this.toSlot(i);
+			if (this.timestamps[slot] <= sinceExclusive) {
+				break;
+			}
+			if (!this.defined[slot]) {
+				continue;
+			}
+			var value = this.values[slot];
+			switch (aggregation) {
+			case FIRST:
+				result = value;
+				break;
+			case LAST:
+				return value;
+			case SUM:
+			case AVERAGE:
+				result += value;
+				break;
+			case MIN:
+				result = count == 0 ? value : Math.min(result, value);
+				break;
+			case MAX:
+				result = count == 0 ? value : Math.max(result, value);
+				break;
+			}
+			count++;
+		}
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (aggregation == Aggregation.AVERAGE) {
+			return result / count;
+		}
+		return result;
+	}
+
+	/**
+	 * Counts the defined values with a timestamp strictly after the given
+	 * timestamp.
+	 *
+	 * @param sinceExclusive the timestamp in epoch milliseconds
+	 * @return the number of defined values
+	 */
+	public synchronized int countSince(long sinceExclusive) {
+		var count = 0;
+		for (var i = this.size - 1; i >= 0; i--) {
+			var slot = this.toSlot(i);
+			if (this.timestamps[slot] <= sinceExclusive) {
+				break;
+			}
+			if (this.defined[slot]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private void put(long timestamp, double value, boolean isDefined) {
+		final int slot;
+		if (this.size > 0 && this.timestamps[this.toSlot(this.size - 1)] == timestamp) {
+			// Replace newest entry
+			slot = this.toSlot(this.size - 1);
+		} else {
+			slot = this.head;
+			this.head = (this.head + 1) % this.capacity;
+			if (this.size < this.capacity) {
+				this.size++;
+			}
+		}
+		this.timestamps[slot] = timestamp;
+		this.values[slot] = value;
+		this.defined[slot] = isDefined;
+		this.version++;
+	}
+
+	private int toSlot(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index [" + index + "] out of bounds for size [" + this.size + "]");
+		}
+		return (this.head - this.size + index + this.capacity) % this.capacity;
+	}
+}
@@ -1,6 +1,9 @@
 package io.openems.edge.common.channel;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
 
@@ -8,11 +11,15 @@ import org.junit.Test;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.value.Value;
 
 public class ChannelTest {
 
 	private static enum TestChannelId implements ChannelId {
-		TEST_CHANNEL_WITH_OPTIONS(Doc.of(TestOptions.values()).accessMode(AccessMode.READ_WRITE));
+		TEST_CHANNEL_WITH_OPTIONS(Doc.of(TestOptions.values()).accessMode(AccessMode.READ_WRITE)), //
+		TEST_PRIMITIVE_CHANNEL(new IntegerDoc().primitiveProcessImage()), //
+		TEST_INTEGER_CHANNEL(new IntegerDoc());
 
 		private final Doc doc;
 
@@ -42,4 +49,99 @@ public class ChannelTest {
 		assertEquals(TestOptions.OPTION_1.getValue(), writtenValue.get());
 	}
 
+	@Test
+	public void testPrimitiveProcessImage() {
+		TestChannelId channelId = TestChannelId.TEST_PRIMITIVE_CHANNEL;
+		IntegerReadChannel channel = channelId.doc().createChannelInstance(null, channelId);
+		assertEquals(OpenemsType.INTEGER, channel.getPrimitiveProcessImage().getType());
+
+		var changes = new int[1];
+		channel.onChange((oldValue, newValue) -> changes[0]++);
+
+		// UNDEFINED initially
+		assertFalse(channel.isPrimitiveValueDefined());
+		assertNull(channel.value().get());
+
+		// Allocation free set; active value is only updated on nextProcessImage()
+		channel.setNextPrimitiveValue(1234L);
+		assertEquals(Integer.valueOf(1234), channel.getNextValue().get());
+		assertEquals(-1, channel.getPrimitiveValueAsLong(-1));
+		channel.nextProcessImage();
+		assertEquals(1234, channel.getPrimitiveValueAsLong(-1));
+		assertEquals(1234., channel.getPrimitiveValueAsDouble(-1), 0.001);
+		assertEquals(Integer.valueOf(1234), channel.value().get());
+		assertEquals(1, changes[0]);
+
+		// Legacy set with same value -> no change event
+		channel.setNextValue(1234);
+		channel.nextProcessImage();
+		assertEquals(1, changes[0]);
+
+		// Lazily created Value is cached until the next switch
+		Value<Integer> value = channel.value();
+		assertTrue(value == channel.value());
+
+		// Set to UNDEFINED
+		channel.setNextValue(null);
+		channel.nextProcessImage();
+		assertFalse(channel.isPrimitiveValueDefined());
+		assertNull(channel.value().get());
+		assertEquals(2, changes[0]);
+	}
+
+	@Test
+	public void testHasProcessImageCallbacks() {
+		IntegerReadChannel channel = TestChannelId.TEST_INTEGER_CHANNEL.doc().createChannelInstance(null,
+				TestChannelId.TEST_INTEGER_CHANNEL);
+		assertFalse(channel.hasProcessImageCallbacks());
+
+		var callback = channel.onChange((oldValue, newValue) -> {
+		});
+		assertTrue(channel.hasProcessImageCallbacks());
+
+		channel.removeOnChangeCallback(callback);
+		assertFalse(channel.hasProcessImageCallbacks());
+
+		// onSetNextValue-Callbacks are not called by nextProcessImage()
+		channel.onSetNextValue(value -> {
+		});
+		assertFalse(channel.hasProcessImageCallbacks());
+
+		channel.onUpdate(value -> {
+		});
+		assertTrue(channel.hasProcessImageCallbacks());
+	}
+
+	@Test
+	public void testChangeSequence() {
+		IntegerReadChannel channel = TestChannelId.TEST_INTEGER_CHANNEL.doc().createChannelInstance(null,
+				TestChannelId.TEST_INTEGER_CHANNEL);
+		IntegerReadChannel primitive = TestChannelId.TEST_PRIMITIVE_CHANNEL.doc().createChannelInstance(null,
+				TestChannelId.TEST_PRIMITIVE_CHANNEL);
+		channel.nextProcessImage();
+		primitive.nextProcessImage();
+		var sequence = Channel.getCurrentChangeSequence();
+
+		// Unchanged
+		channel.setNextValue(null);
+		channel.nextProcessImage();
+		primitive.nextProcessImage();
+		assertTrue(channel.getLastChangeSequence() <= sequence);
+		assertTrue(primitive.getLastChangeSequence() <= sequence);
+
+		// Changed
+		channel.setNextValue(1);
+		channel.nextProcessImage();
+		assertTrue(channel.getLastChangeSequence() > sequence);
+		assertTrue(primitive.getLastChangeSequence() <= sequence);
+		sequence = Channel.getCurrentChangeSequence();
+
+		primitive.setNextPrimitiveValue(2L);
+		primitive.nextProcessImage();
+		channel.setNextValue(1);
+		channel.nextProcessImage();
+		assertTrue(channel.getLastChangeSequence() <= sequence);
+		assertTrue(primitive.getLastChangeSequence() > sequence);
+	}
+
 }
@@ -0,0 +1,39 @@
+package io.openems.edge.common.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class DurationHistogramTest {
+
+	@Test
+	public void test() {
+		var h = new DurationHistogram();
+		assertEquals(0, h.getPercentile(0.95));
+
+		// 90 x 100 us, 10 x 10 ms
+		for (var i = 0; i < 90; i++) {
+			h.record(100_000);
+		}
+		for (var i = 0; i < 10; i++) {
+			h.record(10_000_000);
+		}
+		assertEquals(100, h.getTotal());
+		assertEquals(10_000_000, h.getMax());
+
+		// Bucket resolution is below 19 %
+		var p50 = h.getPercentile(0.5);
+		assertTrue(p50 >= 100_000 && p50 < 119_000);
+		var p95 = h.getPercentile(0.95);
+		assertTrue(p95 >= 10_000_000 * 0.84 && p95 <= 10_000_000);
+
+		// Sliding window: old values are dropped after two windows
+		for (var i = 0; i < 2 * DurationHistogram.WINDOW_SIZE + 1; i++) {
+			h.record(1_000);
+		}
+		assertEquals(1_000, h.getMax());
+		assertEquals(1, h.toJson().get("p95").getAsLong());
+	}
+
+}
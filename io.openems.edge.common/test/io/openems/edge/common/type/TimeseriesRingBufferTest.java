@@ -0,0 +1,49 @@
+package io.openems.edge.common.type;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
+
+public class TimeseriesRingBufferTest {
+
+	@Test
+	public void testAggregate() {
+		var b = new TimeseriesRingBuffer(3);
+		assertTrue(Double.isNaN(b.aggregateSince(Long.MIN_VALUE, Aggregation.AVERAGE)));
+
+		b.add(1, 10);
+		b.addUndefined(2);
+		b.add(3, 30);
+		assertEquals(3, b.size());
+		assertEquals(20, b.aggregateSince(Long.MIN_VALUE, Aggregation.AVERAGE), 0.001);
+		assertEquals(40, b.aggregateSince(Long.MIN_VALUE, Aggregation.SUM), 0.001);
+		assertEquals(10, b.aggregateSince(Long.MIN_VALUE, Aggregation.MIN), 0.001);
+		assertEquals(30, b.aggregateSince(Long.MIN_VALUE, Aggregation.MAX), 0.001);
+		assertEquals(10, b.aggregateSince(Long.MIN_VALUE, Aggregation.FIRST), 0.001);
+		assertEquals(30, b.aggregateSince(Long.MIN_VALUE, Aggregation.LAST), 0.001);
+		assertEquals(30, b.aggregateSince(1, Aggregation.AVERAGE), 0.001);
+		assertTrue(Double.isNaN(b.aggregateSince(3, Aggregation.AVERAGE)));
+		assertEquals(2, b.countSince(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void testOverflow() {
+		var b = new TimeseriesRingBuffer(3);
+		for (var i = 1; i <= 5; i++) {
+			b.add(i, i * 10);
+		}
+		assertEquals(3, b.size());
+		assertEquals(3, b.getTimestamp(0));
+		assertEquals(50, b.getValue(2), 0.001);
+		assertEquals(120, b.aggregateSince(Long.MIN_VALUE, Aggregation.SUM), 0.001);
+
+		// Same timestamp replaces the newest entry
+		b.add(5, 55);
+		assertEquals(3, b.size());
+		assertEquals(55, b.aggregateSince(4, Aggregation.LAST), 0.001);
+	}
+
+}
@@ -1,9 +1,11 @@
 package io.openems.edge.controller.api.backend;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Proxy;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -31,7 +33,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+import io.openems.common.OpenemsConstants;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.types.EdgeConfig;
@@ -62,6 +66,7 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 		implements BackendApi, Controller, OpenemsComponent, PaxAppender, EventHandler {
 
 	protected static final String COMPONENT_NAME = "Controller.Api.Backend";
+	protected static final String RESEND_BUFFER_PATH = "backend-resend";
 
 	protected final SendChannelValuesWorker sendChannelValuesWorker = new SendChannelValuesWorker(this);
 
@@ -86,6 +91,9 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 
 	private ScheduledExecutorService executor;
 
+	/** Holds data that could not be sent; null if disabled. */
+	private ResendBuffer resendBuffer = null;
+
 	public BackendApiImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -112,6 +120,20 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 		// initialize ApiWorker
 		this.apiWorker.setTimeoutSeconds(config.apiTimeout());
 
+		// initialize ResendBuffer
+		if (config.resendBufferSize() > 0) {
+			try {
+				this.resendBuffer = new ResendBuffer(
+						Paths.get(OpenemsConstants.getOpenemsDataDir(), RESEND_BUFFER_PATH, config.id()),
+						config.resendBufferSize() * 1024L * 1024L);
+				this.executor.scheduleWithFixedDelay(new ResendWorker(this, this.resendBuffer, config.resendRate()),
+						1, 1, TimeUnit.SECONDS);
+			} catch (IOException e) {
+				this.log.error("Unable to open resend buffer: " + e.getMessage());
+				this.resendBuffer = null;
+			}
+		}
+
 		// Get URI
 		URI uri = null;
 		try {
@@ -147,6 +169,25 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 			this.websocket.stop();
 		}
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 5);
+		if (this.resendBuffer != null) {
+			this.resendBuffer.close();
+			this.resendBuffer = null;
+		}
+	}
+
+	/**
+	 * Persists a message that could not be sent, so that it is resent later.
+	 *
+	 * @param timestamp the timestamp of the data epoch in milliseconds
+	 * @param message   the message
+	 * @return true if the message was persisted
+	 */
+	protected boolean bufferUnsentMessage(long timestamp, JsonrpcMessage message) {
+		var resendBuffer = this.resendBuffer;
+		if (resendBuffer == null) {
+			return false;
+		}
+		return resendBuffer.append(timestamp, message.toString());
 	}
 
 	@Override
@@ -198,6 +239,8 @@ public class BackendApiImpl extends AbstractOpenemsComponent
 		switch (event.getTopic()) {
 		case EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE:
 			this.sendChannelValuesWorker.collectData();
+			var resendBuffer = this.resendBuffer;
+			this._setResendBufferSize(resendBuffer != null ? resendBuffer.size() : null);
 			break;
 
 		case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
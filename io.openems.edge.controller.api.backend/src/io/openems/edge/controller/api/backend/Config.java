@@ -44,6 +44,12 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Resend Buffer Size", description = "Maximum size in MB of the disk buffer for data that could not be sent while offline; 0 to disable.")
+	int resendBufferSize() default 64;
+
+	@AttributeDefinition(name = "Resend Rate", description = "Number of buffered messages that are resent per second after reconnect.")
+	int resendRate() default 10;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
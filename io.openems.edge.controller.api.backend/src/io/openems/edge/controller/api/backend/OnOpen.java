@@ -26,6 +26,12 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		var message = new EdgeConfigNotification(config);
 		this.parent.websocket.sendMessage(message);
 
+		// Negotiate binary telemetry; JSON is used until the Backend confirms
+		this.parent.websocket.enableBinaryTelemetry();
+
+		// Check how historic data is resent; the ResendWorker waits for the answer
+		this.parent.websocket.enableResendData();
+
 		// Send all Channel values
 		this.parent.sendChannelValuesWorker.sendValuesOfAllChannelsOnce();
 	}
@@ -0,0 +1,433 @@
+package io.openems.edge.controller.api.backend;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded, disk-backed FIFO queue of messages that could not be sent to the
+ * Backend.
+ *
+ * <p>
+ * Records are appended to memory-mapped segment files of
+ * {@link #SEGMENT_SIZE}. Each segment starts with a header holding its write
+ * and read offsets, so the queue survives a restart without re-reading
+ * already replayed records. Fully consumed segments are deleted; if the total
+ * size exceeds the limit, the oldest segment is dropped.
+ *
+ * <p>
+ * Changes are forced to the storage device by {@link #flush()}, i.e. records
+ * appended after the last flush may be lost on a power loss. Record lengths are
+ * validated when reading; a segment is truncated at the first corrupt record.
+ *
+ * <pre>
+ * Segment: MAGIC (int), write offset (int), read offset (int), reserved (int),
+ *          records * (length (int), timestamp (long), UTF-8 message)
+ * </pre>
+ *
+ * <p>
+ * This class is thread-safe.
+ */
+public class ResendBuffer {
+
+	protected static final int SEGMENT_SIZE = 4 * 1024 * 1024; // [bytes]
+
+	private static final int MAGIC = 0x4F45_5242; // "OERB"
+	private static final int HEADER_SIZE = 16;
+	private static final int WRITE_OFFSET = 4;
+	private static final int READ_OFFSET = 8;
+	private static final int RECORD_HEADER_SIZE = 4 + 8;
+	private static final String SUFFIX = ".seg";
+
+	private final Logger log = LoggerFactory.getLogger(ResendBuffer.class);
+	private final Path directory;
+	private final long maxSize;
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	private long nextSequence = 0;
+	private int records = 0;
+	private long droppedRecords = 0;
+
+	/**
+	 * Opens the buffer in the given directory; existing segments are recovered.
+	 *
+	 * @param directory the directory of the segment files
+	 * @param maxSize   the maximum total size of all segments in bytes
+	 * @throws IOException on error
+	 */
+	public ResendBuffer(Path directory, long maxSize) throws IOException {
+		this.directory = directory;
+		this.maxSize = Math.max(maxSize, SEGMENT_SIZE);
+		Files.createDirectories(directory);
+		try (var files = Files.list(directory)) {
+			for (Path file : files //
+					.filter(f -> f.getFileName().toString().endsWith(SUFFIX)) //
+					.sorted() //
+					.collect(Collectors.toList())) {
+				var segment = Segment.open(file);
+				if (segment == null) {
+					this.log.warn("Deleting invalid resend buffer segment [" + file + "]");
+					Files.deleteIfExists(file);
+					continue;
+				}
+				var truncated = segment.truncateCorrupt();
+				if (truncated > 0) {
+					this.log.warn("Truncated [" + truncated + "] corrupt bytes of resend buffer segment [" + file + "]");
+				}
+				this.segments.add(segment);
+				this.records += segment.countUnread();
+				this.nextSequence = Math.max(this.nextSequence, segment.sequence + 1);
+			}
+		}
+		this.deleteConsumedSegments();
+	}
+
+	/**
+	 * Appends a message.
+	 *
+	 * @param timestamp the timestamp of the data in the message epoch in
+	 *                  milliseconds
+	 * @param message   the message
+	 * @return true if the message was persisted
+	 */
+	public synchronized boolean append(long timestamp, String message) {
+		var bytes = message.getBytes(StandardCharsets.UTF_8);
+		var required = RECORD_HEADER_SIZE + bytes.length;
+		try {
+			var segment = this.segments.peekLast();
+			if (segment == null || segment.remaining() < required) {
+				segment = this.createSegment(required);
+			}
+			segment.append(timestamp, bytes);
+			this.records++;
+			return true;
+
+		} catch (IOException e) {
+			this.log.warn("Unable to persist message to resend buffer: " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Gets the oldest unsent message without removing it.
+	 *
+	 * @return the {@link Record}; null if the buffer is empty
+	 */
+	public synchronized Record peek() {
+		for (Segment segment : this.segments) {
+			try {
+				var record = segment.peek();
+				if (record != null) {
+					return record;
+				}
+			} catch (IOException e) {
+				this.log.warn("Skipping resend buffer segment [" + segment.file + "]: " + e.getMessage());
+				segment.discard();
+				this.records = this.segments.stream().mapToInt(Segment::countUnread).sum();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the oldest unsent message, after it was sent successfully.
+	 */
+	public synchronized void remove() {
+		for (Segment segment : this.segments) {
+			if (segment.skip()) {
+				this.records--;
+				break;
+			}
+		}
+		this.deleteConsumedSegments();
+	}
+
+	/**
+	 * Gets the number of unsent messages.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized int size() {
+		return this.records;
+	}
+
+	/**
+	 * Gets the number of messages that were dropped since start, because the
+	 * buffer was full.
+	 *
+	 * @return the number of messages
+	 */
+	public synchronized long getDroppedRecords() {
+		return this.droppedRecords;
+	}
+
+	/**
+	 * Gets the total size of all segment files.
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long getDiskUsage() {
+		return this.segments.stream().mapToLong(s -> s.buffer.capacity()).sum();
+	}
+
+	/**
+	 * Forces all changes to the storage device.
+	 */
+	public synchronized void flush() {
+		for (Segment segment : this.segments) {
+			segment.flush();
+		}
+	}
+
+	/**
+	 * Forces all changes to the storage device and releases the segments.
+	 */
+	public synchronized void close() {
+		this.flush();
+		this.segments.clear();
+	}
+
+	private Segment createSegment(int required) throws IOException {
+		var size = Math.max(SEGMENT_SIZE, HEADER_SIZE + required);
+		// Drop oldest segments if the buffer is full
+		while (!this.segments.isEmpty() && this.getDiskUsage() + size > this.maxSize) {
+			var oldest = this.segments.removeFirst();
+			var dropped = oldest.countUnread();
+			this.records -= dropped;
+			this.droppedRecords += dropped;
+			this.log.warn("Resend buffer is full. Dropping [" + dropped + "] messages");
+			this.delete(oldest);
+		}
+		var file = this.directory.resolve(String.format("%020d", this.nextSequence) + SUFFIX);
+		var segment = Segment.create(file, this.nextSequence++, size);
+		this.segments.addLast(segment);
+		return segment;
+	}
+
+	private void deleteConsumedSegments() {
+		// Always keep the last segment for appending
+		while (this.segments.size() > 1 && this.segments.peekFirst().isConsumed()) {
+			this.delete(this.segments.removeFirst());
+		}
+	}
+
+	private void delete(Segment segment) {
+		try {
+			Files.deleteIfExists(segment.file);
+		} catch (IOException e) {
+			this.log.warn("Unable to delete resend buffer segment [" + segment.file + "]: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * A message in the {@link ResendBuffer}.
+	 */
+	public static class Record {
+
+		private final long timestamp;
+		private final String message;
+
+		private Record(long timestamp, String message) {
+			this.timestamp = timestamp;
+			this.message = message;
+		}
+
+		/**
+		 * Gets the timestamp of the data in the message.
+		 *
+		 * @return the timestamp epoch in milliseconds
+		 */
+		public long getTimestamp() {
+			return this.timestamp;
+		}
+
+		/**
+		 * Gets the message.
+		 *
+		 * @return the message
+		 */
+		public String getMessage() {
+			return this.message;
+		}
+	}
+
+	private static class Segment {
+
+		private final Path file;
+		private final long sequence;
+		private final MappedByteBuffer buffer;
+
+		private boolean dirty = false;
+
+		private Segment(Path file, long sequence, MappedByteBuffer buffer) {
+			this.file = file;
+			this.sequence = sequence;
+			this.buffer = buffer;
+		}
+
+		private static Segment create(Path file, long sequence, int size) throws IOException {
+			try (var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+				buffer.putInt(WRITE_OFFSET, HEADER_SIZE);
+				buffer.putInt(READ_OFFSET, HEADER_SIZE);
+				// write magic last: marks the segment as valid
+				buffer.putInt(0, MAGIC);
+				var segment = new Segment(file, sequence, buffer);
+				segment.dirty = true;
+				return segment;
+			}
+		}
+
+		private static Segment open(Path file) throws IOException {
+			long sequence;
+			try {
+				var name = file.getFileName().toString();
+				sequence = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+			} catch (NumberFormatException e) {
+				return null;
+			}
+			try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				var size = channel.size();
+				if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+					return null;
+				}
+				var buffer = channel.map(MapMode.READ_WRITE, 0, size);
+				var writeOffset = buffer.getInt(WRITE_OFFSET);
+				var readOffset = buffer.getInt(READ_OFFSET);
+				if (buffer.getInt(0) != MAGIC || writeOffset < HEADER_SIZE || writeOffset > size
+						|| readOffset < HEADER_SIZE || readOffset > writeOffset) {
+					return null;
+				}
+				return new Segment(file, sequence, buffer);
+			}
+		}
+
+		/**
+		 * Validates all unread records and truncates the segment at the first corrupt
+		 * one, e.g. after a power loss during a write.
+		 *
+		 * @return the number of truncated bytes
+		 */
+		private int truncateCorrupt() {
+			var offset = this.buffer.getInt(READ_OFFSET);
+			var end = this.buffer.getInt(WRITE_OFFSET);
+			while (offset < end) {
+				var next = this.nextRecord(offset, end);
+				if (next < 0) {
+					this.buffer.putInt(WRITE_OFFSET, offset);
+					this.dirty = true;
+					return end - offset;
+				}
+				offset = next;
+			}
+			return 0;
+		}
+
+		/**
+		 * Gets the offset of the record following the record at the given offset.
+		 *
+		 * @param offset the offset of a record
+		 * @param end    the write offset
+		 * @return the offset of the next record; -1 if the record is corrupt
+		 */
+		private int nextRecord(int offset, int end) {
+			if (end - offset < RECORD_HEADER_SIZE) {
+				return -1;
+			}
+			var length = this.buffer.getInt(offset);
+			if (length < 0 || length > end - offset - RECORD_HEADER_SIZE) {
+				return -1;
+			}
+			return offset + RECORD_HEADER_SIZE + length;
+		}
+
+		private void discard() {
+			this.buffer.putInt(READ_OFFSET, this.buffer.getInt(WRITE_OFFSET));
+			this.dirty = true;
+		}
+
+		private void flush() {
+			if (this.dirty) {
+				this.buffer.force();
+				this.dirty = false;
+			}
+		}
+
+		private int remaining() {
+			return this.buffer.capacity() - this.buffer.getInt(WRITE_OFFSET);
+		}
+
+		private boolean isConsumed() {
+			return this.buffer.getInt(READ_OFFSET) == this.buffer.getInt(WRITE_OFFSET);
+		}
+
+		private void append(long timestamp, byte[] bytes) {
+			var offset = this.buffer.getInt(WRITE_OFFSET);
+			this.buffer.putInt(offset, bytes.length);
+			this.buffer.putLong(offset + 4, timestamp);
+			var target = this.buffer.duplicate();
+			target.position(offset + RECORD_HEADER_SIZE);
+			target.put(bytes);
+			// publish the record by updating the write offset last
+			this.buffer.putInt(WRITE_OFFSET, offset + RECORD_HEADER_SIZE + bytes.length);
+			this.dirty = true;
+		}
+
+		private Record peek() throws IOException {
+			var offset = this.buffer.getInt(READ_OFFSET);
+			var end = this.buffer.getInt(WRITE_OFFSET);
+			if (offset == end) {
+				return null;
+			}
+			if (this.nextRecord(offset, end) < 0) {
+				throw new IOException("Corrupt record at offset [" + offset + "]");
+			}
+			var length = this.buffer.getInt(offset);
+			var timestamp = this.buffer.getLong(offset + 4);
+			var bytes = new byte[length];
+			var source = this.buffer.duplicate();
+			source.position(offset + RECORD_HEADER_SIZE);
+			source.get(bytes);
+			return new Record(timestamp, new String(bytes, StandardCharsets.UTF_8));
+		}
+
+		private boolean skip() {
+			var offset = this.buffer.getInt(READ_OFFSET);
+			var end = this.buffer.getInt(WRITE_OFFSET);
+			if (offset == end) {
+				return false;
+			}
+			var next = this.nextRecord(offset, end);
+			this.buffer.putInt(READ_OFFSET, next < 0 ? end : next);
+			this.dirty = true;
+			return true;
+		}
+
+		private int countUnread() {
+			var count = 0;
+			var offset = this.buffer.getInt(READ_OFFSET);
+			var end = this.buffer.getInt(WRITE_OFFSET);
+			while (offset < end) {
+				offset = this.nextRecord(offset, end);
+				if (offset < 0) {
+					break;
+				}
+				count++;
+			}
+			return count;
+		}
+	}
+
+}
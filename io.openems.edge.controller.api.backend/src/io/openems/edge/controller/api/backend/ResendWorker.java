@@ -0,0 +1,110 @@
+package io.openems.edge.controller.api.backend;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+/**
+ * Replays messages from the {@link ResendBuffer} once the connection to the
+ * Backend is available again.
+ *
+ * <p>
+ * The worker is scheduled once per second and sends at most
+ * {@link Config#resendRate()} messages per run, so that live data and other
+ * traffic are not delayed by a large backlog. Every run also flushes the
+ * {@link ResendBuffer} to the storage device.
+ *
+ * <p>
+ * Messages are buffered as {@link ResendDataNotification}s. Replay waits until
+ * the Backend answered the {@link WebsocketClient#enableResendData()} check;
+ * older Backends receive the data as {@link TimestampedDataNotification}s.
+ */
+public class ResendWorker implements Runnable {
+
+	private final Logger log = LoggerFactory.getLogger(ResendWorker.class);
+
+	private final BackendApiImpl parent;
+	private final ResendBuffer buffer;
+	private final int rate;
+
+	protected ResendWorker(BackendApiImpl parent, ResendBuffer buffer, int rate) {
+		this.parent = parent;
+		this.buffer = buffer;
+		this.rate = Math.max(1, rate);
+	}
+
+	@Override
+	public void run() {
+		// Errors must not cancel the scheduled execution
+		try {
+			// Persist messages that were buffered since the last run
+			this.buffer.flush();
+			this.resend();
+		} catch (RuntimeException e) {
+			this.parent.logWarn(this.log, "Unable to resend messages. " + e.getClass().getSimpleName() + ": "
+					+ e.getMessage());
+		}
+	}
+
+	private void resend() {
+		var websocket = this.parent.websocket;
+		if (websocket == null || !websocket.isConnected()) {
+			return;
+		}
+		var resendDataSupported = websocket.isResendDataSupported();
+		if (resendDataSupported == null) {
+			// Backend did not answer yet
+			return;
+		}
+		var sent = 0;
+		for (; sent < this.rate; sent++) {
+			var record = this.buffer.peek();
+			if (record == null) {
+				break;
+			}
+			var message = record.getMessage();
+			if (!resendDataSupported) {
+				try {
+					message = toTimestampedData(message);
+				} catch (OpenemsNamedException e) {
+					this.parent.logWarn(this.log, "Dropping invalid buffered message: " + e.getMessage());
+					this.buffer.remove();
+					continue;
+				}
+			}
+			if (!websocket.sendText(message)) {
+				break;
+			}
+			this.buffer.remove();
+			this.parent._setLastSuccessfulResend(record.getTimestamp());
+		}
+
+		if (sent > 0 && this.parent.config.debugMode()) {
+			this.parent.logInfo(this.log, "Resent [" + sent + "] messages. Remaining [" + this.buffer.size() + "]");
+		}
+	}
+
+	/**
+	 * Converts a buffered {@link ResendDataNotification} to a
+	 * {@link TimestampedDataNotification} for Backends that do not support
+	 * 'resendData'.
+	 *
+	 * @param message the serialized {@link ResendDataNotification}
+	 * @return the serialized {@link TimestampedDataNotification}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	protected static String toTimestampedData(String message) throws OpenemsNamedException {
+		var notification = JsonrpcMessage.from(message);
+		if (!(notification instanceof JsonrpcNotification)) {
+			throw new OpenemsException("Not a JSON-RPC Notification: " + message);
+		}
+		return TimestampedDataNotification.from((JsonrpcNotification) notification).toString();
+	}
+
+}
@@ -6,7 +6,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -15,15 +14,15 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.ImmutableTable;
-import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 
 import io.openems.common.channel.AccessMode;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.OpenemsComponent;
 
 /**
@@ -34,6 +33,12 @@ import io.openems.edge.common.component.OpenemsComponent;
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
  * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ *
+ * <p>
+ * Changed values are detected via {@link Channel#getLastChangeSequence()}, so
+ * only Channels that changed since the last collection are serialized. Values
+ * that were not yet sent are kept as 'pending values' and are merged with the
+ * values of the next Cycle.
  */
 public class SendChannelValuesWorker {
 
@@ -55,12 +60,21 @@ public class SendChannelValuesWorker {
 	/**
 	 * Keeps the last timestamp when all channel values were sent.
 	 */
-	private Instant lastSendValuesOfAllChannels = Instant.MIN;
+	private volatile Instant lastSendValuesOfAllChannels = Instant.MIN;
+
+	/**
+	 * Keeps the Channel change sequence of the last collection.
+	 */
+	private long lastChangeSequence = Long.MAX_VALUE;
 
 	/**
-	 * Keeps the values of last successful send.
+	 * Holds the collected values that were not yet sent. Guarded by
+	 * 'pendingLock'.
 	 */
-	private Table<String, String, JsonElement> lastAllValues = ImmutableTable.of();
+	private Map<ChannelAddress, JsonElement> pendingValues = new HashMap<>();
+	private Instant pendingTimestamp = null;
+	private boolean pendingValuesOfAllChannels = false;
+	private final Object pendingLock = new Object();
 
 	protected SendChannelValuesWorker(BackendApiImpl parent) {
 		this.parent = parent;
@@ -88,35 +102,131 @@ public class SendChannelValuesWorker {
 	public synchronized void collectData() {
 		var now = Instant.now(this.parent.componentManager.getClock());
 
-		// Update the values of all channels
+		final boolean allChannels;
+		if (this.sendValuesOfAllChannels.getAndSet(false)) {
+			// Send values of all Channels if explicitly asked for
+			allChannels = true;
+
+		} else if (Duration.between(this.lastSendValuesOfAllChannels, now)
+				.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
+			// Send values of all Channels once in a while
+			allChannels = true;
+
+		} else {
+			allChannels = false;
+		}
+
+		// Collect the values of changed channels
+		final var changeSequence = Channel.getCurrentChangeSequence();
 		final var enabledComponents = this.parent.componentManager.getEnabledComponents();
-		final var allValues = this.collectData(enabledComponents);
+		final var values = this.collectData(enabledComponents, allChannels ? Long.MIN_VALUE : this.lastChangeSequence);
+		if (values == null) {
+			// Retry next Cycle
+			if (allChannels) {
+				this.sendValuesOfAllChannels.set(true);
+			}
+			return;
+		}
+		this.lastChangeSequence = changeSequence;
+
+		synchronized (this.pendingLock) {
+			if (allChannels) {
+				this.pendingValues = values;
+				this.pendingValuesOfAllChannels = true;
+			} else {
+				this.pendingValues.putAll(values);
+			}
+			this.pendingTimestamp = now;
+		}
 
 		// Add to send Queue
-		this.executor.execute(new SendTask(this, now, allValues));
+		this.executor.execute(new SendTask(this));
 	}
 
 	/**
-	 * Cycles through all Channels and collects the value.
+	 * Cycles through all Channels and collects the values that changed after the
+	 * given change sequence.
 	 *
 	 * @param enabledComponents the enabled components
-	 * @return collected data
+	 * @param changeSequence    collect only Channels with a later change
+	 *                          sequence; {@link Long#MIN_VALUE} for all
+	 * @return collected data; null on error
 	 */
-	private ImmutableTable<String, String, JsonElement> collectData(List<OpenemsComponent> enabledComponents) {
+	private Map<ChannelAddress, JsonElement> collectData(List<OpenemsComponent> enabledComponents,
+			long changeSequence) {
+		var persistencePriority = this.parent.config.persistencePriority();
+		var result = new HashMap<ChannelAddress, JsonElement>();
 		try {
-			return enabledComponents.parallelStream() //
-					.flatMap(component -> component.channels().parallelStream()) //
-					.filter(channel -> // Ignore WRITE_ONLY Channels
-					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
+			for (OpenemsComponent component : enabledComponents) {
+				for (Channel<?> channel : component.channels()) {
+					if (channel.getLastChangeSequence() <= changeSequence) {
+						// Unchanged
+						continue;
+					}
+					var channelDoc = channel.channelDoc();
+					if (channelDoc.getAccessMode() == AccessMode.WRITE_ONLY // Ignore WRITE_ONLY Channels
 							// Ignore Low-Priority Channels
-							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
-					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
-							c -> c.address().getChannelId(), c -> c.value().asJson()));
+							|| !channelDoc.getPersistencePriority().isAtLeast(persistencePriority)) {
+						continue;
+					}
+					result.put(channel.address(), channel.value().asJson());
+				}
+			}
+			return result;
 		} catch (Exception e) {
 			// ConcurrentModificationException can happen if Channels are dynamically added
 			// or removed
-			return ImmutableTable.of();
+			return null;
+		}
+	}
+
+	/**
+	 * Takes the pending values for sending.
+	 *
+	 * @return the {@link PendingValues}; null if there is nothing to send
+	 */
+	private PendingValues takePendingValues() {
+		synchronized (this.pendingLock) {
+			if (this.pendingTimestamp == null) {
+				return null;
+			}
+			var result = new PendingValues(this.pendingTimestamp, this.pendingValues,
+					this.pendingValuesOfAllChannels);
+			this.pendingValues = new HashMap<>();
+			this.pendingTimestamp = null;
+			this.pendingValuesOfAllChannels = false;
+			return result;
+		}
+	}
+
+	/**
+	 * Gives back values that could not be sent. Values that were collected in the
+	 * meantime are kept.
+	 *
+	 * @param pending the {@link PendingValues}
+	 */
+	private void restorePendingValues(PendingValues pending) {
+		synchronized (this.pendingLock) {
+			for (Entry<ChannelAddress, JsonElement> entry : pending.values.entrySet()) {
+				this.pendingValues.putIfAbsent(entry.getKey(), entry.getValue());
+			}
+			if (this.pendingTimestamp == null) {
+				this.pendingTimestamp = pending.timestamp;
+			}
+			this.pendingValuesOfAllChannels |= pending.valuesOfAllChannels;
+		}
+	}
+
+	private static class PendingValues {
+		private final Instant timestamp;
+		private final Map<ChannelAddress, JsonElement> values;
+		private final boolean valuesOfAllChannels;
+
+		private PendingValues(Instant timestamp, Map<ChannelAddress, JsonElement> values,
+				boolean valuesOfAllChannels) {
+			this.timestamp = timestamp;
+			this.values = values;
+			this.valuesOfAllChannels = valuesOfAllChannels;
 		}
 	}
 
@@ -127,55 +237,25 @@ public class SendChannelValuesWorker {
 	private static class SendTask implements Runnable {
 
 		private final SendChannelValuesWorker parent;
-		private final Instant timestamp;
-		private final ImmutableTable<String, String, JsonElement> allValues;
 
-		public SendTask(SendChannelValuesWorker parent, Instant timestamp,
-				ImmutableTable<String, String, JsonElement> allValues) {
+		public SendTask(SendChannelValuesWorker parent) {
 			this.parent = parent;
-			this.timestamp = timestamp;
-			this.allValues = allValues;
 		}
 
 		@Override
 		public void run() {
-			// Holds the data of the last successful send. If the table is empty, it is also
-			// used as a marker to send all data.
-			final Table<String, String, JsonElement> lastAllValues;
-
-			if (this.parent.sendValuesOfAllChannels.getAndSet(false)) {
-				// Send values of all Channels once in a while
-				lastAllValues = ImmutableTable.of();
-
-			} else if (Duration.between(this.parent.lastSendValuesOfAllChannels, this.timestamp)
-					.getSeconds() > SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS) {
-				// Send values of all Channels if explicitly asked for
-				lastAllValues = ImmutableTable.of();
-
-			} else {
-				// Actually use the kept 'lastSentValues'
-				lastAllValues = this.parent.lastAllValues;
+			var pending = this.parent.takePendingValues();
+			if (pending == null) {
+				// Values were already sent by a previous task
+				return;
 			}
 
 			// Round timestamp to Global Cycle-Time
 			final var cycleTime = this.parent.parent.cycle.getCycleTime();
-			final var timestampMillis = this.timestamp.toEpochMilli() / cycleTime * cycleTime;
+			final var timestampMillis = pending.timestamp.toEpochMilli() / cycleTime * cycleTime;
 
 			// Prepare message values
-			Map<ChannelAddress, JsonElement> sendValuesMap = new HashMap<>();
-
-			// Collect Changed values
-			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
-				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
-					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
-						sendValuesMap.put(new ChannelAddress(row.getKey(), column.getKey()), column.getValue());
-					}
-				}
-			}
-
-			// Create JSON-RPC notification
-			var message = new TimestampedDataNotification();
-			message.add(timestampMillis, sendValuesMap);
+			final var sendValuesMap = pending.values;
 
 			// Debug-Log
 			if (this.parent.parent.config.debugMode()) {
@@ -184,22 +264,48 @@ public class SendChannelValuesWorker {
 			}
 
 			// Try to send
-			var wasSent = this.parent.parent.websocket.sendMessage(message);
+			final boolean wasSent;
+			var websocket = this.parent.parent.websocket;
+			var encoder = websocket.getBinaryTelemetryEncoder();
+			if (!websocket.isConnected()) {
+				wasSent = false;
+
+			} else if (encoder != null) {
+				// Binary telemetry was negotiated with the Backend
+				wasSent = websocket.sendBinary(encoder.encode(timestampMillis, sendValuesMap));
+
+			} else {
+				wasSent = websocket.sendMessage(createMessage(timestampMillis, sendValuesMap));
+			}
 
 			// Set the UNABLE_TO_SEND channel
 			this.parent.parent.getUnableToSendChannel().setNextValue(!wasSent);
 
-			if (wasSent) {
-				// Successfully sent: update information for next runs
-				this.parent.lastAllValues = this.allValues;
-				if (lastAllValues.isEmpty()) {
-					// 'lastSentValues' was empty, i.e. all values were sent
-					this.parent.lastSendValuesOfAllChannels = this.timestamp;
-				}
+			// Keep unsent data for resending after reconnect
+			var wasBuffered = false;
+			if (!wasSent) {
+				var resendMessage = new ResendDataNotification();
+				resendMessage.add(timestampMillis, sendValuesMap);
+				wasBuffered = this.parent.parent.bufferUnsentMessage(timestampMillis, resendMessage);
 			}
 
+			if (!wasSent && !wasBuffered) {
+				// Try again with the next run
+				this.parent.restorePendingValues(pending);
+
+			} else if (pending.valuesOfAllChannels) {
+				// Successfully sent or buffered all values
+				this.parent.lastSendValuesOfAllChannels = pending.timestamp;
+			}
+		}
+
+		private static TimestampedDataNotification createMessage(long timestamp,
+				Map<ChannelAddress, JsonElement> values) {
+			var message = new TimestampedDataNotification();
+			message.add(timestamp, values);
+			return message;
 		}
 
 	}
 
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package io.openems.edge.controller.api.backend;
 
 import java.net.Proxy;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -10,7 +12,11 @@ import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.request.EnableBinaryTelemetryRequest;
+import io.openems.common.jsonrpc.request.EnableResendDataRequest;
 import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.BinaryTelemetryEncoder;
 import io.openems.common.websocket.OnClose;
 
 public class WebsocketClient extends AbstractWebsocketClient<WsData> {
@@ -24,6 +30,18 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 	private final OnError onError;
 	private final OnClose onClose;
 
+	/**
+	 * The encoder for binary telemetry; null as long as the Backend did not
+	 * confirm binary telemetry for the current connection.
+	 */
+	private volatile BinaryTelemetryEncoder binaryTelemetryEncoder = null;
+
+	/**
+	 * Whether the Backend handles ResendDataNotifications; null as long as the
+	 * Backend did not respond for the current connection.
+	 */
+	private volatile Boolean resendDataSupported = null;
+
 	protected WebsocketClient(BackendApiImpl parent, String name, URI serverUri, Map<String, String> httpHeaders,
 			Proxy proxy) {
 		super(name, serverUri, httpHeaders, proxy);
@@ -33,6 +51,8 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		this.onNotification = new OnNotification(parent);
 		this.onError = new OnError(parent);
 		this.onClose = (ws, code, reason, remote) -> {
+			this.binaryTelemetryEncoder = null;
+			this.resendDataSupported = null;
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() + //
 			(proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 		};
@@ -82,6 +102,104 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 		return this.ws.isOpen();
 	}
 
+	/**
+	 * Asks the Backend to receive Channel values as binary telemetry frames. Older
+	 * Backends respond with an error; then values are kept being sent as JSON.
+	 */
+	protected void enableBinaryTelemetry() {
+		this.binaryTelemetryEncoder = null;
+		try {
+			this.sendRequest(new EnableBinaryTelemetryRequest()).whenComplete((response, ex) -> {
+				if (ex != null) {
+					this.parent.logInfo(this.log,
+							"Backend does not support binary telemetry; sending JSON: " + ex.getMessage());
+				} else {
+					this.binaryTelemetryEncoder = new BinaryTelemetryEncoder();
+					this.parent.logInfo(this.log, "Enabled binary telemetry");
+				}
+			});
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Unable to enable binary telemetry: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Asks the Backend whether it handles ResendDataNotifications. Older Backends
+	 * respond with an error; then historic data is resent as
+	 * TimestampedDataNotifications.
+	 */
+	protected void enableResendData() {
+		this.resendDataSupported = null;
+		try {
+			this.sendRequest(new EnableResendDataRequest()).whenComplete((response, ex) -> {
+				if (ex != null) {
+					this.parent.logInfo(this.log,
+							"Backend does not support resendData; resending as timestampedData: " + ex.getMessage());
+					this.resendDataSupported = false;
+				} else {
+					this.resendDataSupported = true;
+				}
+			});
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Unable to enable resendData: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets whether the Backend of the current connection handles
+	 * ResendDataNotifications.
+	 *
+	 * @return true or false; null if the Backend did not respond yet
+	 */
+	protected Boolean isResendDataSupported() {
+		return this.resendDataSupported;
+	}
+
+	/**
+	 * Gets the {@link BinaryTelemetryEncoder} of the current connection.
+	 *
+	 * @return the encoder; null if binary telemetry is not enabled
+	 */
+	protected BinaryTelemetryEncoder getBinaryTelemetryEncoder() {
+		return this.binaryTelemetryEncoder;
+	}
+
+	/**
+	 * Sends an already serialized message.
+	 *
+	 * @param message the message
+	 * @return true if sending was successful
+	 */
+	protected boolean sendText(String message) {
+		try {
+			this.ws.send(message);
+			return true;
+		} catch (Exception e) {
+			this.parent.logWarn(this.log,
+					"Unable to send message. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Sends binary frames in the given order.
+	 *
+	 * @param frames the frames
+	 * @return true if sending was successful
+	 */
+	protected boolean sendBinary(List<ByteBuffer> frames) {
+		try {
+			for (ByteBuffer frame : frames) {
+				this.ws.send(frame);
+			}
+			return true;
+		} catch (Exception e) {
+			this.parent.logWarn(this.log,
+					"Unable to send binary frame. " + e.getClass().getSimpleName() + ": " + e.getMessage());
+			return false;
+		}
+	}
+
 	@Override
 	protected void execute(Runnable command) {
 		this.parent.execute(command);
@@ -17,6 +17,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		public Type proxyType;
 		public int apiTimeout;
 		public PersistencePriority persistencePriority;
+		public int resendBufferSize;
+		public int resendRate;
 		public boolean debugMode;
 
 		private Builder() {
@@ -62,6 +64,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setResendBufferSize(int resendBufferSize) {
+			this.resendBufferSize = resendBufferSize;
+			return this;
+		}
+
+		public Builder setResendRate(int resendRate) {
+			this.resendRate = resendRate;
+			return this;
+		}
+
 		public Builder setDebugMode(boolean debugMode) {
 			this.debugMode = debugMode;
 			return this;
@@ -123,6 +135,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.persistencePriority;
 	}
 
+	@Override
+	public int resendBufferSize() {
+		return this.builder.resendBufferSize;
+	}
+
+	@Override
+	public int resendRate() {
+		return this.builder.resendRate;
+	}
+
 	@Override
 	public boolean debugMode() {
 		return this.builder.debugMode;
@@ -0,0 +1,109 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ResendBufferTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendAndReplay() throws Exception {
+		var directory = this.folder.getRoot().toPath();
+		var buffer = new ResendBuffer(directory, 16 * 1024 * 1024);
+		assertNull(buffer.peek());
+
+		assertTrue(buffer.append(1_000L, "{\"a\":1}"));
+		assertTrue(buffer.append(2_000L, "{\"b\":\"ä\"}"));
+		assertTrue(buffer.append(3_000L, "{\"c\":3}"));
+		assertEquals(3, buffer.size());
+
+		var record = buffer.peek();
+		assertEquals(1_000L, record.getTimestamp());
+		assertEquals("{\"a\":1}", record.getMessage());
+		buffer.remove();
+		buffer.close();
+
+		// Reopen: already replayed records are not sent again
+		buffer = new ResendBuffer(directory, 16 * 1024 * 1024);
+		assertEquals(2, buffer.size());
+		record = buffer.peek();
+		assertEquals(2_000L, record.getTimestamp());
+		assertEquals("{\"b\":\"ä\"}", record.getMessage());
+		buffer.remove();
+		buffer.remove();
+		assertEquals(0, buffer.size());
+		assertNull(buffer.peek());
+		buffer.close();
+	}
+
+	@Test
+	public void testSegmentsAndLimit() throws Exception {
+		var directory = this.folder.getRoot().toPath();
+		var buffer = new ResendBuffer(directory, 2L * ResendBuffer.SEGMENT_SIZE);
+		var message = "x".repeat(1024 * 1024);
+
+		// fill four segments of three messages each: the two oldest segments are
+		// dropped
+		for (var i = 0; i < 10; i++) {
+			assertTrue(buffer.append(i, message));
+		}
+		assertTrue(buffer.getDiskUsage() <= 2L * ResendBuffer.SEGMENT_SIZE);
+		assertEquals(6, buffer.getDroppedRecords());
+		assertEquals(4, buffer.size());
+		assertEquals(6L, buffer.peek().getTimestamp());
+
+		// consumed segments are deleted
+		for (var i = 0; i < 4; i++) {
+			buffer.remove();
+		}
+		assertEquals(0, buffer.size());
+		try (var files = Files.list(directory)) {
+			assertEquals(1, files.count());
+		}
+		buffer.close();
+	}
+
+	@Test
+	public void testCorruptRecord() throws Exception {
+		var directory = this.folder.getRoot().toPath();
+		var buffer = new ResendBuffer(directory, 16 * 1024 * 1024);
+		assertTrue(buffer.append(1_000L, "{\"a\":1}"));
+		assertTrue(buffer.append(2_000L, "{\"b\":2}"));
+		buffer.close();
+
+		// Corrupt the length of the second record, e.g. after a power loss
+		Path file;
+		try (var files = Files.list(directory)) {
+			file = files.findFirst().get();
+		}
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			var offset = 16 + 12 + "{\"a\":1}".length();
+			channel.write(ByteBuffer.wrap(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF }),
+					offset);
+		}
+
+		// Reopen: the segment is truncated at the corrupt record
+		buffer = new ResendBuffer(directory, 16 * 1024 * 1024);
+		assertEquals(1, buffer.size());
+		assertEquals("{\"a\":1}", buffer.peek().getMessage());
+		buffer.remove();
+		assertNull(buffer.peek());
+		assertTrue(buffer.append(3_000L, "{\"c\":3}"));
+		assertEquals(3_000L, buffer.peek().getTimestamp());
+		buffer.close();
+	}
+
+}
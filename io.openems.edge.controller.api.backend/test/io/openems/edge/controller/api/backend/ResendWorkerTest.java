@@ -0,0 +1,39 @@
+package io.openems.edge.controller.api.backend;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.GenericJsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class ResendWorkerTest {
+
+	@Test
+	public void testToTimestampedData() throws Exception {
+		var resend = new ResendDataNotification();
+		resend.add(1_000L, new ChannelAddress("_sum", "EssSoc"), new JsonPrimitive(50));
+		resend.add(2_000L, new ChannelAddress("meter0", "ActivePower"), new JsonPrimitive(-1500));
+
+		var message = (GenericJsonrpcNotification) JsonrpcMessage
+				.from(ResendWorker.toTimestampedData(resend.toString()));
+		assertEquals(TimestampedDataNotification.METHOD, message.getMethod());
+		assertEquals(resend.getParams(), message.getParams());
+	}
+
+	@Test(expected = OpenemsNamedException.class)
+	public void testInvalid() throws Exception {
+		var response = new GenericJsonrpcResponseSuccess(UUID.randomUUID());
+		ResendWorker.toTimestampedData(response.toString());
+	}
+
+}
@@ -65,6 +65,11 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	 */
 	private final TreeMap<Integer, String> components = new TreeMap<>();
 
+	/**
+	 * Holds the values of the {@link #records}; served to Modbus requests.
+	 */
+	protected volatile RegisterImage registerImage = null;
+
 	private int port = DEFAULT_PORT;
 	private int maxConcurrentConnections = DEFAULT_MAX_CONCURRENT_CONNECTIONS;
 
@@ -117,6 +122,7 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 	protected void deactivate() {
 		this.startApiWorker.deactivate();
 		ModbusSlaveFactory.close();
+		this.registerImage = null;
 		super.deactivate();
 	}
 
@@ -196,6 +202,11 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 			// add component to process image
 			nextAddress = this.addComponentToProcessImage(nextAddress, component);
 		}
+
+		// build the Register Image
+		var registerImage = new RegisterImage(this.records, this::getComponent);
+		registerImage.update();
+		this.registerImage = registerImage;
 	}
 
 	/**
@@ -291,6 +302,12 @@ public abstract class AbstractModbusTcpApi extends AbstractOpenemsComponent
 
 	@Override
 	public void run() throws OpenemsNamedException {
+		var registerImage = this.registerImage;
+		if (registerImage != null) {
+			registerImage.applyWrites();
+			registerImage.update();
+		}
+		this.processImage.updateRequestChannels();
 		this.apiWorker.run();
 	}
 
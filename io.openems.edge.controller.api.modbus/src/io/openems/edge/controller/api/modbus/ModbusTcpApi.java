@@ -2,7 +2,10 @@ package io.openems.edge.controller.api.modbus;
 
 import io.openems.common.channel.Debounce;
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -14,7 +17,12 @@ public interface ModbusTcpApi extends OpenemsComponent {
 				.text("Unable to start Modbus/TCP-Api Server")), //
 		PROCESS_IMAGE_FAULT(Doc.of(Level.FAULT) //
 				.debounce(50, Debounce.FALSE_VALUES_IN_A_ROW_TO_SET_FALSE) //
-				.text("Fault in Process Image"));
+				.text("Fault in Process Image")), //
+		REQUEST_RATE(Doc.of(OpenemsType.DOUBLE) //
+				.text("Handled Modbus requests per second")), //
+		REQUEST_DURATION(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Average duration of handling a Modbus request"));
 
 		private final Doc doc;
 
@@ -84,4 +92,62 @@ public interface ModbusTcpApi extends OpenemsComponent {
 	public default void _setProcessImageFault(boolean value) {
 		this.getProcessImageFaultChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_RATE}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getRequestRateChannel() {
+		return this.channel(ChannelId.REQUEST_RATE);
+	}
+
+	/**
+	 * Gets the handled Modbus requests per second. See
+	 * {@link ChannelId#REQUEST_RATE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getRequestRate() {
+		return this.getRequestRateChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REQUEST_RATE}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestRate(Double value) {
+		this.getRequestRateChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REQUEST_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getRequestDurationChannel() {
+		return this.channel(ChannelId.REQUEST_DURATION);
+	}
+
+	/**
+	 * Gets the average duration of handling a Modbus request in [ms]. See
+	 * {@link ChannelId#REQUEST_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getRequestDuration() {
+		return this.getRequestDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#REQUEST_DURATION} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRequestDuration(Double value) {
+		this.getRequestDurationChannel().setNextValue(value);
+	}
 }
@@ -1,5 +1,7 @@
 package io.openems.edge.controller.api.modbus;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,11 +16,14 @@ import com.ghgande.j2mod.modbus.procimg.SimpleDigitalIn;
 import com.ghgande.j2mod.modbus.procimg.SimpleDigitalOut;
 import com.ghgande.j2mod.modbus.procimg.SimpleInputRegister;
 
-import io.openems.edge.common.component.OpenemsComponent;
-import io.openems.edge.common.modbusslave.ModbusRecord;
 
 /**
  * This implementation answers Modbus-TCP Slave requests.
+ *
+ * <p>
+ * Register values are served from the {@link RegisterImage} that is rebuilt once
+ * per Cycle, so read requests do not need to lock or to convert any
+ * {@link io.openems.edge.common.modbusslave.ModbusRecord}.
  */
 public class MyProcessImage implements ProcessImage {
 
@@ -26,21 +31,19 @@ public class MyProcessImage implements ProcessImage {
 
 	protected final AbstractModbusTcpApi parent;
 
+	private final LongAdder requestCount = new LongAdder();
+	private final LongAdder requestDurationNanos = new LongAdder();
+	private long lastUpdateRequestChannels = System.nanoTime();
+
 	protected MyProcessImage(AbstractModbusTcpApi parent) {
 		this.parent = parent;
 	}
 
 	@Override
-	public synchronized InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public InputRegister[] getInputRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		try {
 			this.parent.logDebug(this.log, "Reading Input Registers. Address [" + offset + "] Count [" + count + "].");
-			var registers = this.getRegisterRange(offset, count);
-			var result = new Register[registers.length];
-			for (var i = 0; i < registers.length; i++) {
-				result[i] = registers[i];
-			}
-			this.parent._setProcessImageFault(false);
-			return result;
+			return this.getRegisterRange(offset, count);
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
@@ -50,34 +53,39 @@ public class MyProcessImage implements ProcessImage {
 	}
 
 	@Override
-	public synchronized Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
+	public Register[] getRegisterRange(int offset, int count) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Reading Registers. Address [" + offset + "] Count [" + count + "].");
+		var start = System.nanoTime();
 
 		try {
-			var records = this.parent.records.subMap(offset, offset + count);
+			var image = this.getRegisterImage();
 			var result = new Register[count];
 			for (var i = 0; i < count;) {
 				// Get record for modbus address
 				var ref = i + offset;
-				var record = records.get(ref);
-				if (record == null) {
+				var entry = image.getRecordEntry(ref);
+				if (entry == null) {
 					throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is undefined.");
 				}
 
-				// Get Registers from Record
-				var registers = this.getRecordValueRegisters(record);
-
 				// make sure this Record fits
-				if (result.length < i + registers.length) {
+				if (result.length < i + entry.words) {
 					throw new MyIllegalAddressException(this,
 							"Record for Modbus address [" + ref + "] does not fit in Result.");
 				}
-				for (var j = 0; j < registers.length; j++) {
-					result[i + j] = registers[j];
-				}
 
 				// increase i by word length
-				i += registers.length;
+				i += entry.words;
+			}
+
+			// Get Registers from Image
+			var value = image.read(offset, count);
+			for (var i = 0; i < count;) {
+				var entry = image.getRecordEntry(i + offset);
+				for (var j = 0; j < entry.words; j++) {
+					result[i + j] = new MyRegister(j, value[(i + j) * 2], value[(i + j) * 2 + 1], entry.onSetValue);
+				}
+				i += entry.words;
 			}
 			this.parent._setProcessImageFault(false);
 			return result;
@@ -85,59 +93,77 @@ public class MyProcessImage implements ProcessImage {
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
 			throw new MyIllegalAddressException(this, e.getMessage());
+
+		} finally {
+			this.countRequest(start);
 		}
 	}
 
 	@Override
-	public synchronized Register getRegister(int ref) throws MyIllegalAddressException {
+	public Register getRegister(int ref) throws MyIllegalAddressException {
 		this.parent.logDebug(this.log, "Get Register. Address [" + ref + "].");
+		var start = System.nanoTime();
 
 		try {
-			var record = this.parent.records.get(ref);
+			var image = this.getRegisterImage();
+			var entry = image.getRecordEntry(ref);
 
 			// make sure the ModbusRecord is available
-			if (record == null) {
+			if (entry == null) {
 				throw new MyIllegalAddressException(this, "Record for Modbus address [" + ref + "] is not available.");
 			}
 
-			// Get Registers from Record
-			var registers = this.getRecordValueRegisters(record);
-
 			// make sure this Record requires only one Register/Word
-			if (registers.length > 1) {
+			if (entry.words > 1) {
 				throw new MyIllegalAddressException(this,
 						"Record for Modbus address [" + ref + "] requires more than one Register.");
 			}
 
+			// Get Register from Image
+			var value = image.read(ref, 1);
 			this.parent._setProcessImageFault(false);
-			return registers[0];
+			return new MyRegister(0, value[0], value[1], entry.onSetValue);
 
 		} catch (Exception e) {
 			this.parent._setProcessImageFault(true);
 			throw new MyIllegalAddressException(this, e.getMessage());
+
+		} finally {
+			this.countRequest(start);
+		}
+	}
+
+	private RegisterImage getRegisterImage() throws MyIllegalAddressException {
+		var image = this.parent.registerImage;
+		if (image == null) {
+			throw new MyIllegalAddressException(this, "Process Image is not available.");
 		}
+		return image;
+	}
+
+	private void countRequest(long start) {
+		this.requestDurationNanos.add(System.nanoTime() - start);
+		this.requestCount.increment();
 	}
 
 	/**
-	 * Get value as byte-array and convert it to InputRegisters.
-	 *
-	 * @param record the record
-	 * @return the Register
+	 * Updates the {@link ModbusTcpApi.ChannelId#REQUEST_RATE} and
+	 * {@link ModbusTcpApi.ChannelId#REQUEST_DURATION} Channels with the requests
+	 * since the last call. Call this once per Cycle.
 	 */
-	private Register[] getRecordValueRegisters(ModbusRecord record) {
-		var result = new MyRegister[record.getType().getWords()];
-		OpenemsComponent component = this.parent.getComponent(record.getComponentId());
-		var value = record.getValue(component);
-		for (var j = 0; j < value.length / 2; j++) {
-			result[j] = new MyRegister(j, value[j * 2], value[j * 2 + 1], //
-					/*
-					 * On Set-Value event:
-					 */
-					register -> {
-						record.writeValue(component, register.getIndex(), register.getByte1(), register.getByte2());
-					});
+	protected void updateRequestChannels() {
+		var now = System.nanoTime();
+		var elapsed = now - this.lastUpdateRequestChannels;
+		this.lastUpdateRequestChannels = now;
+		var count = this.requestCount.sumThenReset();
+		var duration = this.requestDurationNanos.sumThenReset();
+
+		this.parent._setRequestRate(count / (elapsed / 1_000_000_000.));
+		if (count > 0) {
+			this.parent._setRequestDuration(duration / 1_000_000. / count);
+		} else {
+			this.parent._setRequestDuration(null);
 		}
-		return result;
 	}
 
 	/**********************************************
@@ -0,0 +1,168 @@
+package io.openems.edge.controller.api.modbus;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+
+/**
+ * Holds the values of all {@link ModbusRecord}s as one flat array of Modbus
+ * registers.
+ *
+ * <p>
+ * The values are rebuilt once per Cycle via {@link #update()}. Two buffers are
+ * used alternately: the Cycle fills the one that is currently not published
+ * while Modbus requests read from the other one without locking.
+ *
+ * <p>
+ * Writes are not forwarded to the {@link ModbusRecord}s immediately, but queued
+ * till the next Cycle calls {@link #applyWrites()}.
+ */
+class RegisterImage {
+
+	protected static class RecordEntry {
+		protected final ModbusRecord record;
+		protected final OpenemsComponent component;
+		protected final int words;
+		/** Queues writes to one of the registers of this Record. */
+		protected final Consumer<MyRegister> onSetValue;
+
+		private RecordEntry(ModbusRecord record, OpenemsComponent component, Queue<Runnable> writes) {
+			this.record = record;
+			this.component = component;
+			this.words = record.getType().getWords();
+			this.onSetValue = register -> {
+				var index = register.getIndex();
+				var byte1 = register.getByte1();
+				var byte2 = register.getByte2();
+				writes.add(() -> record.writeValue(component, index, byte1, byte2));
+			};
+		}
+	}
+
+	private static class Buffer {
+		private final byte[] data;
+		private final StampedLock lock = new StampedLock();
+
+		private Buffer(int length) {
+			this.data = new byte[length * 2];
+		}
+	}
+
+	/** The {@link RecordEntry} per start address of a Record; otherwise null. */
+	private final RecordEntry[] entries;
+	private final Buffer[] buffers;
+	private final Queue<Runnable> writes = new ConcurrentLinkedQueue<>();
+
+	private volatile Buffer current;
+
+	/**
+	 * Builds a {@link RegisterImage}.
+	 *
+	 * @param records      the {@link ModbusRecord}s by address
+	 * @param getComponent gets the {@link OpenemsComponent} for a Component-ID
+	 */
+	protected RegisterImage(Map<Integer, ModbusRecord> records, Function<String, OpenemsComponent> getComponent) {
+		var length = 0;
+		for (Entry<Integer, ModbusRecord> entry : records.entrySet()) {
+			length = Math.max(length, entry.getKey() + entry.getValue().getType().getWords());
+		}
+		this.entries = new RecordEntry[length];
+		for (Entry<Integer, ModbusRecord> entry : records.entrySet()) {
+			var record = entry.getValue();
+			this.entries[entry.getKey()] = new RecordEntry(record, getComponent.apply(record.getComponentId()),
+					this.writes);
+		}
+		this.buffers = new Buffer[] { new Buffer(length), new Buffer(length) };
+		this.current = this.buffers[0];
+	}
+
+	/**
+	 * Gets the number of registers.
+	 *
+	 * @return the length
+	 */
+	protected int getLength() {
+		return this.entries.length;
+	}
+
+	/**
+	 * Gets the {@link RecordEntry} of the Record that starts at the given address.
+	 *
+	 * @param address the Modbus address
+	 * @return the {@link RecordEntry}; null if no Record starts at this address
+	 */
+	protected RecordEntry getRecordEntry(int address) {
+		if (address < 0 || address >= this.entries.length) {
+			return null;
+		}
+		return this.entries[address];
+	}
+
+	/**
+	 * Reads the values of a range of registers.
+	 *
+	 * @param offset the start address
+	 * @param count  the number of registers
+	 * @return two bytes per register
+	 */
+	protected byte[] read(int offset, int count) {
+		var result = new byte[count * 2];
+		var buffer = this.current;
+		var lock = buffer.lock;
+		var stamp = lock.tryOptimisticRead();
+		System.arraycopy(buffer.data, offset * 2, result, 0, result.length);
+		if (!lock.validate(stamp)) {
+			// The buffer got reused by update() in the meantime
+			buffer = this.current;
+			lock = buffer.lock;
+			stamp = lock.readLock();
+			try {
+				System.arraycopy(buffer.data, offset * 2, result, 0, result.length);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Rebuilds the register values from the {@link ModbusRecord}s and publishes
+	 * them for reading. Call this once per Cycle.
+	 */
+	protected void update() {
+		var buffer = this.current == this.buffers[0] ? this.buffers[1] : this.buffers[0];
+		var stamp = buffer.lock.writeLock();
+		try {
+			for (var address = 0; address < this.entries.length; address++) {
+				var entry = this.entries[address];
+				if (entry == null) {
+					continue;
+				}
+				var value = entry.record.getValue(entry.component);
+				System.arraycopy(value, 0, buffer.data, address * 2, Math.min(value.length, entry.words * 2));
+			}
+		} finally {
+			buffer.lock.unlockWrite(stamp);
+		}
+		this.current = buffer;
+	}
+
+	/**
+	 * Forwards the queued writes to the {@link ModbusRecord}s. Call this once per
+	 * Cycle.
+	 */
+	protected void applyWrites() {
+		Runnable write;
+		while ((write = this.writes.poll()) != null) {
+			write.run();
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package io.openems.edge.controller.api.modbus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.modbusslave.ModbusRecord;
+import io.openems.edge.common.modbusslave.ModbusRecordUint16Hash;
+import io.openems.edge.common.modbusslave.ModbusRecordUint32;
+
+public class RegisterImageTest {
+
+	private static class TestRecord extends ModbusRecordUint32 {
+
+		private final List<String> writes = new ArrayList<>();
+		private int nextValue = 0;
+
+		public TestRecord() {
+			super(0, "Test", 0);
+		}
+
+		@Override
+		public byte[] getValue(OpenemsComponent component) {
+			return ModbusRecordUint32.toByteArray(this.nextValue);
+		}
+
+		@Override
+		public void writeValue(OpenemsComponent component, int index, byte byte1, byte byte2) {
+			this.writes.add(index + ":" + byte1 + ":" + byte2);
+		}
+	}
+
+	@Test
+	public void test() {
+		var testRecord = new TestRecord();
+		var records = new TreeMap<Integer, ModbusRecord>();
+		records.put(0, new ModbusRecordUint16Hash(0, "OpenEMS"));
+		records.put(1, testRecord);
+		var sut = new RegisterImage(records, componentId -> null);
+
+		assertEquals(3, sut.getLength());
+		assertEquals(1, sut.getRecordEntry(0).words);
+		assertEquals(2, sut.getRecordEntry(1).words);
+		assertNull(sut.getRecordEntry(2)); // inside a Record
+		assertNull(sut.getRecordEntry(3)); // out of range
+
+		// Values are available after update
+		testRecord.nextValue = 0x01020304;
+		assertArrayEquals(new byte[] { 0, 0 }, sut.read(1, 1));
+		sut.update();
+		var hash = (short) "OpenEMS".hashCode();
+		assertArrayEquals(new byte[] { (byte) (hash >> 8), (byte) hash, 1, 2, 3, 4 }, sut.read(0, 3));
+
+		testRecord.nextValue = 0x05060708;
+		sut.update();
+		assertArrayEquals(new byte[] { 5, 6, 7, 8 }, sut.read(1, 2));
+
+		// Writes are queued till applyWrites()
+		var entry = sut.getRecordEntry(1);
+		new MyRegister(0, (byte) 1, (byte) 2, entry.onSetValue).setValue((short) 0x0A0B);
+		new MyRegister(1, (byte) 3, (byte) 4, entry.onSetValue).setValue((short) 0x0C0D);
+		assertEquals(0, testRecord.writes.size());
+		sut.applyWrites();
+		assertEquals(List.of("0:10:11", "1:12:13"), testRecord.writes);
+	}
+
+}
@@ -1,14 +1,8 @@
 package io.openems.edge.controller.api.websocket;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
+import java.util.Set;
 
-import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
-import io.openems.common.jsonrpc.base.JsonrpcNotification;
-import io.openems.common.jsonrpc.notification.CurrentDataNotification;
-import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.types.ChannelAddress;
-import io.openems.edge.common.channel.Channel;
 
 public class SubscribedChannelsWorker extends io.openems.common.websocket.SubscribedChannelsWorker {
 
@@ -20,17 +14,13 @@ public class SubscribedChannelsWorker extends io.openems.common.websocket.Subscr
 	}
 
 	@Override
-	protected JsonElement getChannelValue(ChannelAddress channelAddress) {
-		try {
-			Channel<?> channel = this.parent.componentManager.getChannel(channelAddress);
-			return channel.value().asJson();
-		} catch (IllegalArgumentException | OpenemsNamedException e) {
-			return JsonNull.INSTANCE;
-		}
+	protected SubscribedChannelsHub subscribe(Set<ChannelAddress> channels) {
+		this.parent.subscribedChannelsHub.subscribe(this, channels);
+		return this.parent.subscribedChannelsHub;
 	}
 
 	@Override
-	protected JsonrpcNotification getJsonRpcNotification(CurrentDataNotification currentData) {
-		return new EdgeRpcNotification(WebsocketApi.EDGE_ID, currentData);
+	protected void unsubscribe() {
+		this.parent.subscribedChannelsHub.unsubscribe(this);
 	}
 }
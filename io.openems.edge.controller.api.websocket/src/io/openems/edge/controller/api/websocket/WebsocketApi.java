@@ -70,6 +70,11 @@ public class WebsocketApi extends AbstractOpenemsComponent
 
 	private final SystemLogHandler systemLogHandler;
 
+	/**
+	 * Publishes the current data of subscribed Channels to all sessions.
+	 */
+	protected final SubscribedChannelsHub subscribedChannelsHub = new SubscribedChannelsHub(this);
+
 	protected WebsocketServer server = null;
 
 	/**
@@ -1,5 +1,7 @@
 package io.openems.edge.controller.api;
 
+import java.util.Set;
+
 import org.osgi.annotation.versioning.ProviderType;
 
 import io.openems.common.channel.AccessMode;
@@ -23,6 +25,23 @@ public interface Controller extends OpenemsComponent {
 	 */
 	public void run() throws OpenemsNamedException;
 
+	/**
+	 * Gets the IDs of the Components this Controller writes to.
+	 *
+	 * <p>
+	 * If parallel Controller execution is activated in Core.Cycle, consecutive
+	 * Controllers with disjoint sets are executed concurrently. A Controller that
+	 * returns null - the default - is always executed exclusively and in the order
+	 * given by its Scheduler, e.g. to keep the priority order of ESS power
+	 * Controllers.
+	 *
+	 * @return a set of Component-IDs; empty if the Controller does not write to
+	 *         any Component; null if unknown
+	 */
+	public default Set<String> getWriteComponentIds() {
+		return null;
+	}
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		RUN_FAILED(Doc.of(Level.FAULT) //
 				.persistencePriority(PersistencePriority.HIGH) //
@@ -109,6 +109,12 @@ public class DebugLogImpl extends AbstractOpenemsComponent implements DebugLog,
 		this.logInfo(this.log, this.getLogMessage());
 	}
 
+	@Override
+	public Set<String> getWriteComponentIds() {
+		// Debug Log only reads Channels
+		return Set.of();
+	}
+
 	protected String getLogMessage() {
 		final List<String> result = new ArrayList<>();
 		/*
@@ -15,12 +15,12 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.filter.RampFilter;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.controller.ess.emergencycapacityreserve.statemachine.Context;
 import io.openems.edge.controller.ess.emergencycapacityreserve.statemachine.StateMachine;
@@ -187,11 +187,11 @@ public class EmergencyCapacityReserveImpl extends AbstractOpenemsComponent
 	 */
 	private OptionalInt getLastValidSoc(IntegerReadChannel channel) {
 		// get first defined value
-		return channel.getPastValues().values() //
-				.stream() //
-				.filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.findFirst();
+		var value = channel.getPastValuesBuffer().aggregateSince(Long.MIN_VALUE, Aggregation.FIRST);
+		if (Double.isNaN(value)) {
+			return OptionalInt.empty();
+		}
+		return OptionalInt.of((int) value);
 	}
 
 	@Override
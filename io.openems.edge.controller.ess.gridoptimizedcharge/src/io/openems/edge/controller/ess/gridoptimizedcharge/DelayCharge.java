@@ -1,20 +1,18 @@
 package io.openems.edge.controller.ess.gridoptimizedcharge;
 
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
-import java.util.stream.IntStream;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.StateChannel;
-import io.openems.edge.common.channel.value.Value;
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
 import io.openems.edge.ess.power.api.Phase;
 import io.openems.edge.ess.power.api.Pwr;
 
@@ -279,23 +277,16 @@ public class DelayCharge {
 		 */
 		IntegerReadChannel delayChargeLimitRawChannel = this.parent.getRawDelayChargeLimitChannel();
 
-		var pastLimits = delayChargeLimitRawChannel.getPastValues()
-				.tailMap(LocalDateTime.now(this.parent.componentManager.getClock()).minusSeconds(900), true) //
-				.values().stream().filter(Value::isDefined).mapToInt(Value::get);
+		var since = this.parent.componentManager.getClock().millis() - 900_000L - 1 /* inclusive */;
+		var pastLimits = delayChargeLimitRawChannel.getPastValuesBuffer();
+		var pastLimitsSum = pastLimits.aggregateSince(since, Aggregation.SUM);
+		var pastLimitsCount = pastLimits.countSince(since);
 
-		var currentLimit = IntStream.of(calculatedPower);
+		// Get the average of the limit values of the last 900 seconds including the
+		// current limit
+		var limitValue = ((pastLimitsCount > 0 ? pastLimitsSum : 0) + calculatedPower) / (pastLimitsCount + 1);
 
-		// Concat the limit values of the last 900 seconds with the current limit
-		var limits = IntStream.concat(pastLimits, currentLimit); //
-
-		// Get the average of the past values including the current
-		var limitValueOpt = limits.average();
-
-		if (!limitValueOpt.isPresent()) {
-			return null;
-		}
-
-		return (int) Math.round(limitValueOpt.getAsDouble());
+		return (int) Math.round(limitValue);
 	}
 
 	/**
@@ -1,9 +1,7 @@
 package io.openems.edge.controller.ess.gridoptimizedcharge;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.OptionalDouble;
 
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -23,13 +21,13 @@ import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.channel.IntegerReadChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.ComponentManagerProvider;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.filter.RampFilter;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
 import io.openems.edge.controller.api.Controller;
 import io.openems.edge.ess.api.ManagedSymmetricEss;
 import io.openems.edge.meter.api.SymmetricMeter;
@@ -354,20 +352,19 @@ public class GridOptimizedChargeImpl extends AbstractOpenemsComponent
 	 */
 	private OptionalDouble getChannelAverageOfPastSeconds(int consideredSeconds, IntegerReadChannel channel) {
 
-		// Get the past channel values
-		var pastValues = channel.getPastValues()
-				.tailMap(LocalDateTime.now(this.componentManager.getClock()).minusSeconds(consideredSeconds), true)
-				.values();
+		// Get the average of the past channel values
+		var since = this.componentManager.getClock().millis() - consideredSeconds * 1000L;
+		var average = channel.getPastValuesBuffer().aggregateSince(since - 1 /* inclusive */, Aggregation.AVERAGE);
+		if (!Double.isNaN(average)) {
+			return OptionalDouble.of(average);
+		}
 
 		// Make sure we have at least one value
-		if (pastValues.isEmpty()) {
-			pastValues = new ArrayList<>();
-			pastValues.add(channel.value());
+		var value = channel.value();
+		if (value.isDefined()) {
+			return OptionalDouble.of(value.get());
 		}
-
-		return pastValues.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
+		return OptionalDouble.empty();
 	}
 
 	protected void logDebug(String message) {
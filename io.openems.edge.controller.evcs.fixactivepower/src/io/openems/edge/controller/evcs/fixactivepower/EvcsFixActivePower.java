@@ -1,6 +1,7 @@
 package io.openems.edge.controller.evcs.fixactivepower;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -68,6 +69,11 @@ public class EvcsFixActivePower extends AbstractOpenemsComponent implements Cont
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getWriteComponentIds() {
+		return Set.of(this.config.evcs_id());
+	}
+
 	@Override
 	public void run() throws OpenemsNamedException {
 		var now = LocalDateTime.now(this.componentManager.getClock());
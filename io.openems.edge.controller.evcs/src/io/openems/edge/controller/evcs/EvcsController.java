@@ -2,6 +2,7 @@ package io.openems.edge.controller.evcs;
 
 import java.io.IOException;
 import java.time.Clock;
+import java.util.Set;
 
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -106,6 +107,12 @@ public class EvcsController extends AbstractOpenemsComponent implements Controll
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getWriteComponentIds() {
+		// ESS and Sum are only read
+		return Set.of(this.config.evcs_id());
+	}
+
 	/**
 	 * If the EVCS is clustered the method will set the charge power request.
 	 * Otherwise it will set directly the charge power limit.
@@ -2,6 +2,8 @@ package io.openems.edge.controller.evcs;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Set;
+
 import org.junit.Test;
 
 import io.openems.common.types.ChannelAddress;
@@ -312,4 +314,28 @@ public class EvcsControllerTest {
 						.output(evcs0MaximumPower, null)) //
 		;
 	}
+
+	@Test
+	public void testWriteComponentIds() throws Exception {
+		var sut = new EvcsController();
+		new ControllerTest(sut) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.addReference("sum", new DummySum()) //
+				.addReference("evcs", EVCS) //
+				.addReference("ess", ESS) //
+				.activate(MyConfig.create() //
+						.setId("ctrlEvcs0") //
+						.setEvcsId(EVCS_ID) //
+						.setEnableCharging(true) //
+						.setChargeMode(ChargeMode.EXCESS_POWER) //
+						.setForceChargeMinPower(FORCE_CHARGE_MIN_POWER) //
+						.setDefaultChargeMinPower(DEFAULT_CHARGE_MIN_POWER) //
+						.setPriority(Priority.CAR) //
+						.setEssId(ESS_ID) //
+						.setEnergySessionLimit(ENERGY_SESSION_LIMIT) //
+						.build()); //
+		assertEquals(Set.of(EVCS_ID), sut.getWriteComponentIds());
+	}
+
 }
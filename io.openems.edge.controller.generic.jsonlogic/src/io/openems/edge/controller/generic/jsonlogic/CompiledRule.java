@@ -0,0 +1,357 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.github.meiskalt7.jsonlogic.JsonLogicException;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicArray;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicNode;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicNumber;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicOperation;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicParser;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicPrimitive;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicPrimitiveType;
+import io.github.meiskalt7.jsonlogic.ast.JsonLogicVariable;
+import io.github.meiskalt7.jsonlogic.evaluator.JsonLogicEvaluationException;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.ConcatenateExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.EqualityExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.InExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.MathExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.NotExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.NumericComparisonExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.PreEvaluatedArgumentsExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.StrictEqualityExpression;
+import io.github.meiskalt7.jsonlogic.evaluator.expressions.SubstringExpression;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * A JsonLogic rule that is compiled once into a tree of {@link Node}s.
+ *
+ * <p>
+ * Every distinct "var" is resolved to a slot in a value array at compile time,
+ * so evaluation needs neither a data map nor string lookups. Results follow the
+ * semantics of the json-logic-java interpreter, e.g. numbers are evaluated as
+ * {@link Double}. Rules that use operations that are not supported here (e.g.
+ * "map", "filter", "reduce" or "missing") are not compiled; see
+ * {@link #compile(String)}.
+ *
+ * <p>
+ * Evaluation reuses internal argument arrays and is therefore not thread-safe.
+ */
+class CompiledRule {
+
+	/** Operations whose arguments are evaluated before the operation itself. */
+	private static final Map<String, PreEvaluatedArgumentsExpression> EXPRESSIONS = new HashMap<>();
+
+	static {
+		Stream.of(//
+				MathExpression.ADD, MathExpression.SUBTRACT, MathExpression.MULTIPLY, MathExpression.DIVIDE, //
+				MathExpression.MODULO, MathExpression.MIN, MathExpression.MAX, //
+				NumericComparisonExpression.GT, NumericComparisonExpression.GTE, //
+				NumericComparisonExpression.LT, NumericComparisonExpression.LTE, //
+				EqualityExpression.INSTANCE, StrictEqualityExpression.INSTANCE, //
+				NotExpression.SINGLE, NotExpression.DOUBLE, //
+				InExpression.INSTANCE, ConcatenateExpression.INSTANCE, SubstringExpression.INSTANCE //
+		).forEach(e -> EXPRESSIONS.put(e.key(), e));
+	}
+
+	private final Node root;
+	private final ChannelAddress[] channelAddresses;
+	private final Map<String, ChannelAddress> targets;
+
+	private CompiledRule(Node root, ChannelAddress[] channelAddresses, Map<String, ChannelAddress> targets) {
+		this.root = root;
+		this.channelAddresses = channelAddresses;
+		this.targets = targets;
+	}
+
+	/**
+	 * Compiles a JsonLogic rule.
+	 *
+	 * @param rule the JsonLogic rule
+	 * @return the {@link CompiledRule}; empty if the rule uses features that are
+	 *         not supported by the compiler and has to be evaluated by
+	 *         {@link JsonLogic} instead
+	 * @throws JsonLogicException if the rule can not be parsed
+	 */
+	public static Optional<CompiledRule> compile(String rule) throws JsonLogicException {
+		var compiler = new Compiler();
+		var root = compiler.compile(JsonLogicParser.parse(rule));
+		if (root == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new CompiledRule(root, //
+				compiler.slots.keySet().stream() //
+						.map(compiler.addresses::get) //
+						.toArray(ChannelAddress[]::new), //
+				compiler.addresses));
+	}
+
+	/**
+	 * Gets the Channels that are read by the rule. The order defines the slots of
+	 * the values array for {@link #evaluate(Object[])}.
+	 *
+	 * @return the {@link ChannelAddress}es
+	 */
+	public ChannelAddress[] getChannelAddresses() {
+		return this.channelAddresses;
+	}
+
+	/**
+	 * Evaluates the rule.
+	 *
+	 * @param values the values of the Channels in the order of
+	 *               {@link #getChannelAddresses()}
+	 * @return the result
+	 * @throws JsonLogicEvaluationException on error
+	 */
+	public Object evaluate(Object[] values) throws JsonLogicEvaluationException {
+		return this.root.evaluate(values);
+	}
+
+	/**
+	 * Parses a {@link ChannelAddress}; reuses the result for addresses that appear
+	 * as string constants in the rule.
+	 *
+	 * @param address the address as String
+	 * @return the {@link ChannelAddress}
+	 * @throws OpenemsNamedException if the address is invalid
+	 */
+	public ChannelAddress getChannelAddress(String address) throws OpenemsNamedException {
+		var result = this.targets.get(address);
+		if (result != null) {
+			return result;
+		}
+		return ChannelAddress.fromString(address);
+	}
+
+	/**
+	 * Converts a Channel value the same way the json-logic-java interpreter does
+	 * for values read from its data map.
+	 *
+	 * @param value the value
+	 * @return the converted value
+	 */
+	public static Object toValue(Object value) {
+		if (value instanceof Integer) {
+			return ((Integer) value).doubleValue();
+		}
+		return value;
+	}
+
+	private static interface Node {
+		public Object evaluate(Object[] values) throws JsonLogicEvaluationException;
+	}
+
+	private static class Compiler {
+
+		/** Slot index by variable name. */
+		private final Map<String, Integer> slots = new LinkedHashMap<>();
+
+		/** Parsed addresses of variables and string constants. */
+		private final Map<String, ChannelAddress> addresses = new HashMap<>();
+
+		/**
+		 * Compiles a node.
+		 *
+		 * @param node the {@link JsonLogicNode}
+		 * @return the {@link Node}; null if not supported
+		 */
+		private Node compile(JsonLogicNode node) {
+			switch (node.getType()) {
+			case PRIMITIVE:
+				return this.compilePrimitive((JsonLogicPrimitive<?>) node);
+			case VARIABLE:
+				return this.compileVariable((JsonLogicVariable) node);
+			case ARRAY:
+				return this.compileArray((JsonLogicArray) node);
+			case OPERATION:
+				return this.compileOperation((JsonLogicOperation) node);
+			}
+			return null;
+		}
+
+		private Node compilePrimitive(JsonLogicPrimitive<?> node) {
+			final Object value;
+			if (node.getPrimitiveType() == JsonLogicPrimitiveType.NUMBER) {
+				value = ((JsonLogicNumber) node).getValue().doubleValue();
+			} else {
+				value = node.getValue();
+			}
+			if (value instanceof String) {
+				// Pre-parse possible target Channel addresses
+				var string = (String) value;
+				try {
+					this.addresses.putIfAbsent(string, ChannelAddress.fromString(string));
+				} catch (OpenemsNamedException e) {
+					// not a ChannelAddress
+				}
+			}
+			return new Constant(value);
+		}
+
+		private Node compileVariable(JsonLogicVariable node) {
+			if (!(node.getKey() instanceof JsonLogicPrimitive<?>)
+					|| ((JsonLogicPrimitive<?>) node.getKey()).getPrimitiveType() != JsonLogicPrimitiveType.STRING
+					|| !(node.getDefaultValue() instanceof JsonLogicPrimitive<?>)) {
+				return null;
+			}
+			var key = (String) ((JsonLogicPrimitive<?>) node.getKey()).getValue();
+			if (key.isEmpty() || key.contains(".")) {
+				// interpreter returns the data itself or walks nested objects
+				return null;
+			}
+			final ChannelAddress address;
+			try {
+				address = ChannelAddress.fromString(key);
+			} catch (OpenemsNamedException e) {
+				return null;
+			}
+			this.addresses.put(key, address);
+			var slot = this.slots.computeIfAbsent(key, k -> this.slots.size());
+			var defaultValue = ((Constant) this.compilePrimitive((JsonLogicPrimitive<?>) node.getDefaultValue())).value;
+			return values -> {
+				var value = values[slot];
+				return value != null ? value : defaultValue;
+			};
+		}
+
+		private Node compileArray(JsonLogicArray node) {
+			var elements = this.compileAll(node);
+			if (elements == null) {
+				return null;
+			}
+			if (Stream.of(elements).allMatch(Constant.class::isInstance)) {
+				// Evaluate constant arrays - like typical Set-Channel requests - only once
+				var list = new ArrayList<Object>(elements.length);
+				for (Node element : elements) {
+					list.add(((Constant) element).value);
+				}
+				return new Constant(Collections.unmodifiableList(list));
+			}
+			return values -> {
+				var result = new ArrayList<Object>(elements.length);
+				for (Node element : elements) {
+					result.add(element.evaluate(values));
+				}
+				return result;
+			};
+		}
+
+		private Node compileOperation(JsonLogicOperation node) {
+			var args = this.compileAll(node.getArguments());
+			if (args == null) {
+				return null;
+			}
+			switch (node.getOperator()) {
+			case "if":
+			case "?:":
+				return compileIf(args);
+			case "and":
+				return compileLogic(args, true);
+			case "or":
+				return compileLogic(args, false);
+			case "!=":
+				return compileNot(compileExpression(EqualityExpression.INSTANCE, args));
+			case "!==":
+				return compileNot(compileExpression(StrictEqualityExpression.INSTANCE, args));
+			}
+			var expression = EXPRESSIONS.get(node.getOperator());
+			if (expression == null) {
+				return null;
+			}
+			return compileExpression(expression, args);
+		}
+
+		private Node[] compileAll(JsonLogicArray nodes) {
+			var result = new Node[nodes.size()];
+			for (var i = 0; i < result.length; i++) {
+				result[i] = this.compile(nodes.get(i));
+				if (result[i] == null) {
+					return null;
+				}
+			}
+			return result;
+		}
+
+		private static Node compileIf(Node[] args) {
+			switch (args.length) {
+			case 0:
+				return new Constant(null);
+			case 1:
+				return args[0];
+			}
+			return values -> {
+				for (var i = 0; i < args.length - 1; i += 2) {
+					if (JsonLogic.truthy(args[i].evaluate(values))) {
+						return args[i + 1].evaluate(values);
+					}
+				}
+				if (args.length % 2 == 1) {
+					return args[args.length - 1].evaluate(values);
+				}
+				return null;
+			};
+		}
+
+		private static Node compileLogic(Node[] args, boolean isAnd) {
+			if (args.length < 1) {
+				var message = (isAnd ? "and" : "or") + " operator expects at least 1 argument";
+				return values -> {
+					throw new JsonLogicEvaluationException(message);
+				};
+			}
+			return values -> {
+				Object result = null;
+				for (Node arg : args) {
+					result = arg.evaluate(values);
+					if (JsonLogic.truthy(result) != isAnd) {
+						return result;
+					}
+				}
+				return result;
+			};
+		}
+
+		private static Node compileNot(Node node) {
+			return values -> !(Boolean) node.evaluate(values);
+		}
+
+		private static Node compileExpression(PreEvaluatedArgumentsExpression expression, Node[] args) {
+			// Arguments are collected in a reused array; the expressions do not keep a
+			// reference to the list
+			var evaluated = new Object[args.length];
+			var list = Arrays.asList(evaluated);
+			return values -> {
+				for (var i = 0; i < args.length; i++) {
+					evaluated[i] = args[i].evaluate(values);
+				}
+				return expression.evaluate(list, null);
+			};
+		}
+	}
+
+	private static class Constant implements Node {
+
+		private final Object value;
+
+		private Constant(Object value) {
+			this.value = value;
+		}
+
+		@Override
+		public Object evaluate(Object[] values) {
+			return this.value;
+		}
+	}
+
+}
@@ -13,6 +13,8 @@ import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
@@ -37,11 +39,16 @@ import io.openems.edge.controller.api.Controller;
 )
 public class JsonLogicController extends AbstractOpenemsComponent implements Controller, OpenemsComponent {
 
+	private final Logger log = LoggerFactory.getLogger(JsonLogicController.class);
 	private final JsonLogic jsonLogic = new JsonLogic();
 	private final List<ChannelAddress> channelAddresses = new ArrayList<>();
 
 	private Config config = null;
 
+	/** The compiled rule; null if the rule has to be interpreted. */
+	private CompiledRule compiledRule = null;
+	private Object[] values = null;
+
 	@Reference
 	private ComponentManager componentManager;
 
@@ -74,6 +81,17 @@ public class JsonLogicController extends AbstractOpenemsComponent implements Con
 		this.config = config;
 
 		this.recursivelyParseVars(JsonUtils.parse(config.rule()));
+
+		try {
+			this.compiledRule = CompiledRule.compile(config.rule()).orElse(null);
+		} catch (JsonLogicException e) {
+			this.compiledRule = null;
+		}
+		if (this.compiledRule != null) {
+			this.values = new Object[this.compiledRule.getChannelAddresses().length];
+		} else {
+			this.logInfo(this.log, "Rule can not be compiled. Falling back to JsonLogic interpreter");
+		}
 	}
 
 	@Override
@@ -114,17 +132,14 @@ public class JsonLogicController extends AbstractOpenemsComponent implements Con
 
 	@Override
 	public void run() throws OpenemsNamedException {
-		// Read JsonLogic data from Channels
-		Map<String, Object> data = new HashMap<>();
-		for (ChannelAddress channelAddress : this.channelAddresses) {
-			Object value = this.componentManager.getChannel(channelAddress).value().get();
-			data.put(channelAddress.toString(), value);
-		}
-
 		// Apply JsonLogic rule
 		List<?> result;
 		try {
-			result = (List<?>) this.jsonLogic.apply(this.config.rule(), data);
+			if (this.compiledRule != null) {
+				result = (List<?>) this.evaluateCompiled();
+			} else {
+				result = (List<?>) this.evaluateInterpreted();
+			}
 		} catch (JsonLogicException e) {
 			throw new OpenemsException("JsonLogicException: " + e.getMessage());
 		} catch (ClassCastException e) {
@@ -134,12 +149,35 @@ public class JsonLogicController extends AbstractOpenemsComponent implements Con
 		// Get Set-Channel requests
 		for (Object entry : result) {
 			List<?> request = (List<?>) entry;
-			var channelAddress = ChannelAddress.fromString((String) request.get(0));
+			var address = (String) request.get(0);
+			var channelAddress = this.compiledRule != null //
+					? this.compiledRule.getChannelAddress(address) //
+					: ChannelAddress.fromString(address);
 			WriteChannel<?> channel = this.componentManager.getChannel(channelAddress);
 			Object value = request.get(1);
 			channel.setNextWriteValueFromObject(value);
 		}
 	}
+
+	private Object evaluateCompiled() throws OpenemsNamedException, JsonLogicException {
+		// Read JsonLogic data from Channels into the slots of the compiled rule
+		var channelAddresses = this.compiledRule.getChannelAddresses();
+		for (var i = 0; i < channelAddresses.length; i++) {
+			Object value = this.componentManager.getChannel(channelAddresses[i]).value().get();
+			this.values[i] = CompiledRule.toValue(value);
+		}
+		return this.compiledRule.evaluate(this.values);
+	}
+
+	private Object evaluateInterpreted() throws OpenemsNamedException, JsonLogicException {
+		// Read JsonLogic data from Channels
+		Map<String, Object> data = new HashMap<>();
+		for (ChannelAddress channelAddress : this.channelAddresses) {
+			Object value = this.componentManager.getChannel(channelAddress).value().get();
+			data.put(channelAddress.toString(), value);
+		}
+		return this.jsonLogic.apply(this.config.rule(), data);
+	}
 }
 
 // TODO: once gson version 2.8.6 or higher is compatible with OSGi on Java 8: use json-logic library
@@ -0,0 +1,103 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Test;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.openems.common.types.ChannelAddress;
+
+public class CompiledRuleTest {
+
+	private static final String SOC = "_sum/EssSoc";
+	private static final String GRID = "_sum/GridActivePower";
+	private static final String INPUT = "io0/InputOutput0";
+
+	private static final String[] RULES = { //
+			"{\"if\": [{\"<\": [{\"var\": \"" + SOC + "\"}, 50]}, [[\"ess0/SetActivePowerEquals\", 5000]],"
+					+ " [[\"ess0/SetActivePowerEquals\", -2000]]]}", //
+			"{\"if\": [{\"var\": \"" + INPUT + "\"}, [[\"io0/InputOutput1\", true]], []]}", //
+			"{\"if\": [{\">\": [{\"var\": \"" + GRID + "\"}, 1000]}, \"a\","
+					+ " {\"<=\": [0, {\"var\": \"" + SOC + "\"}, 20]}, \"b\", \"c\"]}", //
+			"{\"?:\": [{\"==\": [{\"var\": \"" + SOC + "\"}, 50]}, 1]}", //
+			"[[\"ess0/SetActivePowerEquals\", {\"*\": [{\"var\": [\"" + GRID + "\", 7]}, -1]}]]", //
+			"{\"and\": [{\"var\": \"" + INPUT + "\"}, {\"-\": [{\"var\": \"" + SOC + "\"}, 10]}]}", //
+			"{\"or\": [{\"var\": \"" + INPUT + "\"}, {\"max\": [{\"var\": \"" + SOC + "\"}, 10]}, 3]}", //
+			"{\"!=\": [{\"var\": \"" + SOC + "\"}, 50]}", //
+			"{\"!==\": [{\"var\": \"" + SOC + "\"}, 50]}", //
+			"{\"!\": [{\"var\": \"" + INPUT + "\"}]}", //
+			"{\"cat\": [\"SoC: \", {\"var\": \"" + SOC + "\"}]}", //
+	};
+
+	private static final Object[][] VALUES = { //
+			{ 40, 2000, true }, //
+			{ 50, -500, false }, //
+			{ 15, 0, null }, //
+			{ null, null, null }, //
+	};
+
+	@Test
+	public void testCompiledEqualsInterpreted() throws Exception {
+		var jsonLogic = new JsonLogic();
+		for (String rule : RULES) {
+			var sut = CompiledRule.compile(rule).get();
+			for (Object[] values : VALUES) {
+				var data = new HashMap<String, Object>();
+				data.put(SOC, values[0]);
+				data.put(GRID, values[1]);
+				data.put(INPUT, values[2]);
+
+				var slots = sut.getChannelAddresses();
+				var compiledValues = new Object[slots.length];
+				for (var i = 0; i < slots.length; i++) {
+					compiledValues[i] = CompiledRule.toValue(data.get(slots[i].toString()));
+				}
+
+				assertEquals(rule + " " + data, //
+						outcome(() -> jsonLogic.apply(rule, data)), outcome(() -> sut.evaluate(compiledValues)));
+			}
+		}
+	}
+
+	/**
+	 * Gets the result or - for errors like null values in "cat" - the type of the
+	 * exception.
+	 */
+	private static Object outcome(Callable<Object> evaluation) {
+		try {
+			return evaluation.call();
+		} catch (Exception e) {
+			return e.getClass();
+		}
+	}
+
+	@Test
+	public void testChannelAddresses() throws Exception {
+		var sut = CompiledRule.compile(RULES[5]).get();
+		assertArrayEquals(new ChannelAddress[] { //
+				ChannelAddress.fromString(INPUT), ChannelAddress.fromString(SOC) }, sut.getChannelAddresses());
+
+		// Set-Channel requests are constant and parsed once
+		sut = CompiledRule.compile(RULES[0]).get();
+		var result = (List<?>) sut.evaluate(new Object[] { 40. });
+		var address = (String) ((List<?>) result.get(0)).get(0);
+		assertSame(sut.getChannelAddress(address), sut.getChannelAddress(address));
+		assertEquals(ChannelAddress.fromString("ess0/SetActivePowerEquals"), sut.getChannelAddress(address));
+	}
+
+	@Test
+	public void testUnsupported() throws Exception {
+		assertTrue(CompiledRule.compile("{\"missing\": [\"" + SOC + "\"]}").isEmpty());
+		assertTrue(CompiledRule.compile("{\"var\": \"a.b\"}").isEmpty());
+		assertFalse(CompiledRule.compile("{\"var\": \"" + SOC + "\"}").isEmpty());
+	}
+
+}
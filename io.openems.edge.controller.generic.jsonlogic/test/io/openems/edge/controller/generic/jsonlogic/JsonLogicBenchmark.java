@@ -0,0 +1,127 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.github.meiskalt7.jsonlogic.JsonLogicException;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Compares one evaluation of a JsonLogic rule - reading the Channel values,
+ * evaluating the rule and parsing the Set-Channel requests - by the
+ * json-logic-java interpreter (as before) and by a {@link CompiledRule}.
+ *
+ * <p>
+ * Run via {@link #main(String[])}; it is not executed as part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonLogicBenchmark {
+
+	private static final String PRODUCTION = "_sum/ProductionActivePower";
+	private static final String SOC = "_sum/EssSoc";
+	private static final String INPUT = "io0/InputOutput0";
+
+	private static final String RULE = "{\"if\": [" //
+			+ "{\">\": [{\"var\": \"" + PRODUCTION + "\"}, 2000]}, " //
+			+ "{\"if\": [{\">\": [{\"var\": \"" + SOC + "\"}, 70]}, " //
+			+ "  {\"if\": [{\"var\": \"" + INPUT + "\"}, [], [[\"io0/InputOutput1\", true]]]}, " //
+			+ "  [[\"io0/InputOutput1\", false], [\"io0/InputOutput2\", true]]]}, " //
+			+ "[[\"io0/InputOutput1\", false], [\"io0/InputOutput2\", false]]" //
+			+ "]}";
+
+	private static final Object[][] VALUES = { //
+			{ 3000, 80, false }, //
+			{ 3000, 50, true }, //
+			{ 1000, 80, true }, //
+	};
+
+	private final JsonLogic jsonLogic = new JsonLogic();
+	private ChannelAddress[] channelAddresses;
+	private CompiledRule compiledRule;
+	private Object[] values;
+	private int next = 0;
+
+	@Setup
+	public void setup() throws OpenemsNamedException, JsonLogicException {
+		this.channelAddresses = new ChannelAddress[] { //
+				ChannelAddress.fromString(PRODUCTION), //
+				ChannelAddress.fromString(SOC), //
+				ChannelAddress.fromString(INPUT) };
+		this.compiledRule = CompiledRule.compile(RULE).get();
+		this.values = new Object[this.compiledRule.getChannelAddresses().length];
+	}
+
+	private Object[] nextValues() {
+		var index = this.next;
+		this.next = index + 1 == VALUES.length ? 0 : index + 1;
+		return VALUES[index];
+	}
+
+	@Benchmark
+	public int interpreted() throws OpenemsNamedException, JsonLogicException {
+		var values = this.nextValues();
+		Map<String, Object> data = new HashMap<>();
+		for (var i = 0; i < this.channelAddresses.length; i++) {
+			data.put(this.channelAddresses[i].toString(), values[i]);
+		}
+		var result = (List<?>) this.jsonLogic.apply(RULE, data);
+		var hash = 0;
+		for (Object entry : result) {
+			var request = (List<?>) entry;
+			hash += ChannelAddress.fromString((String) request.get(0)).hashCode();
+		}
+		return hash;
+	}
+
+	@Benchmark
+	public int compiled() throws OpenemsNamedException, JsonLogicException {
+		var values = this.nextValues();
+		// Slots are in order of first appearance in the rule, i.e. like VALUES
+		for (var i = 0; i < this.values.length; i++) {
+			this.values[i] = CompiledRule.toValue(values[i]);
+		}
+		var result = (List<?>) this.compiledRule.evaluate(this.values);
+		var hash = 0;
+		for (Object entry : result) {
+			var request = (List<?>) entry;
+			hash += this.compiledRule.getChannelAddress((String) request.get(0)).hashCode();
+		}
+		return hash;
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the command line arguments
+	 * @throws RunnerException on error
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder() //
+				.include(JsonLogicBenchmark.class.getSimpleName()) //
+				.build()).run();
+	}
+
+}
@@ -1,5 +1,7 @@
 package io.openems.edge.controller.io.alarm;
 
+import java.util.Set;
+
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -34,6 +36,7 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 	protected ComponentManager componentManager;
 
 	private Config config;
+	private Set<String> writeComponentIds;
 
 	public IoAlarm() {
 		super(//
@@ -61,6 +64,7 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 	void activate(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
+		this.writeComponentIds = Set.of(ChannelAddress.fromString(config.outputChannelAddress()).getComponentId());
 	}
 
 	@Override
@@ -69,6 +73,11 @@ public class IoAlarm extends AbstractOpenemsComponent implements Controller, Ope
 		super.deactivate();
 	}
 
+	@Override
+	public Set<String> getWriteComponentIds() {
+		return this.writeComponentIds;
+	}
+
 	@Override
 	public void run() throws IllegalArgumentException, OpenemsNamedException {
 		var setOutput = false;
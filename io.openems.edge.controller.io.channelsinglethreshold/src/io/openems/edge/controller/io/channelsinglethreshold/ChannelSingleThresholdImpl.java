@@ -23,10 +23,10 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.channel.IntegerReadChannel;
 import io.openems.edge.common.channel.WriteChannel;
-import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
 import io.openems.edge.controller.api.Controller;
 
 @Designate(ocd = Config.class, factory = true)
@@ -148,22 +148,22 @@ public class ChannelSingleThresholdImpl extends AbstractOpenemsComponent
 
 		// Get average input value of the last 'minimumSwitchingTime' seconds
 		IntegerReadChannel inputChannel = this.componentManager.getChannel(inputChannelAddress);
-		var values = inputChannel.getPastValues().tailMap(
-				LocalDateTime.now(this.componentManager.getClock()).minusSeconds(this.config.minimumSwitchingTime()),
-				true).values();
+		var since = this.componentManager.getClock().millis() - this.config.minimumSwitchingTime() * 1000L;
+		var pastValues = inputChannel.getPastValuesBuffer();
+		var inputValueAvg = pastValues == null ? Double.NaN
+				: pastValues.aggregateSince(since - 1 /* inclusive */, Aggregation.AVERAGE);
 
 		// make sure we have at least one value
-		if (values.isEmpty()) {
-			values = new ArrayList<>();
-			values.add(inputChannel.value());
+		if (Double.isNaN(inputValueAvg)) {
+			var value = inputChannel.value();
+			if (value.isDefined()) {
+				inputValueAvg = value.get();
+			}
 		}
 
-		var inputValueOpt = values.stream().filter(Value::isDefined) //
-				.mapToInt(Value::get) //
-				.average();
 		int inputValue;
-		if (inputValueOpt.isPresent()) {
-			inputValue = (int) Math.round(inputValueOpt.getAsDouble());
+		if (!Double.isNaN(inputValueAvg)) {
+			inputValue = (int) Math.round(inputValueAvg);
 
 			/*
 			 * Power value (switchedLoadPower) of the output device is added to the input
@@ -191,7 +191,7 @@ public class ChannelSingleThresholdImpl extends AbstractOpenemsComponent
 			/*
 			 * Starting... state is still undefined
 			 */
-			if (inputValueOpt.isPresent()) {
+			if (!Double.isNaN(inputValueAvg)) {
 				if (inputValue <= this.config.threshold()) {
 					this.changeState(State.BELOW_THRESHOLD);
 				} else {
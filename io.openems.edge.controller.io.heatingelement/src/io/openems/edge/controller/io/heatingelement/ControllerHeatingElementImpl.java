@@ -3,6 +3,8 @@ package io.openems.edge.controller.io.heatingelement;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -69,6 +71,11 @@ public class ControllerHeatingElementImpl extends AbstractOpenemsComponent
 
 	private Config config;
 
+	/**
+	 * The Components of the output Channels; null if unknown.
+	 */
+	private Set<String> writeComponentIds = null;
+
 	/**
 	 * Holds the minimum time the phases should be switch on in [Ws].
 	 */
@@ -115,6 +122,22 @@ public class ControllerHeatingElementImpl extends AbstractOpenemsComponent
 	private void updateConfig(Config config) {
 		this.config = config;
 		this.minimumTotalPhaseTime = calculateMinimumTotalPhaseTime(config);
+		try {
+			var writeComponentIds = new HashSet<String>();
+			for (String channel : new String[] { config.outputChannelPhaseL1(), config.outputChannelPhaseL2(),
+					config.outputChannelPhaseL3() }) {
+				writeComponentIds.add(ChannelAddress.fromString(channel).getComponentId());
+			}
+			this.writeComponentIds = Set.copyOf(writeComponentIds);
+		} catch (OpenemsNamedException e) {
+			// invalid Channel-Address is reported by run()
+			this.writeComponentIds = null;
+		}
+	}
+
+	@Override
+	public Set<String> getWriteComponentIds() {
+		return this.writeComponentIds;
 	}
 
 	@Override
@@ -1,8 +1,11 @@
 package io.openems.edge.controller.io.heatingelement;
 
+import static org.junit.Assert.assertEquals;
+
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -185,4 +188,27 @@ public class HeatingElementTest {
 						.output(CTRL_PHASE3TIME, 0)); //
 	}
 
+	@Test
+	public void testWriteComponentIds() throws Exception {
+		var sut = new ControllerHeatingElementImpl();
+		new ControllerTest(sut) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.addReference("sum", new DummySum()) //
+				.addComponent(new DummyInputOutput(IO_ID)) //
+				.activate(MyConfig.create() //
+						.setId(CTRL_ID) //
+						.setOutputChannelPhaseL1(IO_OUTPUT1.toString()) //
+						.setOutputChannelPhaseL2(IO_OUTPUT2.toString()) //
+						.setOutputChannelPhaseL3("io1/InputOutput1") //
+						.setEndTime("15:45:00") //
+						.setPowerOfPhase(2000) //
+						.setMode(Mode.AUTOMATIC) //
+						.setDefaultLevel(Level.LEVEL_3) //
+						.setWorkMode(WorkMode.TIME) //
+						.setMinTime(1) //
+						.setMinimumSwitchingTime(60) //
+						.build()); //
+		assertEquals(Set.of(IO_ID, "io1"), sut.getWriteComponentIds());
+	}
+
 }
@@ -9,7 +9,9 @@ import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.osgi.framework.BundleContext;
@@ -89,17 +91,43 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 	@Reference
 	protected ServiceComponentRuntime serviceComponentRuntime;
 
+	private final List<OpenemsComponent> enabledComponents = new CopyOnWriteArrayList<>();
+	private final List<OpenemsComponent> allComponents = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Holds the Components by their Component-ID. This avoids iterating the lists
+	 * on every {@link #getComponent(String)}.
+	 */
+	private final Map<String, OpenemsComponent> enabledComponentsById = new ConcurrentHashMap<>();
+	private final Map<String, OpenemsComponent> allComponentsById = new ConcurrentHashMap<>();
+
 	@Reference(policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
 			cardinality = ReferenceCardinality.MULTIPLE, //
 			target = "(&(enabled=true)(!(service.factoryPid=Core.ComponentManager)))")
-	private volatile List<OpenemsComponent> enabledComponents = new CopyOnWriteArrayList<>();
+	protected void addEnabledComponent(OpenemsComponent component) {
+		this.enabledComponents.add(component);
+		addToIndex(this.enabledComponentsById, component);
+	}
+
+	protected void removeEnabledComponent(OpenemsComponent component) {
+		this.enabledComponents.remove(component);
+		removeFromIndex(this.enabledComponentsById, component);
+	}
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
 			cardinality = ReferenceCardinality.MULTIPLE, //
 			target = "(!(service.factoryPid=Core.ComponentManager))")
-	private volatile List<OpenemsComponent> allComponents = new CopyOnWriteArrayList<>();
+	protected void addComponent(OpenemsComponent component) {
+		this.allComponents.add(component);
+		addToIndex(this.allComponentsById, component);
+	}
+
+	protected void removeComponent(OpenemsComponent component) {
+		this.allComponents.remove(component);
+		removeFromIndex(this.allComponentsById, component);
+	}
 
 	public ComponentManagerImpl() {
 		super(//
@@ -158,6 +186,72 @@ public class ComponentManagerImpl extends AbstractOpenemsComponent
 		return Collections.unmodifiableList(this.allComponents);
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends OpenemsComponent> T getComponent(String componentId) throws OpenemsNamedException {
+		if (SINGLETON_COMPONENT_ID.equals(componentId)) {
+			return (T) this;
+		}
+		return (T) getFromIndex(this.enabledComponentsById, this.enabledComponents, componentId);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends OpenemsComponent> T getPossiblyDisabledComponent(String componentId)
+			throws OpenemsNamedException {
+		if (SINGLETON_COMPONENT_ID.equals(componentId)) {
+			return (T) this;
+		}
+		return (T) getFromIndex(this.allComponentsById, this.allComponents, componentId);
+	}
+
+	private static void addToIndex(Map<String, OpenemsComponent> index, OpenemsComponent component) {
+		var id = component.id();
+		if (id != null) {
+			index.putIfAbsent(id, component);
+		}
+	}
+
+	private static void removeFromIndex(Map<String, OpenemsComponent> index, OpenemsComponent component) {
+		var id = component.id();
+		if (id == null || !index.remove(id, component)) {
+			// The Component-ID might have changed after binding
+			index.values().remove(component);
+		}
+	}
+
+	/**
+	 * Gets a Component from the index.
+	 *
+	 * <p>
+	 * Falls back to iterating the list if the index is outdated, e.g. because the
+	 * Component-ID was changed after binding or because of duplicated
+	 * Component-IDs, and updates the index.
+	 *
+	 * @param index       the index
+	 * @param components  the list of Components
+	 * @param componentId the Component-ID
+	 * @return the Component
+	 * @throws OpenemsNamedException if the Component was not found
+	 */
+	private static OpenemsComponent getFromIndex(Map<String, OpenemsComponent> index,
+			List<OpenemsComponent> components, String componentId) throws OpenemsNamedException {
+		var component = index.get(componentId);
+		if (component != null && componentId.equals(component.id())) {
+			return component;
+		}
+		for (OpenemsComponent c : components) {
+			if (componentId.equals(c.id())) {
+				index.put(componentId, c);
+				return c;
+			}
+		}
+		if (component != null) {
+			index.remove(componentId, component);
+		}
+		throw OpenemsError.EDGE_NO_COMPONENT_WITH_ID.exception(componentId);
+	}
+
 	@Override
 	public String debugLog() {
 		final List<String> logs = new ArrayList<>();
@@ -13,6 +13,12 @@ import io.openems.edge.common.cycle.Cycle;
 	@AttributeDefinition(name = "Cycle-Time", description = "The duration of one global OpenEMS Cycle in [ms]")
 	int cycleTime() default Cycle.DEFAULT_CYCLE_TIME;
 
+	@AttributeDefinition(name = "Process-Image Parallelism", description = "Number of threads for switching the process image of all Components. '1' switches sequentially. Only Components without onUpdate- or onChange-Callbacks are switched concurrently; Components with Callbacks follow sequentially.")
+	int processImageParallelism() default 1;
+
+	@AttributeDefinition(name = "Controller Parallelism", description = "Number of threads for executing Controllers that declare non-conflicting write targets. '1' executes all Controllers sequentially.")
+	int controllerParallelism() default 1;
+
 	String webconsole_configurationFactory_nameHint() default "Core Cycle";
 
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -20,11 +23,17 @@ import org.slf4j.Logger;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.session.Role;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.cycle.Cycle;
+import io.openems.edge.common.jsonapi.JsonApi;
 import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.user.User;
+import io.openems.edge.controller.api.Controller;
 import io.openems.edge.scheduler.api.Scheduler;
 
 @Designate(ocd = Config.class, factory = false)
@@ -35,7 +44,9 @@ import io.openems.edge.scheduler.api.Scheduler;
 		property = { //
 				"enabled=true" //
 		})
-public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
+public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle, JsonApi {
+
+	protected final CycleTimings timings = new CycleTimings();
 
 	private final CycleWorker worker = new CycleWorker(this);
 
@@ -76,10 +87,46 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	/**
+	 * Holds all - possibly disabled - Controllers by their Component-ID. This
+	 * avoids resolving every Controller via {@link ComponentManager} on every
+	 * Cycle.
+	 */
+	private final Map<String, Controller> controllers = new ConcurrentHashMap<>();
+
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE)
+	protected void addController(Controller controller) {
+		this.controllers.put(controller.id(), controller);
+	}
+
+	protected void removeController(Controller controller) {
+		this.controllers.remove(controller.id(), controller);
+	}
+
+	/**
+	 * Gets the - possibly disabled - Controller with the given Component-ID.
+	 *
+	 * @param controllerId the Component-ID
+	 * @return the Controller
+	 * @throws OpenemsNamedException if the Controller does not exist
+	 */
+	protected Controller getController(String controllerId) throws OpenemsNamedException {
+		var controller = this.controllers.get(controllerId);
+		if (controller != null && controllerId.equals(controller.id())) {
+			return controller;
+		}
+		// Fallback, e.g. if the Component-ID changed after binding
+		return this.componentManager.getPossiblyDisabledComponent(controllerId);
+	}
+
 	public CycleImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
-				Cycle.ChannelId.values() //
+				Cycle.ChannelId.values(), //
+				CycleTimings.ChannelId.values() //
 		);
 	}
 
@@ -114,6 +161,22 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		}
 	}
 
+	@Override
+	public CompletableFuture<? extends JsonrpcResponseSuccess> handleJsonrpcRequest(User user, JsonrpcRequest request)
+			throws OpenemsNamedException {
+		switch (request.getMethod()) {
+		case GetCycleTimingsRequest.METHOD:
+			return this.handleGetCycleTimingsRequest(user, GetCycleTimingsRequest.from(request));
+		}
+		return null;
+	}
+
+	private CompletableFuture<? extends JsonrpcResponseSuccess> handleGetCycleTimingsRequest(User user,
+			GetCycleTimingsRequest request) throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("getCycleTimings", Role.ADMIN);
+		return CompletableFuture.completedFuture(new GetCycleTimingsResponse(request.getId(), this.timings.toJson()));
+	}
+
 	@Override
 	protected void logInfo(Logger log, String message) {
 		super.logInfo(log, message);
@@ -124,6 +187,32 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	/**
+	 * Gets the configured number of threads for the process image switch.
+	 *
+	 * @return the parallelism; '1' for sequential
+	 */
+	protected int getProcessImageParallelism() {
+		var config = this.config;
+		if (config != null) {
+			return Math.max(1, config.processImageParallelism());
+		}
+		return 1;
+	}
+
+	/**
+	 * Gets the configured number of threads for executing Controllers.
+	 *
+	 * @return the parallelism; '1' for sequential
+	 */
+	protected int getControllerParallelism() {
+		var config = this.config;
+		if (config != null) {
+			return Math.max(1, config.controllerParallelism());
+		}
+		return 1;
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
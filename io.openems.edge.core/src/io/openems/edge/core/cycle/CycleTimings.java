@@ -0,0 +1,247 @@
+package io.openems.edge.core.cycle;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.event.EdgeEventConstants;
+import io.openems.edge.common.type.DurationHistogram;
+
+/**
+ * Collects {@link DurationHistogram}s for the handling of each Cycle event
+ * topic and for each Controller run.
+ */
+public class CycleTimings {
+
+	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		/**
+		 * 95th percentile of the BEFORE_PROCESS_IMAGE event handling duration
+		 * in [ms].
+		 */
+		BEFORE_PROCESS_IMAGE_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the BEFORE_PROCESS_IMAGE event handling duration in [ms].
+		 */
+		BEFORE_PROCESS_IMAGE_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the AFTER_PROCESS_IMAGE event handling duration in
+		 * [ms].
+		 */
+		AFTER_PROCESS_IMAGE_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the AFTER_PROCESS_IMAGE event handling duration in [ms].
+		 */
+		AFTER_PROCESS_IMAGE_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the BEFORE_CONTROLLERS event handling duration in
+		 * [ms].
+		 */
+		BEFORE_CONTROLLERS_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the BEFORE_CONTROLLERS event handling duration in [ms].
+		 */
+		BEFORE_CONTROLLERS_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the AFTER_CONTROLLERS event handling duration in
+		 * [ms].
+		 */
+		AFTER_CONTROLLERS_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the AFTER_CONTROLLERS event handling duration in [ms].
+		 */
+		AFTER_CONTROLLERS_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the BEFORE_WRITE event handling duration in [ms].
+		 */
+		BEFORE_WRITE_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the BEFORE_WRITE event handling duration in [ms].
+		 */
+		BEFORE_WRITE_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the EXECUTE_WRITE event handling duration in [ms].
+		 */
+		EXECUTE_WRITE_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the EXECUTE_WRITE event handling duration in [ms].
+		 */
+		EXECUTE_WRITE_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * 95th percentile of the AFTER_WRITE event handling duration in [ms].
+		 */
+		AFTER_WRITE_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * Maximum of the AFTER_WRITE event handling duration in [ms].
+		 */
+		AFTER_WRITE_MAX(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS)), //
+		/**
+		 * ID of the Controller with the highest 95th percentile run duration.
+		 */
+		SLOWEST_CONTROLLER(Doc.of(OpenemsType.STRING)), //
+		/**
+		 * 95th percentile of the run duration of the slowest Controller in
+		 * [ms].
+		 */
+		SLOWEST_CONTROLLER_P95(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.MILLISECONDS));
+
+		private final Doc doc;
+
+		private ChannelId(Doc doc) {
+			this.doc = doc;
+		}
+
+		@Override
+		public Doc doc() {
+			return this.doc;
+		}
+	}
+
+	private static final double NANOS_PER_MILLI = 1_000_000.;
+
+	/**
+	 * Histograms per Cycle event topic; the Map is not modified after
+	 * construction.
+	 */
+	private final Map<String, TopicTiming> topics = new TreeMap<>();
+	private final Map<String, DurationHistogram> controllers = new ConcurrentHashMap<>();
+
+	private static class TopicTiming {
+		private final DurationHistogram histogram = new DurationHistogram();
+		private final ChannelId p95;
+		private final ChannelId max;
+
+		private TopicTiming(ChannelId p95, ChannelId max) {
+			this.p95 = p95;
+			this.max = max;
+		}
+	}
+
+	public CycleTimings() {
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE,
+				new TopicTiming(ChannelId.BEFORE_PROCESS_IMAGE_P95, ChannelId.BEFORE_PROCESS_IMAGE_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE,
+				new TopicTiming(ChannelId.AFTER_PROCESS_IMAGE_P95, ChannelId.AFTER_PROCESS_IMAGE_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS,
+				new TopicTiming(ChannelId.BEFORE_CONTROLLERS_P95, ChannelId.BEFORE_CONTROLLERS_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS,
+				new TopicTiming(ChannelId.AFTER_CONTROLLERS_P95, ChannelId.AFTER_CONTROLLERS_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE,
+				new TopicTiming(ChannelId.BEFORE_WRITE_P95, ChannelId.BEFORE_WRITE_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE,
+				new TopicTiming(ChannelId.EXECUTE_WRITE_P95, ChannelId.EXECUTE_WRITE_MAX));
+		this.topics.put(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE,
+				new TopicTiming(ChannelId.AFTER_WRITE_P95, ChannelId.AFTER_WRITE_MAX));
+	}
+
+	/**
+	 * Records the duration of the handling of a Cycle event topic.
+	 *
+	 * @param topic the event topic
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void recordTopic(String topic, long nanos) {
+		var timing = this.topics.get(topic);
+		if (timing != null) {
+			timing.histogram.record(nanos);
+		}
+	}
+
+	/**
+	 * Records the duration of a Controller run.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @param nanos        the duration in nanoseconds
+	 */
+	public void recordController(String controllerId, long nanos) {
+		this.controllers.computeIfAbsent(controllerId, id -> new DurationHistogram()).record(nanos);
+	}
+
+	/**
+	 * Removes the statistics of Controllers that are not scheduled anymore.
+	 *
+	 * @param controllerIds the IDs of the scheduled Controllers
+	 */
+	public void retainControllers(Set<String> controllerIds) {
+		this.controllers.keySet().retainAll(controllerIds);
+	}
+
+	/**
+	 * Publishes the current statistics to the Channels of the given
+	 * {@link CycleImpl}.
+	 *
+	 * @param parent the {@link CycleImpl}
+	 */
+	public void publish(CycleImpl parent) {
+		for (var timing : this.topics.values()) {
+			parent.channel(timing.p95).setNextValue(timing.histogram.getPercentile(0.95) / NANOS_PER_MILLI);
+			parent.channel(timing.max).setNextValue(timing.histogram.getMax() / NANOS_PER_MILLI);
+		}
+
+		String slowestController = null;
+		long slowestP95 = -1;
+		for (var entry : this.controllers.entrySet()) {
+			var p95 = entry.getValue().getPercentile(0.95);
+			if (p95 > slowestP95) {
+				slowestP95 = p95;
+				slowestController = entry.getKey();
+			}
+		}
+		parent.channel(ChannelId.SLOWEST_CONTROLLER).setNextValue(slowestController);
+		parent.channel(ChannelId.SLOWEST_CONTROLLER_P95)
+				.setNextValue(slowestController == null ? null : slowestP95 / NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Exports all statistics as {@link JsonObject}; durations in microseconds.
+	 *
+	 * <pre>
+	 * {
+	 *   "topics": {
+	 *     [topic: string]: {@link DurationHistogram#toJson()}
+	 *   },
+	 *   "controllers": {
+	 *     [controllerId: string]: {@link DurationHistogram#toJson()}
+	 *   }
+	 * }
+	 * </pre>
+	 *
+	 * @return the {@link JsonObject}
+	 */
+	public JsonObject toJson() {
+		var topics = new JsonObject();
+		for (var entry : this.topics.entrySet()) {
+			topics.add(entry.getKey().substring(EdgeEventConstants.TOPIC_CYCLE.length()),
+					entry.getValue().histogram.toJson());
+		}
+		var controllers = new JsonObject();
+		for (var entry : new TreeMap<>(this.controllers).entrySet()) {
+			controllers.add(entry.getKey(), entry.getValue().toJson());
+		}
+		var result = new JsonObject();
+		result.add("topics", topics);
+		result.add("controllers", controllers);
+		return result;
+	}
+
+}
@@ -1,15 +1,27 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import info.faljse.SDNotify.SDNotify;
 import io.openems.common.event.EventBuilder;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractWorker;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.sum.Sum;
@@ -20,11 +32,30 @@ public class CycleWorker extends AbstractWorker {
 
 	private final Logger log = LoggerFactory.getLogger(CycleWorker.class);
 	private final CycleImpl parent;
+	private final ProcessImageSwitcher processImageSwitcher = new ProcessImageSwitcher();
+
+	private ExecutorService controllerExecutor = null;
+	private int controllerExecutorParallelism = 0;
+
+	// The Controllers of the previous Cycle
+	private List<Controller> lastControllers = Collections.emptyList();
 
 	public CycleWorker(CycleImpl parent) {
 		this.parent = parent;
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.processImageSwitcher.deactivate();
+		synchronized (this) {
+			if (this.controllerExecutor != null) {
+				ThreadPoolUtils.shutdownAndAwaitTermination(this.controllerExecutor, 0);
+				this.controllerExecutor = null;
+			}
+		}
+	}
+
 	@Override
 	protected int getCycleTime() {
 		return this.parent.getCycleTime();
@@ -43,22 +74,25 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Measure duration of each phase
+		var phase = new PhaseTimer();
+
 		try {
 			/*
 			 * Trigger BEFORE_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE);
+			this.parent._setDurationBeforeProcessImage(phase.next());
 
 			/*
-			 * Before Controllers start: switch to next process image for each channel
+			 * Before Controllers start: switch to next process image for each channel.
+			 * Components are handled in parallel if configured; Cycle and Sum follow as
+			 * an ordered final phase.
 			 */
-			this.parent.componentManager.getEnabledComponents().stream() //
-					.filter(c -> c.isEnabled() && !(c instanceof Sum)) //
-					.forEach(component -> {
-						component.channels().forEach(channel -> {
-							channel.nextProcessImage();
-						});
-					});
+			var components = this.parent.componentManager.getEnabledComponents().stream() //
+					.filter(c -> c.isEnabled() && !(c instanceof Sum) && c != this.parent) //
+					.collect(Collectors.toList());
+			this.processImageSwitcher.switchProcessImage(components, this.parent.getProcessImageParallelism());
 			this.parent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
@@ -70,22 +104,25 @@ public class CycleWorker extends AbstractWorker {
 			this.parent.sumComponent.channels().forEach(channel -> {
 				channel.nextProcessImage();
 			});
+			this.parent._setDurationProcessImage(phase.next());
 
 			/*
 			 * Trigger AFTER_PROCESS_IMAGE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_PROCESS_IMAGE);
 
 			/*
 			 * Trigger BEFORE_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
+			this.parent._setDurationAfterProcessImage(phase.next());
 
 			var hasDisabledController = false;
 
 			/*
-			 * Execute Schedulers and their Controllers
+			 * Collect the enabled Controllers of all Schedulers
 			 */
+			var controllers = new ArrayList<Controller>();
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
 			} else {
@@ -95,7 +132,7 @@ public class CycleWorker extends AbstractWorker {
 					for (String controllerId : scheduler.getControllers()) {
 						Controller controller;
 						try {
-							controller = this.parent.componentManager.getPossiblyDisabledComponent(controllerId);
+							controller = this.parent.getController(controllerId);
 
 						} catch (OpenemsNamedException e) {
 							this.parent.logWarn(this.log, "Scheduler [" + scheduler.id() + "]: Controller ["
@@ -109,59 +146,61 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
+						controllers.add(controller);
 					}
 
 					// announce Scheduler Controller is missing
 					scheduler._setControllerIsMissing(schedulerControllerIsMissing);
 				}
 			}
+			if (!controllers.equals(this.lastControllers)) {
+				// Drop statistics of removed Controllers
+				this.parent.timings.retainControllers(controllers.stream() //
+						.map(Controller::id) //
+						.collect(Collectors.toSet()));
+				this.lastControllers = controllers;
+			}
+
+			/*
+			 * Execute the Controllers
+			 */
+			var parallelism = this.parent.getControllerParallelism();
+			if (parallelism <= 1) {
+				for (Controller controller : controllers) {
+					this.runController(controller);
+				}
+			} else {
+				this.runControllersParallel(controllers, parallelism);
+			}
 
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
+			this.parent._setDurationControllers(phase.next());
 
 			/*
 			 * Trigger AFTER_CONTROLLERS event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_CONTROLLERS);
 
 			/*
 			 * Trigger BEFORE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_BEFORE_WRITE);
 
 			/*
 			 * Trigger EXECUTE_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE);
 
 			/*
 			 * Trigger AFTER_WRITE event
 			 */
-			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.sendEvent(EdgeEventConstants.TOPIC_CYCLE_AFTER_WRITE);
+			this.parent._setDurationWrite(phase.next());
+
+		} catch (InterruptedException e) {
+			// Worker is being deactivated
+			Thread.currentThread().interrupt();
 
 		} catch (Throwable t) {
 			this.parent.logWarn(this.log,
@@ -171,8 +210,157 @@ public class CycleWorker extends AbstractWorker {
 			}
 		}
 
+		// Publish timing statistics
+		this.parent.timings.publish(this.parent);
+
 		// Measure actual Cycle-Time
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Executes the given Controllers in their priority order, but runs
+	 * consecutive Controllers in parallel if they declare disjoint sets of
+	 * written Components via {@link Controller#getWriteComponentIds()}.
+	 * Controllers that do not declare their writes act as a barrier and are
+	 * executed alone.
+	 *
+	 * @param controllers the ordered list of {@link Controller}s
+	 * @param parallelism the number of threads
+	 * @throws InterruptedException on interrupt
+	 */
+	private void runControllersParallel(List<Controller> controllers, int parallelism) throws InterruptedException {
+		var executor = this.getControllerExecutor(parallelism);
+		var group = new ArrayList<Callable<Void>>();
+		var groupControllers = new HashSet<Controller>();
+		var groupWrites = new HashSet<String>();
+		for (Controller controller : controllers) {
+			var writes = controller.getWriteComponentIds();
+			if (writes == null //
+					|| groupControllers.contains(controller) //
+					|| !Collections.disjoint(groupWrites, writes)) {
+				// Conflict: finish the current group first
+				this.runGroup(executor, group);
+				group.clear();
+				groupControllers.clear();
+				groupWrites.clear();
+			}
+			if (writes == null) {
+				// Barrier
+				this.runController(controller);
+				continue;
+			}
+			group.add(() -> {
+				this.runController(controller);
+				return null;
+			});
+			groupControllers.add(controller);
+			groupWrites.addAll(writes);
+		}
+		this.runGroup(executor, group);
+	}
+
+	private void runGroup(ExecutorService executor, List<Callable<Void>> group) throws InterruptedException {
+		switch (group.size()) {
+		case 0:
+			return;
+		case 1:
+			// Avoid the thread hand-over
+			try {
+				group.get(0).call();
+			} catch (Exception e) {
+				// handled in runController()
+			}
+			return;
+		default:
+			for (Future<Void> future : executor.invokeAll(group)) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// Exceptions are handled in runController(); Errors go to the Cycle
+					if (e.getCause() instanceof Error) {
+						throw (Error) e.getCause();
+					}
+				}
+			}
+		}
+	}
+
+	private synchronized ExecutorService getControllerExecutor(int parallelism) {
+		if (this.controllerExecutor != null && this.controllerExecutorParallelism != parallelism) {
+			// Parallelism was reconfigured
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.controllerExecutor, 0);
+			this.controllerExecutor = null;
+		}
+		if (this.controllerExecutor == null) {
+			this.controllerExecutor = Executors.newFixedThreadPool(parallelism,
+					new ThreadFactoryBuilder().setNameFormat("Core.Cycle:Controller-%d").build());
+			this.controllerExecutorParallelism = parallelism;
+		}
+		return this.controllerExecutor;
+	}
+
+	/**
+	 * Executes a {@link Controller} and records the duration.
+	 *
+	 * @param controller the {@link Controller}
+	 */
+	private void runController(Controller controller) {
+		var controllerStart = System.nanoTime();
+		try {
+			// Execute Controller logic
+			controller.run();
+
+			// announce running was ok
+			controller._setRunFailed(false);
+
+		} catch (OpenemsNamedException e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+			// announce running failed
+			controller._setRunFailed(true);
+
+		} catch (Exception e) {
+			this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			if (e instanceof ClassCastException || e instanceof NullPointerException
+					|| e instanceof IllegalArgumentException) {
+				e.printStackTrace();
+			}
+			// announce running failed
+			controller._setRunFailed(true);
+		}
+		this.parent.timings.recordController(controller.id(), System.nanoTime() - controllerStart);
+	}
+
+	/**
+	 * Synchronously sends an Event and records the duration of its handling.
+	 *
+	 * @param topic the Event topic
+	 */
+	private void sendEvent(String topic) {
+		var start = System.nanoTime();
+		EventBuilder.send(this.parent.eventAdmin, topic);
+		this.parent.timings.recordTopic(topic, System.nanoTime() - start);
+	}
+
+	/**
+	 * Measures the durations between consecutive calls of {@link #next()}.
+	 */
+	private static class PhaseTimer {
+
+		private long last = System.nanoTime();
+
+		/**
+		 * Gets the duration since creation or the last call and restarts the timer.
+		 *
+		 * @return the duration in [ms]
+		 */
+		private long next() {
+			var now = System.nanoTime();
+			var duration = TimeUnit.NANOSECONDS.toMillis(now - this.last);
+			this.last = now;
+			return duration;
+		}
+	}
+
 }
@@ -0,0 +1,49 @@
+package io.openems.edge.core.cycle;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcRequest;
+
+/**
+ * Wraps a JSON-RPC Request to query the timing statistics of the Cycle.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "method": "getCycleTimings",
+ *   "params": {}
+ * }
+ * </pre>
+ */
+public class GetCycleTimingsRequest extends JsonrpcRequest {
+
+	public static final String METHOD = "getCycleTimings";
+
+	/**
+	 * Create {@link GetCycleTimingsRequest} from a template
+	 * {@link JsonrpcRequest}.
+	 *
+	 * @param r the template {@link JsonrpcRequest}
+	 * @return the {@link GetCycleTimingsRequest}
+	 * @throws OpenemsNamedException on parse error
+	 */
+	public static GetCycleTimingsRequest from(JsonrpcRequest r) throws OpenemsNamedException {
+		return new GetCycleTimingsRequest(r);
+	}
+
+	public GetCycleTimingsRequest() {
+		super(METHOD);
+	}
+
+	private GetCycleTimingsRequest(JsonrpcRequest request) {
+		super(request, METHOD);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return new JsonObject();
+	}
+
+}
@@ -0,0 +1,48 @@
+package io.openems.edge.core.cycle;
+
+import java.util.UUID;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+
+/**
+ * Wraps a JSON-RPC Response to "getCycleTimings" Request. All durations are in
+ * microseconds.
+ *
+ * <p>
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "id": "UUID",
+ *   "result": {
+ *     "topics": {
+ *       "BEFORE_PROCESS_IMAGE": {
+ * "count": number, "last": number, "p50": number, "p95": number, "max": number
+ *       }, ...
+ *     },
+ *     "controllers": {
+ *       "ctrlDebugLog0": {
+ * "count": number, "last": number, "p50": number, "p95": number, "max": number
+ *       }, ...
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class GetCycleTimingsResponse extends JsonrpcResponseSuccess {
+
+	private final JsonObject timings;
+
+	public GetCycleTimingsResponse(UUID id, JsonObject timings) {
+		super(id);
+		this.timings = timings;
+	}
+
+	@Override
+	public JsonObject getResult() {
+		return this.timings;
+	}
+
+}
@@ -0,0 +1,139 @@
+package io.openems.edge.core.cycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+
+/**
+ * Switches the process image of a list of {@link OpenemsComponent}s.
+ *
+ * <p>
+ * With a parallelism of '1' all Components are handled sequentially on the
+ * calling thread. Otherwise the list is partitioned and handled by a
+ * {@link ForkJoinPool}. All Channels of one Component are always switched on
+ * the same thread and in their natural order, so onUpdate- and
+ * onChange-Callbacks within one Component keep their order.
+ *
+ * <p>
+ * Callbacks may be registered by any Component and touch its state, which is
+ * not prepared for concurrent access. Components that have a Channel with
+ * onUpdate- or onChange-Callbacks are therefore kept out of the parallel phase
+ * and switched afterwards on the calling thread, in the order of the given
+ * list.
+ *
+ * <p>
+ * Dependencies between Components are not taken into account: the
+ * {@link OpenemsComponent} API does not expose them. The sequential switch
+ * walks the Components in arbitrary order as well, so no Component could rely
+ * on another Component being switched before it. Components that aggregate
+ * other Components, i.e. {@link io.openems.edge.common.sum.Sum}, are kept out
+ * of the parallel phase by the caller and switched afterwards.
+ */
+public class ProcessImageSwitcher {
+
+	/**
+	 * Maximum number of Components handled by one task without further splitting.
+	 */
+	private static final int COMPONENTS_PER_TASK = 8;
+
+	private ForkJoinPool pool = null;
+
+	/**
+	 * Switches the process image of all Channels of the given Components.
+	 *
+	 * @param components  the list of {@link OpenemsComponent}s
+	 * @param parallelism the number of threads; '1' for sequential
+	 */
+	public synchronized void switchProcessImage(List<OpenemsComponent> components, int parallelism) {
+		if (parallelism <= 1 || components.size() <= COMPONENTS_PER_TASK) {
+			switchProcessImage(components, 0, components.size());
+			return;
+		}
+		var parallel = new ArrayList<OpenemsComponent>(components.size());
+		var ordered = new ArrayList<OpenemsComponent>();
+		for (var component : components) {
+			if (hasProcessImageCallbacks(component)) {
+				ordered.add(component);
+			} else {
+				parallel.add(component);
+			}
+		}
+		this.getPool(parallelism).invoke(new SwitchTask(parallel, 0, parallel.size()));
+		switchProcessImage(ordered, 0, ordered.size());
+	}
+
+	/**
+	 * Shuts down the {@link ForkJoinPool}.
+	 */
+	public synchronized void deactivate() {
+		if (this.pool != null) {
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.pool, 0);
+			this.pool = null;
+		}
+	}
+
+	private ForkJoinPool getPool(int parallelism) {
+		if (this.pool != null && this.pool.getParallelism() != parallelism) {
+			// Parallelism was reconfigured
+			this.deactivate();
+		}
+		if (this.pool == null) {
+			this.pool = new ForkJoinPool(parallelism, pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Core.Cycle:ProcessImage-" + thread.getPoolIndex());
+				return thread;
+			}, null, false);
+		}
+		return this.pool;
+	}
+
+	private static boolean hasProcessImageCallbacks(OpenemsComponent component) {
+		for (Channel<?> channel : component.channels()) {
+			if (channel.hasProcessImageCallbacks()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void switchProcessImage(List<OpenemsComponent> components, int from, int to) {
+		for (var i = from; i < to; i++) {
+			for (Channel<?> channel : components.get(i).channels()) {
+				channel.nextProcessImage();
+			}
+		}
+	}
+
+	private static class SwitchTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient List<OpenemsComponent> components;
+		private final int from;
+		private final int to;
+
+		private SwitchTask(List<OpenemsComponent> components, int from, int to) {
+			this.components = components;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (this.to - this.from <= COMPONENTS_PER_TASK) {
+				switchProcessImage(this.components, this.from, this.to);
+				return;
+			}
+			var middle = this.from + (this.to - this.from) / 2;
+			invokeAll(//
+					new SwitchTask(this.components, this.from, middle), //
+					new SwitchTask(this.components, middle, this.to));
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+package io.openems.edge.core.sum;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.internal.AbstractReadChannel;
+
+/**
+ * Sums up Channel values with primitive arithmetic. Instances are reused for
+ * every Cycle via {@link #reset()}.
+ *
+ * <p>
+ * Results follow the semantics of
+ * {@link io.openems.edge.common.channel.calculate.CalculateIntegerSum},
+ * {@link io.openems.edge.common.channel.calculate.CalculateLongSum} and
+ * {@link io.openems.edge.common.channel.calculate.CalculateAverage}: undefined
+ * Channel values are ignored and the result is null if no value was defined.
+ */
+class Accumulator {
+
+	private long sum = 0;
+	private int count = 0;
+
+	/**
+	 * Resets the Accumulator.
+	 */
+	protected void reset() {
+		this.sum = 0;
+		this.count = 0;
+	}
+
+	/**
+	 * Adds a Channel-Value.
+	 *
+	 * @param channel the Channel
+	 */
+	protected void add(Channel<? extends Number> channel) {
+		if (channel instanceof AbstractReadChannel) {
+			var c = (AbstractReadChannel<?, ?>) channel;
+			if (c.isPrimitiveValueDefined()) {
+				this.add(c.getPrimitiveValueAsLong(0L));
+			}
+		} else {
+			var value = channel.value().get();
+			if (value != null) {
+				this.add(value.longValue());
+			}
+		}
+	}
+
+	/**
+	 * Adds a third of a Channel-Value, e.g. to distribute a symmetric power on
+	 * three phases.
+	 *
+	 * @param channel the Channel
+	 */
+	protected void addDividedByThree(Channel<Integer> channel) {
+		if (channel instanceof AbstractReadChannel) {
+			var c = (AbstractReadChannel<?, ?>) channel;
+			if (c.isPrimitiveValueDefined()) {
+				this.add(Math.round(c.getPrimitiveValueAsLong(0L) / 3f));
+			}
+		} else {
+			var value = channel.value().get();
+			if (value != null) {
+				this.add(Math.round(value / 3f));
+			}
+		}
+	}
+
+	private void add(long value) {
+		this.sum += value;
+		this.count++;
+	}
+
+	/**
+	 * Is at least one value defined?.
+	 *
+	 * @return true if defined
+	 */
+	protected boolean isDefined() {
+		return this.count > 0;
+	}
+
+	/**
+	 * Gets the sum as Integer.
+	 *
+	 * @return the sum or null
+	 */
+	protected Integer toInteger() {
+		if (this.count == 0) {
+			return null;
+		}
+		return (int) this.sum;
+	}
+
+	/**
+	 * Gets the sum as Long.
+	 *
+	 * @return the sum or null
+	 */
+	protected Long toLong() {
+		if (this.count == 0) {
+			return null;
+		}
+		return this.sum;
+	}
+
+	/**
+	 * Gets the average, rounded to Integer.
+	 *
+	 * @return the average or null
+	 */
+	protected Integer toRoundedAverage() {
+		if (this.count == 0) {
+			return null;
+		}
+		return (int) Math.round((double) this.sum / this.count);
+	}
+
+}
@@ -0,0 +1,85 @@
+package io.openems.edge.core.sum;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.ess.api.AsymmetricEss;
+import io.openems.edge.ess.api.HybridEss;
+import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.api.SymmetricEss;
+import io.openems.edge.ess.dccharger.api.EssDcCharger;
+import io.openems.edge.meter.api.AsymmetricMeter;
+import io.openems.edge.meter.api.SymmetricMeter;
+import io.openems.edge.meter.api.VirtualMeter;
+
+/**
+ * Holds the enabled Components that are relevant for the {@link SumImpl},
+ * grouped by their Nature.
+ *
+ * <p>
+ * Instances are immutable and are recreated whenever a Component is bound or
+ * unbound, so the Cycle iterates the groups without any type checks.
+ */
+class ComponentGroups {
+
+	protected static final ComponentGroups EMPTY = new ComponentGroups(List.of());
+
+	protected final Ess[] esss;
+	protected final Meter[] meters;
+	protected final EssDcCharger[] chargers;
+
+	protected ComponentGroups(Collection<OpenemsComponent> components) {
+		var esss = new ArrayList<Ess>();
+		var meters = new ArrayList<Meter>();
+		var chargers = new ArrayList<EssDcCharger>();
+		for (OpenemsComponent component : components) {
+			if (component instanceof SymmetricEss) {
+				if (component instanceof MetaEss) {
+					// ignore this Ess
+					continue;
+				}
+				esss.add(new Ess((SymmetricEss) component));
+
+			} else if (component instanceof SymmetricMeter) {
+				meters.add(new Meter((SymmetricMeter) component));
+
+			} else if (component instanceof EssDcCharger) {
+				chargers.add((EssDcCharger) component);
+			}
+		}
+		this.esss = esss.toArray(new Ess[esss.size()]);
+		this.meters = meters.toArray(new Meter[meters.size()]);
+		this.chargers = chargers.toArray(new EssDcCharger[chargers.size()]);
+	}
+
+	protected static class Ess {
+		protected final SymmetricEss ess;
+		/** The {@link AsymmetricEss}; null if not asymmetric. */
+		protected final AsymmetricEss asymmetric;
+		/** The {@link HybridEss}; null if not hybrid. */
+		protected final HybridEss hybrid;
+
+		private Ess(SymmetricEss ess) {
+			this.ess = ess;
+			this.asymmetric = ess instanceof AsymmetricEss ? (AsymmetricEss) ess : null;
+			this.hybrid = ess instanceof HybridEss ? (HybridEss) ess : null;
+		}
+	}
+
+	protected static class Meter {
+		protected final SymmetricMeter meter;
+		/** The {@link AsymmetricMeter}; null if not asymmetric. */
+		protected final AsymmetricMeter asymmetric;
+		/** The {@link VirtualMeter}; null if not virtual. */
+		protected final VirtualMeter virtual;
+
+		private Meter(SymmetricMeter meter) {
+			this.meter = meter;
+			this.asymmetric = meter instanceof AsymmetricMeter ? (AsymmetricMeter) meter : null;
+			this.virtual = meter instanceof VirtualMeter ? (VirtualMeter) meter : null;
+		}
+	}
+
+}
@@ -1,8 +1,10 @@
 package io.openems.edge.core.sum;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -18,25 +20,16 @@ import org.osgi.service.metatype.annotations.Designate;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.Level;
-import io.openems.edge.common.channel.calculate.CalculateAverage;
-import io.openems.edge.common.channel.calculate.CalculateIntegerSum;
-import io.openems.edge.common.channel.calculate.CalculateLongSum;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.modbusslave.ModbusSlave;
 import io.openems.edge.common.modbusslave.ModbusSlaveTable;
+import io.openems.edge.common.sum.GridMode;
 import io.openems.edge.common.sum.Sum;
 import io.openems.edge.common.type.TypeUtils;
-import io.openems.edge.ess.api.AsymmetricEss;
 import io.openems.edge.ess.api.CalculateGridMode;
-import io.openems.edge.ess.api.HybridEss;
-import io.openems.edge.ess.api.MetaEss;
-import io.openems.edge.ess.api.SymmetricEss;
 import io.openems.edge.ess.dccharger.api.EssDcCharger;
-import io.openems.edge.meter.api.AsymmetricMeter;
-import io.openems.edge.meter.api.SymmetricMeter;
-import io.openems.edge.meter.api.VirtualMeter;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = false)
@@ -60,6 +53,35 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	private final EnergyValuesHandler energyValuesHandler;
 	private final Set<String> ignoreStateComponents = new HashSet<>();
 
+	/**
+	 * Holds all enabled Components; the {@link ComponentGroups} are recreated from
+	 * it on every change.
+	 */
+	private final List<OpenemsComponent> components = new CopyOnWriteArrayList<>();
+	private volatile ComponentGroups groups = ComponentGroups.EMPTY;
+
+	@Reference(policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE, //
+			target = "(enabled=true)")
+	protected void addComponent(OpenemsComponent component) {
+		if (component == this) {
+			return;
+		}
+		synchronized (this.components) {
+			this.components.add(component);
+			this.groups = new ComponentGroups(this.components);
+		}
+	}
+
+	protected void removeComponent(OpenemsComponent component) {
+		synchronized (this.components) {
+			if (this.components.remove(component)) {
+				this.groups = new ComponentGroups(this.components);
+			}
+		}
+	}
+
 	@Override
 	public ModbusSlaveTable getModbusSlaveTable(AccessMode accessMode) {
 		return new ModbusSlaveTable(//
@@ -115,255 +137,272 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 		this.calculateState();
 	}
 
+	/*
+	 * Accumulators are reused for every Cycle to avoid allocations.
+	 */
+	// Ess
+	private final Accumulator essSoc = new Accumulator();
+	private final Accumulator essActivePower = new Accumulator();
+	private final Accumulator essActivePowerL1 = new Accumulator();
+	private final Accumulator essActivePowerL2 = new Accumulator();
+	private final Accumulator essActivePowerL3 = new Accumulator();
+	private final Accumulator essReactivePower = new Accumulator();
+	private final Accumulator essMaxApparentPower = new Accumulator();
+	private final Accumulator essActiveChargeEnergy = new Accumulator();
+	private final Accumulator essActiveDischargeEnergy = new Accumulator();
+	private final Accumulator essDcChargeEnergy = new Accumulator();
+	private final Accumulator essDcDischargeEnergy = new Accumulator();
+	private final Accumulator essCapacity = new Accumulator();
+	private final Accumulator essDcDischargePower = new Accumulator();
+
+	// Grid
+	private final Accumulator gridActivePower = new Accumulator();
+	private final Accumulator gridActivePowerL1 = new Accumulator();
+	private final Accumulator gridActivePowerL2 = new Accumulator();
+	private final Accumulator gridActivePowerL3 = new Accumulator();
+	private final Accumulator gridMinActivePower = new Accumulator();
+	private final Accumulator gridMaxActivePower = new Accumulator();
+	private final Accumulator gridBuyActiveEnergy = new Accumulator();
+	private final Accumulator gridSellActiveEnergy = new Accumulator();
+
+	// Production
+	private final Accumulator productionAcActivePower = new Accumulator();
+	private final Accumulator productionAcActivePowerL1 = new Accumulator();
+	private final Accumulator productionAcActivePowerL2 = new Accumulator();
+	private final Accumulator productionAcActivePowerL3 = new Accumulator();
+	private final Accumulator productionMaxAcActivePower = new Accumulator();
+	private final Accumulator productionDcActualPower = new Accumulator();
+	private final Accumulator productionMaxDcActualPower = new Accumulator();
+	private final Accumulator productionAcActiveEnergy = new Accumulator();
+	private final Accumulator productionDcActiveEnergy = new Accumulator();
+
+	// handling the corner-case of wrongly measured negative production, due to
+	// cabling errors, etc.
+	private final Accumulator productionAcActiveEnergyNegative = new Accumulator();
+
+	private final Accumulator[] accumulators = { //
+			this.essSoc, this.essActivePower, this.essActivePowerL1, this.essActivePowerL2, this.essActivePowerL3, //
+			this.essReactivePower, this.essMaxApparentPower, this.essActiveChargeEnergy,
+			this.essActiveDischargeEnergy, this.essDcChargeEnergy, this.essDcDischargeEnergy, this.essCapacity,
+			this.essDcDischargePower, //
+			this.gridActivePower, this.gridActivePowerL1, this.gridActivePowerL2, this.gridActivePowerL3,
+			this.gridMinActivePower, this.gridMaxActivePower, this.gridBuyActiveEnergy, this.gridSellActiveEnergy, //
+			this.productionAcActivePower, this.productionAcActivePowerL1, this.productionAcActivePowerL2,
+			this.productionAcActivePowerL3, this.productionMaxAcActivePower, this.productionDcActualPower,
+			this.productionMaxDcActualPower, this.productionAcActiveEnergy, this.productionDcActiveEnergy,
+			this.productionAcActiveEnergyNegative };
+
 	/**
 	 * Calculates the sum-value for each Channel.
 	 */
 	private void calculateChannelValues() {
-		// Ess
-		final var essSoc = new CalculateAverage();
-		final var essActivePower = new CalculateIntegerSum();
-		final var essActivePowerL1 = new CalculateIntegerSum();
-		final var essActivePowerL2 = new CalculateIntegerSum();
-		final var essActivePowerL3 = new CalculateIntegerSum();
-
-		final var essReactivePower = new CalculateIntegerSum();
-
-		final var essMaxApparentPower = new CalculateIntegerSum();
-		final var essGridMode = new CalculateGridMode();
-		final var essActiveChargeEnergy = new CalculateLongSum();
-		final var essActiveDischargeEnergy = new CalculateLongSum();
-		final var essDcChargeEnergy = new CalculateLongSum();
-		final var essDcDischargeEnergy = new CalculateLongSum();
-		final var essCapacity = new CalculateIntegerSum();
-		final var essDcDischargePower = new CalculateIntegerSum();
-		
-		// Grid
-		final var gridActivePower = new CalculateIntegerSum();
-		final var gridActivePowerL1 = new CalculateIntegerSum();
-		final var gridActivePowerL2 = new CalculateIntegerSum();
-		final var gridActivePowerL3 = new CalculateIntegerSum();
-		final var gridMinActivePower = new CalculateIntegerSum();
-		final var gridMaxActivePower = new CalculateIntegerSum();
-		final var gridBuyActiveEnergy = new CalculateLongSum();
-		final var gridSellActiveEnergy = new CalculateLongSum();
+		for (Accumulator accumulator : this.accumulators) {
+			accumulator.reset();
+		}
+		var essGridModes = 0;
+		var essOnGrids = 0;
+		var essOffGrids = 0;
 
-		// Production
-		final var productionAcActivePower = new CalculateIntegerSum();
-		final var productionAcActivePowerL1 = new CalculateIntegerSum();
-		final var productionAcActivePowerL2 = new CalculateIntegerSum();
-		final var productionAcActivePowerL3 = new CalculateIntegerSum();
-		final var productionMaxAcActivePower = new CalculateIntegerSum();
-		final var productionDcActualPower = new CalculateIntegerSum();
-		final var productionMaxDcActualPower = new CalculateIntegerSum();
-		final var productionAcActiveEnergy = new CalculateLongSum();
-		final var productionDcActiveEnergy = new CalculateLongSum();
-		
-		// handling the corner-case of wrongly measured negative production, due to
-		// cabling errors, etc.
-		final var productionAcActiveEnergyNegative = new CalculateLongSum();
+		final var groups = this.groups;
 
-		for (OpenemsComponent component : this.componentManager.getEnabledComponents()) {
-			if (component instanceof SymmetricEss) {
-				/*
-				 * Ess
-				 */
-				var ess = (SymmetricEss) component;
+		/*
+		 * Ess
+		 */
+		for (ComponentGroups.Ess e : groups.esss) {
+			var ess = e.ess;
+			this.essSoc.add(ess.getSocChannel());
+			this.essActivePower.add(ess.getActivePowerChannel());
+			this.essReactivePower.add(ess.getReactivePowerChannel());
+			this.essMaxApparentPower.add(ess.getMaxApparentPowerChannel());
+			this.essActiveChargeEnergy.add(ess.getActiveChargeEnergyChannel());
+			this.essActiveDischargeEnergy.add(ess.getActiveDischargeEnergyChannel());
+			this.essCapacity.add(ess.getCapacityChannel());
+
+			essGridModes++;
+			switch (ess.getGridModeChannel().getNextValue().<GridMode>asEnum()) {
+			case ON_GRID:
+				essOnGrids++;
+				break;
+			case OFF_GRID:
+				essOffGrids++;
+				break;
+			case UNDEFINED:
+				break;
+			}
 
-				if (ess instanceof MetaEss) {
-					// ignore this Ess
-					continue;
-				}
-				essSoc.addValue(ess.getSocChannel());
-				essActivePower.addValue(ess.getActivePowerChannel());
-				essReactivePower.addValue(ess.getReactivePowerChannel());
-				essMaxApparentPower.addValue(ess.getMaxApparentPowerChannel());
-				essGridMode.addValue(ess.getGridModeChannel());
-				essActiveChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-				essActiveDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-				essCapacity.addValue(ess.getCapacityChannel());
-
-				if (ess instanceof AsymmetricEss) {
-					var e = (AsymmetricEss) ess;
-					essActivePowerL1.addValue(e.getActivePowerL1Channel());
-					essActivePowerL2.addValue(e.getActivePowerL2Channel());
-					essActivePowerL3.addValue(e.getActivePowerL3Channel());
-				} else {
-					essActivePowerL1.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL2.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL3.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-				}
+			if (e.asymmetric != null) {
+				this.essActivePowerL1.add(e.asymmetric.getActivePowerL1Channel());
+				this.essActivePowerL2.add(e.asymmetric.getActivePowerL2Channel());
+				this.essActivePowerL3.add(e.asymmetric.getActivePowerL3Channel());
+			} else {
+				this.essActivePowerL1.addDividedByThree(ess.getActivePowerChannel());
+				this.essActivePowerL2.addDividedByThree(ess.getActivePowerChannel());
+				this.essActivePowerL3.addDividedByThree(ess.getActivePowerChannel());
+			}
 
-				if (ess instanceof HybridEss) {
-					var e = (HybridEss) ess;
-					essDcChargeEnergy.addValue(e.getDcChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(e.getDcDischargeEnergyChannel());
-					essDcDischargePower.addValue(e.getDcDischargePowerChannel());
-				} else {
-					essDcChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-				}
+			if (e.hybrid != null) {
+				this.essDcChargeEnergy.add(e.hybrid.getDcChargeEnergyChannel());
+				this.essDcDischargeEnergy.add(e.hybrid.getDcDischargeEnergyChannel());
+				this.essDcDischargePower.add(e.hybrid.getDcDischargePowerChannel());
+			} else {
+				this.essDcChargeEnergy.add(ess.getActiveChargeEnergyChannel());
+				this.essDcDischargeEnergy.add(ess.getActiveDischargeEnergyChannel());
+			}
+		}
 
-			} else if (component instanceof SymmetricMeter) {
-				if (component instanceof VirtualMeter) {
-					if (!((VirtualMeter) component).addToSum()) {
-						// Ignore VirtualMeter if "addToSum" is not activated (default)
-						continue;
-					}
-				}
+		/*
+		 * Meter
+		 */
+		for (ComponentGroups.Meter m : groups.meters) {
+			if (m.virtual != null && !m.virtual.addToSum()) {
+				// Ignore VirtualMeter if "addToSum" is not activated (default)
+				continue;
+			}
+
+			var meter = m.meter;
+			switch (meter.getMeterType()) {
+			case PRODUCTION_AND_CONSUMPTION:
+				// TODO PRODUCTION_AND_CONSUMPTION
+				break;
+
+			case CONSUMPTION_METERED:
+				// TODO CONSUMPTION_METERED
+				break;
 
+			case CONSUMPTION_NOT_METERED:
+				// TODO CONSUMPTION_NOT_METERED
+				break;
+
+			case GRID:
 				/*
-				 * Meter
+				 * Grid-Meter
 				 */
-				var meter = (SymmetricMeter) component;
-				switch (meter.getMeterType()) {
-				case PRODUCTION_AND_CONSUMPTION:
-					// TODO PRODUCTION_AND_CONSUMPTION
-					break;
-
-				case CONSUMPTION_METERED:
-					// TODO CONSUMPTION_METERED
-					break;
-
-				case CONSUMPTION_NOT_METERED:
-					// TODO CONSUMPTION_NOT_METERED
-					break;
-
-				case GRID:
-					/*
-					 * Grid-Meter
-					 */
-					gridActivePower.addValue(meter.getActivePowerChannel());
-					gridMinActivePower.addValue(meter.getMinActivePowerChannel());
-					gridMaxActivePower.addValue(meter.getMaxActivePowerChannel());
-					gridBuyActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					gridSellActiveEnergy.addValue(meter.getActiveConsumptionEnergyChannel());
-
-					if (meter instanceof AsymmetricMeter) {
-						var m = (AsymmetricMeter) meter;
-						gridActivePowerL1.addValue(m.getActivePowerL1Channel());
-						gridActivePowerL2.addValue(m.getActivePowerL2Channel());
-						gridActivePowerL3.addValue(m.getActivePowerL3Channel());
-					} else {
-						gridActivePowerL1.addValue(meter.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-						gridActivePowerL2.addValue(meter.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-						gridActivePowerL3.addValue(meter.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					}
-					break;
-
-				case PRODUCTION:
-					/*
-					 * Production-Meter
-					 */
-					productionAcActivePower.addValue(meter.getActivePowerChannel());
-					productionMaxAcActivePower.addValue(meter.getMaxActivePowerChannel());
-					productionAcActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					productionAcActiveEnergyNegative.addValue(meter.getActiveConsumptionEnergyChannel());
-
-					if (meter instanceof AsymmetricMeter) {
-						var m = (AsymmetricMeter) meter;
-						productionAcActivePowerL1.addValue(m.getActivePowerL1Channel());
-						productionAcActivePowerL2.addValue(m.getActivePowerL2Channel());
-						productionAcActivePowerL3.addValue(m.getActivePowerL3Channel());
-					} else {
-						productionAcActivePowerL1.addValue(meter.getActivePowerChannel(),
-								CalculateIntegerSum.DIVIDE_BY_THREE);
-						productionAcActivePowerL2.addValue(meter.getActivePowerChannel(),
-								CalculateIntegerSum.DIVIDE_BY_THREE);
-						productionAcActivePowerL3.addValue(meter.getActivePowerChannel(),
-								CalculateIntegerSum.DIVIDE_BY_THREE);
-					}
-					break;
-
+				this.gridActivePower.add(meter.getActivePowerChannel());
+				this.gridMinActivePower.add(meter.getMinActivePowerChannel());
+				this.gridMaxActivePower.add(meter.getMaxActivePowerChannel());
+				this.gridBuyActiveEnergy.add(meter.getActiveProductionEnergyChannel());
+				this.gridSellActiveEnergy.add(meter.getActiveConsumptionEnergyChannel());
+
+				if (m.asymmetric != null) {
+					this.gridActivePowerL1.add(m.asymmetric.getActivePowerL1Channel());
+					this.gridActivePowerL2.add(m.asymmetric.getActivePowerL2Channel());
+					this.gridActivePowerL3.add(m.asymmetric.getActivePowerL3Channel());
+				} else {
+					this.gridActivePowerL1.addDividedByThree(meter.getActivePowerChannel());
+					this.gridActivePowerL2.addDividedByThree(meter.getActivePowerChannel());
+					this.gridActivePowerL3.addDividedByThree(meter.getActivePowerChannel());
 				}
+				break;
 
-			} else if (component instanceof EssDcCharger) {
+			case PRODUCTION:
 				/*
-				 * Ess DC-Charger
+				 * Production-Meter
 				 */
-				var charger = (EssDcCharger) component;
-				productionDcActualPower.addValue(charger.getActualPowerChannel());
-				productionMaxDcActualPower.addValue(charger.getMaxActualPowerChannel());
-				productionDcActiveEnergy.addValue(charger.getActualEnergyChannel());
+				this.productionAcActivePower.add(meter.getActivePowerChannel());
+				this.productionMaxAcActivePower.add(meter.getMaxActivePowerChannel());
+				this.productionAcActiveEnergy.add(meter.getActiveProductionEnergyChannel());
+				this.productionAcActiveEnergyNegative.add(meter.getActiveConsumptionEnergyChannel());
+
+				if (m.asymmetric != null) {
+					this.productionAcActivePowerL1.add(m.asymmetric.getActivePowerL1Channel());
+					this.productionAcActivePowerL2.add(m.asymmetric.getActivePowerL2Channel());
+					this.productionAcActivePowerL3.add(m.asymmetric.getActivePowerL3Channel());
+				} else {
+					this.productionAcActivePowerL1.addDividedByThree(meter.getActivePowerChannel());
+					this.productionAcActivePowerL2.addDividedByThree(meter.getActivePowerChannel());
+					this.productionAcActivePowerL3.addDividedByThree(meter.getActivePowerChannel());
+				}
+				break;
+
 			}
 		}
 
+		/*
+		 * Ess DC-Charger
+		 */
+		for (EssDcCharger charger : groups.chargers) {
+			this.productionDcActualPower.add(charger.getActualPowerChannel());
+			this.productionMaxDcActualPower.add(charger.getMaxActualPowerChannel());
+			this.productionDcActiveEnergy.add(charger.getActualEnergyChannel());
+		}
+
 		/*
 		 * Set values
 		 */
 		// Ess
-		this.getEssSocChannel().setNextValue(essSoc.calculate());
-		var essActivePowerSum = essActivePower.calculate();
+		this._setEssSoc(this.essSoc.toRoundedAverage());
+		var essActivePowerSum = this.essActivePower.toInteger();
 		this._setEssActivePower(essActivePowerSum);
-		var essActivePowerL1Sum = essActivePowerL1.calculate();
+		var essActivePowerL1Sum = this.essActivePowerL1.toInteger();
 		this._setEssActivePowerL1(essActivePowerL1Sum);
-		var essActivePowerL2Sum = essActivePowerL2.calculate();
+		var essActivePowerL2Sum = this.essActivePowerL2.toInteger();
 		this._setEssActivePowerL2(essActivePowerL2Sum);
-		var essActivePowerL3Sum = essActivePowerL3.calculate();
+		var essActivePowerL3Sum = this.essActivePowerL3.toInteger();
 		this._setEssActivePowerL3(essActivePowerL3Sum);
 
-		var essReactivePowerSum = essReactivePower.calculate();
+		var essReactivePowerSum = this.essReactivePower.toInteger();
 		this._setEssReactivePower(essReactivePowerSum);
 
-		var essMaxApparentPowerSum = essMaxApparentPower.calculate();
+		var essMaxApparentPowerSum = this.essMaxApparentPower.toInteger();
 		this._setEssMaxApparentPower(essMaxApparentPowerSum);
-		this._setGridMode(essGridMode.calculate());
+		this._setGridMode(calculateGridMode(essGridModes, essOnGrids, essOffGrids));
 
-		var essActiveChargeEnergySum = essActiveChargeEnergy.calculate();
+		var essActiveChargeEnergySum = this.essActiveChargeEnergy.toLong();
 		essActiveChargeEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.ESS_ACTIVE_CHARGE_ENERGY,
 				essActiveChargeEnergySum);
-		var essActiveDischargeEnergySum = essActiveDischargeEnergy.calculate();
+		var essActiveDischargeEnergySum = this.essActiveDischargeEnergy.toLong();
 		essActiveDischargeEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.ESS_ACTIVE_DISCHARGE_ENERGY,
 				essActiveDischargeEnergySum);
 
-		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_CHARGE_ENERGY, essDcChargeEnergy.calculate());
-		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_DISCHARGE_ENERGY, essDcDischargeEnergy.calculate());
+		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_CHARGE_ENERGY, this.essDcChargeEnergy.toLong());
+		this.energyValuesHandler.setValue(Sum.ChannelId.ESS_DC_DISCHARGE_ENERGY, this.essDcDischargeEnergy.toLong());
 
-		var essCapacitySum = essCapacity.calculate();
+		var essCapacitySum = this.essCapacity.toInteger();
 		this._setEssCapacity(essCapacitySum);
 
 		// Grid
-		var gridActivePowerSum = gridActivePower.calculate();
+		var gridActivePowerSum = this.gridActivePower.toInteger();
 		this._setGridActivePower(gridActivePowerSum);
-		var gridActivePowerL1Sum = gridActivePowerL1.calculate();
+		var gridActivePowerL1Sum = this.gridActivePowerL1.toInteger();
 		this._setGridActivePowerL1(gridActivePowerL1Sum);
-		var gridActivePowerL2Sum = gridActivePowerL2.calculate();
+		var gridActivePowerL2Sum = this.gridActivePowerL2.toInteger();
 		this._setGridActivePowerL2(gridActivePowerL2Sum);
-		var gridActivePowerL3Sum = gridActivePowerL3.calculate();
+		var gridActivePowerL3Sum = this.gridActivePowerL3.toInteger();
 		this._setGridActivePowerL3(gridActivePowerL3Sum);
-		this._setGridMinActivePower(gridMinActivePower.calculate());
-		var gridMaxActivePowerSum = gridMaxActivePower.calculate();
+		this._setGridMinActivePower(this.gridMinActivePower.toInteger());
+		var gridMaxActivePowerSum = this.gridMaxActivePower.toInteger();
 		this._setGridMaxActivePower(gridMaxActivePowerSum);
 
-		var gridBuyActiveEnergySum = gridBuyActiveEnergy.calculate();
+		var gridBuyActiveEnergySum = this.gridBuyActiveEnergy.toLong();
 		gridBuyActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.GRID_BUY_ACTIVE_ENERGY,
 				gridBuyActiveEnergySum);
-		var gridSellActiveEnergySum = gridSellActiveEnergy.calculate();
+		var gridSellActiveEnergySum = this.gridSellActiveEnergy.toLong();
 		gridSellActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.GRID_SELL_ACTIVE_ENERGY,
 				gridSellActiveEnergySum);
 
 		// Production
-		var productionAcActivePowerSum = productionAcActivePower.calculate();
+		var productionAcActivePowerSum = this.productionAcActivePower.toInteger();
 		this._setProductionAcActivePower(productionAcActivePowerSum);
-		var productionAcActivePowerL1Sum = productionAcActivePowerL1.calculate();
+		var productionAcActivePowerL1Sum = this.productionAcActivePowerL1.toInteger();
 		this._setProductionAcActivePowerL1(productionAcActivePowerL1Sum);
-		var productionAcActivePowerL2Sum = productionAcActivePowerL2.calculate();
+		var productionAcActivePowerL2Sum = this.productionAcActivePowerL2.toInteger();
 		this._setProductionAcActivePowerL2(productionAcActivePowerL2Sum);
-		var productionAcActivePowerL3Sum = productionAcActivePowerL3.calculate();
+		var productionAcActivePowerL3Sum = this.productionAcActivePowerL3.toInteger();
 		this._setProductionAcActivePowerL3(productionAcActivePowerL3Sum);
-		var productionDcActualPowerSum = productionDcActualPower.calculate();
+		var productionDcActualPowerSum = this.productionDcActualPower.toInteger();
 		this._setProductionDcActualPower(productionDcActualPowerSum);
 		this._setProductionActivePower(TypeUtils.sum(productionAcActivePowerSum, productionDcActualPowerSum));
 
-		var productionMaxAcActivePowerSum = productionMaxAcActivePower.calculate();
+		var productionMaxAcActivePowerSum = this.productionMaxAcActivePower.toInteger();
 		this._setProductionMaxAcActivePower(productionMaxAcActivePowerSum);
-		var productionMaxDcActualPowerSum = productionMaxDcActualPower.calculate();
+		var productionMaxDcActualPowerSum = this.productionMaxDcActualPower.toInteger();
 		this._setProductionMaxDcActualPower(productionMaxDcActualPowerSum);
 		this._setProductionMaxActivePower(TypeUtils.sum(productionMaxAcActivePowerSum, productionMaxDcActualPowerSum));
 
-		var productionAcActiveEnergySum = productionAcActiveEnergy.calculate();
+		var productionAcActiveEnergySum = this.productionAcActiveEnergy.toLong();
 		productionAcActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.PRODUCTION_AC_ACTIVE_ENERGY,
 				productionAcActiveEnergySum);
-		var productionDcActiveEnergySum = productionDcActiveEnergy.calculate();
+		var productionDcActiveEnergySum = this.productionDcActiveEnergy.toLong();
 		productionDcActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.PRODUCTION_DC_ACTIVE_ENERGY,
 				productionDcActiveEnergySum);
 		var productionActiveEnergySum = TypeUtils.sum(productionAcActiveEnergySum, productionDcActiveEnergySum);
@@ -385,16 +424,37 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 		var enterTheSystem = TypeUtils.sum(essActiveDischargeEnergySum, gridBuyActiveEnergySum,
 				productionAcActiveEnergySum);
 		var leaveTheSystem = TypeUtils.sum(essActiveChargeEnergySum, gridSellActiveEnergySum,
-				/* handling corner-case */ productionAcActiveEnergyNegative.calculate());
+				/* handling corner-case */ this.productionAcActiveEnergyNegative.toLong());
 		this.energyValuesHandler.setValue(Sum.ChannelId.CONSUMPTION_ACTIVE_ENERGY,
 				Optional.ofNullable(enterTheSystem).orElse(0L) - Optional.ofNullable(leaveTheSystem).orElse(0L));
 
 		// Further calculated Channels
-		var essDischargePowerSum = essDcDischargePower.calculate();
+		var essDischargePowerSum = this.essDcDischargePower.toInteger();
 		this.getEssDischargePowerChannel()
 				.setNextValue(essDischargePowerSum);
 	}
 
+	/**
+	 * Finds the effective Grid-Mode of all Ess; see {@link CalculateGridMode}.
+	 *
+	 * @param total    the number of Ess
+	 * @param onGrids  the number of Ess that are On-Grid
+	 * @param offGrids the number of Ess that are Off-Grid
+	 * @return the {@link GridMode}
+	 */
+	private static GridMode calculateGridMode(int total, int onGrids, int offGrids) {
+		if (total == 0) {
+			return GridMode.UNDEFINED;
+		}
+		if (total == onGrids) {
+			return GridMode.ON_GRID;
+		}
+		if (total == offGrids) {
+			return GridMode.OFF_GRID;
+		}
+		return GridMode.UNDEFINED;
+	}
+
 	/**
 	 * Combines the State of all Components.
 	 */
@@ -0,0 +1,117 @@
+package io.openems.edge.core.componentmanager;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.AbstractOpenemsComponent;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.test.DummyComponentManager;
+
+/**
+ * Compares the cost of Component and Channel lookups via the indexed
+ * {@link ComponentManagerImpl} with the iterating default implementation of
+ * {@link io.openems.edge.common.component.ComponentManager} (as used by
+ * {@link DummyComponentManager}).
+ *
+ * <p>
+ * Run via {@link #main(String[])}; it is not executed as part of the unit tests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentLookupBenchmark {
+
+	@Param({ "50", "500", "5000" })
+	private int components;
+
+	private ComponentManagerImpl indexed;
+	private DummyComponentManager iterating;
+	private String[] componentIds;
+	private ChannelAddress[] channelAddresses;
+	private int next = 0;
+
+	@Setup
+	public void setup() {
+		this.indexed = new ComponentManagerImpl();
+		this.iterating = new DummyComponentManager();
+		this.componentIds = new String[this.components];
+		this.channelAddresses = new ChannelAddress[this.components];
+		for (var i = 0; i < this.components; i++) {
+			var component = new BenchmarkComponent("component" + i);
+			this.indexed.addEnabledComponent(component);
+			this.indexed.addComponent(component);
+			this.iterating.addComponent(component);
+			this.componentIds[i] = component.id();
+			this.channelAddresses[i] = new ChannelAddress(component.id(),
+					OpenemsComponent.ChannelId.STATE.id());
+		}
+	}
+
+	private int nextIndex() {
+		var index = this.next;
+		this.next = index + 1 == this.components ? 0 : index + 1;
+		return index;
+	}
+
+	@Benchmark
+	public OpenemsComponent getComponentIndexed() throws OpenemsNamedException {
+		return this.indexed.getComponent(this.componentIds[this.nextIndex()]);
+	}
+
+	@Benchmark
+	public OpenemsComponent getComponentIterating() throws OpenemsNamedException {
+		return this.iterating.getComponent(this.componentIds[this.nextIndex()]);
+	}
+
+	@Benchmark
+	public Channel<?> getChannelIndexed() throws OpenemsNamedException {
+		return this.indexed.getChannel(this.channelAddresses[this.nextIndex()]);
+	}
+
+	@Benchmark
+	public Channel<?> getChannelIterating() throws OpenemsNamedException {
+		return this.iterating.getChannel(this.channelAddresses[this.nextIndex()]);
+	}
+
+	private static class BenchmarkComponent extends AbstractOpenemsComponent {
+
+		private BenchmarkComponent(String id) {
+			super(OpenemsComponent.ChannelId.values());
+			super.activate(null, id, "", true);
+		}
+
+	}
+
+	/**
+	 * Runs the benchmark.
+	 *
+	 * @param args the command line arguments
+	 * @throws RunnerException on error
+	 */
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder() //
+				.include(ComponentLookupBenchmark.class.getSimpleName()) //
+				.build()).run();
+	}
+
+}
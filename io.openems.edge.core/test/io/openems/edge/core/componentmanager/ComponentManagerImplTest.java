@@ -1,9 +1,18 @@
 package io.openems.edge.core.componentmanager;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
 import org.junit.Test;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.component.ComponentManager;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
 
@@ -19,4 +28,37 @@ public class ComponentManagerImplTest {
 						.build());
 	}
 
+	@Test
+	public void testGetComponent() throws OpenemsNamedException {
+		var sut = new ComponentManagerImpl();
+		var sum = new DummySum();
+		sut.addComponent(sum);
+		assertSame(sum, sut.getPossiblyDisabledComponent(Sum.SINGLETON_COMPONENT_ID));
+		assertNotFound(sut, false, Sum.SINGLETON_COMPONENT_ID);
+
+		sut.addEnabledComponent(sum);
+		assertSame(sum, sut.getComponent(Sum.SINGLETON_COMPONENT_ID));
+		assertSame(sut, sut.getComponent(ComponentManager.SINGLETON_COMPONENT_ID));
+		assertEquals(sum.getStateChannel(), sut.getChannel(
+				new ChannelAddress(Sum.SINGLETON_COMPONENT_ID, OpenemsComponent.ChannelId.STATE.id())));
+
+		sut.removeEnabledComponent(sum);
+		assertNotFound(sut, false, Sum.SINGLETON_COMPONENT_ID);
+		sut.removeComponent(sum);
+		assertNotFound(sut, true, Sum.SINGLETON_COMPONENT_ID);
+	}
+
+	private static void assertNotFound(ComponentManager sut, boolean possiblyDisabled, String componentId) {
+		try {
+			if (possiblyDisabled) {
+				sut.getPossiblyDisabledComponent(componentId);
+			} else {
+				sut.getComponent(componentId);
+			}
+			fail("Component [" + componentId + "] should not be found");
+		} catch (OpenemsNamedException e) {
+			// expected
+		}
+	}
+
 }
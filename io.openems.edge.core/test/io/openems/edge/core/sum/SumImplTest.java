@@ -0,0 +1,74 @@
+package io.openems.edge.core.sum;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.sum.GridMode;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyMetaEss;
+import io.openems.edge.meter.test.DummySymmetricMeter;
+
+public class SumImplTest {
+
+	@Test
+	public void testCalculateChannelValues() {
+		var sut = new SumImpl();
+		sut.componentManager = new DummyComponentManager();
+
+		var ess0 = new DummyManagedSymmetricEss("ess0") //
+				.setSoc(50) //
+				.setGridMode(GridMode.ON_GRID);
+		ess0._setActivePower(1000);
+		var ess1 = new DummyManagedSymmetricEss("ess1") //
+				.setSoc(61) //
+				.setGridMode(GridMode.ON_GRID);
+		ess1._setActivePower(500);
+		var ess2 = new DummyMetaEss("ess2", ess0, ess1);
+		ess2._setActivePower(9999);
+		var meter0 = new DummySymmetricMeter("meter0");
+		meter0._setActivePower(-300);
+
+		sut.addComponent(ess0);
+		sut.addComponent(ess1);
+		sut.addComponent(ess2);
+		sut.addComponent(meter0);
+		cycle(sut, ess0, ess1, ess2, meter0);
+
+		assertEquals(56, (int) sut.getEssSoc().get());
+		assertEquals(1500, (int) sut.getEssActivePower().get());
+		assertEquals(500, (int) sut.getEssActivePowerL1().get()); // 333 + 167
+		assertEquals(GridMode.ON_GRID, sut.getGridMode());
+		assertEquals(-300, (int) sut.getGridActivePower().get());
+		assertEquals(-100, (int) sut.getGridActivePowerL1().get());
+		assertNull(sut.getProductionActivePower().get());
+		assertEquals(1200, (int) sut.getConsumptionActivePower().get());
+
+		// Unbind
+		sut.removeComponent(ess1);
+		sut.removeComponent(meter0);
+		cycle(sut, ess0, ess1, ess2, meter0);
+
+		assertEquals(50, (int) sut.getEssSoc().get());
+		assertEquals(1000, (int) sut.getEssActivePower().get());
+		assertNull(sut.getGridActivePower().get());
+		assertEquals(1000, (int) sut.getConsumptionActivePower().get());
+	}
+
+	private static void cycle(SumImpl sut, OpenemsComponent... components) {
+		for (OpenemsComponent component : components) {
+			for (Channel<?> channel : component.channels()) {
+				channel.nextProcessImage();
+			}
+		}
+		sut.updateChannelsBeforeProcessImage();
+		for (Channel<?> channel : sut.channels()) {
+			channel.nextProcessImage();
+		}
+	}
+
+}
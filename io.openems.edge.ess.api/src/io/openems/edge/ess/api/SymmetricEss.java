@@ -72,6 +72,7 @@ public interface SymmetricEss extends OpenemsComponent {
 				.unit(Unit.WATT) //
 				.persistencePriority(PersistencePriority.HIGH) //
 				.text("Negative values for Charge; positive for Discharge") //
+				.primitiveProcessImage() //
 		),
 		/**
 		 * Reactive Power.
@@ -85,6 +86,7 @@ public interface SymmetricEss extends OpenemsComponent {
 		REACTIVE_POWER(Doc.of(OpenemsType.INTEGER) //
 				.unit(Unit.VOLT_AMPERE_REACTIVE) //
 				.persistencePriority(PersistencePriority.HIGH) //
+				.primitiveProcessImage() //
 		),
 		/**
 		 * Holds the currently maximum possible apparent power. This value is commonly
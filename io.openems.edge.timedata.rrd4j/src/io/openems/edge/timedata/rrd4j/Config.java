@@ -22,5 +22,11 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Store only Channels with a Persistence Priority above this. Be aware that too many writes can wear-out your flash storage.")
 	PersistencePriority persistencePriority() default PersistencePriority.MEDIUM;
 
+	@AttributeDefinition(name = "Max. open databases", description = "Number of RRD4J files that are kept open between writes. Should be at least the number of persisted Channels; every open file requires a file handle.")
+	int maxOpenDatabases() default 1000;
+
+	@AttributeDefinition(name = "Use memory-mapped files?", description = "Write via memory-mapped files that are synced to disk every five minutes. Reduces write operations, but values since the last sync are lost on power failure.")
+	boolean memoryMapped() default false;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata RRD4J [{id}]";
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Holds the result of a historic data query in columnar form: one array of
+ * timestamps and one array of values per Channel.
+ *
+ * <p>
+ * Values are kept as primitive doubles; they are converted to JSON only once
+ * the result is returned via {@link #toTable(ZoneId)}.
+ */
+class HistoricData {
+
+	/** Epoch seconds of the rows. */
+	protected final long[] timestamps;
+	/** Values per Channel; {@link Double#NaN} if undefined. */
+	protected final Map<ChannelAddress, double[]> columns;
+
+	/**
+	 * Builds a {@link HistoricData}.
+	 *
+	 * @param fromTimestamp the epoch seconds of the first row
+	 * @param resolution    the resolution in seconds
+	 * @param columns       the values per Channel, starting at fromTimestamp
+	 */
+	protected HistoricData(long fromTimestamp, long resolution, Map<ChannelAddress, double[]> columns) {
+		var length = 0;
+		for (double[] column : columns.values()) {
+			length = Math.max(length, column.length);
+		}
+		this.timestamps = new long[length];
+		for (var i = 0; i < length; i++) {
+			this.timestamps[i] = fromTimestamp + i * resolution;
+		}
+		this.columns = columns;
+	}
+
+	/**
+	 * Converts the data to the table format of
+	 * {@link io.openems.edge.timedata.api.Timedata#queryHistoricData}.
+	 *
+	 * @param timezone the timezone of the result
+	 * @return the table
+	 */
+	protected SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> toTable(ZoneId timezone) {
+		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+		for (var i = 0; i < this.timestamps.length; i++) {
+			SortedMap<ChannelAddress, JsonElement> tableRow = new TreeMap<>();
+			for (var entry : this.columns.entrySet()) {
+				var column = entry.getValue();
+				if (i >= column.length) {
+					continue;
+				}
+				var value = column[i];
+				if (Double.isNaN(value)) {
+					tableRow.put(entry.getKey(), JsonNull.INSTANCE);
+				} else {
+					tableRow.put(entry.getKey(), new JsonPrimitive(value));
+				}
+			}
+			var dateTime = ZonedDateTime.ofInstant(Instant.ofEpochSecond(this.timestamps[i]), ZoneOffset.UTC)
+					.withZoneSameInstant(timezone);
+			table.put(dateTime, tableRow);
+		}
+		return table;
+	}
+
+}
@@ -0,0 +1,119 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches the results of recent historic data queries, e.g. for dashboards that
+ * repeat the same query on every reload.
+ *
+ * <p>
+ * Entries expire after {@link #timeToLiveMillis}, so new samples show up with
+ * a bounded delay. At most {@link #maxSize} entries are kept; the least
+ * recently used entry is removed first.
+ */
+class HistoricDataCache {
+
+	protected static class Key {
+		private final long fromTimestamp;
+		private final long toTimestamp;
+		private final long resolution;
+		private final Set<ChannelAddress> channels;
+
+		protected Key(long fromTimestamp, long toTimestamp, long resolution, Set<ChannelAddress> channels) {
+			this.fromTimestamp = fromTimestamp;
+			this.toTimestamp = toTimestamp;
+			this.resolution = resolution;
+			this.channels = Set.copyOf(channels);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.fromTimestamp, this.toTimestamp, this.resolution, this.channels);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			var other = (Key) obj;
+			return this.fromTimestamp == other.fromTimestamp //
+					&& this.toTimestamp == other.toTimestamp //
+					&& this.resolution == other.resolution //
+					&& this.channels.equals(other.channels);
+		}
+	}
+
+	private static class CachedResult {
+		private final HistoricData data;
+		private final long created;
+
+		private CachedResult(HistoricData data, long created) {
+			this.data = data;
+			this.created = created;
+		}
+	}
+
+	private final int maxSize;
+	private final long timeToLiveMillis;
+	private final LinkedHashMap<Key, CachedResult> entries;
+
+	protected HistoricDataCache(int maxSize, long timeToLiveMillis) {
+		this.maxSize = maxSize;
+		this.timeToLiveMillis = timeToLiveMillis;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+				return this.size() > HistoricDataCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Gets a cached {@link HistoricData}.
+	 *
+	 * @param key the {@link Key} of the query
+	 * @param now the current time in [ms]
+	 * @return the {@link HistoricData}; null if it is not cached or expired
+	 */
+	protected synchronized HistoricData get(Key key, long now) {
+		var entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (now - entry.created >= this.timeToLiveMillis) {
+			this.entries.remove(key);
+			return null;
+		}
+		return entry.data;
+	}
+
+	/**
+	 * Adds a {@link HistoricData} to the cache.
+	 *
+	 * @param key  the {@link Key} of the query
+	 * @param data the {@link HistoricData}
+	 * @param now  the current time in [ms]
+	 */
+	protected synchronized void put(Key key, HistoricData data, long now) {
+		this.entries.put(key, new CachedResult(data, now));
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	protected synchronized void clear() {
+		this.entries.clear();
+	}
+
+}
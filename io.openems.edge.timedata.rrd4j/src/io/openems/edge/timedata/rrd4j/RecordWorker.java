@@ -5,8 +5,10 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.OptionalDouble;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.DoubleStream;
@@ -23,11 +25,17 @@ import io.openems.common.worker.AbstractImmediateWorker;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.type.TimeseriesRingBuffer.Aggregation;
 
 public class RecordWorker extends AbstractImmediateWorker {
 
 	protected static final int DEFAULT_NO_OF_CYCLES = 60;
 
+	/**
+	 * Maximum number of Records that are written in one batch.
+	 */
+	private static final int MAX_BATCH_SIZE = 10_000;
+
 	private final Logger log = LoggerFactory.getLogger(RecordWorker.class);
 	private final Rrd4jTimedataImpl parent;
 
@@ -51,9 +59,13 @@ public class RecordWorker extends AbstractImmediateWorker {
 	// Record queue
 	private final LinkedBlockingQueue<Record> records = new LinkedBlockingQueue<>();
 
+	// Records that are currently written; only accessed by the worker thread
+	private final ArrayList<Record> batch = new ArrayList<>();
+
 	// keeps the last recorded timestamp
 	private Instant lastTimestamp = Instant.MIN;
 	private LocalDateTime readChannelValuesSince = LocalDateTime.MIN;
+	private long readChannelValuesSinceMillis = Long.MIN_VALUE;
 
 	public RecordWorker(Rrd4jTimedataImpl parent) {
 		this.parent = parent;
@@ -67,10 +79,13 @@ public class RecordWorker extends AbstractImmediateWorker {
 	public void collectData() {
 		var timestamp = Instant.now().truncatedTo(ChronoUnit.SECONDS);
 		final var nextReadChannelValuesSince = LocalDateTime.now();
+		final var nextReadChannelValuesSinceMillis = System.currentTimeMillis();
 
 		// Increase CycleCount
 		this.cycleCount += 1;
 
+		this.parent._setQueueSize(this.records.size());
+
 		// Same second as last run? -> RRD4j can only handle one sample per second per
 		// database. Timestamps are all stored "truncated to seconds".
 		if (timestamp.equals(this.lastTimestamp)) {
@@ -100,26 +115,40 @@ public class RecordWorker extends AbstractImmediateWorker {
 					continue;
 				}
 
-				ToDoubleFunction<? super Object> channelMapFunction = this
-						.getChannelMapFunction(channel.channelDoc().getType());
-				var channelAggregateFunction = this.getChannelAggregateFunction(channel.channelDoc().getUnit());
-
-				var value = channelAggregateFunction.apply(//
-						channel.getPastValues() //
-								.tailMap(this.readChannelValuesSince, false) // new values since last recording
-								.values().stream() //
-								.map(Value::get) //
-								.filter(v -> v != null) // only not-null values
-								.mapToDouble(channelMapFunction) // convert to double
-				);
-				if (!value.isPresent()) {
-					// only available channels
-					continue;
+				final double value;
+				var pastValuesBuffer = channel.getPastValuesBuffer();
+				if (pastValuesBuffer != null) {
+					// new values since last recording; allocation free
+					value = pastValuesBuffer.aggregateSince(this.readChannelValuesSinceMillis,
+							this.getChannelAggregation(channel.channelDoc().getUnit()));
+					if (Double.isNaN(value)) {
+						// only available channels
+						continue;
+					}
+
+				} else {
+					ToDoubleFunction<? super Object> channelMapFunction = this
+							.getChannelMapFunction(channel.channelDoc().getType());
+					var channelAggregateFunction = this.getChannelAggregateFunction(channel.channelDoc().getUnit());
+
+					var valueOpt = channelAggregateFunction.apply(//
+							channel.getPastValues() //
+									.tailMap(this.readChannelValuesSince, false) // new values since last recording
+									.values().stream() //
+									.map(Value::get) //
+									.filter(v -> v != null) // only not-null values
+									.mapToDouble(channelMapFunction) // convert to double
+					);
+					if (!valueOpt.isPresent()) {
+						// only available channels
+						continue;
+					}
+					value = valueOpt.getAsDouble();
 				}
 
 				if (this.records.offer(//
 						new Record(timestamp.getEpochSecond(), channel.address(), channel.channelDoc().getUnit(),
-								value.getAsDouble()))) {
+								value))) {
 					this.parent._setQueueIsFull(false);
 
 				} else {
@@ -130,15 +159,51 @@ public class RecordWorker extends AbstractImmediateWorker {
 		}
 
 		this.readChannelValuesSince = nextReadChannelValuesSince;
+		this.readChannelValuesSinceMillis = nextReadChannelValuesSinceMillis;
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
-		var record = this.records.take();
-		RrdDb database = null;
+		// Wait for Records; then take all Records that were queued in the meantime.
+		// Records of one timestamp are queued together, so one batch writes all
+		// Channels of one or more timestamps via the cached databases.
+		this.batch.add(this.records.take());
+		this.records.drainTo(this.batch, MAX_BATCH_SIZE - 1);
+
+		var start = System.nanoTime();
+		var unableToInsertSample = false;
+		try {
+			for (Record record : this.batch) {
+				if (!this.write(record)) {
+					unableToInsertSample = true;
+				}
+			}
+		} finally {
+			this.batch.clear();
+		}
 
 		try {
-			database = this.parent.getRrdDb(record.address, record.unit, record.timestamp - 1);
+			this.parent.cache.evictIdle(System.currentTimeMillis());
+		} catch (IOException e) {
+			this.parent.logWarn(this.log, "Unable to close idle databases: " + e.getMessage());
+		}
+
+		this.parent._setWriteDuration(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		this.parent._setUnableToInsertSample(unableToInsertSample);
+		this.parent._setQueueSize(this.records.size());
+	}
+
+	/**
+	 * Writes a {@link Record} to its RRD4j database.
+	 *
+	 * @param record the {@link Record}
+	 * @return true on success
+	 */
+	private boolean write(Record record) {
+		RrdDb database = null;
+		try {
+			database = this.parent.cache.get(record.address, record.unit, record.timestamp - 1,
+					System.currentTimeMillis());
 
 			if (database.getLastUpdateTime() < record.timestamp) {
 				// Avoid and silently ignore error "IllegalArgumentException: Bad sample time:
@@ -149,17 +214,19 @@ public class RecordWorker extends AbstractImmediateWorker {
 				sample.setValue(0, record.value);
 				sample.update();
 			}
-
-			this.parent._setUnableToInsertSample(false);
+			return true;
 
 		} catch (Throwable e) {
-			this.parent._setUnableToInsertSample(true);
+			// Reopen the database on next write
+			this.parent.cache.remove(record.address);
 			this.parent.logWarn(this.log, "Unable to insert Sample [" + record.address + "] "
 					+ e.getClass().getSimpleName() + ": " + e.getMessage());
+			return false;
+
 		} finally {
 			if (database != null) {
 				try {
-					database.close();
+					this.parent.cache.release(record.address, database);
 				} catch (IOException e) {
 					this.parent.logWarn(this.log,
 							"Unable to close database [" + record.address + "]: " + e.getMessage());
@@ -200,6 +267,20 @@ public class RecordWorker extends AbstractImmediateWorker {
 	}
 
 	private Function<DoubleStream, OptionalDouble> getChannelAggregateFunction(Unit channelUnit) {
+		switch (this.getChannelAggregation(channelUnit)) {
+		case MAX:
+			return DoubleStream::max;
+		case AVERAGE:
+		case FIRST:
+		case LAST:
+		case MIN:
+		case SUM:
+			break;
+		}
+		return DoubleStream::average;
+	}
+
+	private Aggregation getChannelAggregation(Unit channelUnit) {
 		switch (channelUnit) {
 		case AMPERE:
 		case AMPERE_HOURS:
@@ -235,14 +316,14 @@ public class RecordWorker extends AbstractImmediateWorker {
 		case THOUSANDTH:
 		case PERCENT:
 		case ON_OFF:
-			return DoubleStream::average;
+			return Aggregation.AVERAGE;
 		case CUMULATED_SECONDS:
 		case WATT_HOURS:
 		case KILOWATT_HOURS:
 		case VOLT_AMPERE_HOURS:
 		case VOLT_AMPERE_REACTIVE_HOURS:
 		case KILOVOLT_AMPERE_REACTIVE_HOURS:
-			return DoubleStream::max;
+			return Aggregation.MAX;
 		}
 		throw new IllegalArgumentException("Channel Unit [" + channelUnit + "] is not supported.");
 	}
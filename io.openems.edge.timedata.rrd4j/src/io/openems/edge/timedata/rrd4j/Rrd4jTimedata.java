@@ -1,7 +1,11 @@
 package io.openems.edge.timedata.rrd4j;
 
 import io.openems.common.channel.Level;
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.IntegerReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
 import io.openems.edge.common.channel.StateChannel;
 import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -11,7 +15,16 @@ public interface Rrd4jTimedata extends Timedata, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		QUEUE_IS_FULL(Doc.of(Level.WARNING)), //
-		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING));
+		UNABLE_TO_INSERT_SAMPLE(Doc.of(Level.WARNING)), //
+		/**
+		 * Number of Records that are waiting to be written.
+		 */
+		QUEUE_SIZE(Doc.of(OpenemsType.INTEGER)), //
+		/**
+		 * Duration of writing the last batch of Records in [ms].
+		 */
+		WRITE_DURATION(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS));
 
 		private final Doc doc;
 
@@ -80,4 +93,60 @@ public interface Rrd4jTimedata extends Timedata, OpenemsComponent {
 	public default void _setUnableToInsertSample(Boolean value) {
 		this.getUnableToInsertSampleChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#QUEUE_SIZE}.
+	 *
+	 * @return the Channel
+	 */
+	public default IntegerReadChannel getQueueSizeChannel() {
+		return this.channel(ChannelId.QUEUE_SIZE);
+	}
+
+	/**
+	 * Gets the Queue Size. See {@link ChannelId#QUEUE_SIZE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Integer> getQueueSize() {
+		return this.getQueueSizeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#QUEUE_SIZE}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setQueueSize(int value) {
+		this.getQueueSizeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#WRITE_DURATION}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getWriteDurationChannel() {
+		return this.channel(ChannelId.WRITE_DURATION);
+	}
+
+	/**
+	 * Gets the Write Duration in [ms]. See {@link ChannelId#WRITE_DURATION}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getWriteDuration() {
+		return this.getWriteDurationChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#WRITE_DURATION}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setWriteDuration(long value) {
+		this.getWriteDurationChannel().setNextValue(value);
+	}
 }
@@ -9,11 +9,17 @@ import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -29,12 +35,16 @@ import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.DsDef;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDbPool;
 import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdNioBackendFactory;
 import org.rrd4j.core.RrdRandomAccessFileBackendFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
@@ -47,6 +57,7 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.channel.Channel;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -72,10 +83,38 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 
 	private static final String RRD4J_PATH = "rrd4j";
 
+	/**
+	 * Cached {@link RrdDb}s that were not written for this time are closed.
+	 */
+	private static final long CACHE_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(15);
+
+	/**
+	 * Number of {@link RrdDb}s that can be opened by queries in addition to the
+	 * cached ones, before the {@link RrdDbPool} blocks.
+	 */
+	private static final int POOL_QUERY_CAPACITY = 20;
+
+	/**
+	 * Number of Channels that are read in parallel by historic data queries.
+	 */
+	private static final int QUERY_THREADS = 4;
+
+	/**
+	 * Results of historic data queries are reused for this time.
+	 */
+	private static final long QUERY_CACHE_TIME_TO_LIVE_MILLIS = TimeUnit.MINUTES.toMillis(1);
+	private static final int QUERY_CACHE_SIZE = 16;
+
 	private final Logger log = LoggerFactory.getLogger(Rrd4jTimedataImpl.class);
 
 	private final RecordWorker worker;
-	private final RrdRandomAccessFileBackendFactory factory;
+	private final HistoricDataCache historicDataCache = new HistoricDataCache(QUERY_CACHE_SIZE,
+			QUERY_CACHE_TIME_TO_LIVE_MILLIS);
+
+	private RrdBackendFactory factory = null;
+	private RrdDbPool pool = null;
+	protected RrdDbCache cache = null;
+	private ExecutorService queryExecutor = null;
 
 	public Rrd4jTimedataImpl() {
 		super(//
@@ -84,7 +123,6 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 				Rrd4jTimedata.ChannelId.values() //
 		);
 		this.worker = new RecordWorker(this);
-		this.factory = new RrdRandomAccessFileBackendFactory();
 	}
 
 	@Reference
@@ -95,6 +133,16 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	@Activate
 	void activate(ComponentContext context, Config config) throws Exception {
 		this.persistencePriority = config.persistencePriority();
+		if (config.memoryMapped()) {
+			this.factory = new RrdNioBackendFactory(RrdNioBackendFactory.DEFAULT_SYNC_PERIOD);
+		} else {
+			this.factory = new RrdRandomAccessFileBackendFactory();
+		}
+		this.pool = new RrdDbPool(this.factory);
+		this.pool.setCapacity(config.maxOpenDatabases() + POOL_QUERY_CAPACITY);
+		this.cache = new RrdDbCache(config.maxOpenDatabases(), CACHE_IDLE_TIMEOUT_MILLIS, this::getRrdDb);
+		this.queryExecutor = Executors.newFixedThreadPool(QUERY_THREADS,
+				new ThreadFactoryBuilder().setNameFormat(config.id() + ":Query-%d").build());
 		super.activate(context, config.id(), config.alias(), config.enabled());
 
 		if (config.enabled()) {
@@ -105,6 +153,18 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	@Deactivate
 	protected void deactivate() {
 		this.worker.deactivate();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.queryExecutor, 5);
+		this.historicDataCache.clear();
+		try {
+			this.cache.close();
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to close databases: " + e.getMessage());
+		}
+		try {
+			this.factory.close();
+		} catch (IOException e) {
+			this.logWarn(this.log, "Unable to close RRD4j Backend: " + e.getMessage());
+		}
 		super.deactivate();
 	}
 
@@ -112,64 +172,89 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricData(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		var timezone = fromDate.getZone();
-		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+		var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+		var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+		long resolutionSeconds = resolution.toSeconds();
 
-		RrdDb database = null;
-		try {
-			var fromTimestamp = fromDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
-			var toTimeStamp = toDate.withZoneSameInstant(ZoneOffset.UTC).toEpochSecond();
+		var key = new HistoricDataCache.Key(fromTimestamp, toTimeStamp, resolutionSeconds, channels);
+		var data = this.historicDataCache.get(key, System.currentTimeMillis());
+		if (data == null) {
+			data = this.fetchHistoricData(fromTimestamp, toTimeStamp, channels, resolutionSeconds);
+			this.historicDataCache.put(key, data, System.currentTimeMillis());
+		}
+		return data.toTable(fromDate.getZone());
+	}
 
+	/**
+	 * Reads the historic data of the given Channels. Every Channel is read in a
+	 * separate task of the {@link #queryExecutor}.
+	 * 
+	 * @param fromTimestamp the start epoch seconds
+	 * @param toTimeStamp   the end epoch seconds
+	 * @param channels      the Channels
+	 * @param resolution    the resolution in seconds
+	 * @return the {@link HistoricData}
+	 * @throws OpenemsNamedException on error
+	 */
+	private HistoricData fetchHistoricData(long fromTimestamp, long toTimeStamp, Set<ChannelAddress> channels,
+			long resolution) throws OpenemsNamedException {
+		var futures = new LinkedHashMap<ChannelAddress, Future<double[]>>();
+		try {
 			for (ChannelAddress channelAddress : channels) {
 				Channel<?> channel = this.componentManager.getChannel(channelAddress);
-				database = this.getExistingRrdDb(channel.address());
-				if (database == null) {
-					continue; // not existing -> abort
-				}
-
-				var chDef = this.getDsDefForChannel(channel.channelDoc().getUnit());
-				var request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp,
-						resolution.toSeconds());
-
-				// Post-Process data
-				var result = postProcessData(request, resolution.toSeconds());
-				database.close();
-
-				for (var i = 0; i < result.length; i++) {
-					var timestamp = fromTimestamp + (i * resolution.toSeconds());
-
-					// Prepare result table row
-					var timestampInstant = Instant.ofEpochSecond(timestamp);
-					var dateTime = ZonedDateTime.ofInstant(timestampInstant, ZoneOffset.UTC)
-							.withZoneSameInstant(timezone);
-					var tableRow = table.get(dateTime);
-					if (tableRow == null) {
-						tableRow = new TreeMap<>();
-					}
-
-					var value = result[i];
-					if (Double.isNaN(value)) {
-						tableRow.put(channelAddress, JsonNull.INSTANCE);
-					} else {
-						tableRow.put(channelAddress, new JsonPrimitive(value));
-					}
+				var channelUnit = channel.channelDoc().getUnit();
+				futures.put(channelAddress, this.queryExecutor.submit(() -> this.fetchHistoricData(channelAddress,
+						channelUnit, fromTimestamp, toTimeStamp, resolution)));
+			}
 
-					table.put(dateTime, tableRow);
+			var columns = new LinkedHashMap<ChannelAddress, double[]>();
+			for (var entry : futures.entrySet()) {
+				var column = entry.getValue().get();
+				if (column != null) {
+					columns.put(entry.getKey(), column);
 				}
 			}
+			return new HistoricData(fromTimestamp, resolution, columns);
 
+		} catch (ExecutionException e) {
+			throw new OpenemsException("Unable to read historic data: " + e.getCause().getMessage());
 		} catch (Exception e) {
 			throw new OpenemsException("Unable to read historic data: " + e.getMessage());
 		} finally {
-			if (database != null && !database.isClosed()) {
-				try {
-					database.close();
-				} catch (IOException e) {
-					this.logWarn(this.log, "Unable to close database: " + e.getMessage());
-				}
+			// Do not interrupt: that would close the FileChannel of the pooled RrdDb
+			for (Future<double[]> future : futures.values()) {
+				future.cancel(false);
 			}
 		}
-		return table;
+	}
+
+	/**
+	 * Reads the historic data of one Channel.
+	 * 
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @param fromTimestamp  the start epoch seconds
+	 * @param toTimeStamp    the end epoch seconds
+	 * @param resolution     the resolution in seconds
+	 * @return the values; null if there is no database for the Channel
+	 * @throws IOException on error
+	 */
+	private double[] fetchHistoricData(ChannelAddress channelAddress, Unit channelUnit, long fromTimestamp,
+			long toTimeStamp, long resolution) throws IOException {
+		var database = this.getExistingRrdDb(channelAddress);
+		if (database == null) {
+			return null; // not existing -> abort
+		}
+		try {
+			var chDef = this.getDsDefForChannel(channelUnit);
+			var request = database.createFetchRequest(chDef.consolFun, fromTimestamp, toTimeStamp, resolution);
+
+			// Post-Process data
+			return postProcessData(request, resolution);
+
+		} finally {
+			database.close();
+		}
 	}
 
 	/**
@@ -360,6 +445,10 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 	 * Gets the RRD4j database for the given Channel-Address.
 	 * 
 	 * <p>
+	 * Use {@link #cache} to get databases for writing; it keeps them open
+	 * between writes.
+	 * 
+	 * <p>
 	 * The predefined RRD4J archives match the requirements of
 	 * {@link CommonTimedataService#calculateResolution(ZonedDateTime, ZonedDateTime)}
 	 * 
@@ -409,7 +498,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 
 		return RrdDb.getBuilder() //
 				.setBackendFactory(this.factory) //
-				.usePool() //
+				.setPool(this.pool) //
 				.setRrdDef(rrdDef) //
 				.build();
 	}
@@ -430,7 +519,7 @@ public class Rrd4jTimedataImpl extends AbstractOpenemsComponent
 		try {
 			return RrdDb.getBuilder() //
 					.setBackendFactory(this.factory) //
-					.usePool() //
+					.setPool(this.pool) //
 					.setPath(file.toURI()) //
 					.build();
 		} catch (IOException e) {
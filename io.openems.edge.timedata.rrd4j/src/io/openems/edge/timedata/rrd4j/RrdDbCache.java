@@ -0,0 +1,178 @@
+package io.openems.edge.timedata.rrd4j;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+
+import org.rrd4j.core.RrdDb;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Keeps {@link RrdDb} handles open between writes, so that the RRD4j files do
+ * not have to be opened, parsed and closed for every single sample.
+ *
+ * <p>
+ * Handles are kept in least-recently-used order:
+ * <ul>
+ * <li>handles that were not used for longer than the idle timeout are closed
+ * via {@link #evictIdle(long)}
+ * <li>once {@link #maxSize} handles are open, further databases are opened per
+ * write and closed again on {@link #release(ChannelAddress, RrdDb)}. Evicting
+ * the eldest handle instead would close every handle right before it is needed
+ * again, as all Channels are written in the same order every time.
+ * </ul>
+ */
+class RrdDbCache {
+
+	/**
+	 * Opens or creates the {@link RrdDb} for a Channel.
+	 */
+	@FunctionalInterface
+	protected static interface Opener {
+
+		/**
+		 * Opens or creates the {@link RrdDb}.
+		 *
+		 * @param channelAddress the {@link ChannelAddress}
+		 * @param channelUnit    the {@link Unit} of the Channel
+		 * @param startTime      the start time for a newly created {@link RrdDb}
+		 * @return the {@link RrdDb}
+		 * @throws IOException        on error
+		 * @throws URISyntaxException on error
+		 */
+		public RrdDb open(ChannelAddress channelAddress, Unit channelUnit, long startTime)
+				throws IOException, URISyntaxException;
+	}
+
+	private static class Entry {
+		private final RrdDb database;
+		private long lastAccess;
+
+		private Entry(RrdDb database, long lastAccess) {
+			this.database = database;
+			this.lastAccess = lastAccess;
+		}
+	}
+
+	private final int maxSize;
+	private final long idleTimeoutMillis;
+	private final Opener opener;
+	private final LinkedHashMap<ChannelAddress, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private boolean closed = false;
+
+	protected RrdDbCache(int maxSize, long idleTimeoutMillis, Opener opener) {
+		this.maxSize = maxSize;
+		this.idleTimeoutMillis = idleTimeoutMillis;
+		this.opener = opener;
+	}
+
+	/**
+	 * Gets the {@link RrdDb} for a Channel; opens or creates it if it is not
+	 * cached.
+	 *
+	 * <p>
+	 * Always hand the {@link RrdDb} back via
+	 * {@link #release(ChannelAddress, RrdDb)} instead of closing it.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param channelUnit    the {@link Unit} of the Channel
+	 * @param startTime      the start time for a newly created {@link RrdDb}
+	 * @param now            the current time in [ms]
+	 * @return the {@link RrdDb}
+	 * @throws IOException        on error
+	 * @throws URISyntaxException on error
+	 */
+	protected synchronized RrdDb get(ChannelAddress channelAddress, Unit channelUnit, long startTime, long now)
+			throws IOException, URISyntaxException {
+		var entry = this.entries.get(channelAddress);
+		if (entry != null) {
+			entry.lastAccess = now;
+			return entry.database;
+		}
+		var database = this.opener.open(channelAddress, channelUnit, startTime);
+		if (!this.closed && this.entries.size() < this.maxSize) {
+			this.entries.put(channelAddress, new Entry(database, now));
+		}
+		return database;
+	}
+
+	/**
+	 * Hands back a {@link RrdDb} that was received via
+	 * {@link #get(ChannelAddress, Unit, long, long)}. Closes it if it is not
+	 * cached.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param database       the {@link RrdDb}
+	 * @throws IOException on error
+	 */
+	protected synchronized void release(ChannelAddress channelAddress, RrdDb database) throws IOException {
+		var entry = this.entries.get(channelAddress);
+		if (entry == null || entry.database != database) {
+			database.close();
+		}
+	}
+
+	/**
+	 * Removes the {@link RrdDb} of a Channel from the cache, e.g. after a write
+	 * failed. It gets closed on {@link #release(ChannelAddress, RrdDb)}.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 */
+	protected synchronized void remove(ChannelAddress channelAddress) {
+		this.entries.remove(channelAddress);
+	}
+
+	/**
+	 * Closes all {@link RrdDb}s that were not used within the idle timeout.
+	 *
+	 * @param now the current time in [ms]
+	 * @throws IOException on error
+	 */
+	protected synchronized void evictIdle(long now) throws IOException {
+		var iterator = this.entries.values().iterator();
+		while (iterator.hasNext()) {
+			var entry = iterator.next();
+			if (now - entry.lastAccess < this.idleTimeoutMillis) {
+				// Entries are in access-order -> all following entries are newer
+				return;
+			}
+			iterator.remove();
+			entry.database.close();
+		}
+	}
+
+	/**
+	 * Gets the number of cached {@link RrdDb}s.
+	 *
+	 * @return the size
+	 */
+	protected synchronized int size() {
+		return this.entries.size();
+	}
+
+	/**
+	 * Closes all cached {@link RrdDb}s. Databases that are requested afterwards
+	 * are not cached anymore.
+	 *
+	 * @throws IOException on error
+	 */
+	protected synchronized void close() throws IOException {
+		this.closed = true;
+		IOException exception = null;
+		for (Entry entry : this.entries.values()) {
+			try {
+				entry.database.close();
+			} catch (IOException e) {
+				exception = e;
+			}
+		}
+		this.entries.clear();
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+}
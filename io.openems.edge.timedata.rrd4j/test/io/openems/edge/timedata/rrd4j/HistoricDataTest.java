@@ -0,0 +1,71 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.google.gson.JsonNull;
+
+import io.openems.common.types.ChannelAddress;
+
+public class HistoricDataTest {
+
+	private static final ChannelAddress CHANNEL_0 = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress CHANNEL_1 = new ChannelAddress("meter0", "ReactivePower");
+
+	private static final long START = 1577836800L; /* 1. January 2020 00:00:00 UTC */
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+
+	@Test
+	public void testToTable() {
+		var columns = new LinkedHashMap<ChannelAddress, double[]>();
+		columns.put(CHANNEL_0, new double[] { 1, Double.NaN, 3 });
+		columns.put(CHANNEL_1, new double[] { 10, 20 });
+		var sut = new HistoricData(START, 300, columns);
+
+		var table = sut.toTable(ZONE);
+		assertEquals(3, table.size());
+
+		var first = table.get(ZonedDateTime.ofInstant(Instant.ofEpochSecond(START), ZONE));
+		assertEquals(1, first.get(CHANNEL_0).getAsDouble(), 0.001);
+		assertEquals(10, first.get(CHANNEL_1).getAsDouble(), 0.001);
+
+		var second = table.get(ZonedDateTime.ofInstant(Instant.ofEpochSecond(START + 300), ZONE));
+		assertEquals(JsonNull.INSTANCE, second.get(CHANNEL_0));
+		assertEquals(20, second.get(CHANNEL_1).getAsDouble(), 0.001);
+
+		var third = table.get(ZonedDateTime.ofInstant(Instant.ofEpochSecond(START + 600), ZONE));
+		assertEquals(3, third.get(CHANNEL_0).getAsDouble(), 0.001);
+		assertFalse(third.containsKey(CHANNEL_1));
+	}
+
+	@Test
+	public void testCache() {
+		var sut = new HistoricDataCache(1, 1_000);
+		var data = new HistoricData(START, 300, new LinkedHashMap<>());
+		var key = new HistoricDataCache.Key(START, START + 3600, 300, Set.of(CHANNEL_0, CHANNEL_1));
+
+		sut.put(key, data, 0);
+		assertSame(data, sut.get(new HistoricDataCache.Key(START, START + 3600, 300, Set.of(CHANNEL_1, CHANNEL_0)),
+				999));
+		assertNull(sut.get(new HistoricDataCache.Key(START, START + 3600, 900, Set.of(CHANNEL_0, CHANNEL_1)), 999));
+
+		// Expired
+		assertNull(sut.get(key, 1_000));
+
+		// Least recently used entry is removed
+		sut.put(key, data, 0);
+		sut.put(new HistoricDataCache.Key(START, START + 7200, 300, Set.of(CHANNEL_0)), data, 0);
+		assertNull(sut.get(key, 0));
+	}
+
+}
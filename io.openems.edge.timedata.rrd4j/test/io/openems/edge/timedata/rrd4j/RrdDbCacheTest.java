@@ -0,0 +1,91 @@
+package io.openems.edge.timedata.rrd4j;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+import org.rrd4j.ConsolFun;
+import org.rrd4j.DsType;
+import org.rrd4j.core.DsDef;
+import org.rrd4j.core.RrdDb;
+import org.rrd4j.core.RrdDef;
+import org.rrd4j.core.RrdMemoryBackendFactory;
+
+import io.openems.common.channel.Unit;
+import io.openems.common.types.ChannelAddress;
+
+public class RrdDbCacheTest {
+
+	private static final ChannelAddress CHANNEL_0 = new ChannelAddress("meter0", "ActivePower");
+	private static final ChannelAddress CHANNEL_1 = new ChannelAddress("meter0", "ReactivePower");
+	private static final ChannelAddress CHANNEL_2 = new ChannelAddress("meter0", "Frequency");
+
+	private static final long IDLE_TIMEOUT = 1_000;
+
+	private static RrdDb createRrdDb(ChannelAddress channelAddress, Unit channelUnit, long startTime)
+			throws IOException {
+		final var rrdDef = new RrdDef(channelAddress.toString(), startTime, Rrd4jTimedataImpl.DEFAULT_STEP_SECONDS);
+		rrdDef.addDatasource(//
+				new DsDef(Rrd4jTimedataImpl.DEFAULT_DATASOURCE_NAME, //
+						DsType.GAUGE, //
+						Rrd4jTimedataImpl.DEFAULT_HEARTBEAT_SECONDS, //
+						Double.NaN, Double.NaN));
+		rrdDef.addArchive(ConsolFun.AVERAGE, 0.5, 1, 10);
+		return RrdDb.getBuilder() //
+				.setBackendFactory(new RrdMemoryBackendFactory()) // in memory
+				.setRrdDef(rrdDef) //
+				.build();
+	}
+
+	@Test
+	public void testCache() throws Exception {
+		var sut = new RrdDbCache(2, IDLE_TIMEOUT, RrdDbCacheTest::createRrdDb);
+
+		// Cached databases stay open and are reused
+		var db0 = sut.get(CHANNEL_0, Unit.WATT, 0, 0);
+		sut.release(CHANNEL_0, db0);
+		assertFalse(db0.isClosed());
+		assertSame(db0, sut.get(CHANNEL_0, Unit.WATT, 0, 0));
+		sut.release(CHANNEL_0, db0);
+
+		var db1 = sut.get(CHANNEL_1, Unit.VOLT_AMPERE_REACTIVE, 0, 0);
+		sut.release(CHANNEL_1, db1);
+		assertEquals(2, sut.size());
+
+		// Cache is full -> database is closed on release
+		var db2 = sut.get(CHANNEL_2, Unit.MILLIHERTZ, 0, 0);
+		sut.release(CHANNEL_2, db2);
+		assertTrue(db2.isClosed());
+		assertFalse(db0.isClosed());
+		assertFalse(db1.isClosed());
+		assertEquals(2, sut.size());
+
+		// Removed database is closed on release
+		db1 = sut.get(CHANNEL_1, Unit.VOLT_AMPERE_REACTIVE, 0, 0);
+		sut.remove(CHANNEL_1);
+		sut.release(CHANNEL_1, db1);
+		assertTrue(db1.isClosed());
+		assertEquals(1, sut.size());
+		sut.release(CHANNEL_1, sut.get(CHANNEL_1, Unit.VOLT_AMPERE_REACTIVE, 0, 0));
+
+		// Only idle databases are evicted
+		sut.release(CHANNEL_1, sut.get(CHANNEL_1, Unit.VOLT_AMPERE_REACTIVE, 0, 500));
+		sut.evictIdle(IDLE_TIMEOUT);
+		assertTrue(db0.isClosed());
+		assertEquals(1, sut.size());
+
+		// Closing the cache closes all databases; new ones are not cached anymore
+		db1 = sut.get(CHANNEL_1, Unit.VOLT_AMPERE_REACTIVE, 0, 0);
+		sut.close();
+		assertTrue(db1.isClosed());
+		assertEquals(0, sut.size());
+		db0 = sut.get(CHANNEL_0, Unit.WATT, 0, 0);
+		sut.release(CHANNEL_0, db0);
+		assertTrue(db0.isClosed());
+	}
+
+}
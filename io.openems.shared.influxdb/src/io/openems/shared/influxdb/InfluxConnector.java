@@ -1,37 +1,32 @@
 package io.openems.shared.influxdb;
 
 import java.net.URI;
-import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
-import com.influxdb.client.WriteApiBlocking;
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
+import com.influxdb.client.write.PointSettings;
 import com.influxdb.query.FluxRecord;
 import com.influxdb.query.FluxTable;
 import com.influxdb.query.dsl.Flux;
@@ -55,12 +50,7 @@ public class InfluxConnector {
 	private static final int READ_TIMEOUT = 60; // [s]
 	private static final int WRITE_TIMEOUT = 10; // [s]
 
-	private static final int EXECUTOR_MIN_THREADS = 10;
-	private static final int EXECUTOR_MAX_THREADS = 50;
-	private static final int EXECUTOR_QUEUE_SIZE = 500;
-	private static final int POINTS_QUEUE_SIZE = 1_000_000;
-	private static final int MAX_POINTS_PER_WRITE = 1000;
-	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	private static final int DEFAULT_WRITE_THREADS = 10;
 
 	private final Logger log = LoggerFactory.getLogger(InfluxConnector.class);
 
@@ -69,15 +59,9 @@ public class InfluxConnector {
 	private final String apiKey;
 	private final String bucket;
 	private final boolean isReadOnly;
-	private final Function<Throwable, Boolean> onWriteError;
-	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(EXECUTOR_MIN_THREADS, EXECUTOR_MAX_THREADS, 60L,
-			TimeUnit.SECONDS, //
-			new ArrayBlockingQueue<>(EXECUTOR_QUEUE_SIZE), //
-			new ThreadFactoryBuilder().setNameFormat("InfluxConnector-%d").build(), //
-			new ThreadPoolExecutor.DiscardOldestPolicy());
+	private final OkHttpClient httpClient;
+	private final LineProtocolWriter writer;
 	private final ScheduledExecutorService debugLogExecutor = Executors.newSingleThreadScheduledExecutor();
-	private final ExecutorService mergePointsExecutor = Executors.newSingleThreadExecutor();
-	private final BlockingQueue<Point> pointsQueue = new ArrayBlockingQueue<>(POINTS_QUEUE_SIZE);
 
 	/**
 	 * The Constructor.
@@ -94,84 +78,47 @@ public class InfluxConnector {
 	 */
 	public InfluxConnector(URI url, String org, String apiKey, String bucket, boolean isReadOnly,
 			Function<Throwable, Boolean> onWriteError) {
+		this(url, org, apiKey, bucket, isReadOnly, DEFAULT_WRITE_THREADS, onWriteError);
+	}
+
+	/**
+	 * The Constructor.
+	 *
+	 * @param url          URL of the InfluxDB-Server (http://ip:port)
+	 * @param org          The organisation; '-' for InfluxDB v1
+	 * @param apiKey       The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket       The bucket name; 'database/retentionPolicy' for InfluxDB
+	 *                     v1
+	 * @param isReadOnly   If true, a 'Read-Only-Mode' is activated, where no data
+	 *                     is actually written to the database
+	 * @param writeThreads the number of concurrent HTTP writers
+	 * @param onWriteError A function for write-errors; return true to retry writing
+	 *                     the batch of lines
+	 */
+	public InfluxConnector(URI url, String org, String apiKey, String bucket, boolean isReadOnly, int writeThreads,
+			Function<Throwable, Boolean> onWriteError) {
 		this.url = url;
 		this.org = org;
 		this.apiKey = apiKey;
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
-		this.onWriteError = onWriteError;
+		this.httpClient = new OkHttpClient().newBuilder() //
+				.connectTimeout(CONNECT_TIMEOUT, TimeUnit.SECONDS) //
+				.readTimeout(READ_TIMEOUT, TimeUnit.SECONDS) //
+				.writeTimeout(WRITE_TIMEOUT, TimeUnit.SECONDS) //
+				.build();
+		this.writer = new LineProtocolWriter(this.httpClient, url, org, apiKey, bucket, writeThreads, onWriteError);
 
 		this.debugLogExecutor.scheduleWithFixedDelay(() -> {
-			int executorQueueSize = this.executor.getQueue().size();
-			int pointsQueueSize = this.pointsQueue.size();
-			this.log.info(new StringBuilder("[monitor] InfluxDB ") //
-					.append("Pool: ").append(this.executor.getPoolSize()).append(", ") //
-					.append("Active: ").append(this.executor.getActiveCount()).append(", ") //
-					.append("Pending: ").append(this.executor.getQueue().size()).append(", ") //
-					.append("Completed: ").append(this.executor.getCompletedTaskCount()).append(", ") //
-					.append((executorQueueSize == EXECUTOR_QUEUE_SIZE) ? "!!!EXECUTOR BACKPRESSURE!!!" : "") //
-					.append("QueuedPoints: ").append(this.pointsQueue.size()).append(", ") //
-					.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? "!!!POINTS BACKPRESSURE!!!" : "") //
-					.toString());
+			this.log.info("[monitor] InfluxDB " + this.writer.toString());
 		}, 10, 10, TimeUnit.SECONDS);
-
-		this.mergePointsExecutor.execute(() -> {
-			/**
-			 * This task merges single Points to Lists of Points, which are then sent to
-			 * InfluxDB. This approach improves speed as not every single Point gets sent
-			 * via HTTP individually.
-			 * 
-			 * In theory the async implementation in the InfluxDB library would work also,
-			 * but it fails in production (without providing any error message/exception).
-			 */
-			while (true) {
-				try {
-					/*
-					 * Merge Points. Wait max 10 seconds in total.
-					 */
-					final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
-					List<Point> points = new ArrayList<>(MAX_POINTS_PER_WRITE);
-					for (int i = 0; i < MAX_POINTS_PER_WRITE; i++) {
-						var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-						if (point == null) {
-							break;
-						}
-						points.add(point);
-						if (Instant.now().isAfter(maxWait)) {
-							break;
-						}
-					}
-					/*
-					 * Write points async.
-					 */
-					if (!points.isEmpty()) {
-						this.executor.execute(() -> {
-							try {
-								this.getInfluxConnection().writeApi.writePoints(points);
-							} catch (Throwable t) {
-								if (this.onWriteError.apply(t)) {
-									// Retry
-									this.getInfluxConnection().writeApi.writePoints(points);
-								}
-							}
-						});
-					}
-				} catch (Throwable e) {
-					this.log.error("Unhandled Error in 'MergePointsExecutor': " + e.getClass().getName() + ". "
-							+ e.getMessage());
-					e.printStackTrace();
-				}
-			}
-		});
 	}
 
 	private static class InfluxConnection {
 		private final InfluxDBClient client;
-		private final WriteApiBlocking writeApi;
 
-		public InfluxConnection(InfluxDBClient client, WriteApiBlocking writeApi) {
+		public InfluxConnection(InfluxDBClient client) {
 			this.client = client;
-			this.writeApi = writeApi;
 		}
 	}
 
@@ -188,10 +135,8 @@ public class InfluxConnector {
 			return this.influxConnection;
 		}
 
-		var okHttpClientBuilder = new OkHttpClient().newBuilder() //
-				.connectTimeout(CONNECT_TIMEOUT, TimeUnit.SECONDS) //
-				.readTimeout(READ_TIMEOUT, TimeUnit.SECONDS) //
-				.writeTimeout(WRITE_TIMEOUT, TimeUnit.SECONDS);
+		// share connection pool and dispatcher with the LineProtocolWriter
+		var okHttpClientBuilder = this.httpClient.newBuilder();
 
 		// copied options from InfluxDBClientFactory.createV1
 		// to set timeout
@@ -205,11 +150,7 @@ public class InfluxConnector {
 
 		var client = InfluxDBClientFactory.create(options);
 
-		// Keep default WriteOptions from
-		// https://github.com/influxdata/influxdb-client-java/tree/master/client#writes
-		var writeApi = client.getWriteApiBlocking();
-
-		this.influxConnection = new InfluxConnection(client, writeApi);
+		this.influxConnection = new InfluxConnection(client);
 		return this.influxConnection;
 	}
 
@@ -217,11 +158,13 @@ public class InfluxConnector {
 	 * Close current {@link InfluxDBClient}.
 	 */
 	public synchronized void deactivate() {
-		ThreadPoolUtils.shutdownAndAwaitTermination(this.mergePointsExecutor, 0);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.debugLogExecutor, 0);
+		this.writer.deactivate();
 		if (this.influxConnection != null) {
 			this.influxConnection.client.close();
 		}
+		this.httpClient.dispatcher().executorService().shutdown();
+		this.httpClient.connectionPool().evictAll();
 	}
 
 	private static class RandomLimit {
@@ -555,14 +498,43 @@ public class InfluxConnector {
 	 * Actually write the Point to InfluxDB.
 	 *
 	 * @param point the InfluxDB Point
-	 * @throws OpenemsException on error
 	 */
 	public void write(Point point) {
+		var line = point.toLineProtocol(new PointSettings(), WritePrecision.MS);
+		if (line.isEmpty()) {
+			// no fields
+			return;
+		}
+		this.write(lines -> lines.appendLine(line));
+	}
+
+	/**
+	 * Serializes lines directly to line protocol and writes them to InfluxDB.
+	 *
+	 * <p>
+	 * The lines are written asynchronously in batches; see
+	 * {@link LineProtocolWriter}.
+	 *
+	 * @param lines a callback that adds lines to the given
+	 *              {@link LineProtocolBuffer}
+	 */
+	public void write(Consumer<LineProtocolBuffer> lines) {
 		if (this.isReadOnly) {
+			var buffer = new LineProtocolBuffer();
+			lines.accept(buffer);
 			this.log.info("Read-Only-Mode is activated. Not writing points: "
-					+ StringUtils.toShortString(point.toLineProtocol(), 100));
+					+ StringUtils.toShortString(buffer.toString(), 100));
 			return;
 		}
-		this.pointsQueue.offer(point);
+		this.writer.write(lines);
+	}
+
+	/**
+	 * Gets the {@link LineProtocolWriter}, e.g. to read its backpressure metrics.
+	 *
+	 * @return the {@link LineProtocolWriter}
+	 */
+	public LineProtocolWriter getWriter() {
+		return this.writer;
 	}
 }
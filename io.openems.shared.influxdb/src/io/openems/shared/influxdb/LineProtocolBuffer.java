@@ -0,0 +1,472 @@
+package io.openems.shared.influxdb;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import com.influxdb.client.write.Point;
+
+/**
+ * A reusable, growable byte buffer for the InfluxDB line protocol.
+ *
+ * <p>
+ * Lines are serialized directly to UTF-8 bytes, without intermediate
+ * {@link Point} objects. A line is started with {@link #startLine(byte[])},
+ * fields are added with the addField methods and the line is finished with
+ * {@link #endLine(long)}. Lines without any field are discarded.
+ *
+ * <p>
+ * Timestamps are always written in milliseconds. This class is not
+ * thread-safe.
+ */
+public class LineProtocolBuffer {
+
+	private static final int DEFAULT_CAPACITY = 4096;
+	private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+	private static final String LONG_MAX_VALUE = String.valueOf(Long.MAX_VALUE);
+	private static final String LONG_MIN_VALUE = String.valueOf(Long.MIN_VALUE);
+
+	private byte[] buffer;
+	private int size = 0;
+	private int lines = 0;
+	/** Start of the current line; -1 if no line is open. */
+	private int lineStart = -1;
+	/** Start of the field set of the current line. */
+	private int fieldsStart = -1;
+
+	public LineProtocolBuffer() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	public LineProtocolBuffer(int capacity) {
+		this.buffer = new byte[capacity];
+	}
+
+	/**
+	 * Serializes the measurement and the tags of a line, including the trailing
+	 * space. The result is meant to be cached and used with
+	 * {@link #startLine(byte[])}.
+	 *
+	 * @param measurement the measurement
+	 * @param tags        pairs of tag-key and tag-value
+	 * @return the prefix
+	 */
+	public static byte[] toPrefix(String measurement, String... tags) {
+		var b = new LineProtocolBuffer(64);
+		b.writeEscaped(measurement, false);
+		for (var i = 0; i + 1 < tags.length; i += 2) {
+			b.write((byte) ',');
+			b.writeEscaped(tags[i], true);
+			b.write((byte) '=');
+			b.writeEscaped(tags[i + 1], true);
+		}
+		b.write((byte) ' ');
+		return b.toByteArray();
+	}
+
+	/**
+	 * Starts a new line. An unfinished previous line is discarded.
+	 *
+	 * @param prefix the prefix from {@link #toPrefix(String, String...)}
+	 */
+	public void startLine(byte[] prefix) {
+		if (this.lineStart >= 0) {
+			this.size = this.lineStart;
+		}
+		this.lineStart = this.size;
+		this.write(prefix, 0, prefix.length);
+		this.fieldsStart = this.size;
+	}
+
+	/**
+	 * Finishes the current line.
+	 *
+	 * @param timestamp the timestamp in milliseconds
+	 * @return true if the line was added; false if it had no fields and was
+	 *         discarded
+	 */
+	public boolean endLine(long timestamp) {
+		if (this.lineStart < 0) {
+			throw new IllegalStateException("No line was started");
+		}
+		var hasFields = this.size > this.fieldsStart;
+		if (hasFields) {
+			this.write((byte) ' ');
+			this.writeLong(timestamp);
+			this.write((byte) '\n');
+			this.lines++;
+		} else {
+			this.size = this.lineStart;
+		}
+		this.lineStart = -1;
+		this.fieldsStart = -1;
+		return hasFields;
+	}
+
+	/**
+	 * Adds an integer field to the current line.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, long value) {
+		this.startField(field);
+		this.writeLong(value);
+		this.write((byte) 'i');
+	}
+
+	/**
+	 * Adds a float field to the current line. NaN and infinite values are
+	 * ignored, as they are not supported by InfluxDB.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, double value) {
+		if (!Double.isFinite(value)) {
+			return;
+		}
+		this.startField(field);
+		this.writeAscii(Double.toString(value));
+	}
+
+	/**
+	 * Adds a boolean field to the current line.
+	 *
+	 * @param field the field key
+	 * @param value the value
+	 */
+	public void addField(String field, boolean value) {
+		this.startField(field);
+		var bytes = value ? TRUE : FALSE;
+		this.write(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Adds a string field to the current line.
+	 *
+	 * @param field the field key
+	 * @param value the value; null is ignored
+	 */
+	public void addField(String field, String value) {
+		if (value == null) {
+			return;
+		}
+		this.startField(field);
+		this.write((byte) '"');
+		var bytes = value.getBytes(StandardCharsets.UTF_8);
+		for (byte b : bytes) {
+			if (b == '"' || b == '\\') {
+				this.write((byte) '\\');
+			}
+			this.write(b);
+		}
+		this.write((byte) '"');
+	}
+
+	/**
+	 * Adds a numeric field to the current line.
+	 *
+	 * <p>
+	 * Integral types are written as integer, {@link Double}s as float. Other
+	 * {@link Number}s - like the lazily parsed numbers of Gson - are written
+	 * from their textual representation without parsing: integer literals within
+	 * the range of a long as integer, all other number literals as float.
+	 *
+	 * @param field the field key
+	 * @param value the value; null is ignored
+	 */
+	public void addField(String field, Number value) {
+		if (value == null) {
+			return;
+		}
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			this.addField(field, value.longValue());
+		} else if (value instanceof Double) {
+			this.addField(field, value.doubleValue());
+		} else {
+			this.addNumberLiteral(field, value.toString());
+		}
+	}
+
+	private void addNumberLiteral(String field, String literal) {
+		switch (getLiteralType(literal)) {
+		case INTEGER:
+			this.startField(field);
+			this.writeAscii(literal);
+			this.write((byte) 'i');
+			break;
+		case FLOAT:
+			this.startField(field);
+			this.writeAscii(literal);
+			break;
+		case INVALID:
+			try {
+				this.addField(field, Double.parseDouble(literal));
+			} catch (NumberFormatException e) {
+				// ignore value
+			}
+			break;
+		}
+	}
+
+	private static enum LiteralType {
+		INTEGER, FLOAT, INVALID;
+	}
+
+	/**
+	 * Validates a number literal according to the JSON number grammar, which is
+	 * a subset of the float syntax of the line protocol.
+	 *
+	 * @param s the literal
+	 * @return the {@link LiteralType}
+	 */
+	private static LiteralType getLiteralType(String s) {
+		var length = s.length();
+		var i = 0;
+		if (i < length && s.charAt(i) == '-') {
+			i++;
+		}
+		var intStart = i;
+		while (i < length && isDigit(s.charAt(i))) {
+			i++;
+		}
+		var intDigits = i - intStart;
+		if (intDigits == 0) {
+			return LiteralType.INVALID;
+		}
+		if (i == length) {
+			// Integer literal; too large values are handled as float
+			if (intDigits != LONG_MAX_VALUE.length()) {
+				return intDigits < LONG_MAX_VALUE.length() ? LiteralType.INTEGER : LiteralType.FLOAT;
+			}
+			var limit = intStart == 0 ? LONG_MAX_VALUE : LONG_MIN_VALUE.substring(1);
+			return s.substring(intStart).compareTo(limit) <= 0 ? LiteralType.INTEGER : LiteralType.FLOAT;
+		}
+		if (s.charAt(i) == '.') {
+			i++;
+			var fractionStart = i;
+			while (i < length && isDigit(s.charAt(i))) {
+				i++;
+			}
+			if (i == fractionStart) {
+				return LiteralType.INVALID;
+			}
+		}
+		if (i < length && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+			i++;
+			if (i < length && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+				i++;
+			}
+			var exponentStart = i;
+			while (i < length && isDigit(s.charAt(i))) {
+				i++;
+			}
+			if (i == exponentStart) {
+				return LiteralType.INVALID;
+			}
+		}
+		return i == length ? LiteralType.FLOAT : LiteralType.INVALID;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	/**
+	 * Appends a complete line, e.g. from {@link Point#toLineProtocol()}.
+	 *
+	 * @param line the line without trailing newline
+	 */
+	public void appendLine(String line) {
+		var bytes = line.getBytes(StandardCharsets.UTF_8);
+		this.write(bytes, 0, bytes.length);
+		this.write((byte) '\n');
+		this.lines++;
+	}
+
+	/**
+	 * Appends all finished lines of another buffer.
+	 *
+	 * @param other the other {@link LineProtocolBuffer}
+	 */
+	public void append(LineProtocolBuffer other) {
+		var length = other.lineStart >= 0 ? other.lineStart : other.size;
+		this.write(other.buffer, 0, length);
+		this.lines += other.lines;
+	}
+
+	/**
+	 * Writes all finished lines to the given {@link OutputStream}.
+	 *
+	 * @param out the {@link OutputStream}
+	 * @throws IOException on error
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(this.buffer, 0, this.lineStart >= 0 ? this.lineStart : this.size);
+	}
+
+	/**
+	 * Clears the buffer, keeping its capacity.
+	 */
+	public void reset() {
+		this.size = 0;
+		this.lines = 0;
+		this.lineStart = -1;
+		this.fieldsStart = -1;
+	}
+
+	/**
+	 * Gets the number of bytes.
+	 *
+	 * @return the size in bytes
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the number of finished lines.
+	 *
+	 * @return the number of lines
+	 */
+	public int lines() {
+		return this.lines;
+	}
+
+	/**
+	 * Gets the capacity of the underlying array.
+	 *
+	 * @return the capacity in bytes
+	 */
+	public int capacity() {
+		return this.buffer.length;
+	}
+
+	/**
+	 * Gets a copy of the content.
+	 *
+	 * @return the bytes
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(this.buffer, this.size);
+	}
+
+	@Override
+	public String toString() {
+		return new String(this.buffer, 0, this.size, StandardCharsets.UTF_8);
+	}
+
+	private void startField(String field) {
+		if (this.lineStart < 0) {
+			throw new IllegalStateException("No line was started");
+		}
+		if (this.size > this.fieldsStart) {
+			this.write((byte) ',');
+		}
+		this.writeEscaped(field, true);
+		this.write((byte) '=');
+	}
+
+	/**
+	 * Writes a measurement or key, escaping special characters.
+	 *
+	 * @param s        the String
+	 * @param isKeyTag true for tag- and field-keys and tag-values; false for the
+	 *                 measurement, where '=' does not need to be escaped
+	 */
+	private void writeEscaped(String s, boolean isKeyTag) {
+		var length = s.length();
+		for (var i = 0; i < length; i++) {
+			var c = s.charAt(i);
+			if (c >= 0x80) {
+				// Non-ASCII: escape the UTF-8 bytes; multi-byte sequences never contain ASCII
+				this.writeEscaped(s.substring(i).getBytes(StandardCharsets.UTF_8), isKeyTag);
+				return;
+			}
+			this.writeEscaped((byte) c, isKeyTag);
+		}
+	}
+
+	private void writeEscaped(byte[] bytes, boolean isKeyTag) {
+		for (byte b : bytes) {
+			this.writeEscaped(b, isKeyTag);
+		}
+	}
+
+	private void writeEscaped(byte b, boolean isKeyTag) {
+		switch (b) {
+		case '\n':
+			this.write((byte) '\\');
+			this.write((byte) 'n');
+			return;
+		case '\r':
+			this.write((byte) '\\');
+			this.write((byte) 'r');
+			return;
+		case '\t':
+			this.write((byte) '\\');
+			this.write((byte) 't');
+			return;
+		case ' ':
+		case ',':
+			this.write((byte) '\\');
+			break;
+		case '=':
+			if (isKeyTag) {
+				this.write((byte) '\\');
+			}
+			break;
+		}
+		this.write(b);
+	}
+
+	private void writeAscii(String s) {
+		var length = s.length();
+		this.ensureCapacity(this.size + length);
+		for (var i = 0; i < length; i++) {
+			this.buffer[this.size++] = (byte) s.charAt(i);
+		}
+	}
+
+	private void writeLong(long value) {
+		if (value == Long.MIN_VALUE) {
+			this.writeAscii(LONG_MIN_VALUE);
+			return;
+		}
+		this.ensureCapacity(this.size + 20);
+		if (value < 0) {
+			this.buffer[this.size++] = '-';
+			value = -value;
+		}
+		var digits = 1;
+		for (var v = value; v >= 10; v /= 10) {
+			digits++;
+		}
+		for (var i = this.size + digits - 1; i >= this.size; i--) {
+			this.buffer[i] = (byte) ('0' + value % 10);
+			value /= 10;
+		}
+		this.size += digits;
+	}
+
+	private void write(byte b) {
+		this.ensureCapacity(this.size + 1);
+		this.buffer[this.size++] = b;
+	}
+
+	private void write(byte[] bytes, int offset, int length) {
+		this.ensureCapacity(this.size + length);
+		System.arraycopy(bytes, offset, this.buffer, this.size, length);
+		this.size += length;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > this.buffer.length) {
+			this.buffer = Arrays.copyOf(this.buffer, Math.max(capacity, this.buffer.length * 2));
+		}
+	}
+
+}
@@ -0,0 +1,355 @@
+package io.openems.shared.influxdb;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.influxdb.exceptions.BadRequestException;
+import com.influxdb.exceptions.InfluxException;
+
+import io.openems.common.utils.ThreadPoolUtils;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+
+/**
+ * Writes InfluxDB line protocol via the HTTP write API.
+ *
+ * <p>
+ * Lines are serialized by the caller into a thread-local
+ * {@link LineProtocolBuffer} and then copied to the current batch. Once per
+ * flush interval - or earlier if it exceeds {@link #MAX_BATCH_SIZE} - the
+ * batch is handed over to a queue. Multiple writer threads take batches from
+ * this queue, gzip them and send each one with a single HTTP request.
+ *
+ * <p>
+ * A few batch buffers are recycled. If the queue is full, the oldest batch is
+ * dropped; this and the current queue size are exposed as backpressure
+ * metrics.
+ */
+public class LineProtocolWriter {
+
+	private static final int MAX_BATCH_SIZE = 1_048_576; // [bytes]
+	private static final int INITIAL_BATCH_CAPACITY = 65_536; // [bytes]
+	private static final int MAX_QUEUED_BATCHES = 256;
+	private static final int FLUSH_INTERVAL = 1_000; // [ms]
+	private static final int MAX_SCRATCH_CAPACITY = 262_144; // [bytes]
+	private static final MediaType MEDIA_TYPE = MediaType.get("text/plain; charset=utf-8");
+
+	private final Logger log = LoggerFactory.getLogger(LineProtocolWriter.class);
+
+	private final OkHttpClient httpClient;
+	private final HttpUrl writeUrl;
+	private final String authorization;
+	private final Function<Throwable, Boolean> onWriteError;
+	private final int writeThreads;
+	private final ExecutorService writers;
+	private final ScheduledExecutorService flushExecutor;
+	private final BlockingQueue<LineProtocolBuffer> queue = new ArrayBlockingQueue<>(MAX_QUEUED_BATCHES);
+	private final BlockingQueue<LineProtocolBuffer> pool;
+	private final ThreadLocal<LineProtocolBuffer> scratch = ThreadLocal.withInitial(LineProtocolBuffer::new);
+	private final ThreadLocal<ExposedByteArrayOutputStream> compressed = ThreadLocal
+			.withInitial(ExposedByteArrayOutputStream::new);
+
+	private final AtomicLong queuedBytes = new AtomicLong();
+	private final AtomicInteger activeWriters = new AtomicInteger();
+	private final LongAdder writtenLines = new LongAdder();
+	private final LongAdder writtenBytes = new LongAdder();
+	private final LongAdder droppedLines = new LongAdder();
+	private final LongAdder failedLines = new LongAdder();
+
+	private LineProtocolBuffer batch = new LineProtocolBuffer(INITIAL_BATCH_CAPACITY);
+
+	/**
+	 * The Constructor.
+	 *
+	 * @param httpClient   the {@link OkHttpClient}
+	 * @param url          URL of the InfluxDB-Server (http://ip:port)
+	 * @param org          The organisation; '-' for InfluxDB v1
+	 * @param apiKey       The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket       The bucket name; 'database/retentionPolicy' for InfluxDB
+	 *                     v1
+	 * @param writeThreads the number of concurrent HTTP writers
+	 * @param onWriteError A function for write-errors; return true to retry writing
+	 *                     the batch
+	 */
+	public LineProtocolWriter(OkHttpClient httpClient, URI url, String org, String apiKey, String bucket,
+			int writeThreads, Function<Throwable, Boolean> onWriteError) {
+		this.httpClient = httpClient;
+		this.writeUrl = HttpUrl.get(url).newBuilder() //
+				.addPathSegments("api/v2/write") //
+				.addQueryParameter("org", org) //
+				.addQueryParameter("bucket", bucket) //
+				.addQueryParameter("precision", "ms") //
+				.build();
+		this.authorization = "Token " + apiKey;
+		this.onWriteError = onWriteError;
+		this.writeThreads = Math.max(1, writeThreads);
+		this.pool = new ArrayBlockingQueue<>(this.writeThreads + 1);
+		this.writers = Executors.newFixedThreadPool(this.writeThreads,
+				new ThreadFactoryBuilder().setNameFormat("InfluxConnector-%d").build());
+		this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setNameFormat("InfluxConnector:Flush-%d").build());
+
+		for (var i = 0; i < this.writeThreads; i++) {
+			this.writers.execute(this::writeForever);
+		}
+		this.flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL, FLUSH_INTERVAL,
+				TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Serializes lines and adds them to the current batch.
+	 *
+	 * @param lines a callback that adds lines to the given
+	 *              {@link LineProtocolBuffer}
+	 */
+	public void write(Consumer<LineProtocolBuffer> lines) {
+		var buffer = this.scratch.get();
+		try {
+			lines.accept(buffer);
+			if (buffer.lines() == 0) {
+				return;
+			}
+			synchronized (this) {
+				this.batch.append(buffer);
+				if (this.batch.size() >= MAX_BATCH_SIZE) {
+					this.enqueueBatch();
+				}
+			}
+		} finally {
+			buffer.reset();
+			if (buffer.capacity() > MAX_SCRATCH_CAPACITY) {
+				// Do not keep huge buffers per thread
+				this.scratch.remove();
+			}
+		}
+	}
+
+	/**
+	 * Hands the current batch over to the writer threads.
+	 */
+	public synchronized void flush() {
+		if (this.batch.lines() > 0) {
+			this.enqueueBatch();
+		}
+	}
+
+	/**
+	 * Stops the writer threads. Pending batches are discarded.
+	 */
+	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.flushExecutor, 0);
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.writers, 0);
+	}
+
+	private void enqueueBatch() {
+		var batch = this.batch;
+		var next = this.pool.poll();
+		this.batch = next != null ? next : new LineProtocolBuffer(INITIAL_BATCH_CAPACITY);
+
+		this.queuedBytes.addAndGet(batch.size());
+		while (!this.queue.offer(batch)) {
+			// Backpressure: discard the oldest batch
+			var dropped = this.queue.poll();
+			if (dropped != null) {
+				this.queuedBytes.addAndGet(-dropped.size());
+				this.droppedLines.add(dropped.lines());
+				this.recycle(dropped);
+			}
+		}
+	}
+
+	private void recycle(LineProtocolBuffer batch) {
+		batch.reset();
+		this.pool.offer(batch);
+	}
+
+	private void writeForever() {
+		while (!Thread.currentThread().isInterrupted()) {
+			LineProtocolBuffer batch;
+			try {
+				batch = this.queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			this.queuedBytes.addAndGet(-batch.size());
+			this.activeWriters.incrementAndGet();
+			try {
+				this.send(batch);
+				this.writtenLines.add(batch.lines());
+			} catch (Throwable t) {
+				this.failedLines.add(batch.lines());
+				this.log.error("Unable to write " + batch.lines() + " lines to InfluxDB: " + t.getClass().getName()
+						+ ". " + t.getMessage());
+			} finally {
+				this.activeWriters.decrementAndGet();
+				this.recycle(batch);
+			}
+		}
+	}
+
+	/**
+	 * Compresses and sends one batch.
+	 *
+	 * @param batch the batch
+	 * @throws IOException     on communication error
+	 * @throws InfluxException on error response from InfluxDB
+	 */
+	private void send(LineProtocolBuffer batch) throws IOException, InfluxException {
+		var out = this.compressed.get();
+		out.reset();
+		try (var gzip = new GZIPOutputStream(out, 8192) {
+			{
+				this.def.setLevel(Deflater.BEST_SPEED);
+			}
+		}) {
+			batch.writeTo(gzip);
+		}
+		var body = RequestBody.create(out.getBuffer(), MEDIA_TYPE, 0, out.size());
+		try {
+			this.post(body);
+		} catch (IOException | InfluxException e) {
+			if (!this.onWriteError.apply(e)) {
+				throw e;
+			}
+			// Retry
+			this.post(body);
+		}
+		this.writtenBytes.add(out.size());
+	}
+
+	private void post(RequestBody body) throws IOException, InfluxException {
+		var request = new Request.Builder() //
+				.url(this.writeUrl) //
+				.header("Authorization", this.authorization) //
+				.header("Content-Encoding", "gzip") //
+				.post(body) //
+				.build();
+		try (var response = this.httpClient.newCall(request).execute()) {
+			if (response.isSuccessful()) {
+				return;
+			}
+			var responseBody = response.body();
+			var errorBody = ResponseBody.create(responseBody != null ? responseBody.string() : "",
+					MediaType.get("application/json"));
+			var error = retrofit2.Response.error(errorBody, response);
+			if (response.code() == 400) {
+				throw new BadRequestException(error);
+			}
+			throw new InfluxException(error);
+		}
+	}
+
+	/**
+	 * Gets the number of batches that are waiting for a writer thread.
+	 *
+	 * @return the number of queued batches
+	 */
+	public int getQueuedBatches() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Gets the size of all batches that are waiting for a writer thread.
+	 *
+	 * @return the uncompressed size in bytes
+	 */
+	public long getQueuedBytes() {
+		return this.queuedBytes.get();
+	}
+
+	/**
+	 * Gets the number of writer threads that are currently sending a batch.
+	 *
+	 * @return the number of active writers
+	 */
+	public int getActiveWriters() {
+		return this.activeWriters.get();
+	}
+
+	/**
+	 * Gets the number of successfully written lines since start.
+	 *
+	 * @return the number of lines
+	 */
+	public long getWrittenLines() {
+		return this.writtenLines.sum();
+	}
+
+	/**
+	 * Gets the number of compressed bytes that were successfully written since
+	 * start.
+	 *
+	 * @return the number of bytes
+	 */
+	public long getWrittenBytes() {
+		return this.writtenBytes.sum();
+	}
+
+	/**
+	 * Gets the number of lines that were dropped because the queue was full.
+	 *
+	 * @return the number of lines
+	 */
+	public long getDroppedLines() {
+		return this.droppedLines.sum();
+	}
+
+	/**
+	 * Gets the number of lines that could not be written because of an error.
+	 *
+	 * @return the number of lines
+	 */
+	public long getFailedLines() {
+		return this.failedLines.sum();
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder() //
+				.append("Writers: ").append(this.writeThreads).append(", ") //
+				.append("Active: ").append(this.getActiveWriters()).append(", ") //
+				.append("QueuedBatches: ").append(this.getQueuedBatches()).append(", ") //
+				.append("QueuedBytes: ").append(this.getQueuedBytes()).append(", ") //
+				.append("WrittenLines: ").append(this.getWrittenLines()).append(", ") //
+				.append("WrittenBytes: ").append(this.getWrittenBytes()).append(", ") //
+				.append("FailedLines: ").append(this.getFailedLines()).append(", ") //
+				.append("DroppedLines: ").append(this.getDroppedLines()) //
+				.append(this.getQueuedBatches() == MAX_QUEUED_BATCHES ? " !!!BACKPRESSURE!!!" : "") //
+				.toString();
+	}
+
+	private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+
+		private ExposedByteArrayOutputStream() {
+			super(65_536);
+		}
+
+		private byte[] getBuffer() {
+			return this.buf;
+		}
+	}
+
+}
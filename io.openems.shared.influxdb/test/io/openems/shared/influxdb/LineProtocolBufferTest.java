@@ -0,0 +1,74 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParser;
+
+public class LineProtocolBufferTest {
+
+	private static final byte[] PREFIX = LineProtocolBuffer.toPrefix("data", "edge", "0");
+
+	@Test
+	public void testFields() {
+		var b = new LineProtocolBuffer(8);
+		b.startLine(PREFIX);
+		b.addField("_sum/EssSoc", 50L);
+		b.addField("_sum/Float", 1.5);
+		b.addField("_sum/Bool", true);
+		b.addField("_sum/String", "a \"quoted\" \\ value");
+		b.addField("_sum/NaN", Double.NaN);
+		b.addField("a b,c=d", -1L);
+		assertTrue(b.endLine(1000L));
+
+		assertEquals("data,edge=0 _sum/EssSoc=50i,_sum/Float=1.5,_sum/Bool=true,"
+				+ "_sum/String=\"a \\\"quoted\\\" \\\\ value\",a\\ b\\,c\\=d=-1i 1000\n", b.toString());
+		assertEquals(1, b.lines());
+	}
+
+	@Test
+	public void testJsonNumbers() {
+		var json = JsonParser.parseString("[1, -12, 1.5, 1e3, 9223372036854775807, 9223372036854775808]")
+				.getAsJsonArray();
+		var b = new LineProtocolBuffer();
+		b.startLine(PREFIX);
+		for (var i = 0; i < json.size(); i++) {
+			b.addField("f" + i, json.get(i).getAsNumber());
+		}
+		b.addField("big", new BigInteger("-9223372036854775809"));
+		b.endLine(0L);
+
+		assertEquals("data,edge=0 f0=1i,f1=-12i,f2=1.5,f3=1e3,f4=9223372036854775807i,f5=9223372036854775808,"
+				+ "big=-9223372036854775809 0\n", b.toString());
+	}
+
+	@Test
+	public void testDiscardLineWithoutFields() {
+		var b = new LineProtocolBuffer();
+		b.startLine(PREFIX);
+		b.addField("f", Long.MIN_VALUE);
+		b.endLine(1L);
+		var size = b.size();
+
+		b.startLine(PREFIX);
+		assertFalse(b.endLine(2L));
+		assertEquals(size, b.size());
+		assertEquals(1, b.lines());
+
+		var other = new LineProtocolBuffer();
+		other.append(b);
+		other.appendLine("data f=1i 3");
+		assertEquals("data,edge=0 f=-9223372036854775808i 1\ndata f=1i 3\n", other.toString());
+		assertEquals(2, other.lines());
+
+		b.reset();
+		assertEquals(0, b.size());
+		assertEquals(0, b.lines());
+	}
+
+}
@@ -0,0 +1,90 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.influxdb.exceptions.BadRequestException;
+import com.sun.net.httpserver.HttpServer;
+
+import okhttp3.OkHttpClient;
+
+public class LineProtocolWriterTest {
+
+	@Test
+	public void test() throws Exception {
+		var requests = new LinkedBlockingQueue<String>();
+		var responseCode = new AtomicInteger(400);
+		var server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api/v2/write", exchange -> {
+			try (var in = new GZIPInputStream(exchange.getRequestBody())) {
+				requests.add(exchange.getRequestURI().getQuery() + "|"
+						+ exchange.getRequestHeaders().getFirst("Authorization") + "|"
+						+ new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				requests.add(e.getMessage());
+			}
+			var code = responseCode.getAndSet(204);
+			if (code == 204) {
+				exchange.sendResponseHeaders(code, -1);
+			} else {
+				var response = "{\"code\":\"invalid\",\"message\":\"partial write\"}".getBytes();
+				exchange.sendResponseHeaders(code, response.length);
+				exchange.getResponseBody().write(response);
+			}
+			exchange.close();
+		});
+		server.start();
+
+		var errors = new AtomicInteger();
+		var writer = new LineProtocolWriter(new OkHttpClient(),
+				URI.create("http://127.0.0.1:" + server.getAddress().getPort()), "org", "key", "bucket", 2,
+				t -> {
+					errors.incrementAndGet();
+					return t instanceof BadRequestException; // retry
+				});
+		try {
+			var prefix = LineProtocolBuffer.toPrefix("data", "edge", "1");
+			writer.write(lines -> {
+				lines.startLine(prefix);
+				lines.addField("f", 1L);
+				lines.endLine(1000L);
+			});
+			writer.write(lines -> {
+				lines.startLine(prefix);
+				lines.addField("f", 2L);
+				lines.endLine(2000L);
+			});
+			writer.flush();
+
+			// First request fails with BadRequest, second is the retry
+			var expected = "org=org&bucket=bucket&precision=ms|Token key|" //
+					+ "data,edge=1 f=1i 1000\ndata,edge=1 f=2i 2000\n";
+			assertEquals(expected, requests.poll(10, TimeUnit.SECONDS));
+			assertEquals(expected, requests.poll(10, TimeUnit.SECONDS));
+			for (var i = 0; i < 100 && writer.getWrittenLines() < 2; i++) {
+				Thread.sleep(10);
+			}
+			assertEquals(1, errors.get());
+			assertEquals(2, writer.getWrittenLines());
+			assertTrue(writer.getWrittenBytes() > 0);
+			assertEquals(0, writer.getDroppedLines());
+			assertEquals(0, writer.getFailedLines());
+
+		} finally {
+			writer.deactivate();
+			server.stop(0);
+		}
+	}
+
+}